@@ -46,6 +46,42 @@ public class BallotBoxXMLSource<T> extends DelegateXMLSource {
             VoteResolver<String> resolver,
             STFactory.VoteLoadingContext voteLoadingContext,
             STFactory.PerLocaleData.PerXPathData xpd) {
+        Winner winner = resolveWinner(path, resolver, voteLoadingContext, xpd);
+        putWinner(winner);
+        return winner.resolver;
+    }
+
+    /** The outcome of vote resolution for one path, not yet put into this source */
+    static final class Winner {
+        final String path;
+        final String fullPath;
+
+        /** the winning value, or null to remove the path */
+        final String value;
+
+        /** the VoteResolver used (for recycling), or null if none was needed */
+        final VoteResolver<String> resolver;
+
+        Winner(String path, String fullPath, String value, VoteResolver<String> resolver) {
+            this.path = path;
+            this.fullPath = fullPath;
+            this.value = value;
+            this.resolver = resolver;
+        }
+    }
+
+    /**
+     * Resolve the votes for the given path, without changing this source. This only reads the
+     * votes, so several paths can be resolved in parallel (each with its own VoteResolver) as long
+     * as no votes are changing; the winners are then put into the source with {@link #putWinner}.
+     *
+     * @see #setValueFromResolver
+     */
+    Winner resolveWinner(
+            String path,
+            VoteResolver<String> resolver,
+            STFactory.VoteLoadingContext voteLoadingContext,
+            STFactory.PerLocaleData.PerXPathData xpd) {
         String value;
         String fullPath;
         /*
@@ -87,11 +123,15 @@ public class BallotBoxXMLSource<T> extends DelegateXMLSource {
             }
             fullPath = getFullPathWithResolver(path, resolver);
         }
-        delegate.removeValueAtDPath(path);
-        if (value != null) {
-            delegate.putValueAtPath(fullPath, value);
+        return new Winner(path, fullPath, value, resolver);
+    }
+
+    /** Put the outcome of {@link #resolveWinner} into this source. */
+    void putWinner(Winner winner) {
+        delegate.removeValueAtDPath(winner.path);
+        if (winner.value != null) {
+            delegate.putValueAtPath(winner.fullPath, winner.value);
         }
-        return resolver;
     }
 
     private String getFullPathWithResolver(String path, VoteResolver<String> resolver) {
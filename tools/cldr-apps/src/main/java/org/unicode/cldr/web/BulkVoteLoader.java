@@ -0,0 +1,276 @@
+package org.unicode.cldr.web;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.VoteType;
+
+/**
+ * Reads the votes and locked votes of many locales in one pass over the vote tables, so that
+ * STFactory can load the PerLocaleData of all of them without a query per locale.
+ *
+ * <p>Until a locale is loaded, its votes are kept in primitive arrays sorted by xpath id, so that
+ * the votes for each path are together and each path only needs to be looked up once.
+ */
+class BulkVoteLoader {
+    /** Marks a vote without an override in {@link LocaleVotes#overrides} */
+    private static final int NO_OVERRIDE = Integer.MIN_VALUE;
+
+    /** Marks a vote without a modification time */
+    private static final long NO_LAST_MOD = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** The votes of one locale */
+    static final class LocaleVotes {
+        private int size = 0;
+        private int[] xpaths = new int[INITIAL_CAPACITY];
+        private int[] submitters = new int[INITIAL_CAPACITY];
+        private String[] values = new String[INITIAL_CAPACITY];
+        private int[] overrides = new int[INITIAL_CAPACITY];
+        private long[] lastMods = new long[INITIAL_CAPACITY];
+        private int[] voteTypes = new int[INITIAL_CAPACITY];
+
+        private int lockedSize = 0;
+        private int[] lockedXpaths = new int[0];
+        private String[] lockedValues = new String[0];
+        private long[] lockedLastMods = new long[0];
+
+        private void add(
+                int xpath, int submitter, String value, int override, long lastMod, int voteType) {
+            if (size == xpaths.length) {
+                int capacity = size * 2;
+                xpaths = Arrays.copyOf(xpaths, capacity);
+                submitters = Arrays.copyOf(submitters, capacity);
+                values = Arrays.copyOf(values, capacity);
+                overrides = Arrays.copyOf(overrides, capacity);
+                lastMods = Arrays.copyOf(lastMods, capacity);
+                voteTypes = Arrays.copyOf(voteTypes, capacity);
+            }
+            xpaths[size] = xpath;
+            submitters[size] = submitter;
+            values[size] = value;
+            overrides[size] = override;
+            lastMods[size] = lastMod;
+            voteTypes[size] = voteType;
+            size++;
+        }
+
+        private void addLocked(int xpath, String value, long lastMod) {
+            if (lockedSize == lockedXpaths.length) {
+                int capacity = Math.max(16, lockedSize * 2);
+                lockedXpaths = Arrays.copyOf(lockedXpaths, capacity);
+                lockedValues = Arrays.copyOf(lockedValues, capacity);
+                lockedLastMods = Arrays.copyOf(lockedLastMods, capacity);
+            }
+            lockedXpaths[lockedSize] = xpath;
+            lockedValues[lockedSize] = value;
+            lockedLastMods[lockedSize] = lastMod;
+            lockedSize++;
+        }
+
+        /** Sort the votes by xpath id, keeping the rows intact */
+        private void sortByXpath() {
+            // sort (xpath, row) pairs packed into longs, then apply the permutation
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) xpaths[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+            int[] rows = new int[size];
+            for (int i = 0; i < size; i++) {
+                rows[i] = (int) keys[i];
+            }
+            xpaths = permute(xpaths, rows);
+            submitters = permute(submitters, rows);
+            overrides = permute(overrides, rows);
+            voteTypes = permute(voteTypes, rows);
+            long[] newLastMods = new long[size];
+            String[] newValues = new String[size];
+            for (int i = 0; i < size; i++) {
+                newLastMods[i] = lastMods[rows[i]];
+                newValues[i] = values[rows[i]];
+            }
+            lastMods = newLastMods;
+            values = newValues;
+        }
+
+        private static int[] permute(int[] array, int[] rows) {
+            int[] result = new int[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                result[i] = array[rows[i]];
+            }
+            return result;
+        }
+
+        /** Number of votes, not counting locked votes */
+        int size() {
+            return size;
+        }
+
+        int getXpath(int i) {
+            return xpaths[i];
+        }
+
+        int getSubmitter(int i) {
+            return submitters[i];
+        }
+
+        String getValue(int i) {
+            return values[i];
+        }
+
+        /**
+         * @return the override, or null if none
+         */
+        Integer getOverride(int i) {
+            return overrides[i] == NO_OVERRIDE ? null : overrides[i];
+        }
+
+        Timestamp getLastMod(int i) {
+            return toTimestamp(lastMods[i]);
+        }
+
+        VoteType getVoteType(int i) {
+            return VoteType.fromId(voteTypes[i]);
+        }
+
+        int lockedSize() {
+            return lockedSize;
+        }
+
+        int getLockedXpath(int i) {
+            return lockedXpaths[i];
+        }
+
+        String getLockedValue(int i) {
+            return lockedValues[i];
+        }
+
+        Timestamp getLockedLastMod(int i) {
+            return toTimestamp(lockedLastMods[i]);
+        }
+
+        private static Timestamp toTimestamp(long lastMod) {
+            return lastMod == NO_LAST_MOD ? null : new Timestamp(lastMod);
+        }
+    }
+
+    /**
+     * Read the votes of a single locale
+     *
+     * @return the votes, possibly empty
+     */
+    static LocaleVotes read(Connection conn, CLDRLocale locale) throws SQLException {
+        Map<CLDRLocale, LocaleVotes> result = new HashMap<>();
+        read(conn, " WHERE locale = ?", locale.getBaseName(), Set.of(locale), result);
+        return result.computeIfAbsent(locale, l -> new LocaleVotes());
+    }
+
+    /**
+     * Read the votes of all of the given locales in one pass over each vote table.
+     *
+     * @return map from locale to its votes; every requested locale has an entry, possibly empty
+     */
+    static Map<CLDRLocale, LocaleVotes> read(Connection conn, Set<CLDRLocale> locales)
+            throws SQLException {
+        Map<CLDRLocale, LocaleVotes> result = new HashMap<>();
+        read(conn, "", null, locales, result);
+        for (CLDRLocale locale : locales) {
+            result.computeIfAbsent(locale, l -> new LocaleVotes());
+        }
+        return result;
+    }
+
+    private static void read(
+            Connection conn,
+            String where,
+            String arg,
+            Set<CLDRLocale> locales,
+            Map<CLDRLocale, LocaleVotes> result)
+            throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            ps =
+                    DBUtils.prepareForwardReadOnly(
+                            conn,
+                            "SELECT locale,xpath,submitter,value,"
+                                    + STFactory.VOTE_OVERRIDE
+                                    + ",last_mod,"
+                                    + STFactory.VOTE_TYPE
+                                    + " FROM "
+                                    + DBUtils.Table.VOTE_VALUE
+                                    + where);
+            if (arg != null) {
+                ps.setString(1, arg);
+            }
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                LocaleVotes votes = getVotes(rs.getString(1), locales, result);
+                if (votes == null) {
+                    continue;
+                }
+                int override = rs.getInt(5);
+                if (rs.wasNull()) {
+                    override = NO_OVERRIDE;
+                }
+                Timestamp lastMod = rs.getTimestamp(6);
+                votes.add(
+                        rs.getInt(2),
+                        rs.getInt(3),
+                        DBUtils.getStringUTF8(rs, 4),
+                        override,
+                        lastMod == null ? NO_LAST_MOD : lastMod.getTime(),
+                        rs.getInt(7));
+            }
+            DBUtils.close(rs, ps);
+
+            ps =
+                    DBUtils.prepareForwardReadOnly(
+                            conn,
+                            "SELECT locale,xpath,value,last_mod FROM "
+                                    + DBUtils.Table.LOCKED_XPATHS
+                                    + where);
+            if (arg != null) {
+                ps.setString(1, arg);
+            }
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                LocaleVotes votes = getVotes(rs.getString(1), locales, result);
+                if (votes == null) {
+                    continue;
+                }
+                Timestamp lastMod = rs.getTimestamp(4);
+                votes.addLocked(
+                        rs.getInt(2),
+                        DBUtils.getStringUTF8(rs, 3),
+                        lastMod == null ? NO_LAST_MOD : lastMod.getTime());
+            }
+        } finally {
+            DBUtils.close(rs, ps);
+        }
+        for (LocaleVotes votes : result.values()) {
+            votes.sortByXpath();
+        }
+    }
+
+    /**
+     * @return the votes for the locale, or null if the locale wasn't requested
+     */
+    private static LocaleVotes getVotes(
+            String localeId, Set<CLDRLocale> locales, Map<CLDRLocale, LocaleVotes> result) {
+        CLDRLocale locale = CLDRLocale.getInstance(localeId);
+        if (!locales.contains(locale)) {
+            return null;
+        }
+        return result.computeIfAbsent(locale, l -> new LocaleVotes());
+    }
+}
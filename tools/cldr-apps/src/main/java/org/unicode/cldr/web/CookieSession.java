@@ -17,8 +17,6 @@ import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Hashtable;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -82,7 +80,7 @@ public class CookieSession {
      *
      * <p>Compare lastBrowserCallMillisSinceEpoch.
      */
-    private long lastActionMillisSinceEpoch = System.currentTimeMillis();
+    private volatile long lastActionMillisSinceEpoch = System.currentTimeMillis();
 
     /**
      * Get the time (in millis since 1970) when the user last took an explicit action.
@@ -146,7 +144,7 @@ public class CookieSession {
      *
      * <p>Compare lastActionMillisSinceEpoch.
      */
-    private long lastBrowserCallMillisSinceEpoch;
+    private volatile long lastBrowserCallMillisSinceEpoch;
 
     /**
      * Get the time (in millis since 1970) when the user last touched this session.
@@ -178,29 +176,27 @@ public class CookieSession {
                 + "}";
     }
 
-    static Hashtable<String, CookieSession> gHash = new Hashtable<>(); // hash by sess ID
-    static Hashtable<String, CookieSession> uHash = new Hashtable<>(); // hash by user ID
+    /** all sessions, by session ID and by user ID */
+    static final SessionRegistry registry = new SessionRegistry();
 
     /**
      * @return the set of CookieSession objects Called by AdminAjax.jsp
      */
     public static Set<CookieSession> getAllSet() {
-        synchronized (gHash) {
-            TreeSet<CookieSession> sessSet =
-                    new TreeSet<>(
-                            (Comparator<Object>)
-                                    (a, b) -> {
-                                        CookieSession aa = (CookieSession) a;
-                                        CookieSession bb = (CookieSession) b;
-                                        if (aa == bb) return 0;
-                                        return Long.compare(
-                                                bb.lastBrowserCallMillisSinceEpoch,
-                                                aa.lastBrowserCallMillisSinceEpoch);
-                                        // same age
-                                    });
-            sessSet.addAll(gHash.values()); // ALL sessions
-            return sessSet;
-        }
+        TreeSet<CookieSession> sessSet =
+                new TreeSet<>(
+                        (Comparator<Object>)
+                                (a, b) -> {
+                                    CookieSession aa = (CookieSession) a;
+                                    CookieSession bb = (CookieSession) b;
+                                    if (aa == bb) return 0;
+                                    return Long.compare(
+                                            bb.lastBrowserCallMillisSinceEpoch,
+                                            aa.lastBrowserCallMillisSinceEpoch);
+                                    // same age
+                                });
+        sessSet.addAll(registry.getAll()); // ALL sessions
+        return sessSet;
     }
 
     /**
@@ -229,9 +225,7 @@ public class CookieSession {
      */
     public static CookieSession retrieveWithoutTouch(String sessionid) {
         checkForExpiredSessions();
-        synchronized (gHash) {
-            return gHash.get(sessionid);
-        }
+        return registry.get(sessionid);
     }
 
     /**
@@ -241,9 +235,7 @@ public class CookieSession {
      * @return session or null
      */
     public static CookieSession retrieveUserWithoutTouch(String email) {
-        synchronized (gHash) {
-            return uHash.get(email);
-        }
+        return registry.getByEmail(email);
     }
 
     /**
@@ -253,13 +245,11 @@ public class CookieSession {
      * @return session or null
      */
     public static CookieSession retrieveUser(String email) {
-        synchronized (gHash) {
-            CookieSession c = retrieveUserWithoutTouch(email);
-            if (c != null) {
-                c.touch();
-            }
-            return c;
+        CookieSession c = retrieveUserWithoutTouch(email);
+        if (c != null) {
+            c.touch();
         }
+        return c;
     }
 
     /** only for tests. */
@@ -304,13 +294,11 @@ public class CookieSession {
         if (u == null) return;
         user = u;
         settings = null;
-        synchronized (gHash) {
-            uHash.put(user.email, this); // replaces any existing session by
-            // this user.
-        }
+        registry.putUser(user.email, this); // replaces any existing session by
+        // this user.
     }
 
-    /** Create a new session. */
+    /** Create a new session. It is not registered; see {@link #newSession(String, String)}. */
     private CookieSession(String ip, String fromId) {
         this.ip = ip;
         if (fromId == null) {
@@ -319,13 +307,7 @@ public class CookieSession {
             id = fromId;
         }
         if (DEBUG_INOUT) System.out.println("S: new " + id + " - " + user);
-        synchronized (gHash) {
-            if (gHash.containsKey(id)) {
-                System.err.println("CookieSession.CookieSession() - dup id " + id);
-            }
-            gHash.put(id, this);
-            touch();
-        }
+        touch();
     }
 
     public static CookieSession newSession(String ip) {
@@ -333,21 +315,21 @@ public class CookieSession {
     }
 
     public static CookieSession newSession(String ip, String fromId) {
-        CookieSession rv;
-        synchronized (gHash) {
-            rv = gHash.get(fromId);
-            if (rv != null) {
-                System.err.println("Trying to create extant session " + rv);
-                if (!rv.ip.equals(ip)) {
-                    if (SurveyMain.isUnofficial())
-                        System.out.println("IP changed from " + rv.ip + " to " + ip + " - " + rv);
-                    rv.ip = ip;
-                    rv.touch();
-                }
-            } else {
-                rv = new CookieSession(ip, fromId);
+        CookieSession rv = (fromId == null) ? null : registry.get(fromId);
+        if (rv == null) {
+            final CookieSession created = new CookieSession(ip, fromId);
+            rv = registry.putIfAbsent(created);
+            if (rv == null) {
+                return created;
             }
         }
+        System.err.println("Trying to create extant session " + rv);
+        if (!rv.ip.equals(ip)) {
+            if (SurveyMain.isUnofficial())
+                System.out.println("IP changed from " + rv.ip + " to " + ip + " - " + rv);
+            rv.ip = ip;
+            rv.touch();
+        }
         return rv;
     }
 
@@ -371,12 +353,7 @@ public class CookieSession {
      * @return the user that was deleted, if any
      */
     public UserRegistry.User remove() {
-        synchronized (gHash) {
-            if (user != null) {
-                uHash.remove(user.email);
-            }
-            gHash.remove(id);
-        }
+        registry.remove(this, user == null ? null : user.email);
         if (DEBUG_INOUT) System.out.println("S: Removing session: " + id + " - " + user);
         return user;
     }
@@ -414,17 +391,25 @@ public class CookieSession {
     }
 
     // secure stuff
-    static SecureRandom myRand = null;
 
-    /* Secure random number generator */
+    /* Secure random number generator, which may be shared by threads */
+    private static final class RandomHolder {
+        static final SecureRandom myRand = makeRandom();
 
-    /** Generate a new ID. */
-    public static synchronized String newId() {
-        try {
-            if (myRand == null) {
-                myRand = SecureRandom.getInstance("SHA1PRNG");
+        private static SecureRandom makeRandom() {
+            try {
+                return SecureRandom.getInstance("SHA1PRNG");
+            } catch (NoSuchAlgorithmException nsa) {
+                SurveyMain.busted("SecureRandom error", nsa);
+                return new SecureRandom();
             }
+        }
+    }
 
+    /** Generate a new ID. */
+    public static String newId() {
+        try {
+            final SecureRandom myRand = RandomHolder.myRand;
             MessageDigest aDigest = MessageDigest.getInstance("SHA-1");
             byte[] outBytes = aDigest.digest(Integer.toString(myRand.nextInt()).getBytes());
             return cheapEncode(outBytes);
@@ -686,103 +671,61 @@ public class CookieSession {
 
     // parameters
 
-    /** last time reaped. Starts at 0, so reap immediately */
-    static long lastReapMillisSinceEpoch = 0;
-
-    /** Number of observers (users who are not logged in) */
-    private static int nObservers = 0;
-
-    /** Number of users */
-    private static int nUsers = 0;
-
     public static int getObserverCount() {
-        getUserCount();
-        return nObservers;
+        return registry.getObserverCount();
     }
 
     /**
-     * Perform a reap if need be, and count.
+     * Count the users.
      *
      * @return user count
      */
     public static int getUserCount() {
-        synchronized (uHash) {
-            return uHash.size();
-        }
+        return registry.getUserCount();
     }
 
-    private static int lastCount = -1;
-
+    /**
+     * Remove the expired sessions, if it is time to.
+     *
+     * @return the number of users as of the last check
+     */
     public static int checkForExpiredSessions() {
+        final boolean tooManyUsers = tooManyUsers();
+        return registry.reapIfDue(tooManyObservers(), cs -> cs.isExpired(tooManyUsers));
+    }
 
-        synchronized (gHash) {
-            int allCount = gHash.size(); // count of ALL users
-            long nowMillisSinceEpoch = System.currentTimeMillis();
-            long elapsedMillis = (nowMillisSinceEpoch - lastReapMillisSinceEpoch);
-
-            final boolean tooManyUsers = tooManyUsers();
-            final boolean tooManyObservers = tooManyObservers();
-
-            final long CHECK_SECS = 5; // check every 5 seconds or if count grows
-            if (elapsedMillis < (1000 * CHECK_SECS) && allCount <= lastCount && !tooManyObservers) {
-                return nUsers;
-            }
+    /**
+     * Check for expired sessions in the background, so that idle sessions are removed even when no
+     * requests come in. Called when Survey Tool starts up.
+     */
+    public static void startReaper() {
+        registry.startReaper(
+                SurveyThreadManager.getScheduledExecutorService(),
+                CookieSession::checkForExpiredSessions);
+    }
 
-            lastCount = allCount;
-
-            int observers = 0;
-            int users = 0;
-            lastReapMillisSinceEpoch = nowMillisSinceEpoch;
-
-            // remove any sessions we need to get rid of, count the rest.
-            List<CookieSession> toRemove = new LinkedList<>();
-            for (CookieSession cs : gHash.values()) {
-                if (cs.user == null) { // observer
-                    if (tooManyUsers
-                            || (KICK_IF_ABSENT
-                                    && cs.millisSinceLastBrowserCall()
-                                            > Params.CLDR_OBSERVER_TIMEOUT_SECS.value() * 1000L)
-                            || (KICK_IF_INACTIVE && cs.millisTillKick() <= 0)) {
-                        toRemove.add(cs);
-                    } else {
-                        observers++;
-                    }
-                } else {
-                    if ((KICK_IF_ABSENT
-                                    && cs.millisSinceLastBrowserCall()
-                                            > Params.CLDR_USER_TIMEOUT_SECS.value() * 1000)
-                            || (KICK_IF_INACTIVE && cs.millisTillKick() <= 0)) {
-                        toRemove.add(cs);
-                    } else {
-                        users++;
-                    }
-                }
-            }
-            for (CookieSession cs : toRemove) {
-                if (SurveyMain.isUnofficial() && cs.user != null) {
-                    // Don't log on anonymous users
-                    logger.fine(() -> "Removed stale session " + cs);
-                }
-                cs.remove();
-            }
-            nObservers = observers;
-            return (nUsers = users);
+    /**
+     * Has this session been absent or inactive for too long?
+     *
+     * @param tooManyUsers if true, all observer sessions have expired
+     */
+    private boolean isExpired(boolean tooManyUsers) {
+        if (user == null) { // observer
+            return tooManyUsers
+                    || (KICK_IF_ABSENT
+                            && millisSinceLastBrowserCall()
+                                    > Params.CLDR_OBSERVER_TIMEOUT_SECS.value() * 1000L)
+                    || (KICK_IF_INACTIVE && millisTillKick() <= 0);
+        } else {
+            return (KICK_IF_ABSENT
+                            && millisSinceLastBrowserCall()
+                                    > Params.CLDR_USER_TIMEOUT_SECS.value() * 1000L)
+                    || (KICK_IF_INACTIVE && millisTillKick() <= 0);
         }
     }
 
     public static void shutdownDB() {
-        synchronized (gHash) {
-            CookieSession[] sessions = gHash.values().toArray(new CookieSession[0]);
-            for (CookieSession cs : sessions) {
-                try {
-                    cs.remove();
-                } catch (Throwable t) {
-                    //
-                }
-            }
-            gHash.clear();
-            uHash.clear();
-        }
+        registry.clear();
     }
 
     public UserSettings settings() {
@@ -802,7 +745,7 @@ public class CookieSession {
 
     private static synchronized CookieSession getSpecialObserver() {
         if (specialObserver == null) {
-            specialObserver = new CookieSession("[throttled]", null);
+            specialObserver = newSession("[throttled]", null);
         }
         return specialObserver;
     }
@@ -816,13 +759,13 @@ public class CookieSession {
             ip = IP;
         }
 
-        public void hit(String userAgent) {
+        public synchronized void hit(String userAgent) {
             agents.add(userAgent);
             hits++;
         }
 
         @Override
-        public String toString() {
+        public synchronized String toString() {
             String s = " hits: " + hits + ", from :";
             for (String ua : agents) {
                 s = s + ua + ", ";
@@ -831,12 +774,12 @@ public class CookieSession {
         }
     }
 
-    public static synchronized CookieSession checkForAbuseFrom(
+    public static CookieSession checkForAbuseFrom(
             String userIP, Hashtable<String, Object> BAD_IPS, String userAgent) {
         if (userAgent == null) userAgent = "X-None";
-        if (BAD_IPS.containsKey(userIP)) {
-            BadUserRecord bur = (BadUserRecord) BAD_IPS.get(userIP);
-            bur.hit(userAgent);
+        BadUserRecord known = (BadUserRecord) BAD_IPS.get(userIP);
+        if (known != null) {
+            known.hit(userAgent);
             return getSpecialObserver();
         }
 
@@ -848,19 +791,17 @@ public class CookieSession {
 
         int noSes = 0;
         long nowMillisSinceEpoch = System.currentTimeMillis();
-        synchronized (gHash) {
-            for (CookieSession cs : gHash.values()) {
-                if (!userIP.equals(cs.ip)) {
-                    continue;
-                }
-                if (cs.user != null) {
-                    return null; // has a user, OK
-                }
-                final long N_MINUTES = 5; // five minutes (why?)
-                if ((nowMillisSinceEpoch - cs.lastBrowserCallMillisSinceEpoch)
-                        < (N_MINUTES * 60 * 1000)) {
-                    noSes++;
-                }
+        for (CookieSession cs : registry.getAll()) {
+            if (!userIP.equals(cs.ip)) {
+                continue;
+            }
+            if (cs.user != null) {
+                return null; // has a user, OK
+            }
+            final long N_MINUTES = 5; // five minutes (why?)
+            if ((nowMillisSinceEpoch - cs.lastBrowserCallMillisSinceEpoch)
+                    < (N_MINUTES * 60 * 1000)) {
+                noSes++;
             }
         }
         if ((noSes > 10)
@@ -868,10 +809,9 @@ public class CookieSession {
                 || userAgent.contains("MJ12bot")
                 || userAgent.contains("ezooms.bot")
                 || userAgent.contains("bingbot")) {
-            BadUserRecord bur = new BadUserRecord(userIP);
+            // another request from the same IP may have added a record since the check above
+            BadUserRecord bur = (BadUserRecord) BAD_IPS.computeIfAbsent(userIP, BadUserRecord::new);
             bur.hit(userAgent);
-
-            BAD_IPS.put(userIP, bur);
             return getSpecialObserver();
         } else {
             return null; // OK.
@@ -243,10 +243,6 @@ public class Dashboard {
             usersOrg = Organization.fromString(user.voterOrg());
         }
         STFactory sourceFactory = sm.getSTFactory();
-        VettingViewer<Organization> vv =
-                new VettingViewer<>(
-                        sm.getSupplementalDataInfo(), sourceFactory, new STUsersChoice(sm));
-        vv.setOldVoteFactory(sm.getLastVoteDiskFactory());
         EnumSet<NotificationCategory> choiceSet =
                 VettingViewer.getDashboardNotificationCategories(usersOrg);
         if (includeOther) {
@@ -260,15 +256,21 @@ public class Dashboard {
             args.setUserAndOrganization(UserRegistry.NO_USER, usersOrg);
         }
         args.setFiles(locale, sourceFactory, sm.getDiskFactory(), sm.getLastVoteDiskFactory());
+        VettingViewer<Organization>.DashboardData dd;
         if (xpath != null) {
             args.setXpath(xpath);
+            dd = IncrementalDashboard.makeVettingViewer().generateDashboard(args);
+        } else {
+            // kept up to date as votes come in, rather than going through the whole locale
+            dd =
+                    IncrementalDashboard.getDashboard(
+                            locale, coverageLevel, usersOrg, args.getUserId(), choiceSet);
         }
-        return reallyGet(vv, args);
+        return reallyGet(dd, args);
     }
 
-    private ReviewOutput reallyGet(VettingViewer<Organization> vv, VettingParameters args) {
-        VettingViewer<Organization>.DashboardData dd;
-        dd = vv.generateDashboard(args);
+    private ReviewOutput reallyGet(
+            VettingViewer<Organization>.DashboardData dd, VettingParameters args) {
 
         ReviewOutput reviewOutput = new ReviewOutput();
 
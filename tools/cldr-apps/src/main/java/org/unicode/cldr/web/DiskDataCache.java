@@ -56,6 +56,7 @@ public class DiskDataCache {
         this.factory = f;
         this.english = english;
         this.phf = PathHeader.getFactory(english);
+        this.phf.precompute(); // so that serving pages doesn't contend on PathHeader
         this.sdi = sdi;
     }
 
@@ -0,0 +1,348 @@
+package org.unicode.cldr.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Level;
+import org.unicode.cldr.util.LocaleCompletionData;
+import org.unicode.cldr.util.NotificationCategory;
+import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.VettingParameters;
+import org.unicode.cldr.util.VettingViewer;
+import org.unicode.cldr.util.XMLSource;
+
+/**
+ * Keeps the Dashboard data of a locale (its entries, voter progress, and counts of errors, missing
+ * and provisional items) up to date as votes come in, so that the Dashboard and the locale
+ * completion can be read without going through all the paths of the locale.
+ *
+ * <p>The data is computed once for each locale, coverage level, organization, user and set of
+ * categories, recording what each path contributed. STFactory tells it of each vote in the locale
+ * or one of its parents (see {@link #voteChanged}), whether or not the winning value changed, since
+ * a vote still changes the voter's progress and abstentions. The changed paths are noted, and
+ * before the data is next read, they are checked again together and their old contributions
+ * replaced. If the locale or a parent is reloaded, the data is computed again from scratch.
+ *
+ * <p>A change can also affect other paths, for example when a check compares several paths. Those
+ * declared by {@link org.unicode.cldr.test.CheckCLDR#getDependentPaths} are checked again along
+ * with the changed path; the dependents of each changed path are found once and kept. If a changed
+ * path is one that the checks are set up from, the data is computed again from scratch. In case a
+ * check doesn't declare all that it depends on, the data is also computed again from scratch
+ * CLDR_DASHBOARD_REBUILD_MINUTES (default 20) minutes after it was first computed.
+ *
+ * <p>The full Dashboard data of up to CLDR_DASHBOARD_CACHE_MAX (default 200) keys is kept, and
+ * separately the locale completion data, which is asked for by many more users, of up to
+ * CLDR_LOCALE_COMPLETION_CACHE_MAX (default 500) keys.
+ */
+public class IncrementalDashboard {
+    static final Logger logger = SurveyLog.forClass(IncrementalDashboard.class);
+
+    /** What the data is for */
+    static final class Key {
+        final CLDRLocale locale;
+        final Level level;
+        final Organization organization;
+        final int userId;
+        final EnumSet<NotificationCategory> choices;
+
+        Key(
+                CLDRLocale locale,
+                Level level,
+                Organization organization,
+                int userId,
+                EnumSet<NotificationCategory> choices) {
+            this.locale = locale;
+            this.level = level;
+            this.organization = organization;
+            this.userId = userId;
+            this.choices = choices.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return userId == other.userId
+                    && locale.equals(other.locale)
+                    && level == other.level
+                    && organization == other.organization
+                    && choices.equals(other.choices);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locale, level, organization, userId, choices);
+        }
+
+        @Override
+        public String toString() {
+            return locale + "/" + level + "/" + organization + "/" + userId + "/" + choices;
+        }
+    }
+
+    /** The data for one key, and the paths changed since it was last brought up to date */
+    static final class Entry {
+        private final Key key;
+
+        /** the sources of the locale and its parents, when the data was computed */
+        private final List<XMLSource> sources;
+
+        private final Supplier<VettingViewer<Organization>> makeViewer;
+        private final Function<Key, VettingParameters> makeArgs;
+
+        private final Set<String> changedPaths = ConcurrentHashMap.newKeySet();
+
+        /** guarded by this; null until first read */
+        private VettingViewer<Organization>.DashboardData dd;
+
+        /**
+         * changed path → the other paths of the locale that depend on it, found the first time the
+         * path changes; guarded by this, and cleared when the data is computed from scratch
+         */
+        private final Map<String, Set<String>> dependentPaths = new HashMap<>();
+
+        /**
+         * The data is computed when first read, so that the entry can be in the cache, and be told
+         * of votes, while the data is computed.
+         *
+         * @param makeViewer makes the VettingViewer to compute the data with
+         * @param makeArgs makes the parameters for the key, with the current files
+         */
+        Entry(
+                Key key,
+                List<XMLSource> sources,
+                Supplier<VettingViewer<Organization>> makeViewer,
+                Function<Key, VettingParameters> makeArgs) {
+            this.key = key;
+            this.sources = sources;
+            this.makeViewer = makeViewer;
+            this.makeArgs = makeArgs;
+        }
+
+        /** Was this computed from the given sources? */
+        boolean hasSources(List<XMLSource> others) {
+            if (sources.size() != others.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); ++i) {
+                if (sources.get(i) != others.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Note that the value or votes of the path changed */
+        void noteChanged(String xpath) {
+            changedPaths.add(xpath);
+        }
+
+        /** Replace the contributions of the changed paths and the paths that depend on them */
+        synchronized void update() {
+            if (dd == null) {
+                changedPaths.clear(); // before computing, so that votes meanwhile are checked again
+                dd = makeViewer.get().generateDashboard(makeArgs.apply(key), true);
+                return;
+            }
+            if (changedPaths.isEmpty()) {
+                return;
+            }
+            final VettingViewer<Organization> vv = makeViewer.get();
+            final VettingParameters args = makeArgs.apply(key);
+            final Set<String> changed = new TreeSet<>();
+            for (Iterator<String> i = changedPaths.iterator(); i.hasNext(); ) {
+                changed.add(i.next());
+                i.remove(); // before checking, in case it changes again meanwhile
+            }
+            final Map<String, Predicate<String>> newlyChanged = new HashMap<>();
+            for (String path : changed) {
+                if (dependentPaths.containsKey(path)) {
+                    continue;
+                }
+                final Predicate<String> dependent = vv.getDependentPaths(key.locale, path);
+                if (dependent == null) {
+                    dd = vv.generateDashboard(args, true);
+                    dependentPaths.clear();
+                    logger.finer(() -> key + ": computed again after a change to " + path);
+                    return;
+                }
+                newlyChanged.put(path, dependent);
+            }
+            findDependentPaths(args, newlyChanged);
+            final Set<String> paths = new TreeSet<>(changed);
+            for (String path : changed) {
+                paths.addAll(dependentPaths.get(path));
+            }
+            args.setXpaths(paths);
+            dd.replacePaths(paths, vv.generateDashboard(args, true));
+            logger.finer(() -> key + ": updated " + paths.size() + " path(s)");
+        }
+
+        /** Find the dependent paths of the given changed paths, going through the locale once */
+        private void findDependentPaths(
+                VettingParameters args, Map<String, Predicate<String>> changedToDependent) {
+            if (changedToDependent.isEmpty()) {
+                return;
+            }
+            changedToDependent.keySet().forEach(path -> dependentPaths.put(path, new HashSet<>()));
+            for (String path : args.getSourceFile().fullIterable()) {
+                changedToDependent.forEach(
+                        (changed, dependent) -> {
+                            if (dependent.test(path)) {
+                                dependentPaths.get(changed).add(path);
+                            }
+                        });
+            }
+        }
+
+        synchronized VettingViewer<Organization>.DashboardData copy() {
+            update();
+            return dd.copy();
+        }
+
+        synchronized LocaleCompletionData getLocaleCompletionData() {
+            update();
+            return dd.localeCompletionData;
+        }
+    }
+
+    /**
+     * Note that a vote for the path in the locale was made or withdrawn, so that the data for the
+     * locale and the locales inheriting from it is brought up to date. Called by STFactory for
+     * every vote, even if the winning value is the same.
+     */
+    public static void voteChanged(CLDRLocale locale, String xpath) {
+        voteChanged(dashboards, locale, xpath);
+        voteChanged(completions, locale, xpath);
+    }
+
+    static void voteChanged(Cache<Key, Entry> cache, CLDRLocale locale, String xpath) {
+        for (Entry entry : cache.asMap().values()) {
+            for (CLDRLocale l = entry.key.locale; l != null; l = l.getParent()) {
+                if (l.equals(locale)) {
+                    entry.noteChanged(xpath);
+                    break;
+                }
+            }
+        }
+    }
+
+    /** The full Dashboard data */
+    private static final Cache<Key, Entry> dashboards = makeCache("CLDR_DASHBOARD_CACHE_MAX", 200);
+
+    /** The data for locale completion, which only needs the counts */
+    private static final Cache<Key, Entry> completions =
+            makeCache("CLDR_LOCALE_COMPLETION_CACHE_MAX", 500);
+
+    private static Cache<Key, Entry> makeCache(String maxProperty, int defaultMax) {
+        final CLDRConfig config = CLDRConfig.getInstance();
+        return CacheBuilder.newBuilder()
+                .maximumSize(config.getProperty(maxProperty, defaultMax))
+                .expireAfterWrite(
+                        config.getProperty("CLDR_DASHBOARD_REBUILD_MINUTES", 20), TimeUnit.MINUTES)
+                .build();
+    }
+
+    static VettingViewer<Organization> makeVettingViewer() {
+        final SurveyMain sm = CookieSession.sm;
+        final VettingViewer<Organization> vv =
+                new VettingViewer<>(
+                        sm.getSupplementalDataInfo(), sm.getSTFactory(), new STUsersChoice(sm));
+        vv.setOldVoteFactory(sm.getLastVoteDiskFactory());
+        return vv;
+    }
+
+    private static VettingParameters makeArgs(Key key) {
+        final SurveyMain sm = CookieSession.sm;
+        final VettingParameters args = new VettingParameters(key.choices, key.locale, key.level);
+        args.setUserAndOrganization(key.userId, key.organization);
+        args.setFiles(
+                key.locale, sm.getSTFactory(), sm.getDiskFactory(), sm.getLastVoteDiskFactory());
+        return args;
+    }
+
+    /**
+     * Get the Dashboard data, up to date with the latest votes
+     *
+     * @return a copy of the data, which the caller may keep
+     */
+    public static VettingViewer<Organization>.DashboardData getDashboard(
+            CLDRLocale locale,
+            Level level,
+            Organization organization,
+            int userId,
+            EnumSet<NotificationCategory> choices) {
+        return getEntry(dashboards, new Key(locale, level, organization, userId, choices)).copy();
+    }
+
+    /** Get the counts of errors, missing and provisional items, up to date with the latest votes */
+    public static LocaleCompletionData getLocaleCompletionData(
+            CLDRLocale locale,
+            Level level,
+            Organization organization,
+            EnumSet<NotificationCategory> choices) {
+        return getEntry(completions, new Key(locale, level, organization, 0, choices))
+                .getLocaleCompletionData();
+    }
+
+    private static Entry getEntry(Cache<Key, Entry> cache, Key key) {
+        final List<XMLSource> sources = getSources(key.locale);
+        return getEntry(
+                cache,
+                key,
+                sources,
+                () ->
+                        new Entry(
+                                key,
+                                sources,
+                                IncrementalDashboard::makeVettingViewer,
+                                IncrementalDashboard::makeArgs));
+    }
+
+    /**
+     * Get the entry for the key from the cache, making it if there is none, or if the one there
+     * wasn't computed from the given sources
+     */
+    static Entry getEntry(
+            Cache<Key, Entry> cache, Key key, List<XMLSource> sources, Supplier<Entry> makeEntry) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && !entry.hasSources(sources)) {
+            // the locale or a parent was reloaded, so the entry is out of date
+            cache.asMap().remove(key, entry);
+        }
+        try {
+            return cache.get(key, makeEntry::get);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Computing the Dashboard for " + key, e.getCause());
+        }
+    }
+
+    /** The sources of the locale and its parents, whose changes can affect the locale */
+    private static List<XMLSource> getSources(CLDRLocale locale) {
+        final STFactory stFactory = CookieSession.sm.getSTFactory();
+        final List<XMLSource> sources = new ArrayList<>();
+        for (CLDRLocale l = locale; l != null; l = l.getParent()) {
+            sources.add(stFactory.get(l).getSource());
+        }
+        return sources;
+    }
+}
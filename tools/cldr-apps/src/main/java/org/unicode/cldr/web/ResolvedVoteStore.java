@@ -0,0 +1,266 @@
+package org.unicode.cldr.web;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.logging.Logger;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRConfigImpl;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.CLDRURLS;
+import org.unicode.cldr.util.CldrUtility;
+import org.unicode.cldr.util.StoreFiles;
+import org.unicode.cldr.util.VoteResolver.VoterInfo;
+
+/**
+ * Keeps the outcome of vote resolution for each locale on disk, so that after a restart
+ * PerLocaleData can take the winners of the paths whose votes haven't changed from here instead of
+ * resolving the votes again.
+ *
+ * <p>The store is only used when the CLDR_RESOLVED_VOTE_DIR property names a writable directory.
+ * There is one file per locale, whose name has a hash of what the winners depend on besides the
+ * votes: the version of the code (the CLDR_RESOLVED_VOTE_VERSION property, or else the
+ * CLDR-Code-Git-Commit in the manifest), the CLDR version and phase, the resolved disk data of the
+ * locale, the supplemental data, and the organizations and levels of the voters. If no code version
+ * is known, nothing is stored.
+ *
+ * <p>For each path, the file has the winning full path and value, and a summary of the votes they
+ * were resolved from: the number of votes and the latest modification time. The file also has the
+ * high-water mark of the votes of the locale, the latest modification time of any of them. A stored
+ * winner is only used if the path still has the same summary, and none of its votes is newer than
+ * the high-water mark. Since a changed vote gets a new modification time, and a removed vote
+ * changes the number of votes, the paths whose votes changed since the file was written are
+ * resolved again.
+ *
+ * <p>Only the resolution is saved: the votes themselves are still all read, since PerLocaleData
+ * keeps every vote of the locale for display and for resolving the paths that change later.
+ */
+class ResolvedVoteStore {
+    private static final Logger logger = SurveyLog.forClass(ResolvedVoteStore.class);
+
+    private static final int MAGIC = 0x434C5256; // "CLRV"
+    private static final int FORMAT_VERSION = 1;
+
+    /** Modification time for votes without one */
+    static final long NO_LAST_MOD = 0;
+
+    private static final Supplier<ResolvedVoteStore> INSTANCE =
+            Suppliers.memoize(ResolvedVoteStore::makeInstance);
+
+    private final File directory;
+    private final String version;
+
+    /**
+     * @return the store set up by CLDR_RESOLVED_VOTE_DIR, or null if winners aren't stored
+     */
+    static ResolvedVoteStore getInstance() {
+        return INSTANCE.get();
+    }
+
+    private static ResolvedVoteStore makeInstance() {
+        CLDRConfig config = CLDRConfig.getInstance();
+        String directory = config.getProperty("CLDR_RESOLVED_VOTE_DIR", null);
+        if (directory == null) {
+            return null;
+        }
+        String version = config.getProperty("CLDR_RESOLVED_VOTE_VERSION", null);
+        if (version == null) {
+            version = CLDRConfigImpl.getGitHashForSlug(CldrUtility.CODE_SLUG);
+            if (CLDRURLS.UNKNOWN_REVISION.equals(version)) {
+                logger.warning(
+                        "Not storing resolved votes in "
+                                + directory
+                                + ": set CLDR_RESOLVED_VOTE_VERSION, since the code version is unknown");
+                return null;
+            }
+        }
+        return new ResolvedVoteStore(
+                new File(directory),
+                version
+                        + "|"
+                        + SurveyMain.getNewVersion()
+                        + "|"
+                        + SurveyMain.getOverallSurveyPhase());
+    }
+
+    /**
+     * @param directory where the files are kept
+     * @param version identifies the version of the code; winners stored with a different version
+     *     are not used
+     */
+    ResolvedVoteStore(File directory, String version) {
+        this.directory = directory;
+        this.version = version;
+    }
+
+    /** The winner of one path, and a summary of the votes it was resolved from */
+    static final class StoredWinner {
+        final String fullPath;
+
+        /** the winning value, or null if the path has none */
+        final String value;
+
+        final int voteCount;
+        final long lastMod;
+
+        StoredWinner(String fullPath, String value, int voteCount, long lastMod) {
+            this.fullPath = fullPath;
+            this.value = value;
+            this.voteCount = voteCount;
+            this.lastMod = lastMod;
+        }
+    }
+
+    /** The winners stored for a locale */
+    static final class Snapshot {
+        private final long highWaterMark;
+        private final Map<String, StoredWinner> pathToWinner;
+
+        private Snapshot(long highWaterMark, Map<String, StoredWinner> pathToWinner) {
+            this.highWaterMark = highWaterMark;
+            this.pathToWinner = pathToWinner;
+        }
+
+        /**
+         * @param voteCount the current number of votes for the path
+         * @param lastMod the latest modification time of the current votes for the path
+         * @return the stored winner, or null if there is none or the votes may have changed
+         */
+        StoredWinner getIfCurrent(String path, int voteCount, long lastMod) {
+            StoredWinner winner = pathToWinner.get(path);
+            if (winner == null
+                    || winner.voteCount != voteCount
+                    || winner.lastMod != lastMod
+                    || lastMod > highWaterMark) {
+                return null;
+            }
+            return winner;
+        }
+
+        int size() {
+            return pathToWinner.size();
+        }
+    }
+
+    /**
+     * Get the key for the winners of a locale, a hash of what they depend on besides the votes.
+     *
+     * @param diskFile the resolved disk data of the locale; it is frozen, so its hash is only
+     *     computed the first time
+     * @param supplementalDirectory the supplemental data of the factory that resolves the votes
+     * @param voters the voters of the votes for the locale
+     */
+    String getKey(
+            CLDRLocale locale,
+            CLDRFile diskFile,
+            File supplementalDirectory,
+            SortedMap<Integer, VoterInfo> voters) {
+        MessageDigest digest = StoreFiles.newDigest();
+        StoreFiles.update(digest, FORMAT_VERSION + "|" + version);
+        StoreFiles.update(digest, StoreFiles.hashDirectory(supplementalDirectory));
+        StoreFiles.update(digest, StoreFiles.hash(diskFile));
+        voters.forEach(
+                (id, info) ->
+                        StoreFiles.update(
+                                digest,
+                                id
+                                        + "|"
+                                        + (info == null
+                                                ? null
+                                                : info.getOrganization() + "|" + info.getLevel())));
+        return locale.getBaseName() + "-" + StoreFiles.toHex(digest);
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + ".bin");
+    }
+
+    /**
+     * Load the winners stored with the key.
+     *
+     * @return the winners, or null if there are none
+     */
+    Snapshot load(String key) {
+        File file = getFile(key);
+        if (!file.canRead()) {
+            return null;
+        }
+        try {
+            return read(file);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable resolved votes " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Save the winners with the key, replacing any saved before for the locale. Failures are
+     * logged, not thrown, since the store only saves time.
+     *
+     * @param highWaterMark the latest modification time of the votes the winners were resolved from
+     */
+    void save(String key, long highWaterMark, List<String> paths, List<StoredWinner> winners) {
+        File file = getFile(key);
+        try {
+            directory.mkdirs();
+            write(file, highWaterMark, paths, winners);
+        } catch (IOException e) {
+            logger.warning("Could not write resolved votes " + file + ": " + e.getMessage());
+            return;
+        }
+        StoreFiles.deleteOthers(file, key.substring(0, key.lastIndexOf('-') + 1));
+    }
+
+    private static void write(
+            File file, long highWaterMark, List<String> paths, List<StoredWinner> winners)
+            throws IOException {
+        StoreFiles.writeAtomically(
+                file,
+                out -> {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeLong(highWaterMark);
+                    out.writeInt(paths.size());
+                    for (int i = 0; i < paths.size(); ++i) {
+                        StoredWinner winner = winners.get(i);
+                        StoreFiles.writeString(out, paths.get(i));
+                        StoreFiles.writeString(out, winner.fullPath);
+                        StoreFiles.writeString(out, winner.value);
+                        out.writeInt(winner.voteCount);
+                        out.writeLong(winner.lastMod);
+                    }
+                });
+    }
+
+    private static Snapshot read(File file) throws IOException {
+        try (InputStream is = Files.newInputStream(file.toPath());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(is))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not resolved votes of format version " + FORMAT_VERSION);
+            }
+            long highWaterMark = in.readLong();
+            int count = in.readInt();
+            Map<String, StoredWinner> pathToWinner = new HashMap<>(count * 2);
+            for (int i = 0; i < count; ++i) {
+                String path = StoreFiles.readString(in);
+                String fullPath = StoreFiles.readString(in);
+                String value = StoreFiles.readString(in);
+                int voteCount = in.readInt();
+                long lastMod = in.readLong();
+                pathToWinner.put(path, new StoredWinner(fullPath, value, voteCount, lastMod));
+            }
+            return new Snapshot(highWaterMark, pathToWinner);
+        }
+    }
+}
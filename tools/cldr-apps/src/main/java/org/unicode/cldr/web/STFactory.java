@@ -15,7 +15,6 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Timestamp;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.BitSet;
@@ -24,16 +23,20 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.unicode.cldr.icu.dev.util.ElapsedTimer;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
@@ -51,6 +54,7 @@ import org.unicode.cldr.util.SimpleXMLSource;
 import org.unicode.cldr.util.VoteResolver;
 import org.unicode.cldr.util.VoteResolver.Level;
 import org.unicode.cldr.util.VoteResolver.Status;
+import org.unicode.cldr.util.VoteResolver.VoterInfo;
 import org.unicode.cldr.util.VoteType;
 import org.unicode.cldr.util.XMLSource;
 import org.unicode.cldr.web.CLDRProgressIndicator.CLDRProgressTask;
@@ -87,10 +91,10 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
     }
 
     /** Names of some columns in DBUtils.Table.VOTE_VALUE */
-    private static final String VOTE_OVERRIDE = "vote_override";
+    static final String VOTE_OVERRIDE = "vote_override";
 
     /** Type of vote, for constants see {@link VoteType} */
-    private static final String VOTE_TYPE = "vote_type";
+    static final String VOTE_TYPE = "vote_type";
 
     /**
      * the STFactory maintains exactly one instance of this class per locale it is working with. It
@@ -202,6 +206,11 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                 return userToData == null || userToData.isEmpty();
             }
 
+            /** How many users voted? */
+            public int getVoteCount() {
+                return userToData == null ? 0 : userToData.size();
+            }
+
             /**
              * Get all votes
              *
@@ -360,8 +369,9 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
          * <p>The task before us is to initialize all XMLSources and CLDRFiles needed.
          *
          * @param locale
+         * @param votes the votes for the locale if already read, or null to read them
          */
-        PerLocaleData(CLDRLocale locale) {
+        PerLocaleData(CLDRLocale locale, BulkVoteLoader.LocaleVotes votes) {
             logger.info("Load: " + locale);
             this.locale = locale;
             diskDataEntry = diskDataCache.get(locale);
@@ -381,7 +391,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                                 new BallotBoxXMLSource<>(
                                         diskDataEntry.diskData.cloneAsThawed(), this);
                 registerXmlSource(dataBackedSource);
-                loadVoteValues();
+                loadVoteValues(votes);
                 nextStamp();
                 XMLSource resolvedXmlsource = makeResolvingSource();
                 rFile =
@@ -452,123 +462,114 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         /**
          * Load internal data (votes, etc.) for this PerLocaleData, and push it into
          * dataBackedSource
+         *
+         * @param votes the votes for this locale if already read by {@link #preloadLocales}, or
+         *     null to read them now
          */
-        private void loadVoteValues() {
-            VoteResolver<String> resolver = null; // save recalculating this.
+        private void loadVoteValues(BulkVoteLoader.LocaleVotes votes) {
             ElapsedTimer et =
                     (SurveyLog.DEBUG) ? new ElapsedTimer("Loading PLD for " + locale) : null;
-            Connection conn = null;
-            PreparedStatement ps = null;
-            ResultSet rs = null;
+            if (votes == null) {
+                setupDB();
+                try (Connection conn = DBUtils.getInstance().getAConnection()) {
+                    votes = BulkVoteLoader.read(conn, locale);
+                } catch (SQLException e) {
+                    SurveyLog.logException(logger, e, "In loadVoteValues");
+                    SurveyMain.busted("Could not read locale " + locale, e);
+                    throw new InternalError(
+                            "Could not load locale "
+                                    + locale
+                                    + " : "
+                                    + DBUtils.unchainSqlException(e));
+                }
+            }
             int n = 0;
-            int del = 0;
-
-            try {
-                /*
-                 * Select several columns (xp, submitter, value, override, last_mod, vote_type),
-                 * from all rows with the given locale in the votes table.
-                 */
-                conn = DBUtils.getInstance().getAConnection();
-                ps = openQueryByLocaleRW(conn);
-                ps.setString(1, locale.getBaseName());
-                rs = ps.executeQuery();
-
-                while (rs.next()) {
-                    int xp = rs.getInt(1);
-                    String xpath = sm.xpt.getById(xp);
-                    int submitter = rs.getInt(2);
-                    String value = DBUtils.getStringUTF8(rs, 3);
-                    /*
-                     * 4 = locale is unused here, but is required in the query in case deleteRow
-                     * is called below. See openQueryByLocaleRW for explanation.
-                     */
-                    Integer voteOverride = rs.getInt(5); // 5 override
-                    if (voteOverride == 0 && rs.wasNull()) { // if override was a null..
-                        voteOverride = null;
-                    }
-                    Timestamp last_mod = rs.getTimestamp(6); // last mod
-                    VoteType voteType = VoteType.fromId(rs.getInt(7)); // vote_type
-                    User theSubmitter = sm.reg.getInfo(submitter);
-                    if (theSubmitter == null) {
-                        SurveyLog.warnOnce(logger, "Ignoring votes for deleted user #" + submitter);
-                    }
-                    if (!UserRegistry.countUserVoteForLocale(
-                            theSubmitter, locale)) { // check user permission to submit
-                        continue;
-                    }
-                    if (!isValidSurveyToolVote(
-                            theSubmitter, xpath)) { // Make sure it is a visible path
-                        if (voteType != VoteType.AUTO_IMPORT) {
-                            SurveyLog.warnOnce(
-                                    logger,
-                                    "Ignoring invalid "
-                                            + voteType
-                                            + " vote for path "
-                                            + xp
-                                            + "= "
-                                            + xpath);
-                        }
-                        continue;
-                    }
-                    try {
-                        if (voteType == null || voteType == VoteType.NONE) {
-                            logger.warning(
-                                    "loadVoteValues got vote type "
-                                            + voteType
-                                            + "; changed to UNKNOWN");
-                            voteType = VoteType.UNKNOWN;
-                        }
-                        internalSetVoteForValue(
-                                theSubmitter, xpath, value, voteOverride, last_mod, voteType);
-                        n++;
-                    } catch (BallotBox.InvalidXPathException e) {
-                        logger.severe(
-                                "InvalidXPathException: Deleting vote for "
-                                        + theSubmitter
-                                        + ":"
-                                        + locale
-                                        + ":"
-                                        + xpath);
-                        rs.deleteRow();
-                        del++;
-                    }
+            List<Integer> invalidVotes = new ArrayList<>();
+
+            // The votes are sorted by xpath id, so each path is looked up only once
+            int xp = -1;
+            String xpath = null;
+            for (int i = 0; i < votes.size(); i++) {
+                if (votes.getXpath(i) != xp) {
+                    xp = votes.getXpath(i);
+                    xpath = sm.xpt.getById(xp);
                 }
-                if (del > 0) {
-                    logger.warning("Summary: delete of " + del + " invalid votes from " + locale);
+                int submitter = votes.getSubmitter(i);
+                VoteType voteType = votes.getVoteType(i);
+                User theSubmitter = sm.reg.getInfo(submitter);
+                if (theSubmitter == null) {
+                    SurveyLog.warnOnce(logger, "Ignoring votes for deleted user #" + submitter);
                 }
-                DBUtils.close(rs, ps);
-                ps = openPermVoteQuery(conn);
-                ps.setString(1, locale.getBaseName());
-                rs = ps.executeQuery();
-                while (rs.next()) {
-                    int xp = rs.getInt(1);
-                    String xpath = sm.xpt.getById(xp);
-                    String value = DBUtils.getStringUTF8(rs, 2);
-                    Timestamp last_mod = rs.getTimestamp(3);
-                    try {
-                        internalSetVoteForValue(
-                                sm.reg.getInfo(UserRegistry.ADMIN_ID),
-                                xpath,
-                                value,
-                                VoteResolver.Level.LOCKING_VOTES,
-                                last_mod,
-                                VoteType.DIRECT);
-                        n++;
-                    } catch (BallotBox.InvalidXPathException e) {
-                        System.err.println(
-                                "InvalidXPathException: Ignoring permanent vote for:"
-                                        + locale
-                                        + ":"
+                if (!UserRegistry.countUserVoteForLocale(
+                        theSubmitter, locale)) { // check user permission to submit
+                    continue;
+                }
+                if (!isValidSurveyToolVote(theSubmitter, xpath)) { // Make sure it is a visible path
+                    if (voteType != VoteType.AUTO_IMPORT) {
+                        SurveyLog.warnOnce(
+                                logger,
+                                "Ignoring invalid "
+                                        + voteType
+                                        + " vote for path "
+                                        + xp
+                                        + "= "
                                         + xpath);
                     }
+                    continue;
+                }
+                try {
+                    if (voteType == null || voteType == VoteType.NONE) {
+                        logger.warning(
+                                "loadVoteValues got vote type "
+                                        + voteType
+                                        + "; changed to UNKNOWN");
+                        voteType = VoteType.UNKNOWN;
+                    }
+                    internalSetVoteForValue(
+                            theSubmitter,
+                            xpath,
+                            votes.getValue(i),
+                            votes.getOverride(i),
+                            votes.getLastMod(i),
+                            voteType);
+                    n++;
+                } catch (BallotBox.InvalidXPathException e) {
+                    logger.severe(
+                            "InvalidXPathException: Deleting vote for "
+                                    + theSubmitter
+                                    + ":"
+                                    + locale
+                                    + ":"
+                                    + xpath);
+                    invalidVotes.add(i);
+                }
+            }
+            if (!invalidVotes.isEmpty()) {
+                deleteInvalidVotes(votes, invalidVotes);
+                logger.warning(
+                        "Summary: delete of "
+                                + invalidVotes.size()
+                                + " invalid votes from "
+                                + locale);
+            }
+            for (int i = 0; i < votes.lockedSize(); i++) {
+                xpath = sm.xpt.getById(votes.getLockedXpath(i));
+                try {
+                    internalSetVoteForValue(
+                            sm.reg.getInfo(UserRegistry.ADMIN_ID),
+                            xpath,
+                            votes.getLockedValue(i),
+                            VoteResolver.Level.LOCKING_VOTES,
+                            votes.getLockedLastMod(i),
+                            VoteType.DIRECT);
+                    n++;
+                } catch (BallotBox.InvalidXPathException e) {
+                    System.err.println(
+                            "InvalidXPathException: Ignoring permanent vote for:"
+                                    + locale
+                                    + ":"
+                                    + xpath);
                 }
-            } catch (SQLException e) {
-                SurveyLog.logException(logger, e, "In setValueFromResolver");
-                SurveyMain.busted("Could not read locale " + locale, e);
-                throw new InternalError(
-                        "Could not load locale " + locale + " : " + DBUtils.unchainSqlException(e));
-            } finally {
-                DBUtils.close(rs, ps, conn);
             }
             SurveyLog.debug(et + " - read " + n + " items  (" + xpathToData.size() + " xpaths.)");
 
@@ -579,23 +580,169 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
             /*
              * Now that we've loaded all the votes, resolve the votes for each path.
              */
-            Set<String> xpathSet = allPXDPaths();
-            int j = 0;
-            for (String xp : xpathSet) {
-                try {
-                    resolver =
-                            dataBackedSource.setValueFromResolver(
-                                    xp,
-                                    resolver,
-                                    VoteLoadingContext.ORDINARY_LOAD_VOTES,
-                                    peekXpathData(xp));
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    SurveyLog.logException(logger, e, "In setValueFromResolver, xp = " + xp);
+            int j = resolveAllPaths();
+            SurveyLog.debug(et + " - resolved " + j + " items, " + n + " total.");
+        }
+
+        /**
+         * Delete votes that loadVoteValues found to be for invalid (e.g., obsolete) paths
+         *
+         * @param votes the votes read for this locale
+         * @param invalidVotes the indexes of the invalid votes
+         */
+        private void deleteInvalidVotes(
+                BulkVoteLoader.LocaleVotes votes, List<Integer> invalidVotes) {
+            Connection conn = null;
+            PreparedStatement ps = null;
+            try {
+                conn = DBUtils.getInstance().getDBConnection();
+                ps =
+                        DBUtils.prepareStatement(
+                                conn,
+                                "deleteInvalidVotes",
+                                "DELETE FROM "
+                                        + DBUtils.Table.VOTE_VALUE
+                                        + " WHERE locale=? AND submitter=? AND xpath=?");
+                for (int i : invalidVotes) {
+                    ps.setString(1, locale.getBaseName());
+                    ps.setInt(2, votes.getSubmitter(i));
+                    ps.setInt(3, votes.getXpath(i));
+                    ps.addBatch();
                 }
-                j++;
+                ps.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                SurveyLog.logException(logger, e, "Could not delete invalid votes from " + locale);
+            } finally {
+                DBUtils.close(ps, conn);
             }
-            SurveyLog.debug(et + " - resolved " + j + " items, " + n + " total.");
+        }
+
+        /**
+         * Resolve the votes for each path and put the winners into dataBackedSource.
+         *
+         * <p>If there is a ResolvedVoteStore, the stored winners are used for the paths whose votes
+         * haven't changed since they were stored, and the store is updated if any path had to be
+         * resolved.
+         *
+         * <p>Only the votes are read while resolving, so the paths are resolved in parallel in
+         * chunks, each with its own VoteResolver. The winners are then put into dataBackedSource on
+         * this thread, since it isn't thread-safe.
+         *
+         * @return the number of paths
+         */
+        private int resolveAllPaths() {
+            final List<String> paths = new ArrayList<>(allPXDPaths());
+            final int[] voteCounts = new int[paths.size()];
+            final long[] lastMods = new long[paths.size()];
+            long highWaterMark = ResolvedVoteStore.NO_LAST_MOD;
+            for (int i = 0; i < paths.size(); i++) {
+                PerXPathData xpd = peekXpathData(paths.get(i));
+                voteCounts[i] = xpd.getVoteCount();
+                Date lastModDate = xpd.getLastModDate();
+                lastMods[i] =
+                        lastModDate == null ? ResolvedVoteStore.NO_LAST_MOD : lastModDate.getTime();
+                highWaterMark = Math.max(highWaterMark, lastMods[i]);
+            }
+            final ResolvedVoteStore store = ResolvedVoteStore.getInstance();
+            final String key =
+                    store == null
+                            ? null
+                            : store.getKey(
+                                    locale,
+                                    diskDataEntry.diskFile,
+                                    getSupplementalDirectory(),
+                                    getVoters());
+            final ResolvedVoteStore.Snapshot snapshot = key == null ? null : store.load(key);
+
+            final BallotBoxXMLSource.Winner[] winners = new BallotBoxXMLSource.Winner[paths.size()];
+            final LongAdder resolved = new LongAdder();
+            final int chunks = (paths.size() + RESOLVE_CHUNK_SIZE - 1) / RESOLVE_CHUNK_SIZE;
+            IntStream chunkStream = IntStream.range(0, chunks);
+            if (PARALLEL_VOTE_RESOLUTION) {
+                chunkStream = chunkStream.parallel();
+            }
+            chunkStream.forEach(
+                    chunk -> {
+                        VoteResolver<String> resolver = null; // save recalculating this.
+                        int end = Math.min(paths.size(), (chunk + 1) * RESOLVE_CHUNK_SIZE);
+                        for (int i = chunk * RESOLVE_CHUNK_SIZE; i < end; i++) {
+                            final String xp = paths.get(i);
+                            ResolvedVoteStore.StoredWinner stored =
+                                    snapshot == null
+                                            ? null
+                                            : snapshot.getIfCurrent(xp, voteCounts[i], lastMods[i]);
+                            if (stored != null) {
+                                winners[i] =
+                                        new BallotBoxXMLSource.Winner(
+                                                xp, stored.fullPath, stored.value, null);
+                                continue;
+                            }
+                            resolved.increment();
+                            try {
+                                winners[i] =
+                                        dataBackedSource.resolveWinner(
+                                                xp,
+                                                resolver,
+                                                VoteLoadingContext.ORDINARY_LOAD_VOTES,
+                                                peekXpathData(xp));
+                                if (winners[i].resolver != null) {
+                                    resolver = winners[i].resolver;
+                                }
+                            } catch (Exception e) {
+                                e.printStackTrace();
+                                SurveyLog.logException(
+                                        logger, e, "In setValueFromResolver, xp = " + xp);
+                            }
+                        }
+                    });
+            for (BallotBoxXMLSource.Winner winner : winners) {
+                if (winner != null) {
+                    dataBackedSource.putWinner(winner);
+                }
+            }
+            if (snapshot != null) {
+                logger.info(
+                        locale
+                                + ": resolved "
+                                + resolved.sum()
+                                + " of "
+                                + paths.size()
+                                + " paths, the rest were stored");
+            }
+            if (store != null
+                    && (snapshot == null
+                            || resolved.sum() > 0
+                            || snapshot.size() != paths.size())) {
+                List<String> storedPaths = new ArrayList<>(paths.size());
+                List<ResolvedVoteStore.StoredWinner> storedWinners = new ArrayList<>(paths.size());
+                for (int i = 0; i < paths.size(); i++) {
+                    if (winners[i] != null) {
+                        storedPaths.add(paths.get(i));
+                        storedWinners.add(
+                                new ResolvedVoteStore.StoredWinner(
+                                        winners[i].fullPath,
+                                        winners[i].value,
+                                        voteCounts[i],
+                                        lastMods[i]));
+                    }
+                }
+                store.save(key, highWaterMark, storedPaths, storedWinners);
+            }
+            return paths.size();
+        }
+
+        /** The voters of the votes for this locale, by user id */
+        private SortedMap<Integer, VoterInfo> getVoters() {
+            SortedMap<Integer, VoterInfo> voters = new TreeMap<>();
+            for (PerXPathData xpd : xpathToData.values()) {
+                if (!xpd.isEmpty()) {
+                    for (Entry<User, PerXPathData.PerUserData> e : xpd.getVotes()) {
+                        voters.computeIfAbsent(e.getKey().id, sm.reg::getVoterToInfo);
+                    }
+                }
+            }
+            return voters;
         }
 
         @Override
@@ -949,6 +1096,8 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                             && (!newVal.equals(oldVal) || !oldFullPath.equals(newFullPath)))) {
                 dataBackedSource.notifyListeners(distinguishingXpath);
             }
+            // the listeners only hear of a new winner; the Dashboard needs to know of every vote
+            IncrementalDashboard.voteChanged(locale, distinguishingXpath);
         }
 
         /**
@@ -1334,6 +1483,20 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
     private final int CLDR_LOCALE_CACHE_MAX =
             CLDRConfig.getInstance().getProperty("CLDR_LOCALE_CACHE_MAX", 100);
 
+    /** Config: Whether to resolve the votes of a locale's paths in parallel when loading it */
+    private final boolean PARALLEL_VOTE_RESOLUTION =
+            CLDRConfig.getInstance().getProperty("CLDR_PARALLEL_VOTE_RESOLUTION", true);
+
+    /** Number of paths resolved together, with the same VoteResolver, when loading a locale */
+    private static final int RESOLVE_CHUNK_SIZE = 512;
+
+    /**
+     * Votes read by {@link #preloadLocales} for locales that haven't been loaded yet. The cache
+     * loader takes them from here instead of reading them again.
+     */
+    private final Map<CLDRLocale, BulkVoteLoader.LocaleVotes> prefetchedVotes =
+            new ConcurrentHashMap<>();
+
     /**
      * Some locales, such as root, en, should remain in the cache and not expire. Storing hard
      * references to them here prevents their removal by the soft reference loader for the
@@ -1373,7 +1536,7 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
                                     if (!getAvailableCLDRLocales().contains(key)) {
                                         return null; // not available
                                     }
-                                    return new PerLocaleData(key);
+                                    return new PerLocaleData(key, prefetchedVotes.remove(key));
                                 }
                             });
 
@@ -1395,6 +1558,53 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         return s;
     }
 
+    /**
+     * Load the given locales (and their parents) into the cache, if they aren't there already. The
+     * votes of all of them are read in one pass over the vote tables, rather than with a query per
+     * locale. Read-only locales are skipped, and no more locales are loaded than the cache can
+     * hold.
+     *
+     * @param localesToLoad the locales, such as all of the locales open for voting
+     * @return the locales loaded, not including their parents
+     */
+    public Set<CLDRLocale> preloadLocales(Collection<CLDRLocale> localesToLoad) {
+        Set<CLDRLocale> toLoad = new LinkedHashSet<>();
+        for (CLDRLocale locale : localesToLoad) {
+            if (toLoad.size() >= CLDR_LOCALE_CACHE_MAX) {
+                logger.warning(
+                        "Only preloading " + toLoad.size() + " locales, see CLDR_LOCALE_CACHE_MAX");
+                break;
+            }
+            if (!isReadOnlyLocale(locale)
+                    && getAvailableCLDRLocales().contains(locale)
+                    && locales.getIfPresent(locale) == null) {
+                toLoad.add(locale);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return Collections.emptySet();
+        }
+        ElapsedTimer et = new ElapsedTimer("Preloading " + toLoad.size() + " locales");
+        setupDB();
+        try (Connection conn = DBUtils.getInstance().getAConnection()) {
+            prefetchedVotes.putAll(BulkVoteLoader.read(conn, toLoad));
+        } catch (SQLException e) {
+            SurveyLog.logException(logger, e, "Could not read votes for preloading");
+            return Collections.emptySet();
+        }
+        logger.info(et + " - read votes");
+        try {
+            for (CLDRLocale locale : toLoad) {
+                get(locale);
+            }
+        } finally {
+            // in case some weren't loaded, don't keep their votes: they may become stale
+            prefetchedVotes.keySet().removeAll(toLoad);
+        }
+        logger.info(et + " - done");
+        return toLoad;
+    }
+
     /**
      * Fetch a locale from the per locale data, create if not there.
      *
@@ -1512,42 +1722,6 @@ public class STFactory extends Factory implements BallotBoxFactory<UserRegistry.
         return make(loc.getBaseName(), resolved);
     }
 
-    /**
-     * Prepare statement. Args: locale Result: xpath,submitter,value
-     *
-     * @param conn
-     * @return
-     * @throws SQLException
-     *     <p>Called only by loadVoteValues.
-     */
-    private PreparedStatement openQueryByLocaleRW(Connection conn) throws SQLException {
-        setupDB();
-        /*
-         * locale must be included in the SELECT list as well as the WHERE clause,
-         * to prevent SQL exception in the special case where deleteRow is called on
-         * the result set for votes for invalid (e.g., obsolete) paths. The query
-         * "must select all primary keys from that table".
-         */
-        return DBUtils.prepareForwardUpdateable(
-                conn,
-                "SELECT xpath,submitter,value,locale,"
-                        + VOTE_OVERRIDE
-                        + ",last_mod, "
-                        + VOTE_TYPE
-                        + " FROM "
-                        + DBUtils.Table.VOTE_VALUE
-                        + " WHERE locale = ?");
-    }
-
-    private PreparedStatement openPermVoteQuery(Connection conn) throws SQLException {
-        setupDB();
-        return DBUtils.prepareForwardUpdateable(
-                conn,
-                "SELECT xpath,value,last_mod FROM "
-                        + DBUtils.Table.LOCKED_XPATHS
-                        + " WHERE locale = ?");
-    }
-
     public synchronized void setupDB() {
         if (dbIsSetup) return;
         dbIsSetup = true; // don't thrash.
@@ -0,0 +1,363 @@
+package org.unicode.cldr.web;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.ibm.icu.text.Normalizer2;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.PatternCache;
+import org.unicode.cldr.util.StringId;
+import org.unicode.cldr.util.XMLSource;
+
+/**
+ * In-memory index of one locale for {@link SearchManager}, so that a search looks up its matches
+ * instead of scanning every value of the locale.
+ *
+ * <p>The values of the (unresolved) locale are indexed by the bigrams of their normalized,
+ * case-folded (NFKC_Casefold) form, so finding the values that contain a string only needs to check
+ * the values that have its rarest bigram. The codes, xpaths, StringIds and annotation code points
+ * of the resolved locale are indexed the first time they are needed, since only the locale being
+ * searched needs them, not its parents.
+ *
+ * <p>If the locale's source can change (as for Survey Tool locales), the index listens to it and
+ * updates the changed value when notified. Lists of candidates are only appended to, so they may
+ * hold values that no longer match; every candidate is checked against the current value.
+ */
+class SearchIndex implements XMLSource.Listener {
+    private static final Normalizer2 NFKC_CASEFOLD = Normalizer2.getNFKCCasefoldInstance();
+
+    private static final Pattern ANNOTATION_CP = PatternCache.get("\\[@cp=\"([^\"]*)\"\\]");
+
+    /** How a value matched */
+    enum ValueMatch {
+        /** the value is the string */
+        EXACT,
+        /** the value starts with the string */
+        PREFIX,
+        /** the value contains the string */
+        SUBSTRING,
+        /** the value starts with the string, ignoring case and normalization */
+        FOLDED_PREFIX,
+        /** the value contains the string, ignoring case and normalization */
+        FOLDED_SUBSTRING
+    }
+
+    interface ValueMatchHandler {
+        void match(String path, String value, ValueMatch match);
+    }
+
+    interface CodeMatchHandler {
+        /**
+         * @param exact true if the code is the string, ignoring case; else the code contains it
+         */
+        void match(String path, String code, boolean exact);
+    }
+
+    /** Strings indexed by the bigrams of their folded forms, identified by their index */
+    private static final class BigramIndex {
+        private final List<String> folded = new ArrayList<>();
+        private final Map<Integer, Postings> bigramToIds = new HashMap<>();
+
+        /** Add a string, returning its id */
+        int add(String s) {
+            folded.add(null);
+            int id = folded.size() - 1;
+            set(id, s);
+            return id;
+        }
+
+        /** Change the string with the given id; null if there is none any more */
+        void set(int id, String s) {
+            String f = (s == null) ? null : fold(s);
+            folded.set(id, f);
+            if (f == null) {
+                return;
+            }
+            for (int i = 1; i < f.length(); ++i) {
+                bigramToIds.computeIfAbsent(bigram(f, i), k -> new Postings()).add(id);
+            }
+        }
+
+        String getFolded(int id) {
+            return folded.get(id);
+        }
+
+        /** Call the consumer with the id of each string that contains the folded string */
+        void find(String foldedString, IntConsumer consumer) {
+            if (foldedString.length() < 2) {
+                for (int id = 0; id < folded.size(); ++id) {
+                    String f = folded.get(id);
+                    if (f != null && f.contains(foldedString)) {
+                        consumer.accept(id);
+                    }
+                }
+                return;
+            }
+            Postings rarest = null;
+            for (int i = 1; i < foldedString.length(); ++i) {
+                Postings postings = bigramToIds.get(bigram(foldedString, i));
+                if (postings == null) {
+                    return; // no string has this bigram
+                }
+                if (rarest == null || postings.size < rarest.size) {
+                    rarest = postings;
+                }
+            }
+            BitSet seen = new BitSet(folded.size());
+            for (int i = 0; i < rarest.size; ++i) {
+                int id = rarest.ids[i];
+                if (seen.get(id)) {
+                    continue; // the string was changed and added again
+                }
+                seen.set(id);
+                String f = folded.get(id);
+                if (f != null && f.contains(foldedString)) {
+                    consumer.accept(id);
+                }
+            }
+        }
+
+        private static int bigram(String s, int end) {
+            return (s.charAt(end - 1) << 16) | s.charAt(end);
+        }
+    }
+
+    /** Growable list of ids */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    /** Index of the resolved locale's paths and codes, which don't change with its values */
+    private static final class CodeIndex {
+        /** visible paths, other than annotations */
+        final NavigableSet<String> paths = new TreeSet<>();
+
+        final Map<String, String> hexIdToPath = new HashMap<>();
+        final Map<String, String> ttsCodePointToPath = new HashMap<>();
+        final List<String> codePaths = new ArrayList<>();
+        final List<String> codes = new ArrayList<>();
+        final BigramIndex codeIndex = new BigramIndex();
+
+        CodeIndex(CLDRFile resolvedFile, PathHeader.Factory phf) {
+            for (final String x : resolvedFile.fullIterable()) {
+                if (x.startsWith("//ldml/annotations/annotation")) {
+                    if (x.contains("[@type=\"tts\"]")) {
+                        Matcher m = ANNOTATION_CP.matcher(x);
+                        if (m.find()) {
+                            ttsCodePointToPath.putIfAbsent(m.group(1), x);
+                        }
+                    }
+                    continue; // Do not try to match otherwise code for annotation
+                }
+                final PathHeader ph = phf.fromPath(x);
+                if (!ph.getSurveyToolStatus().visible()) {
+                    continue; // skip invisible paths (but match comprehensive ones)
+                }
+                paths.add(x);
+                hexIdToPath.putIfAbsent(StringId.getHexId(x), x);
+                codePaths.add(x);
+                codes.add(ph.getCode());
+                codeIndex.add(ph.getCode());
+            }
+        }
+    }
+
+    private final String locale;
+    private final CLDRFile file;
+    private final XMLSource source;
+    private final Supplier<CodeIndex> codeIndex;
+
+    /** Guards the value index, which changes when notified by the source */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<String> paths = new ArrayList<>();
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> pathToId = new HashMap<>();
+    private final BigramIndex valueIndex = new BigramIndex();
+
+    /**
+     * Build the value index for the locale. The code index is built when first needed.
+     *
+     * @param file the unresolved locale
+     * @param resolvedFile gets the resolved locale
+     * @param source the source to listen to for changes to the file, or null if it doesn't change
+     */
+    SearchIndex(
+            CLDRFile file,
+            Supplier<CLDRFile> resolvedFile,
+            PathHeader.Factory phf,
+            XMLSource source) {
+        this.locale = file.getLocaleID();
+        this.file = file;
+        this.source = source;
+        this.codeIndex = Suppliers.memoize(() -> new CodeIndex(resolvedFile.get(), phf));
+        // Listen before reading the values, so that no change is missed; a change made meanwhile
+        // waits for the lock, and is then applied over what was read.
+        lock.writeLock().lock();
+        try {
+            if (source != null) {
+                source.addListener(this);
+            }
+            for (final String xpath : file.fullIterable()) {
+                if (file.isHere(xpath)) {
+                    final String value = file.getStringValue(xpath);
+                    if (value != null) {
+                        pathToId.put(xpath, paths.size());
+                        paths.add(xpath);
+                        values.add(value);
+                        valueIndex.add(value);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    String getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return the source this index listens to, or null if none
+     */
+    XMLSource getSource() {
+        return source;
+    }
+
+    /** Number of paths with values */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return paths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void valueChanged(String xpath, XMLSource changed) {
+        final String value = file.isHere(xpath) ? file.getStringValue(xpath) : null;
+        lock.writeLock().lock();
+        try {
+            Integer id = pathToId.get(xpath);
+            if (id == null) {
+                if (value != null) {
+                    pathToId.put(xpath, paths.size());
+                    paths.add(xpath);
+                    values.add(value);
+                    valueIndex.add(value);
+                }
+            } else if (!Objects.equals(value, values.get(id))) {
+                values.set(id, value);
+                valueIndex.set(id, value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Find the values that contain the string, ignoring case and normalization */
+    void findValues(String string, ValueMatchHandler handler) {
+        final String foldedString = fold(string);
+        lock.readLock().lock();
+        try {
+            valueIndex.find(
+                    foldedString,
+                    id -> {
+                        final String value = values.get(id);
+                        final ValueMatch match;
+                        if (value.equals(string)) {
+                            match = ValueMatch.EXACT;
+                        } else if (value.startsWith(string)) {
+                            match = ValueMatch.PREFIX;
+                        } else if (value.contains(string)) {
+                            match = ValueMatch.SUBSTRING;
+                        } else if (valueIndex.getFolded(id).startsWith(foldedString)) {
+                            match = ValueMatch.FOLDED_PREFIX;
+                        } else {
+                            match = ValueMatch.FOLDED_SUBSTRING;
+                        }
+                        handler.match(paths.get(id), value, match);
+                    });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Find the codes that are or contain the string, ignoring case */
+    void findCodes(String string, CodeMatchHandler handler) {
+        final CodeIndex index = codeIndex.get();
+        index.codeIndex.find(
+                fold(string),
+                id -> {
+                    final String code = index.codes.get(id);
+                    if (code.equalsIgnoreCase(string)) {
+                        handler.match(index.codePaths.get(id), code, true);
+                    } else if (code.contains(string)) {
+                        handler.match(index.codePaths.get(id), code, false);
+                    }
+                });
+    }
+
+    /**
+     * @return true if the path is a visible path of the resolved locale
+     */
+    boolean hasVisiblePath(String xpath) {
+        return codeIndex.get().paths.contains(xpath);
+    }
+
+    /**
+     * @return the visible paths of the resolved locale starting with the prefix
+     */
+    Iterable<String> getPathsStartingWith(String prefix) {
+        final NavigableSet<String> paths = codeIndex.get().paths;
+        return () ->
+                paths.tailSet(prefix, true).stream()
+                        .takeWhile(path -> path.startsWith(prefix))
+                        .iterator();
+    }
+
+    /**
+     * @return the visible path of the resolved locale with the StringId in hex, or null if none
+     */
+    String getPathForHexId(String hexId) {
+        return codeIndex.get().hexIdToPath.get(hexId);
+    }
+
+    /**
+     * @return the tts annotation path for the code point(s), or null if none
+     */
+    String getTtsPath(String codePoints) {
+        return codeIndex.get().ttsCodePointToPath.get(codePoints);
+    }
+
+    static String fold(String s) {
+        return NFKC_CASEFOLD.normalize(s);
+    }
+}
@@ -4,7 +4,10 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -20,12 +23,13 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.unicode.cldr.util.AnnotationUtil;
-import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRLocale;
 import org.unicode.cldr.util.Factory;
 import org.unicode.cldr.util.PathHeader;
 import org.unicode.cldr.util.PatternCache;
 import org.unicode.cldr.util.StringId;
+import org.unicode.cldr.util.XMLSource;
 
 public class SearchManager implements Closeable {
     static final Logger logger = SurveyLog.forClass(SearchManager.class);
@@ -34,6 +38,7 @@ public class SearchManager implements Closeable {
 
     private static final int CONFIDENCE_EXACT_XPATH = 100;
     private static final int CONFIDENCE_EXACT_STRING = 90;
+    private static final int CONFIDENCE_PREFIX_STRING = 60;
     private static final int CONFIDENCE_SUB_STRING = 50;
     private static final int CONFIDENCE_SUB_XPATH = 40;
     private static final int CONFIDENCE_OTHER = 10;
@@ -68,7 +73,7 @@ public class SearchManager implements Closeable {
 
         @Schema(
                 description =
-                        "match confidence (e.g. 100 = exact XPath, 90 = exact String, 50 = partial String, 10 = others")
+                        "match confidence (e.g. 100 = exact XPath, 90 = exact String, 60 = String prefix, 50 = partial String, 10 = others")
         public int confidence;
 
         protected SearchResult(String xpath, String context, String locale) {
@@ -311,112 +316,106 @@ public class SearchManager implements Closeable {
 
         private void addCodes(final String locale) {
             logger.finest(() -> "AddCodes " + locale);
-            final CLDRFile resolvedFile = factory.make(locale, true);
-            logger.finest(() -> "AddCodes made resolved " + locale);
-
-            for (final String x : resolvedFile.fullIterable()) {
-                if (x.startsWith("//ldml/annotations/annotation")) {
-                    final String cp = AnnotationUtil.removeEmojiVariationSelector(request.value);
-                    if (x.contains("[@cp=\"" + cp + "\"]") && x.contains("[@type=\"tts\"]")) {
-                        response.addResult(
-                                new SearchResult(x, "tts: " + cp, locale)
-                                        .setConfidence(CONFIDENCE_SUB_STRING));
-                    }
-                    continue; // Do not try to match otherwise code for annotation
-                }
-
-                final PathHeader ph = phf.fromPath(x);
-                if (!ph.getSurveyToolStatus().visible())
-                    continue; // skip invisible paths (but match comprehensive ones)
-
-                // match exact xpath
-                if (x.equals(request.value)) {
-                    response.addResult(
-                            new SearchResult(x, "Exact XPath", locale)
-                                    .setConfidence(CONFIDENCE_EXACT_XPATH));
-                    return; // Don't try to match others if XPath matches.
-                }
+            final SearchIndex index = getIndex(locale);
+            final String q = request.value;
 
-                // match xpath hex
-                if (StringId.getHexId(x).equals(request.value)) {
-                    response.addResult(
-                            new SearchResult(x, "Exact Hex XPath", locale)
-                                    .setConfidence(CONFIDENCE_EXACT_XPATH));
-                    // return; // It might be possible for hex to be "cafe" !
-                }
+            final String cp = AnnotationUtil.removeEmojiVariationSelector(q);
+            final String ttsPath = index.getTtsPath(cp);
+            if (ttsPath != null) {
+                response.addResult(
+                        new SearchResult(ttsPath, "tts: " + cp, locale)
+                                .setConfidence(CONFIDENCE_SUB_STRING));
+            }
 
-                // match partial xpath
-                if (x.startsWith(request.value)) {
-                    response.addResult(
-                            new SearchResult(x, "Partial XPath", locale)
-                                    .setConfidence(CONFIDENCE_SUB_XPATH));
-                    // return;
-                }
+            // match exact xpath, skipping invisible paths
+            if (index.hasVisiblePath(q)) {
+                response.addResult(
+                        new SearchResult(q, "Exact XPath", locale)
+                                .setConfidence(CONFIDENCE_EXACT_XPATH));
+                return; // Don't try to match others if XPath matches.
+            }
 
-                if (ph.getCode().equalsIgnoreCase(request.value)) {
-                    response.addResult(
-                            new SearchResult(x, "code: " + ph.getCode(), locale)
-                                    .setConfidence(CONFIDENCE_EXACT_STRING));
-                    // return;
-                }
+            // match xpath hex. It might be possible for hex to be "cafe", so keep going.
+            final String hexPath = index.getPathForHexId(q);
+            if (hexPath != null) {
+                response.addResult(
+                        new SearchResult(hexPath, "Exact Hex XPath", locale)
+                                .setConfidence(CONFIDENCE_EXACT_XPATH));
+            }
 
-                // partial code
-                if (ph.getCode().contains(request.value)) {
-                    response.addResult(
-                            new SearchResult(x, "code: " + ph.getCode(), locale)
-                                    .setConfidence(CONFIDENCE_SUB_XPATH));
-                    // return;
-                }
-                if (response.truncateIfFull()) return;
+            final List<SearchResult> results = new ArrayList<>();
+            // match partial xpath
+            for (final String x : index.getPathsStartingWith(q)) {
+                results.add(
+                        new SearchResult(x, "Partial XPath", locale)
+                                .setConfidence(CONFIDENCE_SUB_XPATH));
             }
+            // exact and partial code
+            index.findCodes(
+                    q,
+                    (x, code, exact) ->
+                            results.add(
+                                    new SearchResult(x, "code: " + code, locale)
+                                            .setConfidence(
+                                                    exact
+                                                            ? CONFIDENCE_EXACT_STRING
+                                                            : CONFIDENCE_SUB_XPATH)));
+            addRanked(results);
         }
 
-        private CLDRFile addExactMatches(final String locale, int deconfidence) {
+        private void addExactMatches(final String locale, int deconfidence) {
             logger.finest(() -> "AEM " + locale + " on " + factory);
-            CLDRFile file = factory.make(locale, false);
-            logger.finest(() -> "AEM called make on " + locale);
-            Set<String> xresult = new TreeSet<>();
-            file.getPathsWithValue(request.value, "", null, xresult);
-            for (final String xpath : xresult) {
-                // Skip if this isn’t found "here"
-                if (!file.isHere(xpath)) {
-                    continue;
-                }
-
-                final PathHeader ph = phf.fromPath(xpath);
-                if (!ph.getSurveyToolStatus().visible()) continue; // skip invisible paths
-
-                // Add incrementally. A user may get a partial result if they request before we are
-                // done.
-                final String v = file.getStringValue(xpath);
-                if (!v.equals(request.value)) continue; // TODO: CLDR-18700
-
-                response.addResult(
-                        new SearchResult(xpath, v, locale)
-                                .setConfidence(CONFIDENCE_EXACT_STRING - deconfidence));
-                if (response.truncateIfFull()) return file;
-            }
+            final SearchIndex index = getIndex(locale);
+            final String q = request.value;
+            final String partial = "…" + q + "…";
+            final List<SearchResult> results = new ArrayList<>();
+            index.findValues(
+                    q,
+                    (xpath, value, match) -> {
+                        final SearchResult r;
+                        switch (match) {
+                            case EXACT:
+                                if (!phf.fromPath(xpath).getSurveyToolStatus().visible()) {
+                                    return; // skip invisible paths
+                                }
+                                r =
+                                        new SearchResult(xpath, value, locale)
+                                                .setConfidence(CONFIDENCE_EXACT_STRING);
+                                break;
+                            case PREFIX:
+                                r =
+                                        new SearchResult(xpath, q + "…", locale)
+                                                .setConfidence(CONFIDENCE_PREFIX_STRING);
+                                break;
+                            case SUBSTRING:
+                                r =
+                                        new SearchResult(xpath, partial, locale)
+                                                .setConfidence(CONFIDENCE_SUB_STRING);
+                                break;
+                            case FOLDED_PREFIX:
+                                r =
+                                        new SearchResult(xpath, q + "…", locale)
+                                                .setConfidence(CONFIDENCE_PREFIX_STRING - 5);
+                                break;
+                            default:
+                                r =
+                                        new SearchResult(xpath, partial, locale)
+                                                .setConfidence(CONFIDENCE_SUB_STRING - 5);
+                                break;
+                        }
+                        r.confidence -= deconfidence;
+                        results.add(r);
+                    });
+            addRanked(results);
+        }
 
-            // add inexact matches
-            final String lowerv = request.value.toLowerCase();
-            for (final String xpath : file.fullIterable()) {
-                if (response.truncateIfFull()) return file;
-
-                if (!file.isHere(xpath)) continue;
-
-                final String s = file.getStringValue(xpath);
-                if (s.contains(request.value)) {
-                    response.addResult(
-                            new SearchResult(xpath, "…" + request.value + "…", locale)
-                                    .setConfidence(CONFIDENCE_SUB_STRING - deconfidence));
-                } else if (s.toLowerCase().contains(lowerv)) {
-                    response.addResult(
-                            new SearchResult(xpath, "…" + request.value + "…", locale)
-                                    .setConfidence(
-                                            CONFIDENCE_SUB_STRING - deconfidence - 5)); // lowercase
-                }
+        /** Add the results, best first, until the response is full */
+        private void addRanked(List<SearchResult> results) {
+            Collections.sort(results);
+            for (final SearchResult r : results) {
+                if (response.truncateIfFull()) return;
+                response.addResult(r);
             }
-            return file;
         }
 
         public void stop() {
@@ -432,11 +431,50 @@ public class SearchManager implements Closeable {
 
     private org.unicode.cldr.util.PathHeader.Factory phf;
 
+    /** Index of each locale searched, dropped if memory is short */
+    private final Cache<String, SearchIndex> indexes =
+            CacheBuilder.newBuilder()
+                    .softValues()
+                    .maximumSize(CLDRConfig.getInstance().getProperty("CLDR_SEARCH_INDEX_MAX", 100))
+                    .build();
+
     private SearchManager(Factory f) {
         this.factory = f;
         this.phf = PathHeader.getFactory(f.make("en", true));
     }
 
+    /**
+     * Get the index of the locale, building it if needed. For Survey Tool locales, the index
+     * follows changes to the locale's values, and is built again if the locale was reloaded. Only
+     * one thread builds the index of a locale at a time; others wait for it.
+     */
+    private SearchIndex getIndex(String locale) {
+        final XMLSource source =
+                (factory instanceof STFactory)
+                        ? ((STFactory) factory).get(CLDRLocale.getInstance(locale)).getSource()
+                        : null;
+        final SearchIndex stale = indexes.getIfPresent(locale);
+        if (stale != null && stale.getSource() != source) {
+            indexes.asMap().remove(locale, stale);
+        }
+        try {
+            return indexes.get(
+                    locale,
+                    () -> {
+                        final SearchIndex index =
+                                new SearchIndex(
+                                        factory.make(locale, false),
+                                        () -> factory.make(locale, true),
+                                        phf,
+                                        source);
+                        logger.fine(() -> "Indexed " + locale);
+                        return index;
+                    });
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Indexing " + locale, e.getCause());
+        }
+    }
+
     /**
      * Factory for the SearchManager
      *
@@ -520,5 +558,6 @@ public class SearchManager implements Closeable {
             deleteSearch((String) k);
         }
         searches.invalidateAll();
+        indexes.invalidateAll();
     }
 }
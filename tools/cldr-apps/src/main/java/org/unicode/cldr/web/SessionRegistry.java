@@ -0,0 +1,195 @@
+package org.unicode.cldr.web;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * The live CookieSessions, by session id and by user email, for {@link CookieSession}.
+ *
+ * <p>Lookups, additions and removals don't lock, so requests don't wait on each other to find their
+ * sessions. Expired sessions are removed by {@link #reapIfDue}, which is called both on requests
+ * and periodically by a background task; only one thread reaps at a time, and the others go on with
+ * the counts from the last reap.
+ */
+class SessionRegistry {
+    static final Logger logger = SurveyLog.forClass(SessionRegistry.class);
+
+    /** Reap at most this often, unless the number of sessions grows */
+    static final long REAP_INTERVAL_MILLIS = 5000;
+
+    private final ConcurrentHashMap<String, CookieSession> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CookieSession> byEmail = new ConcurrentHashMap<>();
+
+    /** Held while reaping */
+    private final ReentrantLock reapLock = new ReentrantLock();
+
+    /** last time reaped. Starts at 0, so reap immediately */
+    private volatile long lastReapMillisSinceEpoch = 0;
+
+    /** Number of sessions at the last reap */
+    private volatile int lastCount = -1;
+
+    /** Number of observers (users who are not logged in) at the last reap */
+    private volatile int nObservers = 0;
+
+    /** Number of users at the last reap */
+    private volatile int nUsers = 0;
+
+    private ScheduledFuture<?> reaper = null;
+
+    /**
+     * @return the session, or null
+     */
+    CookieSession get(String sessionId) {
+        return byId.get(sessionId);
+    }
+
+    /**
+     * @return the user's session, or null
+     */
+    CookieSession getByEmail(String email) {
+        return byEmail.get(email);
+    }
+
+    /**
+     * Add the session, unless there already is one with its id.
+     *
+     * @return the session already there, or null if the session was added
+     */
+    CookieSession putIfAbsent(CookieSession session) {
+        return byId.putIfAbsent(session.id, session);
+    }
+
+    /** Make the session the user's session, replacing any other session of the user */
+    void putUser(String email, CookieSession session) {
+        byEmail.put(email, session);
+    }
+
+    /**
+     * Remove the session. If the user has since logged in with another session, that one is kept.
+     *
+     * @param email the user's email, or null if none
+     */
+    void remove(CookieSession session, String email) {
+        if (email != null) {
+            byEmail.remove(email, session);
+        }
+        byId.remove(session.id, session);
+    }
+
+    /** Number of sessions */
+    int size() {
+        return byId.size();
+    }
+
+    /** Number of sessions with users */
+    int getUserCount() {
+        return byEmail.size();
+    }
+
+    /** Number of sessions without users, as of the last reap */
+    int getObserverCount() {
+        return nObservers;
+    }
+
+    /**
+     * @return the sessions, in no particular order
+     */
+    Collection<CookieSession> getAll() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    /**
+     * Remove the expired sessions, if it is time to, and count the users.
+     *
+     * @param force reap even if it was done recently
+     * @param isExpired tells whether a session has expired
+     * @return the number of users as of the last reap
+     */
+    int reapIfDue(boolean force, Predicate<CookieSession> isExpired) {
+        final int allCount = byId.size();
+        final long nowMillisSinceEpoch = System.currentTimeMillis();
+        if (!force
+                && nowMillisSinceEpoch - lastReapMillisSinceEpoch < REAP_INTERVAL_MILLIS
+                && allCount <= lastCount) {
+            return nUsers;
+        }
+        if (!reapLock.tryLock()) {
+            return nUsers; // someone else is reaping
+        }
+        try {
+            lastCount = allCount;
+            lastReapMillisSinceEpoch = nowMillisSinceEpoch;
+
+            // remove any sessions we need to get rid of, count the rest.
+            int observers = 0;
+            int users = 0;
+            List<CookieSession> toRemove = new ArrayList<>();
+            for (CookieSession cs : byId.values()) {
+                if (isExpired.test(cs)) {
+                    toRemove.add(cs);
+                } else if (cs.user == null) {
+                    observers++;
+                } else {
+                    users++;
+                }
+            }
+            for (CookieSession cs : toRemove) {
+                if (SurveyMain.isUnofficial() && cs.user != null) {
+                    // Don't log on anonymous users
+                    logger.fine(() -> "Removed stale session " + cs);
+                }
+                remove(cs, cs.user == null ? null : cs.user.email);
+            }
+            nObservers = observers;
+            return (nUsers = users);
+        } finally {
+            reapLock.unlock();
+        }
+    }
+
+    /**
+     * Reap periodically in the background, so that idle sessions expire even when there are no
+     * requests. Does nothing if already started.
+     */
+    synchronized void startReaper(ScheduledExecutorService exServ, Runnable reap) {
+        if (reaper != null) {
+            return;
+        }
+        reaper =
+                exServ.scheduleWithFixedDelay(
+                        () -> {
+                            try {
+                                reap.run();
+                            } catch (Throwable t) {
+                                // keep reaping after a failure
+                                SurveyLog.logException(logger, t, "Reaping sessions");
+                            }
+                        },
+                        REAP_INTERVAL_MILLIS,
+                        REAP_INTERVAL_MILLIS,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    /** Stop the background reaper and remove all sessions */
+    synchronized void clear() {
+        if (reaper != null) {
+            reaper.cancel(false);
+            reaper = null;
+        }
+        byId.clear();
+        byEmail.clear();
+        lastCount = -1;
+        lastReapMillisSinceEpoch = 0;
+        nObservers = nUsers = 0;
+    }
+}
@@ -46,6 +46,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
@@ -62,6 +63,7 @@ import org.unicode.cldr.draft.FileUtilities;
 import org.unicode.cldr.icu.dev.util.ElapsedTimer;
 import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.ExampleGenerator;
+import org.unicode.cldr.test.ExampleStore;
 import org.unicode.cldr.test.HelpMessages;
 import org.unicode.cldr.test.SubmissionLocales;
 import org.unicode.cldr.tool.CheckoutArchive;
@@ -2815,6 +2817,7 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
     private transient Future<?> startupFuture = null;
     private transient Future<?> checkoutFuture = null;
     private transient Future<?> abstractFuture = null;
+    private transient ScheduledFuture<?> exampleSaveFuture = null;
 
     /** Progress bar manager */
     private final SurveyProgressManager progressManager = new SurveyProgressManager();
@@ -3020,6 +3023,11 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
             if (isBusted == null) {
                 MailSender.getInstance();
                 Summary.scheduleAutomaticSnapshots();
+                CookieSession.startReaper();
+                scheduleExampleSaves();
+                if (survprops.getProperty("CLDR_PRELOAD_LOCALES", false)) {
+                    SurveyThreadManager.getExecutorService().submit(this::doPreloadLocales);
+                }
             } else {
                 progress.update("Not loading mail - SurveyTool already busted.");
             }
@@ -3106,6 +3114,66 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
         }
     }
 
+    /** Separate thread runner for loading the locales open for voting into the STFactory. */
+    private void doPreloadLocales() {
+        try {
+            Set<CLDRLocale> preloaded = getSTFactory().preloadLocales(getLocalesSet());
+            logger.info("Preloaded " + preloaded.size() + " locales");
+            if (CLDRConfig.getInstance().getProperty("CLDR_PRECOMPUTE_EXAMPLES", true)) {
+                doPrecomputeExamples(preloaded);
+            }
+        } catch (Throwable t) {
+            SurveyLog.logException(logger, t, "Preloading locales");
+        }
+    }
+
+    /**
+     * Compute the examples of the winning values of the preloaded locales, so that pages don't have
+     * to generate them one at a time. Only those locales are used, since making others would push
+     * them out of the STFactory's bounded cache. Each locale's examples are saved to the
+     * ExampleStore, if there is one, once they are computed.
+     */
+    private void doPrecomputeExamples(Set<CLDRLocale> preloaded) {
+        ElapsedTimer et = new ElapsedTimer("Computing examples");
+        int count = 0;
+        for (CLDRLocale locale : preloaded) {
+            if (isBusted()) {
+                return;
+            }
+            CLDRFile file = getSTFactory().make(locale.getBaseName());
+            getSTFactory()
+                    .getTestCache()
+                    .getExampleGenerator(locale, file, getEnglishFile())
+                    .computeExamples();
+            ++count;
+        }
+        logger.info(et + " - computed examples for " + count + " locales");
+    }
+
+    /**
+     * Save the examples to the ExampleStore every CLDR_EXAMPLE_SAVE_MINUTES, so that those
+     * generated since startup aren't all lost if the server stops without shutting down.
+     */
+    private void scheduleExampleSaves() {
+        if (ExampleStore.getInstance() == null) {
+            return;
+        }
+        final int minutes = CLDRConfig.getInstance().getProperty("CLDR_EXAMPLE_SAVE_MINUTES", 30);
+        exampleSaveFuture =
+                SurveyThreadManager.getScheduledExecutorService()
+                        .scheduleWithFixedDelay(
+                                () -> {
+                                    try {
+                                        getSTFactory().getTestCache().saveExamples();
+                                    } catch (Throwable t) {
+                                        SurveyLog.logException(logger, t, "Saving examples");
+                                    }
+                                },
+                                minutes,
+                                minutes,
+                                TimeUnit.MINUTES);
+    }
+
     /** Separate thread runner for launching the Abstract Cache. */
     private void doSetupAbstractCache() {
         CLDRConfig config = CLDRConfig.getInstance();
@@ -3258,6 +3326,13 @@ public class SurveyMain extends HttpServlet implements CLDRProgressIndicator, Ex
             Summary.shutdown();
             progress.update("shutting down SurveyThreadManager... " + destroyTimer);
             startupThread.shutdown();
+            if (exampleSaveFuture != null) {
+                exampleSaveFuture.cancel(false);
+            }
+            if (isBusted == null) {
+                progress.update("saving examples... " + destroyTimer);
+                getSTFactory().getTestCache().saveExamples();
+            }
             progress.update("Shutting down database..." + destroyTimer);
             doShutdownDB();
             outputFileManager = null;
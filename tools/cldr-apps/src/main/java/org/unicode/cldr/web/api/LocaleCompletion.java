@@ -3,7 +3,6 @@ package org.unicode.cldr.web.api;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import java.time.Duration;
 import java.util.concurrent.ExecutionException;
 import javax.enterprise.context.ApplicationScoped;
 import javax.ws.rs.GET;
@@ -21,9 +20,8 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.unicode.cldr.util.*;
-import org.unicode.cldr.util.XMLSource.Listener;
 import org.unicode.cldr.web.CookieSession;
-import org.unicode.cldr.web.STFactory;
+import org.unicode.cldr.web.IncrementalDashboard;
 import org.unicode.cldr.web.SurveyMain;
 
 /**
@@ -96,7 +94,7 @@ public class LocaleCompletion {
     }
 
     /**
-     * Getter for cached Locale Completion
+     * Getter for Locale Completion, which is kept up to date as votes come in
      *
      * @param cldrLocale the locale
      * @return the response
@@ -104,44 +102,22 @@ public class LocaleCompletion {
      */
     public static LocaleCompletionResponse getLocaleCompletion(CLDRLocale cldrLocale)
             throws ExecutionException {
-        return LocaleCompletionHelper.INSTANCE.cache.get(cldrLocale);
+        final Level level = StandardCodes.make().getTargetCoverageLevel(cldrLocale.toString());
+        final LocaleCompletionData lcd =
+                IncrementalDashboard.getLocaleCompletionData(
+                        cldrLocale,
+                        level,
+                        VettingViewer.getNeutralOrgForSummary(),
+                        VettingViewer.getLocaleCompletionCategories());
+        final LocaleCompletionResponse response = new LocaleCompletionResponse(level, lcd);
+        response.setBaselineCount(getBaselineCount(cldrLocale));
+        return response;
     }
 
-    /**
-     * This function computes the actual locale completion given a Locale
-     *
-     * @param cldrLocale the locale
-     * @return the response
-     */
-    static LocaleCompletionResponse handleGetLocaleCompletion(CLDRLocale cldrLocale)
-            throws ExecutionException {
-        final STFactory stFactory = CookieSession.sm.getSTFactory();
-        return handleGetLocaleCompletion(cldrLocale, stFactory);
-    }
-
-    static final class LocaleCompletionHelper implements Listener {
-
-        PathHeader.Factory phf;
-        LoadingCache<CLDRLocale, LocaleCompletionResponse> cache;
+    static final class LocaleCompletionHelper {
         LoadingCache<CLDRLocale, Integer> basecache;
 
         LocaleCompletionHelper() {
-            phf = PathHeader.getFactory(CLDRConfig.getInstance().getEnglish());
-            cache =
-                    CacheBuilder.newBuilder()
-                            .maximumSize(500)
-                            .concurrencyLevel(
-                                    5) // allow 5 threads to compute completion, uncontested
-                            .expireAfterWrite(
-                                    Duration.ofMinutes(20)) // expire 20 min after last change
-                            .build(
-                                    new CacheLoader<>() {
-                                        @Override
-                                        public LocaleCompletionResponse load(CLDRLocale key)
-                                                throws ExecutionException {
-                                            return handleGetLocaleCompletion(key);
-                                        }
-                                    });
             basecache =
                     CacheBuilder.newBuilder()
                             .maximumSize(500)
@@ -159,31 +135,6 @@ public class LocaleCompletion {
         }
 
         static LocaleCompletionHelper INSTANCE = new LocaleCompletionHelper();
-
-        @Override
-        public void valueChanged(String xpath, XMLSource source) {
-            // invalidate the named entry
-            cache.invalidate(CLDRLocale.getInstance(source.getLocaleID()));
-        }
-    }
-
-    /**
-     * This function computes the actual locale completion given a Locale and STFactory
-     *
-     * @param cldrLocale the locale
-     * @param stFactory the STFactory
-     * @return the response
-     */
-    static LocaleCompletionResponse handleGetLocaleCompletion(
-            final CLDRLocale cldrLocale, final STFactory stFactory) throws ExecutionException {
-        // we need an XML Source to receive notification.
-        // This causes LocaleCompletionHelper.INSTANCE.valueChanged(...) to be called
-        // whenever a vote happens.
-        stFactory
-                .get(cldrLocale)
-                .getSource()
-                .addListener(LocaleCompletion.LocaleCompletionHelper.INSTANCE);
-        return new LocaleCompletionCounter(cldrLocale, stFactory).getResponse();
     }
 
     public static int getBaselineCount(CLDRLocale cldrLocale) throws ExecutionException {
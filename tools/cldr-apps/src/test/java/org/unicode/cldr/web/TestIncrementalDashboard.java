@@ -0,0 +1,268 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.test.CheckCLDR;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.Level;
+import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.SupplementalDataInfo;
+import org.unicode.cldr.util.VettingParameters;
+import org.unicode.cldr.util.VettingViewer;
+import org.unicode.cldr.util.VoteType;
+import org.unicode.cldr.util.VotelessUsersChoice;
+import org.unicode.cldr.util.XMLSource;
+
+public class TestIncrementalDashboard {
+    private static final String LOCALE = "ff";
+    private static final String AKAN = "//ldml/localeDisplayNames/languages/language[@type=\"ak\"]";
+    private static final String AMHARIC =
+            "//ldml/localeDisplayNames/languages/language[@type=\"am\"]";
+    private static final String EXEMPLARS = "//ldml/characters/exemplarCharacters";
+
+    private static final IncrementalDashboard.Key KEY =
+            new IncrementalDashboard.Key(
+                    CLDRLocale.getInstance(LOCALE),
+                    Level.MODERN,
+                    Organization.surveytool,
+                    1,
+                    VettingViewer.getDashboardNotificationCategories(Organization.surveytool));
+
+    @BeforeAll
+    public static void setUp() {
+        CheckCLDR.setDisplayInformation(CLDRConfig.getInstance().getEnglish());
+    }
+
+    @Test
+    public void testUpdatedAfterChange() {
+        ChangeableFactory factory = new ChangeableFactory();
+        IncrementalDashboard.Entry entry = makeEntry(factory);
+        String before = entry.copy().toString();
+        assertEquals(generate(factory), before);
+
+        // giving a language the same name as another also affects the other one
+        XMLSource source = factory.getSource(LOCALE);
+        source.putValueAtDPath(AMHARIC, source.getValueAtDPath(AKAN));
+        entry.noteChanged(AMHARIC);
+        entry.update();
+        String after = entry.copy().toString();
+        assertNotEquals(before, after, "the collision is a warning");
+        assertTrue(after.contains(AKAN + "["), "the other name has the warning too");
+        VettingViewer<Organization>.DashboardData expected =
+                makeVettingViewer(factory).generateDashboard(factory.makeArgs(KEY), true);
+        assertEquals(expected.toString(), after);
+        assertEquals(
+                expected.localeCompletionData.problemCount(),
+                entry.getLocaleCompletionData().problemCount());
+    }
+
+    @Test
+    public void testComputedAgainAfterSetupChange() {
+        ChangeableFactory factory = new ChangeableFactory();
+        IncrementalDashboard.Entry entry = makeEntry(factory);
+        String before = entry.copy().toString();
+
+        // the checks are set up from the exemplars, so any path may change
+        XMLSource source = factory.getSource(LOCALE);
+        source.putValueAtDPath(EXEMPLARS, "[a b]");
+        entry.noteChanged(EXEMPLARS);
+        String after = entry.copy().toString();
+        assertNotEquals(before, after);
+        assertEquals(generate(factory), after);
+    }
+
+    @Test
+    public void testUpdatedAfterVote() {
+        ChangeableFactory factory = new ChangeableFactory();
+        Set<String> voted = new HashSet<>();
+        VettingViewer.UsersChoice<Organization> usersChoice =
+                new VotelessUsersChoice() {
+                    @Override
+                    public boolean userDidVote(int userId, CLDRLocale loc, String path) {
+                        return voted.contains(path);
+                    }
+
+                    @Override
+                    public VoteType getUserVoteType(int userId, CLDRLocale loc, String path) {
+                        return voted.contains(path) ? VoteType.DIRECT : VoteType.NONE;
+                    }
+                };
+        IncrementalDashboard.Entry entry =
+                new IncrementalDashboard.Entry(
+                        KEY,
+                        factory.getSources(),
+                        () -> makeVettingViewer(factory, usersChoice),
+                        factory::makeArgs);
+        Cache<IncrementalDashboard.Key, IncrementalDashboard.Entry> cache =
+                CacheBuilder.newBuilder().build();
+        cache.put(KEY, entry);
+        String before = entry.copy().toString();
+
+        // a vote for the value that already wins still changes the voter's progress
+        voted.add(AKAN);
+        IncrementalDashboard.voteChanged(cache, CLDRLocale.getInstance("fr"), AKAN);
+        assertEquals(before, entry.copy().toString(), "a vote in another locale");
+        IncrementalDashboard.voteChanged(cache, KEY.locale, AKAN);
+        String after = entry.copy().toString();
+        assertNotEquals(before, after, "the voter's progress");
+        assertEquals(
+                makeVettingViewer(factory, usersChoice)
+                        .generateDashboard(factory.makeArgs(KEY), true)
+                        .toString(),
+                after);
+    }
+
+    @Test
+    public void testNewEntryAfterReload() {
+        ChangeableFactory factory = new ChangeableFactory();
+        Cache<IncrementalDashboard.Key, IncrementalDashboard.Entry> cache =
+                CacheBuilder.newBuilder().build();
+        IncrementalDashboard.Entry entry =
+                IncrementalDashboard.getEntry(
+                        cache, KEY, factory.getSources(), () -> makeEntry(factory));
+        assertSame(
+                entry,
+                IncrementalDashboard.getEntry(
+                        cache, KEY, factory.getSources(), () -> makeEntry(factory)),
+                "the same sources");
+
+        factory.reload(LOCALE);
+        IncrementalDashboard.Entry reloaded =
+                IncrementalDashboard.getEntry(
+                        cache, KEY, factory.getSources(), () -> makeEntry(factory));
+        assertNotSame(entry, reloaded, "the old entry was computed from the old source");
+        assertSame(reloaded, cache.getIfPresent(KEY));
+
+        String before = reloaded.copy().toString();
+        XMLSource source = factory.getSource(LOCALE);
+        source.putValueAtDPath(AMHARIC, source.getValueAtDPath(AKAN));
+        // a vote in a parent also reaches the locales inheriting from it
+        IncrementalDashboard.voteChanged(cache, CLDRLocale.getInstance("root"), AMHARIC);
+        String after = reloaded.copy().toString();
+        assertNotEquals(before, after);
+        assertEquals(generate(factory), after);
+    }
+
+    private static IncrementalDashboard.Entry makeEntry(ChangeableFactory factory) {
+        return new IncrementalDashboard.Entry(
+                KEY, factory.getSources(), () -> makeVettingViewer(factory), factory::makeArgs);
+    }
+
+    private static VettingViewer<Organization> makeVettingViewer(Factory factory) {
+        return makeVettingViewer(factory, new VotelessUsersChoice());
+    }
+
+    private static VettingViewer<Organization> makeVettingViewer(
+            Factory factory, VettingViewer.UsersChoice<Organization> usersChoice) {
+        return new VettingViewer<>(SupplementalDataInfo.getInstance(), factory, usersChoice);
+    }
+
+    /** The Dashboard computed from scratch */
+    private static String generate(ChangeableFactory factory) {
+        return makeVettingViewer(factory).generateDashboard(factory.makeArgs(KEY), true).toString();
+    }
+
+    /**
+     * A factory with copies of root, English and the locale, which can be changed and reloaded as
+     * in the Survey Tool
+     */
+    private static final class ChangeableFactory extends Factory {
+        private final Factory cldrFactory = CLDRConfig.getInstance().getCldrFactory();
+        private final Map<String, XMLSource> sources = new HashMap<>();
+        private final Map<String, CLDRFile> unresolved = new HashMap<>();
+        private final Map<String, CLDRFile> resolved = new HashMap<>();
+
+        ChangeableFactory() {
+            reload("root");
+            reload("en");
+            reload(LOCALE);
+        }
+
+        /** Replace the locale's source with a new copy of the real file */
+        void reload(String localeId) {
+            CLDRFile file = cldrFactory.make(localeId, false);
+            XMLSource source = new SimpleXMLSource(localeId);
+            for (String path : file) {
+                source.putValueAtPath(file.getFullXPath(path), file.getStringValue(path));
+            }
+            sources.put(localeId, registerXmlSource(source));
+            unresolved.put(localeId, new CLDRFile(source));
+            resolved.put(
+                    localeId, new CLDRFile(makeResolvingSource(localeId, DraftStatus.unconfirmed)));
+            // the cached check results were for the old file
+            getTestCache().invalidateAllCached();
+        }
+
+        XMLSource getSource(String localeId) {
+            return sources.get(localeId);
+        }
+
+        /** The sources of the locale and its parents, as for the Survey Tool */
+        List<XMLSource> getSources() {
+            List<XMLSource> result = new ArrayList<>();
+            for (CLDRLocale l = KEY.locale; l != null; l = l.getParent()) {
+                result.add(getSource(l.getBaseName()));
+            }
+            return result;
+        }
+
+        VettingParameters makeArgs(IncrementalDashboard.Key key) {
+            VettingParameters args = new VettingParameters(key.choices, key.locale, key.level);
+            args.setUserAndOrganization(key.userId, key.organization);
+            args.setFiles(make(LOCALE, true), cldrFactory.make(LOCALE, true));
+            return args;
+        }
+
+        @Override
+        public File[] getSourceDirectories() {
+            // for the casing data used by the checks
+            return cldrFactory.getSourceDirectories();
+        }
+
+        @Override
+        public File getSupplementalDirectory() {
+            return cldrFactory.getSupplementalDirectory();
+        }
+
+        @Override
+        public List<File> getSourceDirectoriesForLocale(String localeID) {
+            return null;
+        }
+
+        @Override
+        protected CLDRFile handleMake(
+                String localeID, boolean isResolved, DraftStatus madeWithMinimalDraftStatus) {
+            return (isResolved ? resolved : unresolved).get(localeID);
+        }
+
+        @Override
+        public DraftStatus getMinimalDraftStatus() {
+            return DraftStatus.unconfirmed;
+        }
+
+        @Override
+        protected Set<String> handleGetAvailable() {
+            return unresolved.keySet();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.Organization;
+import org.unicode.cldr.util.VoteResolver;
+import org.unicode.cldr.util.VoteResolver.VoterInfo;
+
+public class TestResolvedVoteStore {
+    private static final String PATH = "//ldml/localeDisplayNames/keys/key[@type=\"calendar\"]";
+    private static final String OTHER_PATH =
+            "//ldml/localeDisplayNames/keys/key[@type=\"collation\"]";
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testStoredWinnersOnlyIfCurrent() {
+        ResolvedVoteStore store = new ResolvedVoteStore(tempDir.toFile(), "test");
+        CLDRLocale locale = CLDRLocale.getInstance("fr");
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        CLDRFile diskFile = factory.make("fr", true);
+        File supplementalDirectory = factory.getSupplementalDirectory();
+        SortedMap<Integer, VoterInfo> voters = new TreeMap<>();
+        voters.put(10, new VoterInfo(Organization.apple, VoteResolver.Level.vetter, "voter@apple"));
+        String key = store.getKey(locale, diskFile, supplementalDirectory, voters);
+        assertNull(store.load(key));
+        assertNotEquals(
+                key,
+                store.getKey(
+                        locale, diskFile, new File(CLDRPaths.COMMON_DIRECTORY, "bcp47"), voters),
+                "other supplemental data");
+
+        store.save(
+                key,
+                2000,
+                List.of(PATH, OTHER_PATH),
+                List.of(
+                        new ResolvedVoteStore.StoredWinner(
+                                PATH + "[@draft=\"contributed\"]", "X", 2, 1000),
+                        new ResolvedVoteStore.StoredWinner(OTHER_PATH, "Y", 1, 2000)));
+        ResolvedVoteStore.Snapshot snapshot = store.load(key);
+        assertNotNull(snapshot);
+        assertEquals(2, snapshot.size());
+
+        ResolvedVoteStore.StoredWinner winner = snapshot.getIfCurrent(PATH, 2, 1000);
+        assertNotNull(winner);
+        assertEquals("X", winner.value);
+        assertEquals(PATH + "[@draft=\"contributed\"]", winner.fullPath);
+        assertNull(snapshot.getIfCurrent(PATH, 1, 1000), "a vote was removed");
+        assertNull(snapshot.getIfCurrent(PATH, 2, 3000), "a vote was changed");
+        assertNotNull(snapshot.getIfCurrent(OTHER_PATH, 1, 2000), "at the high-water mark");
+        assertNull(snapshot.getIfCurrent("//ldml/foo", 0, 0), "not stored");
+
+        voters.put(
+                10, new VoterInfo(Organization.apple, VoteResolver.Level.manager, "voter@apple"));
+        String changedKey = store.getKey(locale, diskFile, supplementalDirectory, voters);
+        assertNotEquals(key, changedKey, "a voter's level changed");
+        assertNull(store.load(changedKey));
+
+        store.save(changedKey, 0, List.of(), List.of());
+        assertNull(store.load(key), "replaced");
+        assertEquals(1, tempDir.toFile().list().length);
+    }
+}
@@ -14,6 +14,7 @@ import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import net.jcip.annotations.NotThreadSafe;
@@ -79,6 +80,29 @@ public class TestSTFactory {
         box.getValues(somePath);
     }
 
+    @Test
+    public void TestPreloadLocales()
+            throws SQLException, InvalidXPathException, VoteNotAcceptedException, LogoutException {
+        final String somePath = "//ldml/localeDisplayNames/keys/key[@type=\"calendar\"]";
+        final String changedTo = "Preloaded calendar";
+        final CLDRLocale locale = CLDRLocale.getInstance("fr");
+        final CLDRLocale localeSub = CLDRLocale.getInstance("fr_CA");
+
+        STFactory fac = getFactory();
+        fac.ballotBoxForLocale(locale).voteForValue(getMyUser(), somePath, changedTo);
+
+        // Restart STFactory, and load both locales in one pass
+        fac = resetFactory();
+        assertEquals(2, fac.preloadLocales(List.of(locale, localeSub, CLDRLocale.ROOT)));
+        assertEquals(0, fac.preloadLocales(List.of(locale, localeSub)), "already loaded");
+
+        CLDRFile file = fac.make(locale, false);
+        expect(somePath, changedTo, true, file, fac.ballotBoxForLocale(locale));
+        assertNotNull(file.getLastModifiedDate(somePath));
+
+        fac.ballotBoxForLocale(locale).voteForValue(getMyUser(), somePath, null); // unvote
+    }
+
     @Test
     public void TestReadonlyLocales() throws SQLException {
         STFactory fac = getFactory();
@@ -0,0 +1,100 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.StringId;
+import org.unicode.cldr.util.XMLSource;
+import org.unicode.cldr.web.SearchIndex.ValueMatch;
+
+public class TestSearchIndex {
+    private static final String MONTH_PATH =
+            "//ldml/dates/calendars/calendar[@type=\"gregorian\"]/months/monthContext[@type=\"format\"]/monthWidth[@type=\"wide\"]/month[@type=\"1\"]";
+
+    private static Factory factory;
+    private static PathHeader.Factory phf;
+
+    @BeforeAll
+    public static void setUp() {
+        factory = CLDRConfig.getInstance().getCldrFactory();
+        phf = PathHeader.getFactory(CLDRConfig.getInstance().getEnglish());
+    }
+
+    private static Map<String, ValueMatch> findValues(SearchIndex index, String string) {
+        final Map<String, ValueMatch> result = new TreeMap<>();
+        index.findValues(string, (path, value, match) -> result.put(path, match));
+        return result;
+    }
+
+    @Test
+    public void testValueMatches() {
+        final SearchIndex index =
+                new SearchIndex(
+                        factory.make("fr", false), () -> factory.make("fr", true), phf, null);
+        assertEquals("janvier", factory.make("fr", false).getStringValue(MONTH_PATH));
+        assertEquals(ValueMatch.EXACT, findValues(index, "janvier").get(MONTH_PATH));
+        assertEquals(ValueMatch.PREFIX, findValues(index, "janv").get(MONTH_PATH));
+        assertEquals(ValueMatch.SUBSTRING, findValues(index, "anvie").get(MONTH_PATH));
+        assertEquals(ValueMatch.FOLDED_PREFIX, findValues(index, "JANV").get(MONTH_PATH));
+        assertEquals(ValueMatch.FOLDED_SUBSTRING, findValues(index, "NVIER").get(MONTH_PATH));
+        assertTrue(findValues(index, "janvierjanvier").isEmpty());
+    }
+
+    @Test
+    public void testCodes() {
+        final SearchIndex index =
+                new SearchIndex(
+                        factory.make("fr", false), () -> factory.make("fr", true), phf, null);
+        assertTrue(index.hasVisiblePath(MONTH_PATH));
+        assertEquals(MONTH_PATH, index.getPathForHexId(StringId.getHexId(MONTH_PATH)));
+        assertTrue(index.getPathsStartingWith(MONTH_PATH).iterator().hasNext());
+        assertFalse(index.getPathsStartingWith("//ldml/nonexistent").iterator().hasNext());
+        assertNull(index.getTtsPath("nonexistent"));
+    }
+
+    @Test
+    public void testValueChanged() {
+        final CLDRFile file = factory.make("fr", false).cloneAsThawed();
+        final SearchIndex index = new SearchIndex(file, () -> file, phf, null);
+        final int size = index.size();
+
+        file.add(MONTH_PATH, "Janvièr");
+        index.valueChanged(MONTH_PATH, null);
+        assertNull(findValues(index, "janvier").get(MONTH_PATH), "the old value is gone");
+        assertEquals(ValueMatch.EXACT, findValues(index, "Janvièr").get(MONTH_PATH));
+        assertEquals(ValueMatch.FOLDED_PREFIX, findValues(index, "janviè").get(MONTH_PATH));
+
+        file.remove(MONTH_PATH);
+        index.valueChanged(MONTH_PATH, null);
+        assertNull(findValues(index, "Janvièr").get(MONTH_PATH), "removed");
+
+        file.add(MONTH_PATH, "janvier");
+        index.valueChanged(MONTH_PATH, null);
+        assertEquals(ValueMatch.EXACT, findValues(index, "janvier").get(MONTH_PATH));
+        assertEquals(size, index.size());
+    }
+
+    @Test
+    public void testListensToSource() {
+        final XMLSource changing = new SimpleXMLSource("fr");
+        changing.putValueAtDPath(MONTH_PATH, "janvier");
+        final CLDRFile file = new CLDRFile(changing);
+        final SearchIndex index = new SearchIndex(file, () -> file, phf, changing);
+
+        changing.putValueAtDPath(MONTH_PATH, "Janvièr");
+        changing.notifyListeners(MONTH_PATH);
+        assertNull(findValues(index, "janvier").get(MONTH_PATH), "the old value is gone");
+        assertEquals(ValueMatch.EXACT, findValues(index, "Janvièr").get(MONTH_PATH));
+    }
+}
@@ -0,0 +1,100 @@
+package org.unicode.cldr.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class TestSessionRegistry {
+    private static final int THREADS = 32;
+    private static final int SESSIONS = 5000;
+    private static final int REQUESTS_PER_SESSION = 20;
+
+    /** Many concurrent sessions, each making requests, some logging out */
+    @Test
+    public void testConcurrentSessions() throws InterruptedException, ExecutionException {
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; ++i) {
+                final int n = i;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    final CookieSession session =
+                                            CookieSession.newSession("10.0." + (n % 256) + ".1");
+                                    ids.add(session.id);
+                                    for (int r = 0; r < REQUESTS_PER_SESSION; ++r) {
+                                        assertSame(session, CookieSession.retrieve(session.id));
+                                        session.userDidAction();
+                                        CookieSession.checkForExpiredSessions();
+                                    }
+                                    if (n % 2 == 0) {
+                                        session.remove();
+                                        assertNull(CookieSession.retrieveWithoutTouch(session.id));
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(SESSIONS, ids.size(), "session ids are unique");
+        int remaining = 0;
+        for (String id : ids) {
+            final CookieSession session = CookieSession.retrieveWithoutTouch(id);
+            if (session != null) {
+                remaining++;
+                session.remove();
+            }
+        }
+        assertEquals(SESSIONS / 2, remaining, "sessions that didn't log out are still there");
+    }
+
+    @Test
+    public void testReap() {
+        final SessionRegistry registry = new SessionRegistry();
+        final CookieSession a = CookieSession.newSession("10.1.0.1");
+        final CookieSession b = CookieSession.newSession("10.1.0.2");
+        final CookieSession c = CookieSession.newSession("10.1.0.3");
+        try {
+            registry.putIfAbsent(a);
+            registry.putIfAbsent(b);
+            registry.putIfAbsent(c);
+            assertSame(a, registry.putIfAbsent(a), "already there");
+            registry.putUser("someone@example.com", a);
+            registry.putUser("someone@example.com", b); // logged in again
+
+            registry.remove(a, "someone@example.com");
+            assertSame(b, registry.getByEmail("someone@example.com"), "newer session is kept");
+            assertNull(registry.get(a.id));
+
+            assertEquals(0, registry.reapIfDue(false, cs -> cs == c));
+            assertEquals(1, registry.size());
+            assertEquals(1, registry.getObserverCount());
+            assertSame(b, registry.get(b.id));
+
+            // not due again yet
+            registry.reapIfDue(false, cs -> true);
+            assertEquals(1, registry.size());
+            registry.reapIfDue(true, cs -> true);
+            assertEquals(0, registry.size());
+        } finally {
+            a.remove();
+            b.remove();
+            c.remove();
+        }
+    }
+}
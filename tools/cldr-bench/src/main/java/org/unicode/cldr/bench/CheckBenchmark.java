@@ -0,0 +1,84 @@
+package org.unicode.cldr.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unicode.cldr.test.CheckCLDR;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus;
+import org.unicode.cldr.test.CheckCLDR.Options;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Factory;
+
+/**
+ * Running all the CheckCLDR tests, as the Survey Tool and ConsoleCheckCLDR do: setting up a locale
+ * (setCldrFileToCheck), and checking single paths of an already set-up locale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CheckBenchmark {
+
+    @Param({"de", "ja"})
+    public String locale;
+
+    private Factory factory;
+    private CheckCLDR checks;
+    private CLDRFile file;
+    private Options options;
+    private String[] paths;
+    private String[] fullPaths;
+    private String[] values;
+    private final List<CheckStatus> possibleErrors = new ArrayList<>();
+    private final List<CheckStatus> result = new ArrayList<>();
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Fixtures.getFactory();
+        CheckCLDR.setDisplayInformation(CLDRConfig.getInstance().getEnglish());
+        checks = CheckCLDR.getCheckAll(factory, ".*");
+        file = factory.make(locale, true);
+        options = new Options(CLDRLocale.getInstance(locale));
+        checks.setCldrFileToCheck(file, options, possibleErrors);
+        paths = Fixtures.getPaths(locale).toArray(new String[0]);
+        fullPaths = new String[paths.length];
+        values = new String[paths.length];
+        for (int i = 0; i < paths.length; ++i) {
+            fullPaths[i] = file.getFullXPath(paths[i]);
+            values[i] = file.getStringValue(paths[i]);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public CheckCLDR setCldrFileToCheck() {
+        // a new resolved file, as for a locale that isn't already set up
+        return checks.setCldrFileToCheck(factory.make(locale, true), options, possibleErrors);
+    }
+
+    @Benchmark
+    public List<CheckStatus> checkPath() {
+        if (++index == paths.length) {
+            index = 0;
+        }
+        checks.check(paths[index], fullPaths[index], values[index], options, result);
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package org.unicode.cldr.bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Compare two JMH result files (written with -rf json), for example from two commits. Prints one
+ * line per benchmark and parameter set with both scores and the slowdown factor (above 1 is slower,
+ * whatever the benchmark mode), and exits with status 1 if any benchmark got slower by more than
+ * the threshold.
+ *
+ * <p>Usage: CompareResults old.json new.json [threshold, default 1.1]
+ */
+public class CompareResults {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults old.json new.json [threshold]");
+            System.exit(2);
+        }
+        Map<String, JsonObject> before = read(args[0]);
+        Map<String, JsonObject> after = read(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 1.1;
+
+        int regressions = 0;
+        System.out.println("Benchmark\tOld\tNew\tUnit\tSlowdown");
+        for (Entry<String, JsonObject> entry : after.entrySet()) {
+            JsonObject newResult = entry.getValue();
+            JsonObject oldResult = before.get(entry.getKey());
+            double newScore = getScore(newResult);
+            String unit = newResult.getAsJsonObject("primaryMetric").get("scoreUnit").getAsString();
+            if (oldResult == null) {
+                System.out.println(
+                        String.format("%s\t\t%.4g\t%s\tnew", entry.getKey(), newScore, unit));
+                continue;
+            }
+            double oldScore = getScore(oldResult);
+            // for throughput, a higher score is better; for the time modes, lower is better
+            double slowdown =
+                    newResult.get("mode").getAsString().equals("thrpt")
+                            ? oldScore / newScore
+                            : newScore / oldScore;
+            boolean regression = slowdown > threshold;
+            if (regression) {
+                ++regressions;
+            }
+            System.out.println(
+                    String.format(
+                            "%s\t%.4g\t%.4g\t%s\t%.3f%s",
+                            entry.getKey(),
+                            oldScore,
+                            newScore,
+                            unit,
+                            slowdown,
+                            regression ? "\tREGRESSION" : ""));
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                System.out.println(
+                        String.format("%s\t%.4g\t\t\tremoved", key, getScore(before.get(key))));
+            }
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) slower by more than " + threshold);
+            System.exit(1);
+        }
+    }
+
+    /** Read a JMH JSON result file, keyed by benchmark name plus parameters. */
+    private static Map<String, JsonObject> read(String file) throws IOException {
+        Map<String, JsonObject> result = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(file))) {
+            JsonArray results = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : results) {
+                JsonObject benchmark = element.getAsJsonObject();
+                StringBuilder key = new StringBuilder(benchmark.get("benchmark").getAsString());
+                if (benchmark.has("params")) {
+                    // sort, so that the key doesn't depend on the parameter order
+                    Map<String, String> params = new TreeMap<>();
+                    for (Entry<String, JsonElement> param :
+                            benchmark.getAsJsonObject("params").entrySet()) {
+                        params.put(param.getKey(), param.getValue().getAsString());
+                    }
+                    key.append(params);
+                }
+                key.append(" threads=").append(benchmark.get("threads").getAsInt());
+                result.put(key.toString(), benchmark);
+            }
+        }
+        return result;
+    }
+
+    private static double getScore(JsonObject benchmark) {
+        return benchmark.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+}
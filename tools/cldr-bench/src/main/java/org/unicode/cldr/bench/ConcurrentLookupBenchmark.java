@@ -0,0 +1,82 @@
+package org.unicode.cldr.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unicode.cldr.util.CLDRFile;
+
+/**
+ * Throughput of lookups in one resolved file shared by many threads, as in the Survey Tool. With
+ * lock-free lookup caches, the score with all threads should be close to the single-thread score
+ * times the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentLookupBenchmark {
+
+    @Param({"root", "en"})
+    public String locale;
+
+    private CLDRFile resolved;
+    private String[] paths;
+
+    /** Where each thread starts in the sample, so that the threads don't move in lockstep */
+    private final AtomicInteger nextStart = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        @Setup(Level.Trial)
+        public void setUp(ConcurrentLookupBenchmark benchmark) {
+            index = benchmark.nextStart.getAndAdd(997) % benchmark.paths.length;
+        }
+
+        int next(int length) {
+            if (++index == length) {
+                index = 0;
+            }
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resolved = Fixtures.getFactory().make(locale, true);
+        paths = Fixtures.getPaths(locale).toArray(new String[0]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String getStringValue1(Cursor cursor) {
+        return resolved.getStringValue(paths[cursor.next(paths.length)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String getStringValueMax(Cursor cursor) {
+        return resolved.getStringValue(paths[cursor.next(paths.length)]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String getSourceLocaleIdMax(Cursor cursor) {
+        return resolved.getSourceLocaleID(paths[cursor.next(paths.length)], null);
+    }
+}
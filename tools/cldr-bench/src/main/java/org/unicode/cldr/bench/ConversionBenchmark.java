@@ -0,0 +1,71 @@
+package org.unicode.cldr.bench;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.DtdData;
+import org.unicode.cldr.util.DtdType;
+
+/** Turning loaded data back into ordered output: writing XML, and sorting paths in DTD order. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({"en", "ja"})
+    public String locale;
+
+    private CLDRFile file;
+    private List<String> shuffledPaths;
+    private DtdData.DtdComparator comparator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        file = Fixtures.getFactory().make(locale, false);
+        shuffledPaths = new ArrayList<>();
+        file.fullIterable().forEach(path -> shuffledPaths.add(file.getFullXPath(path)));
+        Collections.shuffle(shuffledPaths, new Random(Fixtures.SEED));
+        comparator = DtdData.getInstance(DtdType.ldml).getDtdComparator();
+    }
+
+    @Benchmark
+    public int writeXml() {
+        StringWriter out = new StringWriter();
+        file.write(new PrintWriter(out));
+        return out.getBuffer().length();
+    }
+
+    @Benchmark
+    public List<String> sortPaths() {
+        List<String> paths = new ArrayList<>(shuffledPaths);
+        comparator.sort(paths);
+        return paths;
+    }
+
+    @Benchmark
+    public List<String> sortPathsByComparator() {
+        List<String> paths = new ArrayList<>(shuffledPaths);
+        paths.sort(comparator);
+        return paths;
+    }
+}
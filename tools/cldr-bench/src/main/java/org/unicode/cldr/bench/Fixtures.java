@@ -0,0 +1,43 @@
+package org.unicode.cldr.bench;
+
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.Factory;
+
+/**
+ * The data that the benchmarks run over. Everything comes from the checked-in common/ directory
+ * (found through CLDR_DIR, as for the other tools), and the path samples are shuffled with a fixed
+ * seed, so that runs on different commits measure the same work.
+ */
+final class Fixtures {
+
+    /** The seed for all shuffling, so that runs are reproducible */
+    static final long SEED = 0x5EEDL;
+
+    private Fixtures() {}
+
+    static Factory getFactory() {
+        return CLDRConfig.getInstance().getCldrFactory();
+    }
+
+    static File getMainFile(String localeId) {
+        return new File(CLDRPaths.MAIN_DIRECTORY, localeId + ".xml");
+    }
+
+    /** The distinguishing paths of a resolved locale, in a fixed random order. */
+    static List<String> getPaths(String localeId) {
+        CLDRFile file = getFactory().make(localeId, true);
+        List<String> paths = new ArrayList<>();
+        file.fullIterable().forEach(paths::add);
+        Collections.sort(paths);
+        Collections.shuffle(paths, new Random(SEED));
+        return ImmutableList.copyOf(paths);
+    }
+}
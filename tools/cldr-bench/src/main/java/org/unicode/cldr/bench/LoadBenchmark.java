@@ -0,0 +1,66 @@
+package org.unicode.cldr.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.XMLNormalizingLoader;
+import org.unicode.cldr.util.XMLSource;
+import org.unicode.cldr.util.XMLSourceSnapshot;
+
+/** Loading a single locale file: parsing the XML, or reading its binary snapshot. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Param({"root", "en", "de_CH"})
+    public String locale;
+
+    private File xmlFile;
+    private File snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        xmlFile = Fixtures.getMainFile(locale);
+        snapshotFile = File.createTempFile("cldr-bench-" + locale, ".bin");
+        XMLSourceSnapshot.write(
+                (SimpleXMLSource)
+                        XMLNormalizingLoader.loadXMLFile(xmlFile, locale, DraftStatus.unconfirmed),
+                snapshotFile,
+                true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile.toPath());
+    }
+
+    @Benchmark
+    public XMLSource parseXml() {
+        return XMLNormalizingLoader.loadXMLFile(xmlFile, locale, DraftStatus.unconfirmed);
+    }
+
+    @Benchmark
+    public XMLSource readSnapshot() throws IOException {
+        return XMLSourceSnapshot.read(snapshotFile);
+    }
+}
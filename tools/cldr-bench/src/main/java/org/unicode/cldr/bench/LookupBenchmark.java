@@ -0,0 +1,117 @@
+package org.unicode.cldr.bench;
+
+import com.ibm.icu.util.Output;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unicode.cldr.test.CoverageLevel2;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.PathHeader;
+import org.unicode.cldr.util.PathIds;
+import org.unicode.cldr.util.RegexLookup;
+import org.unicode.cldr.util.SupplementalDataInfo;
+import org.unicode.cldr.util.XPathParts;
+
+/**
+ * Per-path lookups on warm data. Each call looks up the next path of a fixed sample, so the scores
+ * are the average over the sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookupBenchmark {
+
+    @Param({"en", "ja"})
+    public String locale;
+
+    private CLDRFile resolved;
+    private String[] paths;
+    private String[] fullPaths;
+    private int[] pathIds;
+    private PathHeader.Factory pathHeaderFactory;
+    private CoverageLevel2 coverageLevel;
+    private RegexLookup<String> regexLookup;
+    private final Output<String[]> arguments = new Output<>();
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resolved = Fixtures.getFactory().make(locale, true);
+        List<String> sample = Fixtures.getPaths(locale);
+        paths = sample.toArray(new String[0]);
+        fullPaths = new String[paths.length];
+        pathIds = new int[paths.length];
+        for (int i = 0; i < paths.length; ++i) {
+            fullPaths[i] = resolved.getFullXPath(paths[i]);
+            pathIds[i] = PathIds.getId(paths[i]);
+            resolved.getStringValue(paths[i]); // fill the lookup caches
+        }
+        pathHeaderFactory = PathHeader.getFactory();
+        coverageLevel = CoverageLevel2.getInstance(SupplementalDataInfo.getInstance(), locale);
+        regexLookup =
+                RegexLookup.<String>of(value -> value)
+                        .setPatternTransform(RegexLookup.RegexFinderTransformPath)
+                        .loadFromFile(PathHeader.class, "data/PathHeader.txt");
+    }
+
+    private int next() {
+        if (++index == paths.length) {
+            index = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public String getStringValue() {
+        return resolved.getStringValue(paths[next()]);
+    }
+
+    @Benchmark
+    public String getStringValueById() {
+        return resolved.getStringValue(pathIds[next()]);
+    }
+
+    @Benchmark
+    public String getFullXPath() {
+        return resolved.getFullXPath(paths[next()]);
+    }
+
+    @Benchmark
+    public XPathParts getFrozenInstance() {
+        return XPathParts.getFrozenInstance(fullPaths[next()]);
+    }
+
+    @Benchmark
+    public PathHeader pathHeaderFromPath() {
+        return pathHeaderFactory.fromPath(paths[next()]);
+    }
+
+    @Benchmark
+    public int coverageLevel() {
+        return coverageLevel.getIntLevel(paths[next()]);
+    }
+
+    @Benchmark
+    public String regexLookup() {
+        return regexLookup.get(paths[next()], null, arguments);
+    }
+
+    @Benchmark
+    public SupplementalDataInfo supplementalDataInfo() {
+        return SupplementalDataInfo.getInstance();
+    }
+}
@@ -0,0 +1,57 @@
+package org.unicode.cldr.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.Factory;
+
+/**
+ * Making a resolved file from already-loaded sources, and looking up every path of a newly resolved
+ * file (so that its lookup caches start out empty).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResolveBenchmark {
+
+    @Param({"en", "de_CH", "sr_Latn"})
+    public String locale;
+
+    private Factory factory;
+    private String[] paths;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Fixtures.getFactory();
+        paths = Fixtures.getPaths(locale).toArray(new String[0]);
+    }
+
+    @Benchmark
+    public CLDRFile makeResolved() {
+        return factory.make(locale, true);
+    }
+
+    @Benchmark
+    public void resolveAllPaths(Blackhole blackhole) {
+        CLDRFile file = factory.make(locale, true);
+        for (String path : paths) {
+            blackhole.consume(file.getStringValue(path));
+            blackhole.consume(file.getFullXPath(path));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.unicode.cldr.test;
 
 import java.util.List;
+import java.util.function.Predicate;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
 import org.unicode.cldr.util.CLDRFile;
 import org.unicode.cldr.util.Factory;
@@ -69,4 +70,10 @@ public class CheckAltOnly extends FactoryCheckCLDR {
         result.add(item);
         return this;
     }
+
+    @Override
+    public Predicate<String> getDependentPaths(String changedPath) {
+        // the alt path is checked against the non-alt path, and its constructed value
+        return getLateralPaths(changedPath).or(getConstructedPaths(changedPath));
+    }
 }
@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
@@ -51,6 +52,22 @@ public class CheckAnnotations extends CheckCLDR {
     //                            })));
     // };
 
+    @Override
+    public Predicate<String> getDependentPaths(String changedPath) {
+        // the keywords for a character are checked against its name (tts)
+        final String cp =
+                ANNOTATION_PATH.matcher(changedPath).matches()
+                        ? XPathParts.getFrozenInstance(changedPath).getAttributeValue(-1, "cp")
+                        : null;
+        if (cp == null) {
+            return path -> false;
+        }
+        return path ->
+                ANNOTATION_PATH.matcher(path).matches()
+                        && cp.equals(
+                                XPathParts.getFrozenInstance(path).getAttributeValue(-1, "cp"));
+    }
+
     @Override
     public CheckCLDR handleCheck(
             String path, String fullPath, String value, Options options, List<CheckStatus> result) {
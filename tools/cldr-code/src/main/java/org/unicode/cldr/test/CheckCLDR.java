@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -1083,6 +1084,11 @@ public abstract class CheckCLDR implements CheckAccessor {
             return message.replace('\t', ' ');
         }
 
+        /** The message before the parameters are filled in */
+        String getMessageFormat() {
+            return messageFormat;
+        }
+
         public CheckStatus setMessage(String message) {
             if (cause == null) {
                 throw new IllegalArgumentException("Must have cause set.");
@@ -1452,6 +1458,68 @@ public abstract class CheckCLDR implements CheckAccessor {
     /** Only for use in ConsoleCheck, for debugging */
     public void handleFinish() {}
 
+    /**
+     * The paths whose values no check reads while being set up (in setCldrFileToCheck), so that
+     * after one of them changes, the only results that can be different are for that path and for
+     * the paths from {@link #getDependentPaths(String)}. After a change to any other path, such as
+     * the exemplars, number symbols, or calendar data, all the checks need to be set up again.
+     */
+    private static final Pattern INCREMENTAL_PATHS =
+            PatternCache.get(
+                    "^//ldml/(localeDisplayNames/(languages|scripts|territories|subdivisions"
+                            + "|variants|keys|types|typeValues|measurementSystemNames)/"
+                            + "|dates/timeZoneNames/(zone|metazone)\\["
+                            + "|dates/fields/"
+                            + "|numbers/currencies/currency\\[@type=\"[^\"]*+\"]/displayName"
+                            + "|annotations/"
+                            + "|characterLabels/"
+                            + "|typographicNames/)");
+
+    /** The attributes that lateral inheritance (such as from alt="short" or count) removes */
+    private static final Pattern LATERAL_ATTRIBUTES =
+            PatternCache.get("\\[@(?:alt|count|case|gender)=\"[^\"]*+\"]");
+
+    /**
+     * Can the checks for a file be kept after the value of this path changes, by just redoing the
+     * results for the path and its dependent paths?
+     */
+    public static boolean isIncremental(String changedPath) {
+        return INCREMENTAL_PATHS.matcher(changedPath).lookingAt();
+    }
+
+    /**
+     * Get the paths, besides changedPath itself, whose results from this check may be different
+     * after the value of changedPath changes. Only called when {@link #isIncremental(String)} is
+     * true. The default is none; a check that reads the values of other paths in handleCheck must
+     * override this. May be called while another thread is checking with this instance, so it must
+     * only use what was set up in setCldrFileToCheck.
+     */
+    public Predicate<String> getDependentPaths(String changedPath) {
+        return path -> false;
+    }
+
+    /**
+     * The paths that can inherit their values from changedPath within the locale, or that
+     * changedPath can inherit from, such as alt="short" and count variants.
+     */
+    protected static Predicate<String> getLateralPaths(String changedPath) {
+        final String stripped = LATERAL_ATTRIBUTES.matcher(changedPath).replaceAll("");
+        return path -> LATERAL_ATTRIBUTES.matcher(path).replaceAll("").equals(stripped);
+    }
+
+    /**
+     * The paths whose constructed values (see {@link CLDRFile#getConstructedValue(String)}) may use
+     * the value of changedPath, such as the names of locales with a territory.
+     */
+    protected static Predicate<String> getConstructedPaths(String changedPath) {
+        if (!changedPath.startsWith("//ldml/localeDisplayNames/")) {
+            return path -> false;
+        }
+        return path ->
+                path.startsWith("//ldml/localeDisplayNames/languages/language[@type=\"")
+                        && path.indexOf('_') >= 0;
+    }
+
     /**
      * Internal class used to bundle up a number of Checks.
      *
@@ -1521,6 +1589,17 @@ public abstract class CheckCLDR implements CheckAccessor {
             }
         }
 
+        @Override
+        public Predicate<String> getDependentPaths(String changedPath) {
+            // handleCheck replaces the inheritance marker with the bailey value, which may come
+            // from another path in the same locale
+            Predicate<String> result = getLateralPaths(changedPath);
+            for (CheckCLDR item : filteredCheckList) {
+                result = result.or(item.getDependentPaths(changedPath));
+            }
+            return result;
+        }
+
         @Override
         protected CheckCLDR handleGetExamples(
                 String path,
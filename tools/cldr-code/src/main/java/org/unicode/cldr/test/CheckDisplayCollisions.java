@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
@@ -935,6 +937,23 @@ public class CheckDisplayCollisions extends FactoryCheckCLDR {
         return this;
     }
 
+    @Override
+    public Predicate<String> getDependentPaths(String changedPath) {
+        // a path can collide with any other path of its type, and exemplar cities with territories
+        final Type changedType = Type.getType(changedPath);
+        if (changedType == null) {
+            return path -> false;
+        }
+        final Set<Type> types = EnumSet.of(changedType);
+        if (changedType == Type.TERRITORY) {
+            types.add(Type.ZONE);
+            types.add(Type.ANNOTATIONS);
+        } else if (changedType == Type.ZONE) {
+            types.add(Type.TERRITORY);
+        }
+        return path -> types.contains(Type.getType(path));
+    }
+
     /**
      * @param type the type of the xpath
      * @param xpath
@@ -5,6 +5,7 @@ import com.ibm.icu.util.ICUException;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
 import org.unicode.cldr.util.*;
 import org.unicode.cldr.util.CLDRFile.Status;
@@ -96,6 +97,12 @@ public class CheckForCopy extends FactoryCheckCLDR {
         return this;
     }
 
+    @Override
+    public Predicate<String> getDependentPaths(String changedPath) {
+        // sameAsCodeOrEnglish compares with the constructed value
+        return getConstructedPaths(changedPath);
+    }
+
     /**
      * Check the given path and value, and return true if it has a same_as_code failure
      *
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import org.unicode.cldr.util.CLDRFile;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
 import org.unicode.cldr.util.Factory;
@@ -67,6 +68,13 @@ public class CheckLogicalGroupings extends FactoryCheckCLDR {
         return this;
     }
 
+    @Override
+    public Predicate<String> getDependentPaths(String changedPath) {
+        // each path is checked against the rest of its group
+        final Set<String> group = LogicalGrouping.getPaths(getCldrFileToCheck(), changedPath);
+        return group == null ? path -> false : group::contains;
+    }
+
     static final Transliterator SHOW_INVISIBLES =
             Transliterator.createFromRules(
                     "show",
@@ -0,0 +1,569 @@
+package org.unicode.cldr.test;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.logging.Logger;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus.Type;
+import org.unicode.cldr.test.CheckCLDR.Options;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CldrUtility;
+import org.unicode.cldr.util.Pair;
+import org.unicode.cldr.util.StoreFiles;
+
+/**
+ * Keeps the results of checking a locale on disk, so that a later run (or another machine sharing
+ * the directory) can reuse them instead of checking again.
+ *
+ * <p>The store is only used when the CLDR_CHECK_RESULT_DIR property names a writable directory.
+ * Each file holds the results for one locale, Options and set of checks. Its name is made of two
+ * hashes. The first is of the version of the checks, the Options and the names of the checks that
+ * are run. The second is of what the checks are set up from: the paths of the resolved locale that
+ * aren't {@link CheckCLDR#isIncremental incremental} (such as the exemplars), the English file used
+ * for display information, and the supplemental data. A change to any of those leads to a new file,
+ * and the file it replaces is deleted when the new one is saved. Other data that the checks read
+ * (such as the casing or validity data) is assumed to change only along with the version.
+ *
+ * <p>A change to an incremental path (such as a display name) keeps the file: the file also holds
+ * the full path and value of each incremental path as they were when the results were saved. On
+ * loading, the paths whose full path or value has changed since then are found, and only the
+ * results for those paths and for the paths that the checks declare as depending on them (see
+ * {@link CheckCLDR#getDependentPaths}) are dropped.
+ *
+ * <p>The version is the CLDR_CHECK_RESULT_VERSION property, or else the CLDR-Code-Git-Commit in the
+ * manifest. If neither is available, as when running from a build directory, nothing is stored,
+ * since the checks might have changed since the results were written.
+ *
+ * <p>Within a file, the results are keyed by path and value. The results for a path are left out if
+ * they can't be written exactly (such as those with an Exception as a parameter, or with a subclass
+ * of CheckStatus), and so are checked again. Parameters other than numbers are stored as strings,
+ * which format the same way.
+ */
+public class CheckResultStore {
+    private static final Logger logger = Logger.getLogger(CheckResultStore.class.getSimpleName());
+
+    private static final int MAGIC = 0x434C4352; // "CLCR"
+    private static final int FORMAT_VERSION = 2;
+    private static final int NO_STRING = -1;
+
+    private static final int FLAG_CHECK_ON_SUBMIT = 1;
+    private static final int FLAG_ENTIRE_LOCALE = 2;
+
+    private static final byte PARAMETER_NULL = 0;
+    private static final byte PARAMETER_STRING = 1;
+    private static final byte PARAMETER_INTEGER = 2;
+    private static final byte PARAMETER_LONG = 3;
+    private static final byte PARAMETER_DOUBLE = 4;
+
+    /** Beyond this many changed paths, all the stored results are dropped instead */
+    private static final int MAX_CHANGED_PATHS = 1000;
+
+    private static final CheckResultStore INSTANCE = makeInstance();
+
+    /** Hashes of the non-incremental paths of the frozen files */
+    private static final Cache<CLDRFile, String> frozenSetupHashes =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    private final File directory;
+    private final String version;
+
+    /**
+     * @return the store set up by CLDR_CHECK_RESULT_DIR, or null if results aren't stored
+     */
+    public static CheckResultStore getInstance() {
+        return INSTANCE;
+    }
+
+    private static CheckResultStore makeInstance() {
+        String directory = CldrUtility.getProperty("CLDR_CHECK_RESULT_DIR", null);
+        if (directory == null) {
+            return null;
+        }
+        String version = CldrUtility.getProperty("CLDR_CHECK_RESULT_VERSION", null);
+        if (version == null) {
+            version = getCodeVersion();
+        }
+        if (version == null) {
+            logger.warning(
+                    "Not storing check results in "
+                            + directory
+                            + ": set CLDR_CHECK_RESULT_VERSION, since the code version is unknown");
+            return null;
+        }
+        return new CheckResultStore(new File(directory), version);
+    }
+
+    /**
+     * @param directory where the files are kept
+     * @param version identifies the version of the checks; results stored with a different version
+     *     are not used
+     */
+    CheckResultStore(File directory, String version) {
+        this.directory = directory;
+        this.version = version;
+    }
+
+    /**
+     * @return the CLDR-Code-Git-Commit from the manifest, or null if there is none
+     */
+    static String getCodeVersion() {
+        final String name = CldrUtility.CODE_SLUG + CldrUtility.GIT_COMMIT_SUFFIX;
+        try {
+            ClassLoader classLoader = CheckResultStore.class.getClassLoader();
+            for (Enumeration<URL> e = classLoader.getResources(JarFile.MANIFEST_NAME);
+                    e.hasMoreElements(); ) {
+                try (InputStream is = e.nextElement().openStream()) {
+                    String s = new Manifest(is).getMainAttributes().getValue(name);
+                    if (s != null && !s.isEmpty()) {
+                        return s;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.fine(() -> "Could not read the manifests: " + e);
+        }
+        return null;
+    }
+
+    /**
+     * Get the key for the results of checking the given file. It only changes when the checks would
+     * be set up differently; see the class description.
+     *
+     * @param file the resolved file being checked
+     * @param nameMatcher the pattern for the names of the checks that are run
+     * @param supplementalDirectory the supplemental data used by the checks, or null
+     */
+    public String getKey(
+            CLDRFile file, Options options, String nameMatcher, File supplementalDirectory) {
+        MessageDigest checks = StoreFiles.newDigest();
+        StoreFiles.update(checks, FORMAT_VERSION + "|" + CLDRFile.GEN_VERSION + "|" + version);
+        for (Options.Option option : Options.Option.values()) {
+            StoreFiles.update(checks, option + "=" + options.get(option));
+        }
+        StoreFiles.update(checks, nameMatcher);
+        MessageDigest setup = StoreFiles.newDigest();
+        StoreFiles.update(setup, hashSetup(file));
+        CLDRFile english = CheckCLDR.getDisplayInformation();
+        StoreFiles.update(setup, english == null ? "" : StoreFiles.hash(english));
+        StoreFiles.update(setup, StoreFiles.hashDirectory(supplementalDirectory));
+        return file.getLocaleID() + "-" + StoreFiles.toHex(checks) + "-" + StoreFiles.toHex(setup);
+    }
+
+    /** The start of the names of the files that the key replaces, and of its own */
+    private static String getPrefix(String key) {
+        return key.substring(0, key.lastIndexOf('-') + 1);
+    }
+
+    /** Hash the paths of the file that aren't incremental; see {@link StoreFiles#hash(CLDRFile)} */
+    static String hashSetup(CLDRFile file) {
+        if (!file.isFrozen()) {
+            return StoreFiles.hash(file, path -> !CheckCLDR.isIncremental(path));
+        }
+        try {
+            return frozenSetupHashes.get(
+                    file, () -> StoreFiles.hash(file, path -> !CheckCLDR.isIncremental(path)));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + ".bin");
+    }
+
+    /**
+     * Load the results stored under the key that are still valid for the file.
+     *
+     * @param file the resolved file being checked
+     * @param checks the checks that are run, which become the causes of the loaded CheckStatus
+     *     objects; results whose cause isn't among them are dropped
+     * @param getDependentPaths gets the paths whose results may change when the given path's value
+     *     changes, as {@link CheckCLDR#getDependentPaths} of the set-up checks
+     * @return the results for each (path, value); empty if there are none
+     */
+    public Map<Pair<String, String>, List<CheckStatus>> load(
+            String key,
+            CLDRFile file,
+            Collection<? extends CheckCLDR> checks,
+            Function<String, Predicate<String>> getDependentPaths) {
+        File storeFile = getFile(key);
+        if (!storeFile.canRead()) {
+            return Map.of();
+        }
+        final Stored stored;
+        try {
+            stored = read(storeFile, checks);
+        } catch (IOException | RuntimeException e) {
+            logger.warning(
+                    "Ignoring unreadable check results " + storeFile + ": " + e.getMessage());
+            return Map.of();
+        }
+        Set<String> changed = getChangedPaths(stored.pathStates, getPathStates(file));
+        if (changed.isEmpty()) {
+            return stored.results;
+        }
+        if (changed.size() > MAX_CHANGED_PATHS) {
+            return Map.of();
+        }
+        List<Predicate<String>> dependents = new ArrayList<>();
+        for (String path : changed) {
+            dependents.add(getDependentPaths.apply(path));
+        }
+        stored.results
+                .keySet()
+                .removeIf(
+                        pathValue -> {
+                            final String path = pathValue.getFirst();
+                            if (changed.contains(path)) {
+                                return true;
+                            }
+                            for (Predicate<String> dependent : dependents) {
+                                if (dependent.test(path)) {
+                                    return true;
+                                }
+                            }
+                            return false;
+                        });
+        return stored.results;
+    }
+
+    /**
+     * Store the results under the key, replacing any stored before, and delete the file of any key
+     * that this one replaces. The results that can't be written exactly are left out. Failures are
+     * logged, not thrown, since the store only saves time.
+     *
+     * @param file the resolved file that was checked, as it was when the results were computed
+     */
+    public void save(
+            String key, CLDRFile file, Map<Pair<String, String>, List<CheckStatus>> results) {
+        File storeFile = getFile(key);
+        try {
+            directory.mkdirs();
+            write(results, getPathStates(file), storeFile);
+        } catch (IOException e) {
+            logger.warning("Could not write check results " + storeFile + ": " + e.getMessage());
+            return;
+        }
+        StoreFiles.deleteOthers(storeFile, getPrefix(key));
+    }
+
+    /** The full path and value of each incremental path of the file */
+    static Map<String, Pair<String, String>> getPathStates(CLDRFile file) {
+        Map<String, Pair<String, String>> result = new HashMap<>();
+        for (String path : file) {
+            if (CheckCLDR.isIncremental(path)) {
+                result.put(path, new Pair<>(file.getFullXPath(path), file.getStringValue(path)));
+            }
+        }
+        return result;
+    }
+
+    /** The paths that were added, removed or changed */
+    private static Set<String> getChangedPaths(
+            Map<String, Pair<String, String>> before, Map<String, Pair<String, String>> after) {
+        Set<String> result = new HashSet<>();
+        before.forEach(
+                (path, state) -> {
+                    if (!state.equals(after.get(path))) {
+                        result.add(path);
+                    }
+                });
+        for (String path : after.keySet()) {
+            if (!before.containsKey(path)) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    /** What a file holds */
+    static final class Stored {
+        final Map<Pair<String, String>, List<CheckStatus>> results;
+
+        /** See {@link CheckResultStore#getPathStates} */
+        final Map<String, Pair<String, String>> pathStates;
+
+        Stored(
+                Map<Pair<String, String>, List<CheckStatus>> results,
+                Map<String, Pair<String, String>> pathStates) {
+            this.results = results;
+            this.pathStates = pathStates;
+        }
+    }
+
+    /** Write the results to the file, with the state of the paths they were computed for */
+    static void write(
+            Map<Pair<String, String>, List<CheckStatus>> results,
+            Map<String, Pair<String, String>> pathStates,
+            File file)
+            throws IOException {
+        // Collect the strings and statuses first, so that the tables can be written before the
+        // references. A status shared by many paths (such as one for the entire locale) is
+        // written once.
+        StringTable strings = new StringTable();
+        Map<CheckStatus, Integer> statusIndexes = new IdentityHashMap<>();
+        List<CheckStatus> statuses = new ArrayList<>();
+        List<Entry<Pair<String, String>, List<CheckStatus>>> entries = new ArrayList<>();
+        for (Entry<Pair<String, String>, List<CheckStatus>> entry : results.entrySet()) {
+            if (!entry.getValue().stream().allMatch(CheckResultStore::isWritable)) {
+                continue;
+            }
+            entries.add(entry);
+            strings.add(entry.getKey().getFirst());
+            strings.add(entry.getKey().getSecond());
+            for (CheckStatus status : entry.getValue()) {
+                if (statusIndexes.putIfAbsent(status, statuses.size()) == null) {
+                    statuses.add(status);
+                    strings.add(status.getCause().getClass().getName());
+                    strings.add(status.getSubtype().name());
+                    strings.add(status.getMessageFormat());
+                    Object[] parameters = status.getParameters();
+                    if (parameters != null) {
+                        for (Object parameter : parameters) {
+                            if (parameter != null && !(parameter instanceof Number)) {
+                                strings.add(parameter.toString());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        pathStates.forEach(
+                (path, state) -> {
+                    strings.add(path);
+                    strings.add(state.getFirst());
+                    strings.add(state.getSecond());
+                });
+
+        StoreFiles.writeAtomically(
+                file,
+                out -> {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+
+                    out.writeInt(strings.list.size());
+                    for (String s : strings.list) {
+                        StoreFiles.writeString(out, s);
+                    }
+
+                    out.writeInt(statuses.size());
+                    for (CheckStatus status : statuses) {
+                        out.writeInt(strings.get(status.getCause().getClass().getName()));
+                        out.writeByte(status.getType().ordinal());
+                        out.writeInt(strings.get(status.getSubtype().name()));
+                        out.writeInt(strings.get(status.getMessageFormat()));
+                        out.writeByte(
+                                (status.isCheckOnSubmit() ? FLAG_CHECK_ON_SUBMIT : 0)
+                                        | (status.getEntireLocale() ? FLAG_ENTIRE_LOCALE : 0));
+                        Object[] parameters = status.getParameters();
+                        out.writeInt(parameters == null ? -1 : parameters.length);
+                        if (parameters != null) {
+                            for (Object parameter : parameters) {
+                                writeParameter(out, parameter, strings);
+                            }
+                        }
+                    }
+
+                    out.writeInt(entries.size());
+                    for (Entry<Pair<String, String>, List<CheckStatus>> entry : entries) {
+                        out.writeInt(strings.get(entry.getKey().getFirst()));
+                        out.writeInt(strings.get(entry.getKey().getSecond()));
+                        out.writeInt(entry.getValue().size());
+                        for (CheckStatus status : entry.getValue()) {
+                            out.writeInt(statusIndexes.get(status));
+                        }
+                    }
+
+                    out.writeInt(pathStates.size());
+                    for (Entry<String, Pair<String, String>> entry : pathStates.entrySet()) {
+                        out.writeInt(strings.get(entry.getKey()));
+                        out.writeInt(strings.get(entry.getValue().getFirst()));
+                        out.writeInt(strings.get(entry.getValue().getSecond()));
+                    }
+                });
+    }
+
+    /** Whether the status can be written so that it reads back the same */
+    private static boolean isWritable(CheckStatus status) {
+        if (status.getClass() != CheckStatus.class || status.getCause() == null) {
+            return false;
+        }
+        Object[] parameters = status.getParameters();
+        if (parameters != null) {
+            for (Object parameter : parameters) {
+                if (parameter instanceof Number) {
+                    if (!(parameter instanceof Integer
+                            || parameter instanceof Long
+                            || parameter instanceof Double)) {
+                        return false;
+                    }
+                } else if (parameter instanceof Exception || parameter instanceof Date) {
+                    return false; // these don't format as their strings
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void writeParameter(DataOutputStream out, Object parameter, StringTable strings)
+            throws IOException {
+        if (parameter == null) {
+            out.writeByte(PARAMETER_NULL);
+        } else if (parameter instanceof Integer) {
+            out.writeByte(PARAMETER_INTEGER);
+            out.writeInt((Integer) parameter);
+        } else if (parameter instanceof Long) {
+            out.writeByte(PARAMETER_LONG);
+            out.writeLong((Long) parameter);
+        } else if (parameter instanceof Double) {
+            out.writeByte(PARAMETER_DOUBLE);
+            out.writeDouble((Double) parameter);
+        } else {
+            out.writeByte(PARAMETER_STRING);
+            out.writeInt(strings.get(parameter.toString()));
+        }
+    }
+
+    /**
+     * Read results written by {@link #write}.
+     *
+     * @throws IOException if the file is unreadable or not of the current format
+     */
+    static Stored read(File file, Collection<? extends CheckCLDR> checks) throws IOException {
+        Map<String, CheckCLDR> causes = new HashMap<>();
+        for (CheckCLDR check : checks) {
+            causes.put(check.getClass().getName(), check);
+        }
+        try (InputStream is = Files.newInputStream(file.toPath());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(is))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not check results of format version " + FORMAT_VERSION);
+            }
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; ++i) {
+                strings[i] = StoreFiles.readString(in);
+            }
+
+            CheckStatus[] statuses = new CheckStatus[in.readInt()];
+            for (int i = 0; i < statuses.length; ++i) {
+                CheckCLDR cause = causes.get(strings[in.readInt()]);
+                Type type = Type.values()[in.readByte()];
+                Subtype subtype = Subtype.valueOf(strings[in.readInt()]);
+                String messageFormat = get(strings, in.readInt());
+                int flags = in.readByte();
+                int parameterCount = in.readInt();
+                Object[] parameters = parameterCount < 0 ? null : new Object[parameterCount];
+                for (int j = 0; j < parameterCount; ++j) {
+                    parameters[j] = readParameter(in, strings);
+                }
+                if (cause == null) {
+                    continue; // leaves null, so the paths with this status are checked again
+                }
+                CheckStatus status =
+                        new CheckStatus()
+                                .setCause(cause)
+                                .setMainType(type)
+                                .setSubtype(subtype)
+                                .setCheckOnSubmit((flags & FLAG_CHECK_ON_SUBMIT) != 0)
+                                .setMessage(messageFormat, parameters);
+                if ((flags & FLAG_ENTIRE_LOCALE) != 0) {
+                    status.setEntireLocale();
+                }
+                statuses[i] = status;
+            }
+
+            int entryCount = in.readInt();
+            Map<Pair<String, String>, List<CheckStatus>> result = new HashMap<>(entryCount * 2);
+            for (int i = 0; i < entryCount; ++i) {
+                String path = strings[in.readInt()];
+                String value = get(strings, in.readInt());
+                int statusCount = in.readInt();
+                List<CheckStatus> list = new ArrayList<>(statusCount);
+                boolean complete = true;
+                for (int j = 0; j < statusCount; ++j) {
+                    CheckStatus status = statuses[in.readInt()];
+                    complete &= status != null;
+                    list.add(status);
+                }
+                if (complete) {
+                    result.put(new Pair<>(path, value), list);
+                }
+            }
+
+            int pathCount = in.readInt();
+            Map<String, Pair<String, String>> pathStates = new HashMap<>(pathCount * 2);
+            for (int i = 0; i < pathCount; ++i) {
+                String path = strings[in.readInt()];
+                String fullPath = get(strings, in.readInt());
+                String value = get(strings, in.readInt());
+                pathStates.put(path, new Pair<>(fullPath, value));
+            }
+            return new Stored(result, pathStates);
+        }
+    }
+
+    private static Object readParameter(DataInputStream in, String[] strings) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case PARAMETER_NULL:
+                return null;
+            case PARAMETER_STRING:
+                return strings[in.readInt()];
+            case PARAMETER_INTEGER:
+                return in.readInt();
+            case PARAMETER_LONG:
+                return in.readLong();
+            case PARAMETER_DOUBLE:
+                return in.readDouble();
+            default:
+                throw new IOException("Unknown parameter type " + tag);
+        }
+    }
+
+    private static String get(String[] strings, int index) {
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    /** Assigns each distinct string an index in order of first appearance. */
+    private static class StringTable {
+        final Map<String, Integer> indexes = new HashMap<>();
+        final List<String> list = new ArrayList<>();
+
+        void add(String s) {
+            if (s != null && !indexes.containsKey(s)) {
+                indexes.put(s, list.size());
+                list.add(s);
+            }
+        }
+
+        int get(String s) {
+            return s == null ? NO_STRING : indexes.get(s);
+        }
+    }
+}
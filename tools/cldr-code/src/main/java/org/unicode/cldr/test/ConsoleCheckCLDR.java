@@ -16,6 +16,7 @@ import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -708,19 +709,17 @@ public class ConsoleCheckCLDR {
                     int rawProvisionalCount = 0;
                     CLDRFile unresolved = file.getUnresolved();
 
+                    // filter the paths once, then check them across threads; the loop below
+                    // gets the cached results, in order
+                    final List<PathHeader> checkedPaths = new ArrayList<>();
+                    final Map<String, String> pathsToCheck = new LinkedHashMap<>();
                     for (PathHeader pathHeader : paths) {
                         pathCount++;
                         String path = pathHeader.getOriginalPath();
-                        String prettyPath =
-                                pathHeader.toString().replace('\t', '|').replace(' ', '_');
                         if (!showAll && !file.isWinningPath(path)) {
                             continue;
                         }
-                        final String topValue = unresolved.getStringValue(path);
-                        RawStatus rawStatus = RawStatus.present;
-
-                        if (topValue == null) {
-                            rawStatus = RawStatus.missing;
+                        if (unresolved.getStringValue(path) == null) {
                             rawMissingCount++;
                         }
 
@@ -737,10 +736,23 @@ public class ConsoleCheckCLDR {
                         if (path.contains("@alt") && path.contains("proposed")) {
                             continue;
                         }
-                        String value = file.getStringValue(path);
-                        if (baileyTest) {
-                            value = CldrUtility.INHERITANCE_MARKER;
-                        }
+                        checkedPaths.add(pathHeader);
+                        pathsToCheck.put(
+                                path,
+                                baileyTest
+                                        ? CldrUtility.INHERITANCE_MARKER
+                                        : file.getStringValue(path));
+                    }
+                    bundle.checkAll(pathsToCheck);
+
+                    for (PathHeader pathHeader : checkedPaths) {
+                        String path = pathHeader.getOriginalPath();
+                        String prettyPath =
+                                pathHeader.toString().replace('\t', '|').replace(' ', '_');
+                        final String topValue = unresolved.getStringValue(path);
+                        RawStatus rawStatus =
+                                topValue == null ? RawStatus.missing : RawStatus.present;
+                        String value = pathsToCheck.get(path);
 
                         String fullPath = file.getFullXPath(path);
                         if (topValue != null) {
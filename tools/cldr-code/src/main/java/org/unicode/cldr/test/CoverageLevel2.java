@@ -14,6 +14,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import org.unicode.cldr.util.Builder;
 import org.unicode.cldr.util.CLDRConfig;
@@ -45,6 +46,9 @@ public class CoverageLevel2 {
 
     private RegexLookup<Level> lookup = null;
 
+    /** The levels found so far, by path */
+    private final Map<String, Level> levels = new ConcurrentHashMap<>();
+
     enum SetMatchType {
         Target_Language,
         Target_Scripts,
@@ -189,36 +193,42 @@ public class CoverageLevel2 {
         return new CoverageLevel2(sdi, locale, ruleFile);
     }
 
+    /**
+     * Get the coverage level of a path in this locale. This is safe to call from multiple threads
+     * without locking: the lookup itself is thread-safe, and the results are memoized per path.
+     */
     public Level getLevel(String path) {
         if (path == null) {
             return Level.UNDETERMINED;
         }
-        synchronized (
-                lookup) { // synchronize on the class, since the Matchers are changed during the
-            // matching process
-            Level result;
-            if (DEBUG_LOOKUP) { // for testing
-                Output<String[]> checkItems = new Output<>();
-                Output<Finder> matcherFound = new Output<>();
-                List<String> failures = new ArrayList<>();
-                result = lookup.get(path, myInfo, checkItems, matcherFound, failures);
-                System.out.println(
-                        "\ncheckItems: "
-                                + (checkItems.value == null
-                                        ? "null"
-                                        : Arrays.asList(checkItems.value)));
-                System.out.println("matcherFound: " + matcherFound.value);
-                if (!failures.isEmpty()) {
-                    System.out.println("failures: ");
-                    for (String s : failures) {
-                        System.out.println(s);
-                    }
+        if (DEBUG_LOOKUP) { // for testing
+            Output<String[]> checkItems = new Output<>();
+            Output<Finder> matcherFound = new Output<>();
+            List<String> failures = new ArrayList<>();
+            Level result = lookup.get(path, myInfo, checkItems, matcherFound, failures);
+            System.out.println(
+                    "\ncheckItems: "
+                            + (checkItems.value == null
+                                    ? "null"
+                                    : Arrays.asList(checkItems.value)));
+            System.out.println("matcherFound: " + matcherFound.value);
+            if (!failures.isEmpty()) {
+                System.out.println("failures: ");
+                for (String s : failures) {
+                    System.out.println(s);
                 }
-            } else {
-                result = lookup.get(path, myInfo, null);
             }
             return result == null ? Level.COMPREHENSIVE : result;
         }
+        Level result = levels.get(path);
+        if (result == null) {
+            result = lookup.get(path, myInfo, null);
+            if (result == null) {
+                result = Level.COMPREHENSIVE;
+            }
+            levels.put(path, result);
+        }
+        return result;
     }
 
     public int getIntLevel(String path) {
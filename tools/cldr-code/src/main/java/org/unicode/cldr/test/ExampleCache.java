@@ -2,6 +2,9 @@ package org.unicode.cldr.test;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import org.unicode.cldr.util.PathStarrer;
 import org.unicode.cldr.util.ThreadSafeMapOfMapOfMap;
 
@@ -127,6 +130,74 @@ public class ExampleCache {
         return cache.computeIfAbsent(starredPath, xpath, value, f);
     }
 
+    /** The number of calls to update, so far */
+    private final AtomicInteger updateCount = new AtomicInteger();
+
+    int getUpdateCount() {
+        return updateCount.get();
+    }
+
+    /**
+     * Add the examples of the other cache that this one doesn't have yet.
+     *
+     * <p>Called by ExampleGenerator.computeExamples, to gather the examples computed on other
+     * threads
+     */
+    void putAll(ExampleCache other) {
+        if (!cachingIsEnabled) {
+            return;
+        }
+        other.cache.forEach(
+                (starredPath, map2) ->
+                        map2.forEach(
+                                (xpath, map3) ->
+                                        map3.forEach(
+                                                (value, html) ->
+                                                        cache.putIfAbsent(
+                                                                starredPath, xpath, value, html))));
+    }
+
+    /**
+     * Remove the examples that the other cache has for the same paths and values.
+     *
+     * <p>Called by ExampleGenerator.computeExamples, when the examples gathered with putAll may
+     * have used a value from before an update
+     */
+    void removeAll(ExampleCache other) {
+        other.cache.forEach(
+                (starredPath, map2) ->
+                        map2.forEach(
+                                (xpath, map3) ->
+                                        map3.keySet()
+                                                .forEach(
+                                                        value ->
+                                                                cache.remove(
+                                                                        starredPath,
+                                                                        xpath,
+                                                                        value))));
+    }
+
+    /**
+     * Add the stored example html for the xpath and value, unless there is one already.
+     *
+     * <p>Called by ExampleStore.load
+     */
+    void putIfAbsent(String starredPath, String xpath, String value, String html) {
+        if (cachingIsEnabled) {
+            cache.putIfAbsent(starredPath, xpath, value, html);
+        }
+    }
+
+    /**
+     * Perform the action for each starred path, with its map of xpath → (value → html). The maps
+     * must not be modified.
+     *
+     * <p>Called by ExampleStore.save
+     */
+    void forEach(BiConsumer<String, Map<String, ? extends Map<String, String>>> action) {
+        cache.forEach(action);
+    }
+
     /**
      * Clear the cached examples for any paths whose examples might depend on the winning value of
      * the given path, since the winning value of the given path has changed.
@@ -140,6 +211,7 @@ public class ExampleCache {
      *     <p>Called by ExampleGenerator.updateCache
      */
     void update(String xpath) {
+        updateCount.incrementAndGet();
         if (AVOID_CLEARING_CACHE) {
             String starredA = PathStarrer.get(xpath);
             for (String starredB : ExampleDependencies.dependencies.get(starredA)) {
@@ -35,6 +35,7 @@ import com.ibm.icu.util.GregorianCalendar;
 import com.ibm.icu.util.Output;
 import com.ibm.icu.util.TimeZone;
 import com.ibm.icu.util.ULocale;
+import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.ChoiceFormat;
@@ -43,6 +44,7 @@ import java.util.BitSet;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -51,6 +53,9 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -132,6 +137,16 @@ public class ExampleGenerator {
 
     private static final CLDRConfig CONFIG = CLDRConfig.getInstance();
 
+    /**
+     * The most threads of TestCache's shared pool that computeExamples uses at once. From
+     * CLDR_EXAMPLE_THREADS; defaults to the number of processors.
+     */
+    private static final int EXAMPLE_THREADS =
+            CONFIG.getProperty("CLDR_EXAMPLE_THREADS", Runtime.getRuntime().availableProcessors());
+
+    /** The number of paths that computeExamples hands to a thread at a time */
+    private static final int EXAMPLE_CHUNK = 64;
+
     private static final String ALT_STAND_ALONE = "[@alt=\"stand-alone\"]";
 
     private static final String EXEMPLAR_CITY_LOS_ANGELES =
@@ -297,6 +312,9 @@ public class ExampleGenerator {
 
     private final ICUServiceBuilder icuServiceBuilder;
 
+    /** The supplemental data directory of the factory, which the examples depend on */
+    private final File supplementalDirectory;
+
     private final PluralInfo pluralInfo;
 
     private final GrammarInfo grammarInfo;
@@ -423,10 +441,48 @@ public class ExampleGenerator {
      * @param cldrFactory
      */
     public ExampleGenerator(CLDRFile resolvedCldrFile, Factory cldrFactory) {
+        this(
+                resolvedCldrFile,
+                cldrFactory.make("en", true),
+                makeICUServiceBuilder(resolvedCldrFile, cldrFactory),
+                cldrFactory.getSupplementalDirectory());
+    }
+
+    /**
+     * Create an Example Generator for the same file as the given one, with its own cache, so that
+     * the two can be used on different threads. They share the ICUServiceBuilder, whose formatter
+     * pool is thread-safe.
+     */
+    private ExampleGenerator(ExampleGenerator other) {
+        this(
+                other.cldrFile,
+                other.englishFile,
+                other.icuServiceBuilder,
+                other.supplementalDirectory);
+        backgroundStart = other.backgroundStart;
+        backgroundEnd = other.backgroundEnd;
+        verboseErrors = other.verboseErrors;
+    }
+
+    private static ICUServiceBuilder makeICUServiceBuilder(
+            CLDRFile resolvedCldrFile, Factory cldrFactory) {
+        // GenerateExampleDependencies needs the ICUServiceBuilder instance to use the
+        // RecordingCLDRFile if one is provided, rather than a pre-existing ordinary CLDRFile.
+        boolean fileIsRecording = resolvedCldrFile.getClass() == RecordingCLDRFile.class;
+        return fileIsRecording
+                ? ICUServiceBuilder.inefficientSingletonServiceBuilder(resolvedCldrFile)
+                : cldrFactory.getICUServiceBuilder(
+                        CLDRLocale.getInstance(resolvedCldrFile.getLocaleID()));
+    }
+
+    private ExampleGenerator(
+            CLDRFile resolvedCldrFile,
+            CLDRFile englishFile,
+            ICUServiceBuilder icuServiceBuilder,
+            File supplementalDirectory) {
         if (!resolvedCldrFile.isResolved()) {
             throw new IllegalArgumentException("CLDRFile must be resolved");
         }
-        final CLDRFile englishFile = cldrFactory.make("en", true);
         if (!englishFile.isResolved()) {
             throw new IllegalArgumentException("English CLDRFile must be resolved");
         }
@@ -438,13 +494,8 @@ public class ExampleGenerator {
                 supplementalDataInfo.getGrammarInfo(localeId); // getGrammarInfo can return null
         this.englishFile = englishFile;
         this.typeIsEnglish = (resolvedCldrFile == englishFile);
-        // GenerateExampleDependencies needs the ICUServiceBuilder instance to use the
-        // RecordingCLDRFile if one is provided, rather than a pre-existing ordinary CLDRFile.
-        boolean fileIsRecording = cldrFile.getClass() == RecordingCLDRFile.class;
-        this.icuServiceBuilder =
-                fileIsRecording
-                        ? ICUServiceBuilder.inefficientSingletonServiceBuilder(cldrFile)
-                        : cldrFactory.getICUServiceBuilder(CLDRLocale.getInstance(localeId));
+        this.icuServiceBuilder = icuServiceBuilder;
+        this.supplementalDirectory = supplementalDirectory;
 
         bestMinimalPairSamples = new BestMinimalPairSamples(cldrFile, icuServiceBuilder, false);
 
@@ -495,6 +546,97 @@ public class ExampleGenerator {
         return getExampleHtmlExtended(xpath, value, true /* nonTrivial */);
     }
 
+    /**
+     * Compute the examples for the winning values of all paths of the file, as with {@link
+     * #computeExamples(Map)}.
+     */
+    public void computeExamples() {
+        Map<String, String> pathToValue = new LinkedHashMap<>();
+        for (String path : cldrFile.fullIterable()) {
+            String value = cldrFile.getWinningValue(path);
+            if (value != null) {
+                pathToValue.put(path, value);
+            }
+        }
+        computeExamples(pathToValue);
+    }
+
+    /**
+     * Compute the examples for many paths at once, so that getExampleHtml then gets them from the
+     * cache. Since an ExampleGenerator can't be shared across threads, the paths are spread over up
+     * to CLDR_EXAMPLE_THREADS other ExampleGenerators for the same file, on the threads shared with
+     * TestCache, whose examples are added to the cache of this one. The examples are then saved to
+     * the {@link ExampleStore}, if there is one, so that they can be loaded after a restart.
+     *
+     * @param pathToValue the paths, with the values to make examples for
+     */
+    public void computeExamples(Map<String, String> pathToValue) {
+        computeExamples(pathToValue, EXAMPLE_THREADS);
+        ExampleStore store = ExampleStore.getInstance();
+        if (store != null) {
+            store.save(this);
+        }
+    }
+
+    /** Compute the examples using up to the given number of threads */
+    void computeExamples(Map<String, String> pathToValue, int threads) {
+        final List<Entry<String, String>> entries = new ArrayList<>(pathToValue.entrySet());
+        final int threadCount =
+                Math.min(threads, (entries.size() + EXAMPLE_CHUNK - 1) / EXAMPLE_CHUNK);
+        if (threadCount <= 1) {
+            entries.forEach(entry -> getExampleHtml(entry.getKey(), entry.getValue()));
+            return;
+        }
+        final int updateCount = exCache.getUpdateCount();
+        final AtomicInteger next = new AtomicInteger();
+        try {
+            List<Future<ExampleGenerator>> workers = new ArrayList<>();
+            for (int i = 0; i < threadCount; ++i) {
+                workers.add(
+                        TestCache.CHECK_POOL.submit(
+                                () -> {
+                                    ExampleGenerator worker = new ExampleGenerator(this);
+                                    int start;
+                                    while ((start = next.getAndAdd(EXAMPLE_CHUNK))
+                                            < entries.size()) {
+                                        int limit = Math.min(entries.size(), start + EXAMPLE_CHUNK);
+                                        for (Entry<String, String> entry :
+                                                entries.subList(start, limit)) {
+                                            worker.getExampleHtml(entry.getKey(), entry.getValue());
+                                        }
+                                    }
+                                    return worker;
+                                }));
+            }
+            for (Future<ExampleGenerator> worker : workers) {
+                ExampleCache workerCache = worker.get().exCache;
+                exCache.putAll(workerCache);
+                // After an update, even one made while adding them, the examples may have used a
+                // value from before it
+                if (exCache.getUpdateCount() != updateCount) {
+                    exCache.removeAll(workerCache);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    ExampleCache getExampleCache() {
+        return exCache;
+    }
+
+    CLDRFile getEnglishFile() {
+        return englishFile;
+    }
+
+    File getSupplementalDirectory() {
+        return supplementalDirectory;
+    }
+
     private String getExampleHtmlExtended(String xpath, String value, boolean nonTrivial) {
         if (value == null
                 || xpath == null
@@ -0,0 +1,278 @@
+package org.unicode.cldr.test;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.TreeMultimap;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Logger;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CldrUtility;
+import org.unicode.cldr.util.PathStarrer;
+import org.unicode.cldr.util.StoreFiles;
+
+/**
+ * Keeps the examples of ExampleGenerators on disk, so that they can be loaded into the cache of a
+ * new ExampleGenerator (such as after a restart) instead of being generated again.
+ *
+ * <p>The store is only used when the CLDR_EXAMPLE_DIR property names a writable directory. There is
+ * one file per locale, whose name has a hash of what all of its examples depend on: the version of
+ * the code (the CLDR_EXAMPLE_VERSION property, or else the CLDR-Code-Git-Commit in the manifest),
+ * English, the supplemental data of the generator's factory, and the background markup. If no
+ * version is known, nothing is stored. Saving the file for a locale deletes its files with other
+ * hashes.
+ *
+ * <p>The examples are saved by {@link ExampleGenerator#computeExamples(Map)} and by {@link
+ * TestCache#saveExamples()}, and loaded by {@link TestCache#getExampleGenerator}.
+ *
+ * <p>Within the file, the examples are grouped by starred path, as in ExampleCache. Each group also
+ * has a hash of the current values of the paths that its examples depend on, according to {@link
+ * ExampleDependencies}. When loading, a group whose dependencies have changed since it was saved is
+ * skipped, just as ExampleCache.update would have cleared it, so a change to one value doesn't
+ * throw away the examples of the whole locale.
+ */
+public class ExampleStore {
+    private static final Logger logger = Logger.getLogger(ExampleStore.class.getSimpleName());
+
+    private static final int MAGIC = 0x434C4558; // "CLEX"
+    private static final int FORMAT_VERSION = 1;
+
+    /** starred path → the starred paths whose values its examples depend on */
+    private static final ImmutableSetMultimap<String, String> DEPENDS_ON =
+            ExampleDependencies.dependencies.inverse();
+
+    private static final ExampleStore INSTANCE = makeInstance();
+
+    private final File directory;
+    private final String version;
+
+    /**
+     * English file → hash of the format, code version and English, which is computed once since the
+     * English file doesn't change while running
+     */
+    private final Cache<CLDRFile, String> englishHashes =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * @return the store set up by CLDR_EXAMPLE_DIR, or null if examples aren't stored
+     */
+    public static ExampleStore getInstance() {
+        return INSTANCE;
+    }
+
+    private static ExampleStore makeInstance() {
+        String directory = CldrUtility.getProperty("CLDR_EXAMPLE_DIR", null);
+        if (directory == null) {
+            return null;
+        }
+        String version = CldrUtility.getProperty("CLDR_EXAMPLE_VERSION", null);
+        if (version == null) {
+            version = CheckResultStore.getCodeVersion();
+        }
+        if (version == null) {
+            logger.warning(
+                    "Not storing examples in "
+                            + directory
+                            + ": set CLDR_EXAMPLE_VERSION, since the code version is unknown");
+            return null;
+        }
+        return new ExampleStore(new File(directory), version);
+    }
+
+    /**
+     * @param directory where the files are kept
+     * @param version identifies the version of the code; examples stored with a different version
+     *     are not used
+     */
+    ExampleStore(File directory, String version) {
+        this.directory = directory;
+        this.version = version;
+    }
+
+    private File getFile(ExampleGenerator eg) {
+        MessageDigest digest = StoreFiles.newDigest();
+        StoreFiles.update(digest, getEnglishHash(eg.getEnglishFile()));
+        StoreFiles.update(digest, StoreFiles.hashDirectory(eg.getSupplementalDirectory()));
+        StoreFiles.update(digest, eg.getBackgroundStart());
+        StoreFiles.update(digest, eg.getBackgroundEnd());
+        return new File(directory, getPrefix(eg) + StoreFiles.toHex(digest) + ".bin");
+    }
+
+    private String getEnglishHash(CLDRFile english) {
+        try {
+            return englishHashes.get(
+                    english,
+                    () -> {
+                        MessageDigest digest = StoreFiles.newDigest();
+                        StoreFiles.update(
+                                digest,
+                                FORMAT_VERSION + "|" + CLDRFile.GEN_VERSION + "|" + version);
+                        StoreFiles.update(digest, StoreFiles.hash(english));
+                        return StoreFiles.toHex(digest);
+                    });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** The start of the names of the files for the generator's locale */
+    private static String getPrefix(ExampleGenerator eg) {
+        return eg.getCldrFile().getLocaleID() + "-";
+    }
+
+    /**
+     * Hashes the values in the file that each starred path's examples depend on, computed when
+     * first asked for.
+     */
+    private static class DependencyHashes {
+        private final CLDRFile file;
+        private TreeMultimap<String, String> starredToPaths;
+        private final Map<String, String> hashes = new HashMap<>();
+
+        DependencyHashes(CLDRFile file) {
+            this.file = file;
+        }
+
+        String get(String starredPath) {
+            return hashes.computeIfAbsent(starredPath, this::compute);
+        }
+
+        private String compute(String starredPath) {
+            if (starredToPaths == null) {
+                starredToPaths = TreeMultimap.create();
+                for (String path : file) {
+                    starredToPaths.put(PathStarrer.get(path), path);
+                }
+            }
+            MessageDigest digest = StoreFiles.newDigest();
+            for (String dependency : DEPENDS_ON.get(starredPath)) {
+                StoreFiles.update(digest, dependency);
+                for (String path : starredToPaths.get(dependency)) {
+                    StoreFiles.update(digest, path);
+                    StoreFiles.update(digest, file.getStringValue(path));
+                }
+            }
+            return StoreFiles.toHex(digest);
+        }
+    }
+
+    /**
+     * Load the stored examples of the generator's locale into its cache, except those whose
+     * dependencies have changed.
+     *
+     * @return the number of examples loaded
+     */
+    public int load(ExampleGenerator eg) {
+        File file = getFile(eg);
+        if (!file.canRead()) {
+            return 0;
+        }
+        try {
+            return read(file, eg);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable examples " + file + ": " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Save the examples in the generator's cache, replacing those saved before for its locale.
+     * Failures are logged, not thrown, since the store only saves time.
+     */
+    public void save(ExampleGenerator eg) {
+        File file = getFile(eg);
+        try {
+            directory.mkdirs();
+            write(eg, file);
+        } catch (IOException e) {
+            logger.warning("Could not write examples " + file + ": " + e.getMessage());
+            return;
+        }
+        StoreFiles.deleteOthers(file, getPrefix(eg));
+    }
+
+    /** Write the examples to the file, with the hashes of the values they depend on */
+    private static void write(ExampleGenerator eg, File file) throws IOException {
+        DependencyHashes dependencyHashes = new DependencyHashes(eg.getCldrFile());
+        List<String> starredPaths = new ArrayList<>();
+        List<Map<String, ? extends Map<String, String>>> groups = new ArrayList<>();
+        eg.getExampleCache()
+                .forEach(
+                        (starredPath, examples) -> {
+                            starredPaths.add(starredPath);
+                            groups.add(examples);
+                        });
+
+        StoreFiles.writeAtomically(
+                file,
+                out -> {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(starredPaths.size());
+                    for (int i = 0; i < starredPaths.size(); ++i) {
+                        String starredPath = starredPaths.get(i);
+                        StoreFiles.writeString(out, starredPath);
+                        StoreFiles.writeString(out, dependencyHashes.get(starredPath));
+                        // copied, since the cache may change while writing
+                        List<String[]> examples = new ArrayList<>();
+                        for (Entry<String, ? extends Map<String, String>> entry :
+                                groups.get(i).entrySet()) {
+                            entry.getValue()
+                                    .forEach(
+                                            (value, html) ->
+                                                    examples.add(
+                                                            new String[] {
+                                                                entry.getKey(), value, html
+                                                            }));
+                        }
+                        out.writeInt(examples.size());
+                        for (String[] example : examples) {
+                            for (String s : example) {
+                                StoreFiles.writeString(out, s);
+                            }
+                        }
+                    }
+                });
+    }
+
+    private static int read(File file, ExampleGenerator eg) throws IOException {
+        DependencyHashes dependencyHashes = new DependencyHashes(eg.getCldrFile());
+        ExampleCache cache = eg.getExampleCache();
+        int count = 0;
+        try (InputStream is = Files.newInputStream(file.toPath());
+                DataInputStream in = new DataInputStream(new BufferedInputStream(is))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not examples of format version " + FORMAT_VERSION);
+            }
+            int groupCount = in.readInt();
+            for (int i = 0; i < groupCount; ++i) {
+                String starredPath = StoreFiles.readString(in);
+                boolean current =
+                        StoreFiles.readString(in).equals(dependencyHashes.get(starredPath));
+                int exampleCount = in.readInt();
+                for (int j = 0; j < exampleCount; ++j) {
+                    String xpath = StoreFiles.readString(in);
+                    String value = StoreFiles.readString(in);
+                    String html = StoreFiles.readString(in);
+                    if (current) {
+                        cache.putIfAbsent(starredPath, xpath, value, html);
+                        ++count;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
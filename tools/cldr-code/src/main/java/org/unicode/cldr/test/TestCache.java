@@ -5,13 +5,23 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.unicode.cldr.test.CheckCLDR.CheckStatus;
+import org.unicode.cldr.test.CheckCLDR.CompoundCheckCLDR;
 import org.unicode.cldr.test.CheckCLDR.Options;
 import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRFile;
@@ -31,22 +41,116 @@ import org.unicode.cldr.util.XMLSource;
 public class TestCache implements XMLSource.Listener {
     private static final Logger logger = Logger.getLogger(TestCache.class.getSimpleName());
 
+    /**
+     * The most threads that check paths at once, over all the bundles. From CLDR_CHECK_THREADS;
+     * defaults to the number of processors.
+     */
+    private static final int CHECK_THREADS =
+            CLDRConfig.getInstance()
+                    .getProperty("CLDR_CHECK_THREADS", Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The default for the most CheckCLDR instances that a TestResultBundle sets up, and so the most
+     * paths it checks at once. Each is a full set of checks, so keep this small. From
+     * CLDR_CHECKERS_PER_BUNDLE.
+     */
+    private static final int CHECKERS_PER_BUNDLE =
+            CLDRConfig.getInstance().getProperty("CLDR_CHECKERS_PER_BUNDLE", 4);
+
+    /**
+     * The threads that checkAll uses, shared by all the bundles, and also by
+     * ExampleGenerator.computeExamples
+     */
+    static final ForkJoinPool CHECK_POOL = new ForkJoinPool(CHECK_THREADS);
+
+    /** The number of paths that checkAll hands to a thread at a time */
+    private static final int CHECK_ALL_CHUNK = 64;
+
     public class TestResultBundle {
-        private final CheckCLDR cc = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
         final CLDRFile file;
         private final CheckCLDR.Options options;
         private final ConcurrentHashMap<Pair<String, String>, List<CheckStatus>> pathCache;
         protected final List<CheckStatus> possibleProblems = new ArrayList<>();
 
+        /**
+         * The CheckCLDR instances set up for this file that aren't in use. Each is used by one
+         * thread at a time, since the checks keep state; more are made on demand, up to
+         * checkersPerBundle.
+         */
+        private final LinkedBlockingDeque<CheckCLDR> idleCheckers = new LinkedBlockingDeque<>();
+
+        private final AtomicInteger checkerCount = new AtomicInteger();
+
+        /**
+         * The first checker, which answers {@link #getDependentPaths(String)} even while another
+         * thread has borrowed it, since the dependencies only depend on the set-up file
+         */
+        private final CompoundCheckCLDR dependencyChecker;
+
+        /** Incremented by valueChanged, so that results computed before it aren't cached */
+        private final AtomicInteger generation = new AtomicInteger();
+
+        /** Where the results are kept between runs, or null */
+        private final CheckResultStore store;
+
+        /** The key of the results in the store, for the file as it was when the bundle was made */
+        private final String storeKey;
+
+        /** Whether there are results that haven't been saved to the store */
+        private final AtomicBoolean unsaved = new AtomicBoolean();
+
         protected TestResultBundle(CheckCLDR.Options cldrOptions) {
             options = cldrOptions;
             pathCache = new ConcurrentHashMap<>();
             file = getFactory().make(options.getLocale().getBaseName(), true);
-            synchronized (cc) {
-                cc.setCldrFileToCheck(file, options, possibleProblems);
+            checkerCount.incrementAndGet();
+            CompoundCheckCLDR cc = makeChecker(possibleProblems);
+            dependencyChecker = cc;
+            idleCheckers.add(cc);
+            store = checkResultStore;
+            if (store == null) {
+                storeKey = null;
+            } else {
+                storeKey =
+                        store.getKey(
+                                file,
+                                options,
+                                nameMatcher,
+                                getFactory().getSupplementalDirectory());
+                List<CheckCLDR> causes = new ArrayList<>(cc.getFilteredTestList());
+                causes.add(cc);
+                pathCache.putAll(store.load(storeKey, file, causes, cc::getDependentPaths));
             }
         }
 
+        private CompoundCheckCLDR makeChecker(List<CheckStatus> possibleProblems) {
+            CompoundCheckCLDR cc = CheckCLDR.getCheckAll(getFactory(), nameMatcher);
+            cc.setCldrFileToCheck(file, options, possibleProblems);
+            return cc;
+        }
+
+        /** Get a checker for the exclusive use of this thread; must be given back */
+        private CheckCLDR borrowChecker() {
+            CheckCLDR cc = idleCheckers.pollFirst();
+            if (cc != null) {
+                return cc;
+            }
+            if (checkerCount.incrementAndGet() <= checkersPerBundle) {
+                return makeChecker(new ArrayList<>()); // same possible problems as the first
+            }
+            checkerCount.decrementAndGet();
+            try {
+                return idleCheckers.takeFirst();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void giveBackChecker(CheckCLDR cc) {
+            idleCheckers.addFirst(cc);
+        }
+
         /**
          * Check the given value for the given path, using this TestResultBundle for options,
          * pathCache and cc (CheckCLDR).
@@ -65,29 +169,147 @@ public class TestCache implements XMLSource.Listener {
              */
             result.clear();
             Pair<String, String> key = new Pair<>(path, value);
-            List<CheckStatus> cachedResult =
-                    pathCache.computeIfAbsent(
-                            key,
-                            (Pair<String, String> k) -> {
-                                List<CheckStatus> l = new ArrayList<CheckStatus>();
-                                synchronized (cc) {
-                                    cc.check(
-                                            k.getFirst(),
-                                            file.getFullXPath(k.getFirst()),
-                                            k.getSecond(),
-                                            options,
-                                            l);
-                                }
-                                return l;
+            List<CheckStatus> cachedResult = pathCache.get(key);
+            if (cachedResult == null) {
+                CheckCLDR cc = borrowChecker();
+                try {
+                    cachedResult = check(cc, key);
+                } finally {
+                    giveBackChecker(cc);
+                }
+            }
+            result.addAll(cachedResult);
+        }
+
+        private List<CheckStatus> check(CheckCLDR cc, Pair<String, String> key) {
+            List<CheckStatus> cachedResult = pathCache.get(key);
+            if (cachedResult == null) {
+                final int before = generation.get();
+                List<CheckStatus> l = new ArrayList<>();
+                cc.check(
+                        key.getFirst(),
+                        file.getFullXPath(key.getFirst()),
+                        key.getSecond(),
+                        options,
+                        l);
+                if (generation.get() != before) {
+                    return l; // may have used a value from before the change
+                }
+                cachedResult = pathCache.putIfAbsent(key, l);
+                if (cachedResult == null) {
+                    cachedResult = l;
+                    if (generation.get() != before) {
+                        // valueChanged ran between the check above and the put, and its removeIf
+                        // may have missed this entry
+                        pathCache.remove(key, l);
+                    } else {
+                        unsaved.set(true);
+                    }
+                }
+            }
+            return cachedResult;
+        }
+
+        /**
+         * Forget the results that may be different now that the value of the given path has
+         * changed: those for the path itself, and for the paths that the checks declare as
+         * depending on it.
+         *
+         * @return false if the checks read the path while being set up, so that this bundle must be
+         *     thrown away instead
+         */
+        boolean valueChanged(String xpath) {
+            if (!CheckCLDR.isIncremental(xpath)) {
+                return false;
+            }
+            final Predicate<String> dependents = getDependentPaths(xpath);
+            generation.incrementAndGet();
+            pathCache
+                    .keySet()
+                    .removeIf(
+                            key -> {
+                                final String path = key.getFirst();
+                                return path.equals(xpath) || dependents.test(path);
                             });
-            if (cachedResult != null) {
-                result.addAll(cachedResult);
+            return true;
+        }
+
+        /**
+         * Get the paths, besides xpath itself, whose results may be different after the value of
+         * xpath changes, as declared by the checks. See {@link CheckCLDR#getDependentPaths}.
+         */
+        public Predicate<String> getDependentPaths(String xpath) {
+            return dependencyChecker.getDependentPaths(xpath);
+        }
+
+        /**
+         * Check many paths at once, on the calling thread and up to checkersPerBundle - 1 threads
+         * of the shared pool, each with its own checker taking chunks of the paths in turn. The
+         * results are cached, as with {@link #check(String, List, String)}, and are the same as
+         * checking the paths one at a time, and are saved to the {@link CheckResultStore} if there
+         * is one. When called from a fork/join task (such as the per-locale tasks of the Priority
+         * Items Summary), the paths are checked on the calling thread only, since the work is
+         * already spread over threads.
+         *
+         * @param pathToValue the paths to check, with their values
+         * @return the results for each path, in the iteration order of pathToValue; not to be
+         *     modified
+         */
+        public Map<String, List<CheckStatus>> checkAll(Map<String, String> pathToValue) {
+            final List<Pair<String, String>> keys = new ArrayList<>();
+            pathToValue.forEach((path, value) -> keys.add(new Pair<>(path, value)));
+            final List<List<CheckStatus>> results =
+                    new ArrayList<>(Collections.nCopies(keys.size(), null));
+            final AtomicInteger nextChunk = new AtomicInteger();
+            final Runnable checkChunks = () -> checkChunks(keys, results, nextChunk);
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            if (!ForkJoinTask.inForkJoinPool()) {
+                final int chunks = (keys.size() + CHECK_ALL_CHUNK - 1) / CHECK_ALL_CHUNK;
+                for (int i = 1; i < Math.min(checkersPerBundle, chunks); ++i) {
+                    tasks.add(CHECK_POOL.submit(checkChunks));
+                }
+            }
+            checkChunks.run();
+            tasks.forEach(ForkJoinTask::join);
+            final Map<String, List<CheckStatus>> result = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); ++i) {
+                result.put(keys.get(i).getFirst(), Collections.unmodifiableList(results.get(i)));
+            }
+            // Once a value has changed, the results no longer match the key
+            if (store != null && generation.get() == 0 && unsaved.getAndSet(false)) {
+                store.save(storeKey, file, pathCache);
+            }
+            return result;
+        }
+
+        /** With one checker, check the chunks of keys that no other thread has taken yet */
+        private void checkChunks(
+                List<Pair<String, String>> keys,
+                List<List<CheckStatus>> results,
+                AtomicInteger nextChunk) {
+            int start = nextChunk.getAndIncrement() * CHECK_ALL_CHUNK;
+            if (start >= keys.size()) {
+                return; // don't set up a checker for nothing
+            }
+            CheckCLDR cc = borrowChecker();
+            try {
+                do {
+                    final int end = Math.min(keys.size(), start + CHECK_ALL_CHUNK);
+                    for (int i = start; i < end; ++i) {
+                        results.set(i, check(cc, keys.get(i)));
+                    }
+                } while ((start = nextChunk.getAndIncrement() * CHECK_ALL_CHUNK) < keys.size());
+            } finally {
+                giveBackChecker(cc);
             }
         }
 
         public void getExamples(String path, String value, List<CheckStatus> result) {
-            synchronized (cc) {
+            CheckCLDR cc = borrowChecker();
+            try {
                 cc.getExamples(path, file.getFullXPath(path), value, options, result);
+            } finally {
+                giveBackChecker(cc);
             }
         }
 
@@ -120,6 +342,12 @@ public class TestCache implements XMLSource.Listener {
 
     private String nameMatcher = ".*";
 
+    private int checkersPerBundle = CHECKERS_PER_BUNDLE;
+
+    private CheckResultStore checkResultStore = CheckResultStore.getInstance();
+
+    private ExampleStore exampleStore = ExampleStore.getInstance();
+
     /** Get the bundle for this test */
     public TestResultBundle getBundle(final CheckCLDR.Options options) {
         TestResultBundle b;
@@ -149,6 +377,31 @@ public class TestCache implements XMLSource.Listener {
         invalidateAllCached();
     }
 
+    /**
+     * Change how many checkers each bundle sets up, and so how many paths it checks at once.
+     * Invalidates all caches. For testing.
+     */
+    void setCheckersPerBundle(int checkersPerBundle) {
+        this.checkersPerBundle = checkersPerBundle;
+        invalidateAllCached();
+    }
+
+    /**
+     * Change where the results are kept between runs (null for nowhere). Invalidates all caches.
+     */
+    void setCheckResultStore(CheckResultStore checkResultStore) {
+        this.checkResultStore = checkResultStore;
+        invalidateAllCached();
+    }
+
+    /**
+     * Change where the examples are kept between runs (null for nowhere). Invalidates all caches.
+     */
+    void setExampleStore(ExampleStore exampleStore) {
+        this.exampleStore = exampleStore;
+        invalidateAllCached();
+    }
+
     /**
      * Convert this TestCache to a string
      *
@@ -229,14 +482,14 @@ public class TestCache implements XMLSource.Listener {
      * @param locale the CLDRLocale
      *     <p>Called by valueChangedInvalidateRecursively
      */
-    private void updateTestResultCache(
-            @SuppressWarnings("unused") String xpath, CLDRLocale locale) {
+    private void updateTestResultCache(String xpath, CLDRLocale locale) {
         if (!testResultCache.asMap().isEmpty()) {
-            // Filter the testResultCache to only remove the items where the locale matches
+            // Filter the testResultCache to only remove the items where the locale matches, and
+            // which can't just drop the results that depend on the xpath
             List<Options> toRemove = new ArrayList<>();
-            for (Options k : testResultCache.asMap().keySet()) {
-                if (k.getLocale().equals(locale)) {
-                    toRemove.add(k);
+            for (Entry<Options, TestResultBundle> e : testResultCache.asMap().entrySet()) {
+                if (e.getKey().getLocale().equals(locale) && !e.getValue().valueChanged(xpath)) {
+                    toRemove.add(e.getKey());
                 }
             }
             if (!DEBUG) {
@@ -275,7 +528,8 @@ public class TestCache implements XMLSource.Listener {
     /**
      * Get an ExampleGenerator for the given locale, etc.
      *
-     * <p>Use a cache for performance.
+     * <p>Use a cache for performance. A new ExampleGenerator starts with the examples from the
+     * {@link ExampleStore}, if there is one.
      *
      * @param locale the CLDRLocale
      * @param ourSrc the CLDRFile for the locale
@@ -298,6 +552,10 @@ public class TestCache implements XMLSource.Listener {
                 eg = exampleGeneratorCache.getIfPresent(locString);
                 if (eg == null) {
                     eg = new ExampleGenerator(ourSrc, getFactory());
+                    ExampleStore store = exampleStore;
+                    if (store != null) {
+                        store.load(eg);
+                    }
                     exampleGeneratorCache.put(locString, eg);
                 }
             }
@@ -328,6 +586,22 @@ public class TestCache implements XMLSource.Listener {
         }
     }
 
+    /**
+     * Save the examples of the cached ExampleGenerators to the {@link ExampleStore}, if there is
+     * one, so that they can be loaded after a restart.
+     *
+     * <p>Called by the Survey Tool from time to time, and when shutting down
+     */
+    public void saveExamples() {
+        ExampleStore store = exampleStore;
+        if (store == null) {
+            return;
+        }
+        for (ExampleGenerator eg : exampleGeneratorCache.asMap().values()) {
+            store.save(eg);
+        }
+    }
+
     /** Public for tests. Invalidate cache. */
     public void invalidateAllCached() {
         logger.fine(() -> toString() + " - invalidateAllCached()");
@@ -0,0 +1,55 @@
+package org.unicode.cldr.tool;
+
+import java.util.Set;
+import java.util.TreeSet;
+import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.ValuePool;
+import org.unicode.cldr.util.ValuePool.MemoryReport;
+
+/**
+ * Show how much memory the values of the main locales take, per locale and in total, and how much
+ * the {@link ValuePool} saves. Run with -DCLDR_VALUE_POOL=false to compare against no pooling.
+ */
+public class ShowValueMemory {
+
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : ".*";
+        Factory factory = Factory.make(CLDRPaths.MAIN_DIRECTORY, filter);
+        Set<String> locales = new TreeSet<>(factory.getAvailable());
+
+        MemoryReport report = new MemoryReport();
+        System.out.println("Locale\tValues\tUnshared bytes\tNew bytes");
+        for (String locale : locales) {
+            long[] row = report.add(factory.make(locale, false));
+            System.out.println(locale + "\t" + row[0] + "\t" + row[1] + "\t" + row[2]);
+        }
+        System.out.println(
+                "TOTAL\t"
+                        + report.getValueCount()
+                        + "\t"
+                        + report.getUnsharedBytes()
+                        + "\t"
+                        + report.getBytes());
+        System.out.println();
+        System.out.println("Distinct value instances:\t" + report.getInstanceCount());
+        System.out.println(
+                "Saved by sharing:\t"
+                        + (report.getUnsharedBytes() - report.getBytes())
+                        + " bytes ("
+                        + (100
+                                * (report.getUnsharedBytes() - report.getBytes())
+                                / Math.max(1, report.getUnsharedBytes()))
+                        + "%)");
+        System.out.println(
+                "Value pool:\t"
+                        + (ValuePool.isEnabled() ? "on" : "off")
+                        + ", "
+                        + ValuePool.getRequestCount()
+                        + " values, "
+                        + ValuePool.getHitCount()
+                        + " pooled, "
+                        + ValuePool.getBytesSaved()
+                        + " bytes saved");
+    }
+}
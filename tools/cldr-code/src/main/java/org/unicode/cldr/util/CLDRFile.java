@@ -562,6 +562,18 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
         return true;
     }
 
+    /**
+     * Get a string value from the {@link PathIds} ID of a distinguished path. Same as {@link
+     * #getStringValue(String)}, but avoids hashing the path when the value is present.
+     */
+    public String getStringValue(int pathId) {
+        String result = dataSource.getValueAtDPath(pathId);
+        if (result != null && !(isResolved() && GlossonymConstructor.valueIsBogus(result))) {
+            return result;
+        }
+        return getStringValue(PathIds.getPath(pathId));
+    }
+
     /** Get a string value from an xpath. */
     @Override
     public String getStringValue(String xpath) {
@@ -736,6 +748,14 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
                 : xpath; // we can't add any non-distinguishing values if there is nothing there.
     }
 
+    /**
+     * Same as {@link #getFullXPath(String)}, for the {@link PathIds} ID of a distinguished path.
+     */
+    public String getFullXPath(int pathId) {
+        String result = dataSource.getFullPathAtDPath(pathId);
+        return result != null ? result : PathIds.getPath(pathId);
+    }
+
     /**
      * @return DraftStatus for DPath
      */
@@ -766,6 +786,18 @@ public class CLDRFile implements Freezable<CLDRFile>, Iterable<String>, LocaleSt
                 distinguishedXPath, status, true /* skipInheritanceMarker */);
     }
 
+    /**
+     * Same as {@link #getSourceLocaleID(String, Status)}, for the {@link PathIds} ID of a
+     * distinguished path.
+     */
+    public String getSourceLocaleID(int pathId, CLDRFile.Status status) {
+        String result = dataSource.getSourceLocaleID(pathId, status);
+        if (XMLSource.CODE_FALLBACK_ID.equals(result) && dataSource.isResolving()) {
+            return getSourceLocaleID(PathIds.getPath(pathId), status);
+        }
+        return result;
+    }
+
     /**
      * Find out where the value was found (for resolving locales). Returns {@link
      * XMLSource#CODE_FALLBACK_ID} as the location if nothing is found
@@ -2,17 +2,41 @@ package org.unicode.cldr.util;
 
 import com.google.common.base.Splitter;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import org.unicode.cldr.util.XPathParts.Comments.CommentType;
 
-/** Export CLDRFile objects as XML files */
+/**
+ * Export CLDRFile objects as XML files.
+ *
+ * <p>By default the paths are written in streaming mode: they are sorted once into an array of
+ * {@link PathIds} IDs, and each element is emitted straight from the frozen XPathParts into a
+ * reused buffer, without cloning paths or flushing after each one. Setting CLDR_LEGACY_XML_WRITER
+ * selects the original writeDifference loop instead; both produce identical output.
+ */
 public class CldrXmlWriter {
 
     private static final boolean WRITE_COMMENTS_THAT_NO_LONGER_HAVE_BASE = false;
 
+    private static final boolean LEGACY_WRITER =
+            CldrUtility.getProperty("CLDR_LEGACY_XML_WRITER", false);
+
+    private static final String TABS = "\t".repeat(32);
+
+    private final boolean streaming;
+
+    /** The sorted paths, if not streaming */
     private final Set<String> orderedSet;
+
+    /** The PathIds of the sorted paths, if streaming */
+    private final int[] orderedPathIds;
+
     private final Map<String, ?> options;
     private final PrintWriter pw;
     private final CLDRFile cldrFile;
@@ -28,16 +52,41 @@ public class CldrXmlWriter {
     private boolean suppressInheritanceMarkers = false;
     private XPathParts last = null;
 
+    /** Buffer reused for each element tag, when streaming */
+    private final StringBuilder tagBuffer = new StringBuilder();
+
+    /** Live views of tempComments, to skip comment lookups once there are none left */
+    private final Map<CommentType, Map<String, String>> remainingComments =
+            new EnumMap<>(CommentType.class);
+
     public CldrXmlWriter(CLDRFile cldrFile, PrintWriter pw, Map<String, ?> options) {
+        this(cldrFile, pw, options, !LEGACY_WRITER);
+    }
+
+    /**
+     * @param streaming true to use the streaming writer, false for the original one, regardless of
+     *     CLDR_LEGACY_XML_WRITER; for comparing the two
+     */
+    public CldrXmlWriter(
+            CLDRFile cldrFile, PrintWriter pw, Map<String, ?> options, boolean streaming) {
         this.options = options;
         this.pw = pw;
         this.cldrFile = cldrFile;
+        this.streaming = streaming;
 
         xmlSource = cldrFile.dataSource;
-        orderedSet = new TreeSet<>(cldrFile.getComparator());
-        cldrFile.fullIterable().forEach(orderedSet::add);
-        if (orderedSet.size() > 0) { // May not have any elements.
-            final String firstPath = orderedSet.iterator().next();
+        final String firstPath;
+        if (streaming) {
+            orderedSet = null;
+            orderedPathIds = sortPathIds(cldrFile);
+            firstPath = orderedPathIds.length > 0 ? PathIds.getPath(orderedPathIds[0]) : null;
+        } else {
+            orderedSet = new TreeSet<>(cldrFile.getComparator());
+            cldrFile.fullIterable().forEach(orderedSet::add);
+            orderedPathIds = null;
+            firstPath = orderedSet.isEmpty() ? null : orderedSet.iterator().next();
+        }
+        if (firstPath != null) { // May not have any elements.
             firstFullPath = cldrFile.getFullXPath(firstPath);
             firstFullPathParts = XPathParts.getFrozenInstance(firstFullPath);
             dtdType = DtdType.valueOf(firstFullPathParts.getElement(0));
@@ -45,14 +94,49 @@ public class CldrXmlWriter {
         identitySet = new TreeSet<>(cldrFile.getComparator());
         isResolved = xmlSource.isResolving();
         tempComments = (XPathParts.Comments) xmlSource.getXpathComments().clone();
+        for (CommentType style : CommentType.values()) {
+            remainingComments.put(style, tempComments.getComments(style));
+        }
         skipTest = (java.util.function.Predicate<String>) options.get("SKIP_PATH");
     }
 
+    /**
+     * Sort the paths in the same order as a TreeSet with the file's comparator would, including
+     * dropping paths that compare equal to an earlier one.
+     */
+    private static int[] sortPathIds(CLDRFile cldrFile) {
+        final Comparator<String> comparator = cldrFile.getComparator();
+        List<String> paths = new ArrayList<>();
+        cldrFile.fullIterable().forEach(paths::add);
+        if (comparator instanceof DtdData.DtdComparator) {
+            ((DtdData.DtdComparator) comparator).sort(paths);
+        } else {
+            paths.sort(comparator);
+        }
+        int[] result = new int[paths.size()];
+        int count = 0;
+        String previous = null;
+        for (String path : paths) {
+            if (previous != null && comparator.compare(previous, path) == 0) {
+                continue;
+            }
+            result[count++] = PathIds.getId(path);
+            previous = path;
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
     public void write() {
         start();
-        firstLoop();
-        secondLoop();
+        if (streaming) {
+            streamingFirstLoop();
+            streamingSecondLoop();
+        } else {
+            firstLoop();
+            secondLoop();
+        }
         finish();
+        pw.flush();
     }
 
     private void start() {
@@ -162,6 +246,107 @@ public class CldrXmlWriter {
         last.writeLast(pw);
     }
 
+    /** Same as firstLoop, but streaming. */
+    private void streamingFirstLoop() {
+        for (String xpath : identitySet) {
+            if (isResolved && xpath.contains("/alias")) {
+                continue;
+            }
+            XPathParts current = XPathParts.getFrozenInstance(xpath);
+            writeDifference(current, current, "");
+        }
+    }
+
+    /** Same as secondLoop, but streaming. */
+    private void streamingSecondLoop() {
+        for (int pathId : orderedPathIds) {
+            String xpath = PathIds.getPath(pathId);
+            if (skipTest != null && skipTest.test(xpath)) {
+                continue;
+            }
+            if (isResolved && xpath.contains("/alias")) {
+                continue;
+            }
+            String v = cldrFile.getStringValue(pathId);
+            if (v == null) {
+                continue;
+            }
+            if (suppressInheritanceMarkers && CldrUtility.INHERITANCE_MARKER.equals(v)) {
+                continue;
+            }
+            XPathParts currentFiltered = XPathParts.getFrozenInstance(xpath);
+            if (currentFiltered.size() >= 2 && currentFiltered.getElement(1).equals("identity")) {
+                continue;
+            }
+            XPathParts current = XPathParts.getFrozenInstance(cldrFile.getFullXPath(pathId));
+            writeDifference(current, currentFiltered, v);
+        }
+        if (last != null) {
+            for (int i = last.size() - 2; i >= 0; --i) {
+                writeTag(i, last, i, XPathParts.XML_CLOSE);
+                pw.println();
+            }
+        }
+    }
+
+    /**
+     * Streaming equivalent of XPathParts.writeDifference followed by last = current: close the
+     * elements of the last path that current doesn't share, open the new ones, then write the leaf
+     * element with its value, along with any comments.
+     */
+    private void writeDifference(XPathParts current, XPathParts filtered, String v) {
+        int limit = (last == null) ? 0 : current.findFirstDifference(last);
+        if (last != null) {
+            for (int i = last.size() - 2; i >= limit; --i) {
+                writeTag(i, last, i, XPathParts.XML_CLOSE);
+                pw.println();
+            }
+        }
+        final int size = current.size();
+        for (int i = limit; i < size - 1; ++i) {
+            writeComment(filtered, i + 1, CommentType.PREBLOCK);
+            writeTag(i, current, i, XPathParts.XML_OPEN);
+            pw.println();
+        }
+        writeComment(filtered, size, CommentType.PREBLOCK);
+
+        if (v.isEmpty()) {
+            writeTag(size - 1, current, size - 1, XPathParts.XML_NO_VALUE);
+        } else {
+            writeTag(size - 1, current, size - 1, XPathParts.XML_OPEN);
+            if (current.getDtdData().isCdataElement(current.getElement(size - 1))) {
+                pw.print("<![CDATA[\n");
+                pw.print(v);
+                pw.print("]]>");
+            } else {
+                pw.print(XPathParts.untrim(v, size));
+            }
+            writeTag(0, current, size - 1, XPathParts.XML_CLOSE);
+        }
+        writeComment(filtered, size, CommentType.LINE);
+        pw.println();
+        writeComment(filtered, size, CommentType.POSTBLOCK);
+        last = current;
+    }
+
+    /** Write the element of the parts in the given style, indented by the given number of tabs. */
+    private void writeTag(int indent, XPathParts parts, int index, int style) {
+        StringBuilder buffer = tagBuffer;
+        buffer.setLength(0);
+        for (; indent > TABS.length(); indent -= TABS.length()) {
+            buffer.append(TABS);
+        }
+        buffer.append(TABS, 0, indent);
+        parts.appendElement(index, style, buffer);
+        pw.append(buffer);
+    }
+
+    private void writeComment(XPathParts filtered, int index, CommentType style) {
+        if (!remainingComments.get(style).isEmpty()) {
+            filtered.writeComment(pw, tempComments, index, style);
+        }
+    }
+
     private void finish() {
         String finalComment = xmlSource.getXpathComments().getFinalComment();
 
@@ -0,0 +1,228 @@
+package org.unicode.cldr.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Concurrent map from non-negative int keys (such as {@link PathIds} IDs) to non-null values,
+ * intended for caches that are read far more often than they are written.
+ *
+ * <p>{@link #get} and {@link #put} are lock-free. {@link #remove} and growing the table take a
+ * lock, so that a removal can never be undone by a concurrent resize. A removed key keeps its slot
+ * (with a null value) until the next resize, which is fine when keys come from a bounded set such
+ * as the paths of a locale.
+ */
+public class ConcurrentIntObjectMap<V> {
+    private static final int EMPTY = -1;
+
+    private static final class Table {
+        final AtomicIntegerArray keys;
+        final AtomicReferenceArray<Object> values;
+        final AtomicInteger used = new AtomicInteger();
+
+        /** Set once a resize has started copying this table. */
+        volatile boolean retired = false;
+
+        Table(int capacity) {
+            keys = new AtomicIntegerArray(capacity);
+            for (int i = 0; i < capacity; ++i) {
+                keys.set(i, EMPTY);
+            }
+            values = new AtomicReferenceArray<>(capacity);
+        }
+
+        int capacity() {
+            return keys.length();
+        }
+
+        /** Find the slot for the key, or EMPTY if it isn't there. */
+        int find(int key) {
+            int mask = capacity() - 1;
+            for (int i = mix(key) & mask, probes = 0;
+                    probes <= mask;
+                    i = (i + 1) & mask, ++probes) {
+                int k = keys.get(i);
+                if (k == key) {
+                    return i;
+                }
+                if (k == EMPTY) {
+                    return EMPTY;
+                }
+            }
+            return EMPTY;
+        }
+
+        /** Find or claim the slot for the key, or return EMPTY if the table is too full. */
+        int claim(int key) {
+            int mask = capacity() - 1;
+            for (int i = mix(key) & mask, probes = 0;
+                    probes <= mask;
+                    i = (i + 1) & mask, ++probes) {
+                int k = keys.get(i);
+                if (k == key) {
+                    return i;
+                }
+                if (k == EMPTY) {
+                    // keep the load factor at or below 1/2
+                    if (used.get() * 2 >= capacity()) {
+                        return EMPTY;
+                    }
+                    if (keys.compareAndSet(i, EMPTY, key)) {
+                        used.incrementAndGet();
+                        return i;
+                    }
+                    if (keys.get(i) == key) {
+                        return i; // another thread claimed it for the same key
+                    }
+                }
+            }
+            return EMPTY;
+        }
+    }
+
+    private final Object lock = new Object();
+    private volatile Table table;
+
+    public ConcurrentIntObjectMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize the number of entries to size the table for
+     */
+    public ConcurrentIntObjectMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        table = new Table(capacity);
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key < 0) {
+            return null;
+        }
+        Table t = table;
+        int i = t.find(key);
+        return i == EMPTY ? null : (V) t.values.get(i);
+    }
+
+    /** Associate the value with the key. */
+    public void put(int key, V value) {
+        if (key < 0 || value == null) {
+            throw new IllegalArgumentException("Key must be >= 0 and value non-null: " + key);
+        }
+        while (true) {
+            Table t = table;
+            int i = t.claim(key);
+            if (i == EMPTY) {
+                grow(t);
+                continue;
+            }
+            t.values.set(i, value);
+            if (!t.retired) {
+                return; // any later copy of this table will see our write
+            }
+            // A resize started while we were writing, and may have missed our write: wait for it
+            // to finish, then write again into the new table.
+            synchronized (lock) {
+                // nothing
+            }
+        }
+    }
+
+    /**
+     * @return the value for the key, computing and caching it if absent. Concurrent callers may
+     *     compute the value more than once; the last one stored wins.
+     */
+    public V computeIfAbsent(int key, IntFunction<V> function) {
+        V result = get(key);
+        if (result == null) {
+            result = function.apply(key);
+            if (result != null) {
+                put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the removed value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key < 0) {
+            return null;
+        }
+        synchronized (lock) {
+            Table t = table;
+            int i = t.find(key);
+            return i == EMPTY ? null : (V) t.values.getAndSet(i, null);
+        }
+    }
+
+    /** Remove all entries. */
+    public void clear() {
+        synchronized (lock) {
+            table.retired = true;
+            table = new Table(table.capacity());
+        }
+    }
+
+    /**
+     * @return the number of non-null entries. Only a snapshot under concurrent modification.
+     */
+    public int size() {
+        Table t = table;
+        int result = 0;
+        for (int i = 0; i < t.capacity(); ++i) {
+            if (t.values.get(i) != null) {
+                ++result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the keys with non-null values, in no particular order. Only a snapshot under
+     *     concurrent modification.
+     */
+    public int[] keys() {
+        Table t = table;
+        int[] result = new int[t.capacity()];
+        int count = 0;
+        for (int i = 0; i < t.capacity(); ++i) {
+            if (t.values.get(i) != null) {
+                result[count++] = t.keys.get(i);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void grow(Table old) {
+        synchronized (lock) {
+            if (table != old) {
+                return; // someone else already grew it
+            }
+            old.retired = true;
+            Table bigger = new Table(old.capacity() * 2);
+            for (int i = 0; i < old.capacity(); ++i) {
+                Object value = old.values.get(i);
+                if (value != null) {
+                    int j = bigger.claim(old.keys.get(i));
+                    bigger.values.set(j, value);
+                }
+            }
+            table = bigger;
+        }
+    }
+}
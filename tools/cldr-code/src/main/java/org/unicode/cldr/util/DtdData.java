@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -32,6 +33,7 @@ import java.util.Stack;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import org.unicode.cldr.util.DtdData.Element.ValueConstraint;
 import org.unicode.cldr.util.MatchValue.LiteralMatchValue;
@@ -1019,14 +1021,171 @@ public class DtdData extends XMLFileReader.SimpleHandler {
         return dtdComparator;
     }
 
+    /** Set CLDR_DTD_SORT_KEYS=false to parse and compare the paths on every comparison. */
+    private static final boolean USE_SORT_KEYS =
+            CldrUtility.getProperty("CLDR_DTD_SORT_KEYS", true);
+
+    private static final long SORT_KEY_CACHE_SIZE =
+            Long.parseLong(CldrUtility.getProperty("CLDR_SORT_KEY_CACHE_SIZE", "1000000"));
+
+    /**
+     * The sort keys of all the DtdComparators, so that CLDR_SORT_KEY_CACHE_SIZE bounds them all
+     * together rather than each DTD's separately.
+     */
+    private static final GenerationalCache<String, SortKey> SORT_KEYS =
+            new GenerationalCache<>(SORT_KEY_CACHE_SIZE, 0, null);
+
+    /**
+     * Most values ranked per attribute. Paths with further values are compared by parsing, so
+     * attributes with open-ended values (such as ones holding user text) don't grow without bound.
+     */
+    private static final int MAX_RANKED_VALUES =
+            Integer.parseInt(CldrUtility.getProperty("CLDR_SORT_KEY_MAX_VALUES", "100000"));
+
+    /**
+     * Compares paths in DTD order.
+     *
+     * <p>Each path is turned once into a memoized sort key: for each element after the root, its
+     * index among its parent's children, followed by a rank for each of the element's DTD
+     * attributes (or ABSENT). Comparing two paths is then a comparison of two long arrays. Paths
+     * that can't be keyed exactly (fake "_" elements, _q attributes, attributes not in the DTD, and
+     * so on) are compared with {@link #xpathComparator} instead, which defines the order.
+     */
     public class DtdComparator implements Comparator<String> {
+        private final Map<Attribute, ValueRanks> valueRanks = new ConcurrentHashMap<>();
+
+        /**
+         * Incremented before and after attribute value ranks are renumbered, which makes existing
+         * sort keys stale. A key is only valid if computed while this was unchanged and even.
+         */
+        private final AtomicInteger epoch = new AtomicInteger();
+
         @Override
         public int compare(String path1, String path2) {
+            if (USE_SORT_KEYS) {
+                SortKey a = getSortKey(path1);
+                SortKey b = getSortKey(path2);
+                // keys from different epochs aren't comparable, so refresh the stale one
+                while (a.epoch != b.epoch) {
+                    if (a.epoch < b.epoch) {
+                        a = getSortKey(path1);
+                    } else {
+                        b = getSortKey(path2);
+                    }
+                }
+                if (a.key != null && b.key != null) {
+                    return Arrays.compare(a.key, b.key);
+                }
+            }
             XPathParts a = XPathParts.getFrozenInstance(path1);
             XPathParts b = XPathParts.getFrozenInstance(path2);
             return xpathComparator(a, b);
         }
 
+        /**
+         * Sort the paths in place, into the same order as sorting with this comparator, but looking
+         * up each path's sort key only once instead of on every comparison.
+         */
+        public void sort(List<String> paths) {
+            if (!USE_SORT_KEYS) {
+                paths.sort(this);
+                return;
+            }
+            KeyedPath[] keyed = new KeyedPath[paths.size()];
+            int epoch = -1;
+            int i = 0;
+            for (String path : paths) {
+                SortKey key = getSortKey(path);
+                if (key.key == null || (epoch != -1 && key.epoch != epoch)) {
+                    paths.sort(this); // rare
+                    return;
+                }
+                epoch = key.epoch;
+                keyed[i++] = new KeyedPath(key.key, path);
+            }
+            Arrays.sort(keyed, (a, b) -> Arrays.compare(a.key, b.key));
+            ListIterator<String> it = paths.listIterator();
+            for (KeyedPath path : keyed) {
+                it.next();
+                it.set(path.path);
+            }
+        }
+
+        private SortKey getSortKey(String path) {
+            SortKey result = SORT_KEYS.getIfPresent(path);
+            // the same path can be keyed by another DTD's comparator, such as ldmlICU's
+            if (result != null && result.comparator == this && result.epoch == epoch.get()) {
+                return result;
+            }
+            XPathParts parts = XPathParts.getFrozenInstance(path);
+            while (true) {
+                int before = epoch.get();
+                if ((before & 1) != 0) {
+                    Thread.onSpinWait(); // being renumbered
+                    continue;
+                }
+                long[] key = computeSortKey(parts);
+                if (epoch.get() == before) {
+                    result = new SortKey(this, key, before);
+                    SORT_KEYS.put(path, result);
+                    return result;
+                }
+            }
+        }
+
+        /**
+         * @return the sort key, or null if the path can't be keyed so as to match xpathComparator
+         */
+        private long[] computeSortKey(XPathParts parts) {
+            if (!ROOT.name.equals(parts.getElement(0))) {
+                return null;
+            }
+            long[] key = new long[16];
+            int length = 0;
+            Element parent = ROOT;
+            for (int i = 1; i < parts.size(); ++i) {
+                String elementName = parts.getElement(i);
+                if (elementName.startsWith("_")) {
+                    return null;
+                }
+                Element element = nameToElement.get(elementName);
+                Integer childIndex = element == null ? null : parent.children.get(element);
+                if (childIndex == null) {
+                    return null;
+                }
+                int attributeCount = parts.getAttributeCount(i);
+                if (attributeCount != 0 && parts.getAttributeValue(i, "_q") != null) {
+                    return null;
+                }
+                if (length + 1 + element.attributes.size() > key.length) {
+                    key = Arrays.copyOf(key, 2 * (length + 1 + element.attributes.size()));
+                }
+                key[length++] = childIndex;
+                for (Attribute attribute : element.attributes.keySet()) {
+                    String value =
+                            attributeCount == 0 ? null : parts.getAttributeValue(i, attribute.name);
+                    if (value == null) {
+                        key[length++] = ValueRanks.ABSENT;
+                    } else {
+                        long rank =
+                                valueRanks
+                                        .computeIfAbsent(attribute, ValueRanks::new)
+                                        .getRank(value, epoch);
+                        if (rank == ValueRanks.ABSENT) {
+                            return null;
+                        }
+                        key[length++] = rank;
+                        --attributeCount;
+                    }
+                }
+                if (attributeCount != 0) {
+                    return null; // attributes not in the DTD
+                }
+                parent = element;
+            }
+            return Arrays.copyOf(key, length);
+        }
+
         public int xpathComparator(XPathParts a, XPathParts b) {
             // there must always be at least one element
             String baseA = a.getElement(0);
@@ -1123,6 +1282,125 @@ public class DtdData extends XMLFileReader.SimpleHandler {
         }
     }
 
+    private static final class KeyedPath {
+        final long[] key;
+        final String path;
+
+        KeyedPath(long[] key, String path) {
+            this.key = key;
+            this.path = path;
+        }
+    }
+
+    /** A memoized sort key, or a null key if the path can't be keyed */
+    private static final class SortKey {
+        final DtdComparator comparator;
+        final long[] key;
+        final int epoch;
+
+        SortKey(DtdComparator comparator, long[] key, int epoch) {
+            this.comparator = comparator;
+            this.key = key;
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Order-preserving long ranks for the values of one attribute, assigned as values are first
+     * seen. New values get a rank between their neighbors; when there is no room left, all the
+     * ranks are respaced.
+     */
+    private static final class ValueRanks {
+        /** Sorts before any rank; also returned for values that can't be ranked */
+        static final long ABSENT = Long.MIN_VALUE;
+
+        private static final long GAP = 1L << 32;
+
+        private final Comparator<String> comparator;
+        private final Map<String, Long> ranks = new ConcurrentHashMap<>();
+        private final TreeMap<String, Long> sorted;
+
+        ValueRanks(Attribute attribute) {
+            comparator =
+                    attribute.attributeValueComparator != null
+                            ? attribute.attributeValueComparator
+                            : !attribute.values.isEmpty()
+                                    ? Comparator.comparing(attribute.values::get)
+                                    : Comparator.naturalOrder();
+            sorted = new TreeMap<>(comparator);
+        }
+
+        /**
+         * @return the rank, or ABSENT if the value can't be ranked consistently with the
+         *     attribute's comparator
+         */
+        long getRank(String value, AtomicInteger epoch) {
+            Long result = ranks.get(value);
+            if (result != null) {
+                return result;
+            }
+            synchronized (this) {
+                result = ranks.get(value);
+                if (result != null) {
+                    return result;
+                }
+                if (ranks.size() >= MAX_RANKED_VALUES) {
+                    return ABSENT; // not remembered, so the ranks stay bounded
+                }
+                long rank;
+                try {
+                    if (sorted.containsKey(value)) {
+                        // A different string that compares as equal: xpathComparator stops there,
+                        // while a key would go on to compare the rest of the path.
+                        rank = ABSENT;
+                    } else {
+                        rank = between(sorted.lowerEntry(value), sorted.higherEntry(value));
+                        if (rank == ABSENT) {
+                            respace(epoch);
+                            rank = between(sorted.lowerEntry(value), sorted.higherEntry(value));
+                        }
+                        sorted.put(value, rank);
+                    }
+                } catch (RuntimeException e) {
+                    rank = ABSENT; // the comparator can't handle the value
+                }
+                ranks.put(value, rank);
+                return rank;
+            }
+        }
+
+        /**
+         * @return a rank strictly between the two, or ABSENT if there is none
+         */
+        private static long between(Entry<String, Long> lower, Entry<String, Long> higher) {
+            if (lower == null && higher == null) {
+                return 0;
+            }
+            // exclusive bounds
+            long low = lower == null ? ABSENT : lower.getValue();
+            long high = higher == null ? Long.MAX_VALUE : higher.getValue();
+            if (lower == null && high > ABSENT + GAP) {
+                return high - GAP;
+            } else if (higher == null && low < Long.MAX_VALUE - GAP) {
+                return low + GAP;
+            }
+            // average without overflow
+            long mid = (low >> 1) + (high >> 1) + (low & high & 1);
+            return mid > low && mid < high ? mid : ABSENT;
+        }
+
+        private void respace(AtomicInteger epoch) {
+            epoch.incrementAndGet(); // odd: keys computed meanwhile are invalid
+            long rank = -(sorted.size() / 2) * GAP;
+            for (Entry<String, Long> entry : sorted.entrySet()) {
+                entry.setValue(rank);
+                ranks.put(entry.getKey(), rank);
+                rank += GAP;
+            }
+            epoch.incrementAndGet();
+        }
+    }
+
     public MapComparator<String> getAttributeComparator() {
         return attributeComparator;
     }
@@ -3,11 +3,17 @@ package org.unicode.cldr.util;
 import com.google.common.base.Suppliers;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Supplier;
 import org.unicode.cldr.test.TestCache;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
@@ -214,6 +220,126 @@ public abstract class Factory implements SublocaleProvider {
         return new ResolvingSource(sourceList);
     }
 
+    /** Number of threads for prefetch(); 0 means one per processor */
+    private static final int PREFETCH_PARALLELISM =
+            Integer.parseInt(CldrUtility.getProperty("CLDR_PREFETCH_PARALLEL", "0"));
+
+    /**
+     * Make the files for the given locales in parallel, with the minimal draft status.
+     *
+     * @see #prefetch(Collection, boolean, DraftStatus)
+     */
+    public Map<String, CLDRFile> prefetch(Collection<String> localeIDs, boolean resolved) {
+        return prefetch(localeIDs, resolved, getMinimalDraftStatus());
+    }
+
+    /**
+     * Make the files for the given locales in parallel, using all cores (or CLDR_PREFETCH_PARALLEL
+     * threads), so that tools can warm the caches before working on each locale.
+     *
+     * <p>The unresolved file of every locale and of each of its (available) parents is loaded once,
+     * however many of the locales share that parent. A resolved file is only made once the
+     * unresolved files of its whole parent chain are loaded, so that resolving never has to wait on
+     * a load done by another thread or repeat one.
+     *
+     * <p>Note that the underlying XMLSource cache is bounded, so prefetching far more locales than
+     * it holds will evict the earliest ones.
+     *
+     * @return the files, in the iteration order of localeIDs
+     */
+    public Map<String, CLDRFile> prefetch(
+            Collection<String> localeIDs,
+            boolean resolved,
+            DraftStatus madeWithMinimalDraftStatus) {
+        final Set<String> available = getAvailable();
+        // only the root task below forks, so these maps need no synchronization
+        final Map<String, ForkJoinTask<CLDRFile>> unresolvedTasks = new HashMap<>();
+        final Map<String, ForkJoinTask<CLDRFile>> resultTasks = new LinkedHashMap<>();
+        final ForkJoinPool pool =
+                PREFETCH_PARALLELISM > 0
+                        ? new ForkJoinPool(PREFETCH_PARALLELISM)
+                        : new ForkJoinPool();
+        try {
+            pool.invoke(
+                    ForkJoinTask.adapt(
+                            () -> {
+                                for (String localeID : localeIDs) {
+                                    ForkJoinTask<CLDRFile> task;
+                                    if (resolved) {
+                                        List<ForkJoinTask<CLDRFile>> chain = new ArrayList<>();
+                                        for (String curLocale = localeID;
+                                                curLocale != null;
+                                                curLocale = getResolutionParent(curLocale)) {
+                                            chain.add(
+                                                    forkUnresolved(
+                                                            curLocale,
+                                                            madeWithMinimalDraftStatus,
+                                                            unresolvedTasks));
+                                        }
+                                        task =
+                                                ForkJoinTask.adapt(
+                                                        () -> {
+                                                            chain.forEach(ForkJoinTask::join);
+                                                            return make(
+                                                                    localeID,
+                                                                    true,
+                                                                    madeWithMinimalDraftStatus);
+                                                        });
+                                        task.fork();
+                                    } else {
+                                        task =
+                                                forkUnresolved(
+                                                        localeID,
+                                                        madeWithMinimalDraftStatus,
+                                                        unresolvedTasks);
+                                        // warm the available parents too
+                                        for (String curLocale = getResolutionParent(localeID);
+                                                curLocale != null;
+                                                curLocale = getResolutionParent(curLocale)) {
+                                            if (available.contains(curLocale)) {
+                                                forkUnresolved(
+                                                        curLocale,
+                                                        madeWithMinimalDraftStatus,
+                                                        unresolvedTasks);
+                                            }
+                                        }
+                                    }
+                                    resultTasks.put(localeID, task);
+                                }
+                                unresolvedTasks.values().forEach(ForkJoinTask::join);
+                                resultTasks.values().forEach(ForkJoinTask::join);
+                            }));
+        } finally {
+            pool.shutdown();
+        }
+        Map<String, CLDRFile> result = new LinkedHashMap<>();
+        resultTasks.forEach((localeID, task) -> result.put(localeID, task.join()));
+        return result;
+    }
+
+    /** Fork the task loading the unresolved file for the locale, unless there already is one. */
+    private ForkJoinTask<CLDRFile> forkUnresolved(
+            String localeID,
+            DraftStatus madeWithMinimalDraftStatus,
+            Map<String, ForkJoinTask<CLDRFile>> tasks) {
+        ForkJoinTask<CLDRFile> task = tasks.get(localeID);
+        if (task == null) {
+            task = ForkJoinTask.adapt(() -> make(localeID, false, madeWithMinimalDraftStatus));
+            tasks.put(localeID, task);
+            task.fork();
+        }
+        return task;
+    }
+
+    /** The parent that a resolved file made by this factory inherits from, or null for root. */
+    String getResolutionParent(String localeID) {
+        return LocaleIDParser.getParent(
+                localeID,
+                ignoreExplicitParentLocale
+                        ? ParentLocaleComponent.collations
+                        : ParentLocaleComponent.main);
+    }
+
     public abstract DraftStatus getMinimalDraftStatus();
 
     /**
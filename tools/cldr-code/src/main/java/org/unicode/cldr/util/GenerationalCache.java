@@ -0,0 +1,101 @@
+package org.unicode.cldr.util;
+
+import com.google.common.cache.CacheStats;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded concurrent cache whose hits cost no more than a ConcurrentHashMap lookup, for very hot
+ * caches such as XPathParts.getFrozenInstance, where the per-read bookkeeping of a Guava LRU cache
+ * would dominate.
+ *
+ * <p>Entries go into a current generation. When that reaches half the limit, it becomes the
+ * previous generation, and the old previous generation is dropped. A hit in the previous generation
+ * moves the entry back into the current one, so recently used entries survive, much as with LRU.
+ */
+final class GenerationalCache<K, V> {
+    private final long generationLimit;
+    private final ToLongFunction<K> weigher;
+
+    private volatile Map<K, V> current = new ConcurrentHashMap<>();
+    private volatile Map<K, V> previous = new ConcurrentHashMap<>();
+    private final AtomicLong currentWeight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of entries, or 0 for unbounded
+     * @param maximumWeight if > 0, the maximum total weight of the entries, overriding maximumSize
+     * @param weigher the weight of each key, used only with maximumWeight
+     */
+    GenerationalCache(long maximumSize, long maximumWeight, ToLongFunction<K> weigher) {
+        if (maximumWeight > 0) {
+            this.generationLimit = Math.max(1, maximumWeight / 2);
+            this.weigher = weigher;
+        } else {
+            this.generationLimit = maximumSize > 0 ? Math.max(1, maximumSize / 2) : Long.MAX_VALUE;
+            this.weigher = key -> 1;
+        }
+    }
+
+    V getIfPresent(K key) {
+        V result = current.get(key);
+        if (result == null) {
+            result = previous.remove(key);
+            if (result != null) {
+                V other = putIfAbsent(key, result);
+                if (other != null) {
+                    result = other;
+                }
+            }
+        }
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * @return the existing value, or null if the value was added
+     */
+    V putIfAbsent(K key, V value) {
+        V result = current.putIfAbsent(key, value);
+        if (result == null && currentWeight.addAndGet(weigher.applyAsLong(key)) > generationLimit) {
+            startNewGeneration();
+        }
+        return result;
+    }
+
+    /** Add the value, replacing any existing one. */
+    void put(K key, V value) {
+        if (current.put(key, value) == null
+                && currentWeight.addAndGet(weigher.applyAsLong(key)) > generationLimit) {
+            startNewGeneration();
+        }
+    }
+
+    private synchronized void startNewGeneration() {
+        if (currentWeight.get() <= generationLimit) {
+            return; // another thread already did
+        }
+        evictions.add(previous.size());
+        previous = current;
+        current = new ConcurrentHashMap<>();
+        currentWeight.set(0);
+    }
+
+    long size() {
+        return current.size() + previous.size();
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evictions.sum());
+    }
+}
@@ -1,8 +1,12 @@
 package org.unicode.cldr.util;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.ibm.icu.text.DateFormat;
 import com.ibm.icu.text.DateFormatSymbols;
 import com.ibm.icu.text.DecimalFormat;
@@ -22,10 +26,9 @@ import com.ibm.icu.util.ULocale;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import org.unicode.cldr.util.CLDRFile.Status;
 import org.unicode.cldr.util.DayPeriodInfo.DayPeriod;
@@ -78,6 +81,17 @@ public class ICUServiceBuilder {
         public ICUServiceFactory(Factory f) {
             cldrFactory = f;
         }
+
+        /**
+         * @return the formatter pool statistics, summed over the ICUServiceBuilders currently held
+         */
+        public CacheStats getFormatterStats() {
+            CacheStats result = new CacheStats(0, 0, 0, 0, 0, 0);
+            for (ICUServiceBuilder isb : ISBMap.asMap().values()) {
+                result = result.plus(isb.getFormatterStats());
+            }
+            return result;
+        }
     }
 
     @Deprecated
@@ -91,12 +105,20 @@ public class ICUServiceBuilder {
             CLDRConfig.getInstance().getSupplementalDataInfo();
 
     private static final TimeZone utc = TimeZone.getTimeZone("GMT");
-    private static final DateFormat iso =
-            new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", ULocale.ENGLISH);
 
-    static {
-        iso.setTimeZone(utc);
-    }
+    /** DateFormats aren't thread-safe, so each thread has its own */
+    private static final ThreadLocal<DateFormat> iso =
+            ThreadLocal.withInitial(
+                    () -> {
+                        DateFormat result =
+                                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'", ULocale.ENGLISH);
+                        result.setTimeZone(utc);
+                        return result;
+                    });
+
+    /** The maximum number of formatters, symbols and collators pooled per locale */
+    private static final int FORMATTER_POOL_SIZE =
+            CLDRConfig.getInstance().getProperty("CLDR_ICU_FORMATTER_POOL_SIZE", 2000);
 
     private final CLDRFile cldrFile;
     private final CLDRFile collationFile;
@@ -120,39 +142,65 @@ public class ICUServiceBuilder {
     }
 
     public static String isoDateFormat(Date date) {
-        return iso.format(date);
+        return iso.get().format(date);
     }
 
     public static String isoDateFormat(long value) {
-        return iso.format(new Date(value));
+        return iso.get().format(new Date(value));
     }
 
     public static Date isoDateParse(String date) throws ParseException {
-        return iso.parse(date);
+        return iso.get().parse(date);
     }
 
-    private final Map<String, SimpleDateFormat> cacheDateFormats = new HashMap<>();
-    private final Map<String, DateFormatSymbols> cacheDateFormatSymbols = new HashMap<>();
-    private final Map<String, NumberFormat> cacheNumberFormats = new HashMap<>();
-    private final Map<String, DecimalFormatSymbols> cacheDecimalFormatSymbols = new HashMap<>();
-    private final Map<String, RuleBasedCollator> cacheRuleBasedCollators = new HashMap<>();
+    /**
+     * The pool of formatters, symbols and collators built from the file, keyed by kind, locale,
+     * calendar, pattern and numbering system. The pooled objects are never handed out or changed;
+     * callers get their own clones, which are much cheaper to make than new ones. So one
+     * ICUServiceBuilder can be shared by threads, such as the ExampleGenerators and CheckCLDRs of a
+     * locale. The least recently used entries are evicted, so that examples for many different
+     * patterns don't keep growing it.
+     */
+    private final Cache<String, Object> formatterPool =
+            CacheBuilder.newBuilder().maximumSize(FORMATTER_POOL_SIZE).recordStats().build();
 
     /**
      * Caching can be disabled for some ICUServiceBuilder instances while still enabled for others.
      * Caching must be disabled for GenerateExampleDependencies.
      */
-    private boolean cachingIsEnabled = true;
+    private volatile boolean cachingIsEnabled = true;
 
     public void setCachingEnabled(boolean enabled) {
         cachingIsEnabled = enabled;
     }
 
     public void clearCache() {
-        cacheDateFormats.clear();
-        cacheDateFormatSymbols.clear();
-        cacheNumberFormats.clear();
-        cacheDecimalFormatSymbols.clear();
-        cacheRuleBasedCollators.clear();
+        formatterPool.invalidateAll();
+    }
+
+    /**
+     * @return hit, miss and eviction statistics for the formatter pool
+     */
+    public CacheStats getFormatterStats() {
+        return formatterPool.stats();
+    }
+
+    /**
+     * Get the pooled object for the key, building it if there is none (or if caching is disabled).
+     * The result must not be changed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getPooled(String key, Callable<T> builder) {
+        try {
+            return cachingIsEnabled ? (T) formatterPool.get(key, builder) : builder.call();
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalArgumentException("Could not build " + key, e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not build " + key, e);
+        }
     }
 
     private static final int[] DateFormatValues = {
@@ -167,14 +215,7 @@ public class ICUServiceBuilder {
     }
 
     public RuleBasedCollator getRuleBasedCollator(String type) throws Exception {
-        RuleBasedCollator col = cachingIsEnabled ? cacheRuleBasedCollators.get(type) : null;
-        if (col == null) {
-            col = _getRuleBasedCollator(type);
-            if (cachingIsEnabled) {
-                cacheRuleBasedCollators.put(type, col);
-            }
-        }
-        return col.clone();
+        return getPooled("collation/" + type, () -> _getRuleBasedCollator(type)).clone();
     }
 
     private RuleBasedCollator _getRuleBasedCollator(String type) throws Exception {
@@ -223,16 +264,14 @@ public class ICUServiceBuilder {
     public SimpleDateFormat getDateFormat(
             String calendar, int dateIndex, int timeIndex, String numberingSystem) {
         String key = makeDateFormatCacheKey(calendar, dateIndex, timeIndex, numberingSystem);
-        SimpleDateFormat result = cachingIsEnabled ? cacheDateFormats.get(key) : null;
-        if (result != null) return result.clone();
-
-        String pattern = getPattern(calendar, dateIndex, timeIndex);
-
-        result = getFullFormat(calendar, pattern, numberingSystem);
-        if (cachingIsEnabled) {
-            cacheDateFormats.put(key, result);
-        }
-        // System.out.println("created " + key);
+        SimpleDateFormat result =
+                getPooled(
+                        key,
+                        () ->
+                                getFullFormat(
+                                        calendar,
+                                        getPattern(calendar, dateIndex, timeIndex),
+                                        numberingSystem));
         return result.clone();
     }
 
@@ -269,19 +308,15 @@ public class ICUServiceBuilder {
 
     public SimpleDateFormat getDateFormat(String calendar, String pattern, String numberingSystem) {
         String key = makeDateFormatCacheKey(calendar, pattern, numberingSystem);
-        SimpleDateFormat result = cachingIsEnabled ? cacheDateFormats.get(key) : null;
-        if (result != null) return (SimpleDateFormat) result.clone();
-        result = getFullFormat(calendar, pattern, numberingSystem);
-        if (cachingIsEnabled) {
-            cacheDateFormats.put(key, result);
-        }
-        // System.out.println("created " + key);
+        SimpleDateFormat result =
+                getPooled(key, () -> getFullFormat(calendar, pattern, numberingSystem));
         return result.clone();
     }
 
     private String makeDateFormatCacheKey(
             String calendar, int dateIndex, int timeIndex, String numberingSystem) {
-        return cldrFile.getLocaleID()
+        return "date/"
+                + cldrFile.getLocaleID()
                 + ","
                 + calendar
                 + ","
@@ -293,7 +328,14 @@ public class ICUServiceBuilder {
     }
 
     private String makeDateFormatCacheKey(String calendar, String pattern, String numberingSystem) {
-        return cldrFile.getLocaleID() + "," + calendar + ",," + pattern + ",,," + numberingSystem;
+        return "date/"
+                + cldrFile.getLocaleID()
+                + ","
+                + calendar
+                + ",,"
+                + pattern
+                + ",,,"
+                + numberingSystem;
     }
 
     private SimpleDateFormat getFullFormat(
@@ -355,10 +397,11 @@ public class ICUServiceBuilder {
     }
 
     private DateFormatSymbols _getDateFormatSymbols(String calendar) {
-        String key = cldrFile.getLocaleID() + "," + calendar;
-        DateFormatSymbols result = cachingIsEnabled ? cacheDateFormatSymbols.get(key) : null;
-        if (result != null) return result.clone();
+        String key = "dateSymbols/" + cldrFile.getLocaleID() + "," + calendar;
+        return getPooled(key, () -> makeDateFormatSymbols(calendar)).clone();
+    }
 
+    private DateFormatSymbols makeDateFormatSymbols(String calendar) {
         String[] last;
         // TODO We would also like to be able to set the new symbols leapMonthPatterns &
         // shortYearNames
@@ -478,10 +521,7 @@ public class ICUServiceBuilder {
                 DateFormatSymbols.STANDALONE,
                 DateFormatSymbols.NARROW);
 
-        if (cachingIsEnabled) {
-            cacheDateFormatSymbols.put(key, formatData);
-        }
-        return formatData.clone();
+        return formatData;
     }
 
     /**
@@ -747,17 +787,11 @@ public class ICUServiceBuilder {
     }
 
     public NumberFormat getGenericNumberFormat(String ns) {
+        String localeIDString = cldrFile.getLocaleID() + "@numbers=" + ns;
         NumberFormat result =
-                cachingIsEnabled
-                        ? cacheNumberFormats.get(cldrFile.getLocaleID() + "@numbers=" + ns)
-                        : null;
-        if (result == null) {
-            ULocale ulocale = new ULocale(cldrFile.getLocaleID() + "@numbers=" + ns);
-            result = NumberFormat.getInstance(ulocale);
-            if (cachingIsEnabled) {
-                cacheNumberFormats.put(cldrFile.getLocaleID() + "@numbers=" + ns, result);
-            }
-        }
+                getPooled(
+                        "genericNumber/" + localeIDString,
+                        () -> NumberFormat.getInstance(new ULocale(localeIDString)));
         return result.clone();
     }
 
@@ -778,14 +812,17 @@ public class ICUServiceBuilder {
         ULocale ulocale = new ULocale(localeIDString);
         String key =
                 (currencySymbol == null)
-                        ? ulocale + "/" + key1 + "/" + kind
-                        : ulocale + "/" + key1 + "/" + kind + "/" + currencySymbol;
+                        ? "number/" + ulocale + "/" + key1 + "/" + kind
+                        : "number/" + ulocale + "/" + key1 + "/" + kind + "/" + currencySymbol;
         DecimalFormat result =
-                cachingIsEnabled ? (DecimalFormat) cacheNumberFormats.get(key) : null;
-        if (result != null) {
-            return result.clone();
-        }
+                getPooled(
+                        key,
+                        () -> makeNumberFormat(key1, kind, currencySymbol, numberSystem, ulocale));
+        return result.clone();
+    }
 
+    private DecimalFormat makeNumberFormat(
+            String key1, int kind, String currencySymbol, String numberSystem, ULocale ulocale) {
         String pattern = kind == PATTERN ? key1 : getPattern(key1, kind, numberSystem);
 
         DecimalFormatSymbols symbols = _getDecimalFormatSymbols(numberSystem);
@@ -857,7 +894,7 @@ public class ICUServiceBuilder {
                             cldrFile.getWinningValueWithBailey(prefix + "displayName"),
                             info);
         }
-        result = new DecimalFormat(pattern, symbols);
+        DecimalFormat result = new DecimalFormat(pattern, symbols);
         if (mc != null) {
             result.setCurrency(mc);
             result.setMaximumFractionDigits(mc.getDefaultFractionDigits());
@@ -871,7 +908,7 @@ public class ICUServiceBuilder {
                     "creating "
                             + ulocale
                             + "\tkey: "
-                            + key
+                            + key1
                             + "\tpattern "
                             + pattern
                             + "\tresult: "
@@ -886,33 +923,31 @@ public class ICUServiceBuilder {
             result.setDecimalSeparatorAlwaysShown(false);
             result.setParseIntegerOnly(true);
         }
-        if (cachingIsEnabled) {
-            cacheNumberFormats.put(key, result);
-        }
-        return result.clone();
+        return result;
     }
 
     private String fixCurrencySpacing(String pattern, String symbol) {
+        CurrencySpacing spacing = getPooled("currencySpacing", CurrencySpacing::new);
         int startPos = pattern.indexOf('\u00a4');
-        if (startPos > 0 && beforeCurrencyMatch.contains(UTF16.charAt(symbol, 0))) {
+        if (startPos > 0 && spacing.beforeCurrencyMatch.contains(UTF16.charAt(symbol, 0))) {
             int ch = UTF16.charAt(pattern, startPos - 1);
             if (ch == '#') ch = '0'; // fix pattern
-            if (beforeSurroundingMatch.contains(ch)) {
+            if (spacing.beforeSurroundingMatch.contains(ch)) {
                 pattern =
                         pattern.substring(0, startPos)
-                                + beforeInsertBetween
+                                + spacing.beforeInsertBetween
                                 + pattern.substring(startPos);
             }
         }
         int endPos = pattern.lastIndexOf('\u00a4') + 1;
         if (endPos < pattern.length()
-                && afterCurrencyMatch.contains(UTF16.charAt(symbol, symbol.length() - 1))) {
+                && spacing.afterCurrencyMatch.contains(UTF16.charAt(symbol, symbol.length() - 1))) {
             int ch = UTF16.charAt(pattern, endPos);
             if (ch == '#') ch = '0'; // fix pattern
-            if (afterSurroundingMatch.contains(ch)) {
+            if (spacing.afterSurroundingMatch.contains(ch)) {
                 pattern =
                         pattern.substring(0, endPos)
-                                + afterInsertBetween
+                                + spacing.afterInsertBetween
                                 + pattern.substring(endPos);
             }
         }
@@ -933,14 +968,13 @@ public class ICUServiceBuilder {
     private DecimalFormatSymbols _getDecimalFormatSymbols(String numberSystem) {
         String key =
                 (numberSystem == null)
-                        ? cldrFile.getLocaleID()
-                        : cldrFile.getLocaleID() + "@numbers=" + numberSystem;
-        DecimalFormatSymbols symbols = cachingIsEnabled ? cacheDecimalFormatSymbols.get(key) : null;
-        if (symbols != null) {
-            return symbols.clone();
-        }
+                        ? "numberSymbols/" + cldrFile.getLocaleID()
+                        : "numberSymbols/" + cldrFile.getLocaleID() + "@numbers=" + numberSystem;
+        return getPooled(key, () -> makeDecimalFormatSymbols(numberSystem)).clone();
+    }
 
-        symbols = new DecimalFormatSymbols();
+    private DecimalFormatSymbols makeDecimalFormatSymbols(String numberSystem) {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols();
         if (numberSystem == null) {
             numberSystem =
                     cldrFile.getWinningValueWithBailey(CldrNumberingSystem.defaultSystem.path);
@@ -980,37 +1014,7 @@ public class ICUServiceBuilder {
             symbols.setMonetaryGroupingSeparator(symbols.getGroupingSeparator());
         }
 
-        // Note: as of 2025-11-05, none of these six paths occur anywhere except in root.xml:
-        // .../beforeCurrency/currencyMatch
-        // .../beforeCurrency/surroundingMatch
-        // .../beforeCurrency/insertBetween
-        // .../afterCurrency/currencyMatch
-        // .../afterCurrency/surroundingMatch
-        // .../afterCurrency/insertBetween
-        String prefix =
-                "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencySpacing/beforeCurrency/";
-        beforeCurrencyMatch =
-                new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "currencyMatch"))
-                        .freeze();
-        beforeSurroundingMatch =
-                new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "surroundingMatch"))
-                        .freeze();
-        beforeInsertBetween = cldrFile.getWinningValueWithBailey(prefix + "insertBetween");
-        prefix =
-                "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencySpacing/afterCurrency/";
-        afterCurrencyMatch =
-                new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "currencyMatch"))
-                        .freeze();
-        afterSurroundingMatch =
-                new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "surroundingMatch"))
-                        .freeze();
-        afterInsertBetween = cldrFile.getWinningValueWithBailey(prefix + "insertBetween");
-
-        if (cachingIsEnabled) {
-            cacheDecimalFormatSymbols.put(key, symbols);
-        }
-
-        return symbols.clone();
+        return symbols;
     }
 
     private char getSymbolCharacter(String key, String numsys) {
@@ -1043,12 +1047,43 @@ public class ICUServiceBuilder {
         }
     }
 
-    private UnicodeSet beforeCurrencyMatch;
-    private UnicodeSet beforeSurroundingMatch;
-    private String beforeInsertBetween;
-    private UnicodeSet afterCurrencyMatch;
-    private UnicodeSet afterSurroundingMatch;
-    private String afterInsertBetween;
+    /** The currencySpacing data of the file, used to fix currency patterns */
+    private class CurrencySpacing {
+        private final UnicodeSet beforeCurrencyMatch;
+        private final UnicodeSet beforeSurroundingMatch;
+        private final String beforeInsertBetween;
+        private final UnicodeSet afterCurrencyMatch;
+        private final UnicodeSet afterSurroundingMatch;
+        private final String afterInsertBetween;
+
+        CurrencySpacing() {
+            // Note: as of 2025-11-05, none of these six paths occur anywhere except in root.xml:
+            // .../beforeCurrency/currencyMatch
+            // .../beforeCurrency/surroundingMatch
+            // .../beforeCurrency/insertBetween
+            // .../afterCurrency/currencyMatch
+            // .../afterCurrency/surroundingMatch
+            // .../afterCurrency/insertBetween
+            String prefix =
+                    "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencySpacing/beforeCurrency/";
+            beforeCurrencyMatch =
+                    new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "currencyMatch"))
+                            .freeze();
+            beforeSurroundingMatch =
+                    new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "surroundingMatch"))
+                            .freeze();
+            beforeInsertBetween = cldrFile.getWinningValueWithBailey(prefix + "insertBetween");
+            prefix =
+                    "//ldml/numbers/currencyFormats[@numberSystem=\"latn\"]/currencySpacing/afterCurrency/";
+            afterCurrencyMatch =
+                    new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "currencyMatch"))
+                            .freeze();
+            afterSurroundingMatch =
+                    new UnicodeSet(cldrFile.getWinningValueWithBailey(prefix + "surroundingMatch"))
+                            .freeze();
+            afterInsertBetween = cldrFile.getWinningValueWithBailey(prefix + "insertBetween");
+        }
+    }
 
     private String getPattern(String key1, int isCurrency, String numberSystem) {
         String prefix = "//ldml/numbers/";
@@ -10,7 +10,7 @@ public class PathDescriptionParser {
     private static final String VARIABLES = "VARIABLES";
     private static final String REFERENCES = "References";
     private final RegexLookup<Pair<String, String>> lookup =
-            new RegexLookup<>(RegexLookup.LookupType.OPTIMIZED_DIRECTORY_PATTERN_LOOKUP);
+            new RegexLookup<>(RegexLookup.LookupType.COMPILED_LOOKUP);
 
     // running instance variables
     private String section = ""; // ## title
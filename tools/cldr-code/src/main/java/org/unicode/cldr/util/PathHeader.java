@@ -13,6 +13,7 @@ import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.ICUException;
 import com.ibm.icu.util.Output;
 import com.ibm.icu.util.ULocale;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -27,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -689,7 +691,8 @@ public class PathHeader implements Comparable<PathHeader> {
 
     public static class Factory implements Transform<String, PathHeader> {
         static final RegexLookup<RawData> lookup =
-                RegexLookup.of(new PathHeaderTransform())
+                new RegexLookup<RawData>(RegexLookup.LookupType.COMPILED_LOOKUP)
+                        .setValueTransform(new PathHeaderTransform())
                         .setPatternTransform(RegexLookup.RegexFinderTransformPath)
                         .loadFromFile(PathHeader.class, "data/PathHeader.txt");
         // synchronized with lookup
@@ -702,7 +705,12 @@ public class PathHeader implements Comparable<PathHeader> {
         static long order;
         static SubstringOrder suborder;
 
-        static final Map<String, PathHeader> cache = new HashMap<>();
+        /**
+         * Read without locking; only added to holding its lock, after the section and page maps
+         * below are updated for the path
+         */
+        static final Map<String, PathHeader> cache = new ConcurrentHashMap<>();
+
         // synchronized with cache
         static final Map<SectionId, Map<PageId, SectionPage>> sectionToPageToSectionPage =
                 new EnumMap<>(SectionId.class);
@@ -742,6 +750,30 @@ public class PathHeader implements Comparable<PathHeader> {
             }
         }
 
+        /**
+         * Compute the PathHeaders of all the paths in the English and root files (with their extra
+         * paths) and in the given files, ahead of time, so that fromPath finds them in the cache
+         * without going through the regexes. Meant to be called once at startup by servers such as
+         * the Survey Tool; other paths are still computed on demand. Thread-safe.
+         *
+         * @param moreFiles other files whose paths should be included
+         */
+        public void precompute(CLDRFile... moreFiles) {
+            List<CLDRFile> files = new ArrayList<>();
+            files.add(englishFile);
+            files.add(CLDRConfig.getInstance().getRoot());
+            files.addAll(Arrays.asList(moreFiles));
+            for (CLDRFile file : files) {
+                for (String path : file.fullIterable()) {
+                    try {
+                        fromPath(path);
+                    } catch (Exception e) {
+                        // left to fromPath, which will throw again when asked for the path
+                    }
+                }
+            }
+        }
+
         /** Return the PathHeader for a given path. Thread-safe. */
         public PathHeader fromPath(String path) {
             return fromPath(path, null);
@@ -762,11 +794,9 @@ public class PathHeader implements Comparable<PathHeader> {
             if (path == null) {
                 throw new NullPointerException("Path cannot be null");
             }
-            synchronized (cache) {
-                PathHeader old = cache.get(path);
-                if (old != null) {
-                    return old;
-                }
+            PathHeader old = cache.get(path);
+            if (old != null) {
+                return old;
             }
             synchronized (lookup) {
                 String cleanPath = path;
@@ -802,11 +832,9 @@ public class PathHeader implements Comparable<PathHeader> {
                 try {
                     PathHeader result = makePathHeader(data, path, alt);
                     synchronized (cache) {
-                        PathHeader old = cache.get(path);
-                        if (old == null) {
-                            cache.put(path, result);
-                        } else {
-                            result = old;
+                        old = cache.get(path);
+                        if (old != null) {
+                            return old;
                         }
                         Map<PageId, SectionPage> pageToPathHeaders =
                                 sectionToPageToSectionPage.get(result.sectionId);
@@ -821,6 +849,8 @@ public class PathHeader implements Comparable<PathHeader> {
                             pageToPathHeaders.put(result.pageId, sectionPage);
                         }
                         sectionPageToPaths.put(sectionPage, path);
+                        // only now, since readers of the cache don't lock
+                        cache.put(path, result);
                     }
                     return result;
                 } catch (Exception e) {
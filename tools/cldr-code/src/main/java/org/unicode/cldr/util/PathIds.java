@@ -0,0 +1,87 @@
+package org.unicode.cldr.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global, thread-safe table that assigns a dense int ID to each distinguished path. IDs start at 0,
+ * are never reused, and are stable for the lifetime of the JVM (but not across JVMs: don't persist
+ * them).
+ *
+ * <p>IDs are never dropped, so only paths that are stored in an XMLSource (as when loaded from XML)
+ * or that come from the DTD should get one, with {@link #getId}. Code that is merely asked about a
+ * path, which may be any path a user submits, should use {@link #getIdIfPresent} and do without the
+ * ID if there is none.
+ *
+ * <p>Lookups by path or by ID are lock-free; only assigning a new ID takes a lock.
+ */
+public final class PathIds {
+    /** Returned by {@link #getIdIfPresent} for a path without an ID. */
+    public static final int NO_ID = -1;
+
+    private static final ConcurrentHashMap<String, Integer> pathToId = new ConcurrentHashMap<>();
+    private static final Object LOCK = new Object();
+    private static volatile String[] idToPath = new String[1 << 16];
+    private static volatile int size = 0; // only changed holding LOCK
+
+    private PathIds() {}
+
+    /**
+     * Get the ID for the path, assigning a new one if the path doesn't have one yet. Only for paths
+     * that are stored or come from the DTD; see above.
+     *
+     * @param path a distinguished path
+     * @return the ID, which is >= 0
+     */
+    public static int getId(String path) {
+        Integer id = pathToId.get(path);
+        if (id != null) {
+            return id;
+        }
+        synchronized (LOCK) {
+            id = pathToId.get(path);
+            if (id == null) {
+                id = size;
+                String[] paths = idToPath;
+                if (id == paths.length) {
+                    paths = Arrays.copyOf(paths, paths.length * 2);
+                }
+                paths[id] = path;
+                idToPath = paths; // publish before the ID becomes visible
+                ++size; // before the ID becomes visible, so that all IDs are less than size()
+                pathToId.put(path, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Get the ID for the path without assigning one.
+     *
+     * @return the ID, or {@link #NO_ID} if the path has none
+     */
+    public static int getIdIfPresent(String path) {
+        Integer id = pathToId.get(path);
+        return id == null ? NO_ID : id;
+    }
+
+    /**
+     * @return the path for a previously-assigned ID
+     * @throws IllegalArgumentException if the ID was never assigned
+     */
+    public static String getPath(int id) {
+        String[] paths = idToPath;
+        String result = id >= 0 && id < paths.length ? paths[id] : null;
+        if (result == null) {
+            throw new IllegalArgumentException("Unknown path id: " + id);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of IDs assigned so far; all IDs are less than this
+     */
+    public static int size() {
+        return size;
+    }
+}
@@ -0,0 +1,299 @@
+package org.unicode.cldr.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the literal text that every match of a regex must contain, so that items can be rejected
+ * (or dispatched) without running the regex. Only the top level of the pattern is examined: groups,
+ * character classes, and anything after a construct that isn't understood are skipped. The analysis
+ * is conservative; when in doubt it returns less (or nothing).
+ */
+final class RegexLiterals {
+
+    private RegexLiterals() {}
+
+    /**
+     * Get the literals required by a pattern that is compiled with {@link
+     * java.util.regex.Pattern#COMMENTS}, and used with find().
+     *
+     * @return null if nothing is known (such as for a top-level alternation); otherwise an array
+     *     whose first element is a prefix of every match (empty unless the pattern starts with ^),
+     *     followed by strings that every match contains, in order, after that prefix.
+     */
+    static String[] getRequired(String pattern) {
+        final int length = pattern.length();
+        final Literals literals = new Literals();
+        int depth = 0;
+
+        int i = skipWhitespace(pattern, 0);
+        if (i < length && pattern.charAt(i) == '^') {
+            literals.anchored = true;
+            ++i;
+        }
+        while (i < length) {
+            final int cp = pattern.codePointAt(i);
+            if (isWhitespace(cp)) {
+                ++i;
+                continue;
+            }
+            if (cp == '#') {
+                return null; // a comment, which could hide anything
+            }
+            if (depth > 0) {
+                // inside a group: only track the nesting
+                switch (cp) {
+                    case '\\':
+                        i = skipEscape(pattern, i);
+                        break;
+                    case '[':
+                        i = skipClass(pattern, i);
+                        break;
+                    case '(':
+                        ++depth;
+                        ++i;
+                        break;
+                    case ')':
+                        --depth;
+                        i = skipQuantifier(pattern, i + 1);
+                        break;
+                    default:
+                        i += Character.charCount(cp);
+                        break;
+                }
+                if (i < 0) {
+                    return null;
+                }
+                continue;
+            }
+            boolean literal = false;
+            switch (cp) {
+                case '\\':
+                    if (i + 1 >= length) {
+                        return null;
+                    }
+                    final char escaped = pattern.charAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        // a class, boundary, back reference, or quote: stop collecting here
+                        literals.stop();
+                        i = skipEscape(pattern, i);
+                        if (i < 0) {
+                            return null;
+                        }
+                        i = skipQuantifier(pattern, i);
+                    } else {
+                        literal = true;
+                    }
+                    break;
+                case '[':
+                    literals.flush();
+                    i = skipClass(pattern, i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    i = skipQuantifier(pattern, i);
+                    break;
+                case '(':
+                    literals.flush();
+                    if (i + 2 < length
+                            && pattern.charAt(i + 1) == '?'
+                            && (Character.isLetter(pattern.charAt(i + 2))
+                                    || pattern.charAt(i + 2) == '-')) {
+                        // inline flags, such as (?i), may change how the rest is matched
+                        literals.stop();
+                    }
+                    ++depth;
+                    ++i;
+                    break;
+                case ')':
+                case '|':
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    return null; // unbalanced, or an alternation at the top level
+                case '.':
+                case '^':
+                case '$':
+                    literals.flush();
+                    i = skipQuantifier(pattern, i + 1);
+                    break;
+                default:
+                    literal = true;
+                    break;
+            }
+            if (literal) {
+                final int literalCp = cp == '\\' ? pattern.codePointAt(i + 1) : cp;
+                i += (cp == '\\' ? 1 : 0) + Character.charCount(literalCp);
+                final int next = skipWhitespace(pattern, i);
+                final char quantifier = next < length ? pattern.charAt(next) : 0;
+                if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                    // optional, so the text on either side need not be contiguous
+                    literals.flush();
+                } else {
+                    literals.append(literalCp);
+                    if (quantifier == '+') {
+                        literals.flush();
+                    }
+                }
+                i = skipQuantifier(pattern, i);
+            }
+            if (i < 0) {
+                return null;
+            }
+        }
+        if (depth != 0) {
+            return null;
+        }
+        literals.flush();
+        return literals.segments.toArray(new String[literals.segments.size()]);
+    }
+
+    /**
+     * The runs of literal text found so far. The first run becomes the prefix if the pattern is
+     * anchored; otherwise the prefix is empty.
+     */
+    private static class Literals {
+        final List<String> segments = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        boolean anchored = false;
+        boolean collecting = true;
+
+        void append(int cp) {
+            if (collecting) {
+                current.appendCodePoint(cp);
+            }
+        }
+
+        /** End the current run of literal text */
+        void flush() {
+            if (segments.isEmpty()) {
+                segments.add(anchored && collecting ? current.toString() : "");
+                if (anchored) {
+                    current.setLength(0);
+                    return;
+                }
+            }
+            if (collecting && !current.isEmpty()) {
+                segments.add(current.toString());
+            }
+            current.setLength(0);
+        }
+
+        /** Ignore the rest of the pattern */
+        void stop() {
+            flush();
+            collecting = false;
+        }
+    }
+
+    private static boolean isWhitespace(int cp) {
+        // the characters that Pattern.COMMENTS ignores
+        return cp == ' ' || cp == '\t' || cp == '\n' || cp == 0x0B || cp == '\f' || cp == '\r';
+    }
+
+    private static int skipWhitespace(String pattern, int i) {
+        while (i < pattern.length() && isWhitespace(pattern.charAt(i))) {
+            ++i;
+        }
+        return i;
+    }
+
+    /** Skip a quantifier (with any lazy or possessive mark) if there is one at i */
+    private static int skipQuantifier(String pattern, int i) {
+        if (i < 0) {
+            return i;
+        }
+        i = skipWhitespace(pattern, i);
+        if (i >= pattern.length()) {
+            return i;
+        }
+        switch (pattern.charAt(i)) {
+            case '?':
+            case '*':
+            case '+':
+                ++i;
+                break;
+            case '{':
+                i = pattern.indexOf('}', i);
+                if (i < 0) {
+                    return -1;
+                }
+                ++i;
+                break;
+            default:
+                return i;
+        }
+        i = skipWhitespace(pattern, i);
+        if (i < pattern.length() && (pattern.charAt(i) == '?' || pattern.charAt(i) == '+')) {
+            ++i;
+        }
+        return i;
+    }
+
+    /** Skip the escape starting with the backslash at i, or return -1 if it isn't understood */
+    private static int skipEscape(String pattern, int i) {
+        if (i + 1 >= pattern.length()) {
+            return -1;
+        }
+        final char c = pattern.charAt(i + 1);
+        switch (c) {
+            case 'Q':
+                final int end = pattern.indexOf("\\E", i + 2);
+                return end < 0 ? pattern.length() : end + 2;
+            case 'p':
+            case 'P':
+            case 'x':
+            case 'N':
+                if (i + 2 < pattern.length() && pattern.charAt(i + 2) == '{') {
+                    final int close = pattern.indexOf('}', i + 2);
+                    return close < 0 ? -1 : close + 1;
+                }
+                return c == 'x' ? i + 4 : i + 3;
+            case 'k':
+                final int close = pattern.indexOf('>', i + 2);
+                return close < 0 ? -1 : close + 1;
+            case 'c':
+                return i + 3;
+            case 'u':
+                return i + 6;
+            default:
+                return i + 1 + Character.charCount(pattern.codePointAt(i + 1));
+        }
+    }
+
+    /** Skip the character class starting at i, or return -1 if it isn't understood */
+    private static int skipClass(String pattern, int i) {
+        int depth = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c == '#') {
+                return -1; // may be a comment
+            }
+            if (c == '\\') {
+                i = skipEscape(pattern, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '[') {
+                ++depth;
+                // a ] right at the start is a literal
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '^') {
+                    ++i;
+                }
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == ']') {
+                    ++i;
+                }
+            } else if (c == ']') {
+                --depth;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            ++i;
+        }
+        return -1;
+    }
+}
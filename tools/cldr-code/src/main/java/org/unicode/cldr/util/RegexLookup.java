@@ -5,6 +5,7 @@ import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.Transform;
 import com.ibm.icu.util.Output;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -18,6 +19,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.unicode.cldr.util.CldrUtility.VariableReplacer;
 import org.unicode.cldr.util.RegexFileParser.RegexLineParser;
 import org.unicode.cldr.util.RegexFileParser.VariableProcessor;
@@ -26,7 +28,7 @@ import org.unicode.cldr.util.RegexLookup.Finder.Info;
 
 /**
  * Lookup items according to a set of regex patterns. Returns the value according to the first
- * pattern that matches. Not thread-safe.
+ * pattern that matches. Adding patterns is not thread-safe, but lookups are.
  *
  * @param <T> the type of the value to be returned by the method get()
  */
@@ -43,6 +45,7 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
     public enum LookupType {
         STAR_PATTERN_LOOKUP,
         OPTIMIZED_DIRECTORY_PATTERN_LOOKUP,
+        COMPILED_LOOKUP,
         STANDARD
     }
 
@@ -68,6 +71,15 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
      * However regex's no longer need to follow any specific format (Slower but more versatile).
      */
 
+    /*
+     * COMPILED_LOOKUP
+     *
+     * Returns the same results as STANDARD, for any regex's, but dispatches each lookup through a
+     * trie of the literal prefixes of the patterns, and only tries the patterns whose literal text
+     * is all in the item. A lookup is about one pass over the item, plus the few regex's that could
+     * match.
+     */
+
     public RegexLookup(LookupType type) {
         _lookupType = type;
         switch (type) {
@@ -79,6 +91,9 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 //   RTEntries = new RegexTree<T>();
                 storage = new RegexTree<>();
                 break;
+            case COMPILED_LOOKUP:
+                storage = new CompiledLookup<>();
+                break;
             default:
                 MEntries = new LinkedHashMap<>();
                 break;
@@ -107,19 +122,27 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
         public int getFailPoint(String source) {
             return -1;
         }
+
+        /**
+         * Literal text that every item found by this finder contains, used to skip finders that
+         * can't match. Null if unknown; otherwise the first element is a prefix of every item found
+         * (maybe empty), and the rest are strings that the item contains, in order, after it.
+         */
+        public String[] getRequiredLiterals() {
+            return null;
+        }
         // must also define toString
     }
 
     public static class RegexFinder extends Finder {
-        /** The matcher used by this RegexFinder */
-        private final Matcher matcher;
-
         /** The Pattern used by this RegexFinder */
         protected final Pattern pattern;
 
+        private final String[] requiredLiterals;
+
         public RegexFinder(String pattern) {
             this.pattern = Pattern.compile(pattern, Pattern.COMMENTS);
-            matcher = this.pattern.matcher("");
+            requiredLiterals = RegexLiterals.getRequired(pattern);
         }
 
         /**
@@ -128,22 +151,17 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
          */
         @Override
         public boolean matches(String item, Object context, Info info) {
-            synchronized (matcher) {
-                try {
-                    boolean result = matcher.reset(item).matches();
-                    extractInfo(info, result);
-                    return result;
-                } catch (StringIndexOutOfBoundsException e) {
-                    // We don't know what causes this error (cldrbug 5051) so
-                    // make the exception message more detailed.
-                    throw new IllegalArgumentException(
-                            "Matching error caused by pattern: ["
-                                    + matcher.toString()
-                                    + "] on text: ["
-                                    + item
-                                    + "]",
-                            e);
-                }
+            // a new Matcher each time, so that threads don't share one
+            Matcher m = pattern.matcher(item);
+            try {
+                boolean result = m.matches();
+                extractInfo(m, info, result);
+                return result;
+            } catch (StringIndexOutOfBoundsException e) {
+                // We don't know what causes this error (cldrbug 5051) so
+                // make the exception message more detailed.
+                throw new IllegalArgumentException(
+                        "Matching error caused by pattern: [" + m + "] on text: [" + item + "]", e);
             }
         }
 
@@ -151,15 +169,16 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
          * Extract match related information into the info field, if result is true, and info is not
          * null.
          *
+         * @param m
          * @param info
          * @param result
          */
-        private void extractInfo(Info info, boolean result) {
+        private static void extractInfo(Matcher m, Info info, boolean result) {
             if (result && info != null) {
-                int limit = matcher.groupCount() + 1;
+                int limit = m.groupCount() + 1;
                 String[] value = new String[limit];
                 for (int i = 0; i < limit; ++i) {
-                    value[i] = matcher.group(i);
+                    value[i] = m.group(i);
                 }
                 info.value = value;
             }
@@ -171,28 +190,21 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
          */
         @Override
         public boolean find(String item, Object context, Info info) {
-            synchronized (matcher) {
-                try {
-                    boolean result = matcher.reset(item).find();
-                    extractInfo(info, result);
-                    return result;
-                } catch (StringIndexOutOfBoundsException e) {
-                    // We don't know what causes this error (cldrbug 5051) so
-                    // make the exception message more detailed.
-                    throw new IllegalArgumentException(
-                            "Matching error caused by pattern: ["
-                                    + matcher.toString()
-                                    + "] on text: ["
-                                    + item
-                                    + "]",
-                            e);
-                }
+            Matcher m = pattern.matcher(item);
+            try {
+                boolean result = m.find();
+                extractInfo(m, info, result);
+                return result;
+            } catch (StringIndexOutOfBoundsException e) {
+                // We don't know what causes this error (cldrbug 5051) so
+                // make the exception message more detailed.
+                throw new IllegalArgumentException(
+                        "Matching error caused by pattern: [" + m + "] on text: [" + item + "]", e);
             }
         }
 
         @Override
         public String toString() {
-            // Use pattern here, to avoid having to synchronize on matcher
             return pattern.pattern();
         }
 
@@ -212,9 +224,16 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
 
         @Override
         public int getFailPoint(String source) {
-            synchronized (matcher) {
-                return RegexUtilities.findMismatch(matcher, source);
-            }
+            return RegexUtilities.findMismatch(pattern, source);
+        }
+
+        /**
+         * {@inheritDoc} Subclasses may only find fewer items than the pattern does, or must
+         * override this.
+         */
+        @Override
+        public String[] getRequiredLiterals() {
+            return requiredLiterals;
         }
     }
 
@@ -280,31 +299,20 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 Object context,
                 List<Finder> matcherList,
                 Output<String[]> firstInfo) {
-            List<RTNode> list = new ArrayList<>();
+            List<RTMatch> list = new ArrayList<>();
             List<T> retList = new ArrayList<>();
 
             root.addToList(pattern, context, list);
-            Collections.sort(list, rankComparator);
+            list.sort((a, b) -> rankComparator.compare(a.node, b.node));
 
-            boolean isFirst = true;
             if (firstInfo != null && !list.isEmpty()) {
-                RTNode firstNode = list.get(0);
-                if (firstNode._info != null) {
-                    firstInfo.value = firstNode._info.value;
-                }
-            }
-
-            for (RTNode n : list) {
-                if (isFirst) {
-                    firstInfo.value = n._info.value;
-                    isFirst = false;
-                }
+                firstInfo.value = list.get(0).value;
             }
 
-            for (RTNode n : list) {
-                retList.add(n._val);
+            for (RTMatch match : list) {
+                retList.add(match.node._val);
                 if (matcherList != null) {
-                    matcherList.add(n._finder);
+                    matcherList.add(match.node._finder);
                 }
             }
 
@@ -353,6 +361,20 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
             return ret.entrySet();
         }
 
+        /**
+         * A node whose finder matched during a lookup, with the groups it matched. These are kept
+         * per lookup rather than in the (shared) nodes, so that lookups can run concurrently.
+         */
+        private class RTMatch {
+            final RTNode node;
+            final String[] value;
+
+            RTMatch(RTNode node, String[] value) {
+                this.node = node;
+                this.value = value;
+            }
+        }
+
         public class RTNode extends NodeBase<T> {
             //            Finder _finder;
             //            T _val;
@@ -375,7 +397,6 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 //                _finder = new RegexFinder(key);
                 //                _val = val;
                 //                _rank = -1;
-                _info = new Info();
             }
 
             public void put(RTNode node) {
@@ -538,38 +559,16 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
             }
 
             // traverse tree to get list of all values who's key matcher matches pattern
-            public void addToList(String pattern, Object context, List<RTNode> list) {
-                if (_children.size() == 0) {
-                    return;
-                } else {
-                    Info firstInfo = new Info();
-                    for (RTNode child : _children) {
-                        boolean found;
-                        synchronized (child._finder) {
-                            found = child._finder.find(pattern, context, firstInfo);
-                        }
-
-                        // check if child matches pattern
-                        if (found) {
-                            if (child._rank != -1) {
-                                list.add(child);
-                            }
-                            // if this node's info value is unset, set it to the result of the
-                            // lookup
-                            //                            if (child._info!=null &&
-                            // child._info.value==null) {
-                            if (child._info != null) {
-                                // set the value to the result of the last find
-                                child._info.value = firstInfo.value;
-                            } else {
-                                // for some reason, child._info is null, so simply initialize it.
-                                child._info = new Info();
-                                // set the value to the result of the last find
-                                child._info.value = firstInfo.value;
-                            }
-                            // check if child is the parent of node then enter that node
-                            child.addToList(pattern, context, list);
+            public void addToList(String pattern, Object context, List<RTMatch> list) {
+                for (RTNode child : _children) {
+                    Info info = new Info();
+                    // check if child matches pattern
+                    if (child._finder.find(pattern, context, info)) {
+                        if (child._rank != -1) {
+                            list.add(new RTMatch(child, info.value));
                         }
+                        // check if child is the parent of node then enter that node
+                        child.addToList(pattern, context, list);
                     }
                 }
             }
@@ -624,6 +623,209 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
         }
     }
 
+    /**
+     * Keeps the finders in the order they were added, and dispatches each lookup through a trie of
+     * the literal prefixes of their patterns. Only the finders whose prefix the item starts with,
+     * and which pass a check of their other required literals, are tried, in order, so a lookup
+     * costs about one pass over the item plus the few regexes that can match.
+     */
+    private static class CompiledLookup<T> implements StorageInterfaceBase<T> {
+        private final List<NodeBase<T>> entries = new ArrayList<>();
+        private final List<String[]> literals = new ArrayList<>();
+        private final Map<Finder, Integer> finderToRank = new HashMap<>();
+        private final PrefixNode root = new PrefixNode();
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public void put(Finder pattern, T value) {
+            Integer rank = finderToRank.get(pattern);
+            if (rank != null) {
+                entries.set(rank, new NodeBase<>(entries.get(rank)._finder, value));
+                return;
+            }
+            rank = entries.size();
+            String[] required = pattern.getRequiredLiterals();
+            entries.add(new NodeBase<>(pattern, value));
+            literals.add(required);
+            finderToRank.put(pattern, rank);
+            root.add(required == null ? "" : required[0], 0, rank);
+        }
+
+        @Override
+        public T get(Finder finder) {
+            Integer rank = finderToRank.get(finder);
+            return rank == null ? null : entries.get(rank)._val;
+        }
+
+        @Override
+        public List<T> getAll(
+                String pattern,
+                Object context,
+                List<Finder> matcherList,
+                Output<String[]> firstInfo) {
+            List<T> retList = new ArrayList<>();
+            find(pattern, context, matcherList, firstInfo, retList);
+            return retList;
+        }
+
+        @Override
+        public T get(
+                String pattern,
+                Object context,
+                Output<String[]> arguments,
+                Output<Finder> matcherFound) {
+            List<Finder> matcherList = new ArrayList<>(1);
+            Output<String[]> firstInfo = new Output<>();
+            T result = find(pattern, context, matcherList, firstInfo, null);
+            if (arguments != null) {
+                arguments.value = firstInfo.value;
+            }
+            if (matcherFound != null) {
+                matcherFound.value = matcherList.isEmpty() ? null : matcherList.get(0);
+            }
+            return result;
+        }
+
+        /**
+         * Try the candidates in order. If all is null, stop at the first match; otherwise add every
+         * match to it. Returns the first match.
+         */
+        private T find(
+                String item,
+                Object context,
+                List<Finder> matcherList,
+                Output<String[]> firstInfo,
+                List<T> all) {
+            // collect the candidate lists for each prefix of the item, each in rank order
+            List<int[]> candidates = new ArrayList<>();
+            PrefixNode node = root;
+            for (int i = 0; ; ++i) {
+                if (node.ranks.length > 0) {
+                    candidates.add(node.ranks);
+                }
+                if (i == item.length() || (node = node.getChild(item.charAt(i))) == null) {
+                    break;
+                }
+            }
+
+            // merge them, trying the finders in rank order
+            int[] positions = new int[candidates.size()];
+            T first = null;
+            while (true) {
+                int best = -1;
+                int bestRank = Integer.MAX_VALUE;
+                for (int c = 0; c < positions.length; ++c) {
+                    int[] ranks = candidates.get(c);
+                    if (positions[c] < ranks.length && ranks[positions[c]] < bestRank) {
+                        bestRank = ranks[positions[c]];
+                        best = c;
+                    }
+                }
+                if (best < 0) {
+                    return first;
+                }
+                ++positions[best];
+                if (!containsLiterals(item, literals.get(bestRank))) {
+                    continue;
+                }
+                NodeBase<T> entry = entries.get(bestRank);
+                Info info = new Info();
+                if (!entry._finder.find(item, context, info)) {
+                    continue;
+                }
+                if (matcherList != null) {
+                    matcherList.add(entry._finder);
+                }
+                if (first == null) {
+                    first = entry._val;
+                    if (firstInfo != null) {
+                        firstInfo.value = info.value;
+                    }
+                }
+                if (all == null) {
+                    return first;
+                }
+                all.add(entry._val);
+            }
+        }
+
+        /** Check the literals after the prefix, which the trie has already matched */
+        private static boolean containsLiterals(String item, String[] required) {
+            if (required == null) {
+                return true;
+            }
+            int start = required[0].length();
+            for (int i = 1; i < required.length; ++i) {
+                int found = item.indexOf(required[i], start);
+                if (found < 0) {
+                    return false;
+                }
+                start = found + required[i].length();
+            }
+            return true;
+        }
+
+        @Override
+        public Set<Entry<Finder, T>> entrySet() {
+            LinkedHashMap<Finder, T> ret = new LinkedHashMap<>();
+            for (NodeBase<T> entry : entries) {
+                ret.put(entry._finder, entry._val);
+            }
+            return ret.entrySet();
+        }
+
+        @Override
+        public String toString() {
+            return entries.stream()
+                    .map(e -> e._finder.toString())
+                    .collect(Collectors.joining("\n"));
+        }
+
+        /** A node in the trie of prefixes, with the ranks of the finders whose prefix ends here */
+        private static class PrefixNode {
+            private static final int[] NO_RANKS = {};
+            private static final PrefixNode[] NO_CHILDREN = {};
+
+            char[] keys = {};
+            PrefixNode[] children = NO_CHILDREN;
+            int[] ranks = NO_RANKS;
+
+            PrefixNode getChild(char c) {
+                int index = Arrays.binarySearch(keys, c);
+                return index < 0 ? null : children[index];
+            }
+
+            void add(String prefix, int start, int rank) {
+                if (start == prefix.length()) {
+                    // ranks are added in increasing order, so this stays sorted
+                    ranks = Arrays.copyOf(ranks, ranks.length + 1);
+                    ranks[ranks.length - 1] = rank;
+                    return;
+                }
+                char c = prefix.charAt(start);
+                int index = Arrays.binarySearch(keys, c);
+                if (index < 0) {
+                    index = -index - 1;
+                    char[] newKeys = new char[keys.length + 1];
+                    PrefixNode[] newChildren = new PrefixNode[keys.length + 1];
+                    System.arraycopy(keys, 0, newKeys, 0, index);
+                    System.arraycopy(children, 0, newChildren, 0, index);
+                    newKeys[index] = c;
+                    newChildren[index] = new PrefixNode();
+                    System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+                    System.arraycopy(children, index, newChildren, index + 1, keys.length - index);
+                    keys = newKeys;
+                    children = newChildren;
+                }
+                children[index].add(prefix, start + 1, rank);
+            }
+        }
+    }
+
     private static class StarPatternMap<T> implements StorageInterfaceBase<T> {
         private Map<String, List<SPNode>> _spmap;
         private int _size = 0;
@@ -790,7 +992,7 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
     }
 
     /**
-     * The basic class of an information node, featuring a Finder, a value and an Info
+     * The basic class of an information node, featuring a Finder and a value
      *
      * @author ribnitz
      * @param <T>
@@ -798,7 +1000,6 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
     private static class NodeBase<T> {
         Finder _finder;
         T _val;
-        Info _info = new Info();
 
         public NodeBase(Finder finder, T value) {
             this._finder = finder;
@@ -913,19 +1114,18 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 for (Map.Entry<Finder, T> entry : storage.entrySet()) {
                     //                for (Map.Entry<Finder, T> entry : SPEntries.entrySet()) {
                     Finder matcher = entry.getKey();
-                    synchronized (matcher) {
-                        int failPoint = matcher.getFailPoint(source);
-                        String show =
-                                source.substring(0, failPoint)
-                                        + "☹"
-                                        + source.substring(failPoint)
-                                        + "\t"
-                                        + matcher.toString();
-                        failures.add(show);
-                    }
+                    int failPoint = matcher.getFailPoint(source);
+                    String show =
+                            source.substring(0, failPoint)
+                                    + "☹"
+                                    + source.substring(failPoint)
+                                    + "\t"
+                                    + matcher.toString();
+                    failures.add(show);
                 }
             }
-        } else if (_lookupType == RegexLookup.LookupType.OPTIMIZED_DIRECTORY_PATTERN_LOOKUP) {
+        } else if (_lookupType == RegexLookup.LookupType.OPTIMIZED_DIRECTORY_PATTERN_LOOKUP
+                || _lookupType == RegexLookup.LookupType.COMPILED_LOOKUP) {
             //      T ret = RTEntries.get(source, context, arguments, matcherFound);
             T ret = storage.get(source, context, arguments, matcherFound);
             if (ret != null) {
@@ -936,43 +1136,39 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 for (Map.Entry<Finder, T> entry : storage.entrySet()) {
                     //                for (Map.Entry<Finder, T> entry : RTEntries.entrySet()) {
                     Finder matcher = entry.getKey();
-                    synchronized (matcher) {
-                        int failPoint = matcher.getFailPoint(source);
-                        String show =
-                                source.substring(0, failPoint)
-                                        + "☹"
-                                        + source.substring(failPoint)
-                                        + "\t"
-                                        + matcher.toString();
-                        failures.add(show);
-                    }
+                    int failPoint = matcher.getFailPoint(source);
+                    String show =
+                            source.substring(0, failPoint)
+                                    + "☹"
+                                    + source.substring(failPoint)
+                                    + "\t"
+                                    + matcher.toString();
+                    failures.add(show);
                 }
             }
         } else {
             // slow but versatile implementation
             for (Map.Entry<Finder, T> entry : MEntries.entrySet()) {
                 Finder matcher = entry.getKey();
-                synchronized (matcher) {
-                    Info firstInfo = new Info();
-                    if (matcher.find(source, context, firstInfo)) {
-                        if (arguments != null) {
-                            //                            arguments.value = matcher.getInfo();
-                            arguments.value = firstInfo.value;
-                        }
-                        if (matcherFound != null) {
-                            matcherFound.value = matcher;
-                        }
-                        return entry.getValue();
-                    } else if (failures != null) {
-                        int failPoint = matcher.getFailPoint(source);
-                        String show =
-                                source.substring(0, failPoint)
-                                        + "☹"
-                                        + source.substring(failPoint)
-                                        + "\t"
-                                        + matcher.toString();
-                        failures.add(show);
+                Info firstInfo = new Info();
+                if (matcher.find(source, context, firstInfo)) {
+                    if (arguments != null) {
+                        //                            arguments.value = matcher.getInfo();
+                        arguments.value = firstInfo.value;
+                    }
+                    if (matcherFound != null) {
+                        matcherFound.value = matcher;
                     }
+                    return entry.getValue();
+                } else if (failures != null) {
+                    int failPoint = matcher.getFailPoint(source);
+                    String show =
+                            source.substring(0, failPoint)
+                                    + "☹"
+                                    + source.substring(failPoint)
+                                    + "\t"
+                                    + matcher.toString();
+                    failures.add(show);
                 }
             }
         }
@@ -1010,20 +1206,19 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 for (Map.Entry<Finder, T> entry : storage.entrySet()) {
                     //                for (Map.Entry<Finder, T> entry : SPEntries.entrySet()) {
                     Finder matcher = entry.getKey();
-                    synchronized (matcher) {
-                        int failPoint = matcher.getFailPoint(source);
-                        String show =
-                                source.substring(0, failPoint)
-                                        + "☹"
-                                        + source.substring(failPoint)
-                                        + "\t"
-                                        + matcher.toString();
-                        failures.add(show);
-                    }
+                    int failPoint = matcher.getFailPoint(source);
+                    String show =
+                            source.substring(0, failPoint)
+                                    + "☹"
+                                    + source.substring(failPoint)
+                                    + "\t"
+                                    + matcher.toString();
+                    failures.add(show);
                 }
             }
             return null;
-        } else if (_lookupType == RegexLookup.LookupType.OPTIMIZED_DIRECTORY_PATTERN_LOOKUP) {
+        } else if (_lookupType == RegexLookup.LookupType.OPTIMIZED_DIRECTORY_PATTERN_LOOKUP
+                || _lookupType == RegexLookup.LookupType.COMPILED_LOOKUP) {
             Output<String[]> info = new Output<>();
             //            List<T> matches = RTEntries.getAll(source, context, matcherList,info);
             List<T> matches = storage.getAll(source, context, matcherList, info);
@@ -1035,16 +1230,14 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 for (Map.Entry<Finder, T> entry : storage.entrySet()) {
                     //                for (Map.Entry<Finder, T> entry : RTEntries.entrySet()) {
                     Finder matcher = entry.getKey();
-                    synchronized (matcher) {
-                        int failPoint = matcher.getFailPoint(source);
-                        String show =
-                                source.substring(0, failPoint)
-                                        + "☹"
-                                        + source.substring(failPoint)
-                                        + "\t"
-                                        + matcher.toString();
-                        failures.add(show);
-                    }
+                    int failPoint = matcher.getFailPoint(source);
+                    String show =
+                            source.substring(0, failPoint)
+                                    + "☹"
+                                    + source.substring(failPoint)
+                                    + "\t"
+                                    + matcher.toString();
+                    failures.add(show);
                 }
             }
             return null;
@@ -1090,7 +1283,8 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
                 //            entrySet = SPEntries.entrySet();
                 entrySet = storage.entrySet();
                 break;
-            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP:
+            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP: // fall through
+            case COMPILED_LOOKUP:
                 //            entrySet = RTEntries.entrySet();
                 entrySet = storage.entrySet();
                 break;
@@ -1273,7 +1467,8 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
         T old;
         switch (_lookupType) {
             case STAR_PATTERN_LOOKUP: // fallthrough
-            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP:
+            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP: // fallthrough
+            case COMPILED_LOOKUP:
                 old = storage.get(pattern);
                 //            old = SPEntries.get(pattern);
                 break;
@@ -1289,7 +1484,8 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
         if (old == null) {
             switch (_lookupType) {
                 case STAR_PATTERN_LOOKUP: // fallthrough
-                case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP:
+                case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP: // fallthrough
+                case COMPILED_LOOKUP:
                     storage.put(pattern, target);
                     //                SPEntries.put(pattern, target);
                     break;
@@ -1319,7 +1515,8 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
     public Iterator<Map.Entry<Finder, T>> iterator() {
         switch (_lookupType) {
             case STAR_PATTERN_LOOKUP: // fall through
-            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP:
+            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP: // fall through
+            case COMPILED_LOOKUP:
                 //            return
                 // Collections.unmodifiableCollection(SPEntries.entrySet()).iterator();
                 return Collections.unmodifiableCollection(storage.entrySet()).iterator();
@@ -1365,7 +1562,8 @@ public class RegexLookup<T> implements Iterable<Map.Entry<Finder, T>> {
     public int size() {
         switch (_lookupType) {
             case STAR_PATTERN_LOOKUP: // fall through
-            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP:
+            case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP: // fall through
+            case COMPILED_LOOKUP:
                 //            return SPEntries.size();
                 return storage.size();
             //        case OPTIMIZED_DIRECTORY_PATTERN_LOOKUP:
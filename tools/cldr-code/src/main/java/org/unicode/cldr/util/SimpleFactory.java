@@ -312,9 +312,13 @@ public class SimpleFactory extends Factory {
     private final File sourceDirectories[];
     private Set<String> localeList = new TreeSet<>();
     private Cache<CLDRCacheKey, CLDRFile> combinedCache = null;
+
     // private   Map<CLDRCacheKey,CLDRFile> combinedCache=  null;
     //     Collections.synchronizedMap(new LruMap<CLDRCacheKey, CLDRFile>(CACHE_LIMIT));
 
+    /** The loader's generation when this factory last dropped invalidated files */
+    private volatile long loaderGeneration = XMLNormalizingLoader.getGeneration();
+
     private Map<String, CLDRFile>[] mainCache = null; /* new Map[DraftStatus.values().length]; */
     private Map<String, CLDRFile>[] resolvedCache = null; /*new Map[DraftStatus.values().length]; */
     //    {
@@ -527,6 +531,79 @@ public class SimpleFactory extends Factory {
         return localeList;
     }
 
+    /**
+     * Reload the files of this factory that have changed on disk since they were loaded (see {@link
+     * XMLNormalizingLoader#reloadChanged(java.util.Collection)}), so that later calls to make see
+     * the new data. Files cached by this factory are dropped if they are, or resolve through, one
+     * of the changed locales; all other locales stay cached. make does the same by itself for files
+     * the loader has invalidated otherwise, for example by its own periodic check.
+     *
+     * @return the locales whose files changed since this factory last dropped files
+     */
+    public Set<String> reloadChanged() {
+        XMLNormalizingLoader.reloadChanged(Arrays.asList(sourceDirectories));
+        return dropInvalidated();
+    }
+
+    /**
+     * Drop the files cached by this factory that are, or resolve through, a locale whose file the
+     * loader has invalidated since this factory last looked.
+     *
+     * @return the locales whose files were invalidated
+     */
+    private Set<String> dropInvalidated() {
+        final Set<String> changed = new TreeSet<>();
+        final long current = XMLNormalizingLoader.getGeneration();
+        if (current == loaderGeneration) {
+            return changed;
+        }
+        synchronized (this) {
+            final long since = loaderGeneration;
+            if (current <= since) {
+                return changed;
+            }
+            for (File file :
+                    XMLNormalizingLoader.getInvalidatedSince(
+                            since, Arrays.asList(sourceDirectories))) {
+                String name = file.getName();
+                changed.add(name.substring(0, name.length() - ".xml".length()));
+            }
+            loaderGeneration = current;
+        }
+        if (changed.isEmpty()) {
+            return changed;
+        }
+        if (combinedCache != null) {
+            combinedCache
+                    .asMap()
+                    .keySet()
+                    .removeIf(key -> dependsOn(key.localeName, key.resolved, changed));
+        }
+        if (mainCache != null) {
+            for (int i = 0; i < mainCache.length; ++i) {
+                synchronized (mainCache[i]) {
+                    mainCache[i].keySet().removeAll(changed);
+                }
+                synchronized (resolvedCache[i]) {
+                    resolvedCache[i].keySet().removeIf(locale -> dependsOn(locale, true, changed));
+                }
+            }
+        }
+        return changed;
+    }
+
+    private boolean dependsOn(String localeName, boolean resolved, Set<String> changed) {
+        if (!resolved) {
+            return changed.contains(localeName);
+        }
+        for (String cur = localeName; cur != null; cur = getResolutionParent(cur)) {
+            if (changed.contains(cur)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static class NoSourceDirectoryException extends ICUUncheckedIOException {
         private static final long serialVersionUID = 1L;
         private final String localeName;
@@ -551,6 +628,8 @@ public class SimpleFactory extends Factory {
             String localeName, boolean resolved, DraftStatus minimalDraftStatus) {
         @SuppressWarnings("rawtypes")
         final Map mapToSynchronizeOn;
+        XMLNormalizingLoader.reloadChangedIfDue();
+        dropInvalidated();
         final List<File> parentDirs = getSourceDirectoriesForLocale(localeName);
         /*
          *  Parameter check: parentDir being null means the source directory could not be found - throw exception here
@@ -4,6 +4,7 @@ import com.ibm.icu.impl.Relation;
 import com.ibm.icu.text.Normalizer2;
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.VersionInfo;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,8 +15,162 @@ import java.util.regex.Pattern;
 import org.unicode.cldr.util.XPathParts.Comments;
 
 public class SimpleXMLSource extends XMLSource {
-    private Map<String, String> xpath_value = CldrUtility.newConcurrentHashMap();
-    private Map<String, String> xpath_fullXPath = CldrUtility.newConcurrentHashMap();
+    /** The values and full paths, shared with locked copies */
+    private PathData data = new PathData();
+
+    /**
+     * The values and full paths by distinguishing path.
+     *
+     * <p>Until frozen they are kept in ConcurrentHashMaps keyed by path. Freezing replaces the maps
+     * with tables keyed by {@link PathIds} ID, which take a fraction of the memory, and from then
+     * on the tables are the only copy. A frozen source can still be changed at the DPath level, as
+     * the Survey Tool does for each vote; the tables are changed in place, holding the lock, while
+     * readers go on without it.
+     */
+    private static final class PathData {
+        /** null once frozen */
+        private volatile PathMaps maps = new PathMaps();
+
+        /** null until frozen; set before the maps are dropped, so readers always find one */
+        private volatile PathTables tables;
+
+        String getValue(String path) {
+            final PathMaps m = maps;
+            return m != null
+                    ? m.xpath_value.get(path)
+                    : tables.values.get(PathIds.getIdIfPresent(path));
+        }
+
+        String getValue(int pathId) {
+            final PathMaps m = maps;
+            return m != null
+                    ? m.xpath_value.get(PathIds.getPath(pathId))
+                    : tables.values.get(pathId);
+        }
+
+        String getFullPath(String path) {
+            final PathMaps m = maps;
+            if (m == null) {
+                return tables.getFullPath(PathIds.getIdIfPresent(path), path);
+            }
+            String result = m.xpath_fullXPath.get(path);
+            if (result != null) return result;
+            if (m.xpath_value.get(path) != null) return path; // we don't store duplicates
+            return null;
+        }
+
+        String getFullPath(int pathId) {
+            final PathMaps m = maps;
+            return m != null
+                    ? getFullPath(PathIds.getPath(pathId))
+                    : tables.getFullPath(pathId, null);
+        }
+
+        Iterator<String> iterator() {
+            final PathMaps m = maps;
+            if (m != null) {
+                return Collections.unmodifiableSet(m.xpath_value.keySet()).iterator();
+            }
+            return Arrays.stream(tables.values.keys()).mapToObj(PathIds::getPath).iterator();
+        }
+
+        /**
+         * @return the old value
+         */
+        synchronized String putValue(String path, String value) {
+            final PathMaps m = maps;
+            if (m != null) {
+                return m.xpath_value.put(path, value);
+            }
+            final int pathId = PathIds.getId(path);
+            final String oldValue = tables.values.get(pathId);
+            tables.values.put(pathId, value);
+            return oldValue;
+        }
+
+        synchronized void putFullPath(String path, String fullPath) {
+            final PathMaps m = maps;
+            if (m != null) {
+                m.xpath_fullXPath.put(path, fullPath);
+                return;
+            }
+            tables.fullPaths.put(PathIds.getId(path), fullPath);
+        }
+
+        /**
+         * @return the old value
+         */
+        synchronized String remove(String path) {
+            final PathMaps m = maps;
+            if (m != null) {
+                m.xpath_fullXPath.remove(path);
+                return m.xpath_value.remove(path);
+            }
+            final int pathId = PathIds.getIdIfPresent(path);
+            tables.fullPaths.remove(pathId);
+            return tables.values.remove(pathId);
+        }
+
+        synchronized void freeze() {
+            final PathMaps m = maps;
+            if (m != null) {
+                tables = new PathTables(m);
+                maps = null;
+            }
+        }
+
+        /** A thawed copy */
+        synchronized PathData copy() {
+            final PathData result = new PathData();
+            final PathMaps m = maps;
+            if (m != null) {
+                result.maps.xpath_value.putAll(m.xpath_value);
+                result.maps.xpath_fullXPath.putAll(m.xpath_fullXPath);
+            } else {
+                for (int pathId : tables.values.keys()) {
+                    result.maps.xpath_value.put(PathIds.getPath(pathId), tables.values.get(pathId));
+                }
+                for (int pathId : tables.fullPaths.keys()) {
+                    result.maps.xpath_fullXPath.put(
+                            PathIds.getPath(pathId), tables.fullPaths.get(pathId));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class PathMaps {
+        final Map<String, String> xpath_value = CldrUtility.newConcurrentHashMap();
+        final Map<String, String> xpath_fullXPath = CldrUtility.newConcurrentHashMap();
+    }
+
+    /** Read without a lock; only changed while holding the lock of the PathData */
+    private static final class PathTables {
+        final ConcurrentIntObjectMap<String> values;
+        final ConcurrentIntObjectMap<String> fullPaths;
+
+        PathTables(PathMaps maps) {
+            values = new ConcurrentIntObjectMap<>(maps.xpath_value.size());
+            fullPaths = new ConcurrentIntObjectMap<>(maps.xpath_fullXPath.size());
+            maps.xpath_value.forEach(
+                    (path, value) -> values.put(PathIds.getId(path), ValuePool.intern(value)));
+            maps.xpath_fullXPath.forEach(
+                    (path, fullPath) -> fullPaths.put(PathIds.getId(path), fullPath));
+        }
+
+        /**
+         * @param path the path of the ID, or null to look it up
+         */
+        String getFullPath(int pathId, String path) {
+            String result = fullPaths.get(pathId);
+            if (result != null) return result;
+            if (values.get(pathId) != null) {
+                return path != null ? path : PathIds.getPath(pathId);
+            }
+            return null;
+        }
+    }
+
     private Comments xpath_comments = new Comments(); // map from paths to comments.
     private Relation<String, String> VALUE_TO_PATH = null;
     private Object VALUE_TO_PATH_MUTEX = new Object();
@@ -31,8 +186,7 @@ public class SimpleXMLSource extends XMLSource {
      * @param copyAsLockedFrom
      */
     protected SimpleXMLSource(SimpleXMLSource copyAsLockedFrom) {
-        this.xpath_value = copyAsLockedFrom.xpath_value;
-        this.xpath_fullXPath = copyAsLockedFrom.xpath_fullXPath;
+        this.data = copyAsLockedFrom.data;
         this.xpath_comments = copyAsLockedFrom.xpath_comments;
         this.setLocaleID(copyAsLockedFrom.getLocaleID());
         this.locationHash = Collections.unmodifiableMap(copyAsLockedFrom.locationHash);
@@ -41,22 +195,27 @@ public class SimpleXMLSource extends XMLSource {
 
     @Override
     public String getValueAtDPath(String xpath) {
-        return xpath_value.get(xpath);
+        return data.getValue(xpath);
+    }
+
+    @Override
+    public String getValueAtDPath(int pathId) {
+        return data.getValue(pathId);
     }
 
     public String getValueAtDPathSkippingInheritanceMarker(String xpath) {
-        String result = xpath_value.get(xpath);
+        String result = getValueAtDPath(xpath);
         return CldrUtility.INHERITANCE_MARKER.equals(result) ? null : result;
     }
 
     @Override
     public String getFullPathAtDPath(String xpath) {
-        String result = xpath_fullXPath.get(xpath);
-        if (result != null) return result;
-        if (xpath_value.get(xpath) != null) return xpath; // we don't store duplicates
-        // System.err.println("WARNING: "+getLocaleID()+": path not present in data: " + xpath);
-        // return xpath;
-        return null; // throw new IllegalArgumentException("Path not present in data: " + xpath);
+        return data.getFullPath(xpath);
+    }
+
+    @Override
+    public String getFullPathAtDPath(int pathId) {
+        return data.getFullPath(pathId);
     }
 
     @Override
@@ -79,19 +238,20 @@ public class SimpleXMLSource extends XMLSource {
     // }
     @Override
     public void removeValueAtDPath(String distinguishingXPath) {
-        String oldValue = xpath_value.get(distinguishingXPath);
-        xpath_value.remove(distinguishingXPath);
-        xpath_fullXPath.remove(distinguishingXPath);
+        String oldValue = data.remove(distinguishingXPath);
         updateValuePathMapping(distinguishingXPath, oldValue, null);
     }
 
     @Override
     public Iterator<String> iterator() { // must be unmodifiable or locked
-        return Collections.unmodifiableSet(xpath_value.keySet()).iterator();
+        return data.iterator();
     }
 
     @Override
     public XMLSource freeze() {
+        if (!locked) {
+            data.freeze();
+        }
         locked = true;
         return this;
     }
@@ -100,22 +260,20 @@ public class SimpleXMLSource extends XMLSource {
     public XMLSource cloneAsThawed() {
         SimpleXMLSource result = (SimpleXMLSource) super.cloneAsThawed();
         result.xpath_comments = (Comments) result.xpath_comments.clone();
-        result.xpath_fullXPath = CldrUtility.newConcurrentHashMap(result.xpath_fullXPath);
-        result.xpath_value = CldrUtility.newConcurrentHashMap(result.xpath_value);
+        result.data = data.copy();
         result.locationHash.putAll(result.locationHash);
         return result;
     }
 
     @Override
     public void putFullPathAtDPath(String distinguishingXPath, String fullxpath) {
-        xpath_fullXPath.put(distinguishingXPath.intern(), fullxpath.intern());
+        data.putFullPath(distinguishingXPath.intern(), fullxpath.intern());
     }
 
     @Override
     public void putValueAtDPath(String distinguishingXPath, String value) {
         distinguishingXPath = distinguishingXPath.intern();
-        String oldValue = xpath_value.get(distinguishingXPath);
-        xpath_value.put(distinguishingXPath, value);
+        String oldValue = data.putValue(distinguishingXPath, value);
         updateValuePathMapping(distinguishingXPath, oldValue, value);
     }
 
@@ -253,4 +411,9 @@ public class SimpleXMLSource extends XMLSource {
     public SourceLocation getSourceLocation(String fullXPath) {
         return locationHash.get(fullXPath);
     }
+
+    /** Read-only view of all source locations, keyed by full xpath. */
+    Map<String, SourceLocation> getSourceLocations() {
+        return Collections.unmodifiableMap(locationHash);
+    }
 }
@@ -0,0 +1,207 @@
+package org.unicode.cldr.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * Utilities for the binary files in which data is kept between runs, such as by XMLSourceSnapshot,
+ * SupplementalDataSnapshot, CheckResultStore, ExampleStore and the Survey Tool's ResolvedVoteStore.
+ *
+ * <p>Such a file is named by a hash of what its contents depend on, so that a file that is out of
+ * date is never read; a new file is written instead, and the ones it supersedes can be removed with
+ * {@link #deleteOthers}. Since the directory may be shared by several processes, a file is written
+ * with {@link #writeAtomically}: to a temporary file in the same directory, which is then moved
+ * into place, so that no process ever reads a partial file. Strings are written with {@link
+ * #writeString} as a length and UTF-8 bytes, and may be null.
+ */
+public final class StoreFiles {
+
+    /** The length written by {@link #writeString} for null */
+    private static final int NO_STRING = -1;
+
+    /** The number of bytes of the SHA-256 digest that are used in file names */
+    private static final int HASH_BYTES = 16;
+
+    /** Hashes of the frozen files, which can't change */
+    private static final Cache<CLDRFile, String> frozenHashes =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    /** Hashes of directories, which are assumed not to change while running */
+    private static final Map<File, String> directoryHashes = new ConcurrentHashMap<>();
+
+    /** Writes the contents of a file */
+    @FunctionalInterface
+    public interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private StoreFiles() {}
+
+    /** Write the file as described in the class description */
+    public static void writeAtomically(File file, Writer writer) throws IOException {
+        File temp = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+        try {
+            try (OutputStream os = Files.newOutputStream(temp.toPath());
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                writer.write(out);
+            }
+            Files.move(
+                    temp.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Delete the other files in the file's directory whose names start with the prefix and have the
+     * same extension, such as those of the same locale with other hashes. Files that can't be
+     * deleted are left, since they are never read again.
+     */
+    public static void deleteOthers(File file, String prefix) {
+        final String name = file.getName();
+        final String extension = name.substring(name.lastIndexOf('.'));
+        File[] others =
+                file.getParentFile()
+                        .listFiles(
+                                f ->
+                                        f.getName().startsWith(prefix)
+                                                && f.getName().endsWith(extension)
+                                                && !f.getName().equals(name));
+        if (others != null) {
+            for (File f : others) {
+                f.delete();
+            }
+        }
+    }
+
+    public static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(NO_STRING);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Add the string to the digest, terminated so that consecutive strings can't run together */
+    public static void update(MessageDigest digest, String s) {
+        digest.update(String.valueOf(s).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /** The hex string for the digest, for use in a file name */
+    public static String toHex(MessageDigest digest) {
+        return CldrUtility.hex(digest.digest(), 0, HASH_BYTES, "");
+    }
+
+    /**
+     * Hash the files in the directory (not its subdirectories), in a fixed order. The hash is
+     * computed once per directory.
+     *
+     * @return the hash, or "" if the directory is null or doesn't exist
+     */
+    public static String hashDirectory(File directory) {
+        if (directory == null || !directory.isDirectory()) {
+            return "";
+        }
+        return directoryHashes.computeIfAbsent(
+                directory,
+                dir -> {
+                    MessageDigest digest = newDigest();
+                    File[] files = dir.listFiles(File::isFile);
+                    Arrays.sort(files);
+                    for (File f : files) {
+                        update(digest, f.getName());
+                        try {
+                            digest.update(Files.readAllBytes(f.toPath()));
+                        } catch (IOException e) {
+                            update(digest, "unreadable " + f.lastModified());
+                        }
+                    }
+                    return toHex(digest);
+                });
+    }
+
+    /**
+     * Hash the paths, full paths and values of the file, in a fixed order. The hash of a frozen
+     * file is computed once.
+     */
+    public static String hash(CLDRFile file) {
+        if (!file.isFrozen()) {
+            return hash(file, path -> true);
+        }
+        try {
+            return frozenHashes.get(file, () -> hash(file, path -> true));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Hash the paths, full paths and values of the file's paths that match the filter */
+    public static String hash(CLDRFile file, Predicate<String> filter) {
+        MessageDigest digest = newDigest();
+        TreeSet<String> paths = new TreeSet<>();
+        file.forEach(
+                path -> {
+                    if (filter.test(path)) {
+                        paths.add(path);
+                    }
+                });
+        for (String path : paths) {
+            update(digest, path);
+            update(digest, file.getFullXPath(path));
+            update(digest, file.getStringValue(path));
+        }
+        return toHex(digest);
+    }
+}
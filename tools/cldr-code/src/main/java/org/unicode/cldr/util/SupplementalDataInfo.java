@@ -6,6 +6,7 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
@@ -44,7 +45,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.Deque;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -62,6 +62,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -1152,47 +1153,17 @@ public class SupplementalDataInfo {
             // reaching here means we have not cached the entry
             File directory = new File(normalizedPath);
             instance = new SupplementalDataInfo(directory);
-            MyHandler myHandler = instance.new MyHandler();
-            XMLFileReader xfr = new XMLFileReader().setHandler(myHandler);
-            File files1[] = directory.listFiles();
-            if (files1 == null || files1.length == 0) {
-                throw new ICUUncheckedIOException(
-                        "Error: Supplemental files missing from " + directory.getAbsolutePath());
-            }
-            // get bcp47 files also
-            File bcp47dir = instance.getBcp47Directory();
-            if (!bcp47dir.isDirectory()) {
-                throw new ICUUncheckedIOException(
-                        "Error: BCP47 dir is not a directory: " + bcp47dir.getAbsolutePath());
-            }
-            File files2[] = bcp47dir.listFiles();
-            if (files2 == null || files2.length == 0) {
-                throw new ICUUncheckedIOException(
-                        "Error: BCP47 files missing from " + bcp47dir.getAbsolutePath());
-            }
-
-            CBuilder<File, ArrayList<File>> builder = Builder.with(new ArrayList<File>());
-            builder.addAll(files1);
-            builder.addAll(files2);
-            for (File file : builder.get()) {
-                if (DEBUG) {
-                    System.out.println(getNormalizedPathString(file));
-                }
-                String name = file.toString();
-                String shortName = file.getName();
-                if (!shortName.endsWith(".xml")
-                        || // skip non-XML
-                        shortName.startsWith("#")
-                        || // skip other junk files
-                        shortName.startsWith(".")) continue; // skip dot files (backups, etc)
-                xfr.read(name, -1, true);
-                myHandler.cleanup();
-            }
-
+            List<File> files = instance.getXmlFiles();
+            File snapshotDir = XMLSourceSnapshot.getSnapshotDir();
+            instance.load(
+                    files,
+                    snapshotDir == null
+                            ? null
+                            : SupplementalDataSnapshot.getInstance(
+                                    snapshotDir, files, instance.getDtdDirectory()));
             // xfr = new XMLFileReader().setHandler(instance.new MyHandler());
             // .xfr.read(normalizedPath + "/supplementalMetadata.xml", -1, true);
 
-            instance.makeStuffSafe();
             // cache
             //            directory_instance.put(supplementalDirectory, instance);
             directory_instance.put(normalizedPath, instance);
@@ -1207,6 +1178,198 @@ public class SupplementalDataInfo {
         return new File(getDirectory().getParent(), "bcp47");
     }
 
+    private File getDtdDirectory() {
+        return new File(getDirectory().getParent(), "dtd");
+    }
+
+    /** The supplemental and bcp47 XML files, in the order they are read */
+    private List<File> getXmlFiles() {
+        File files1[] = directory.listFiles();
+        if (files1 == null || files1.length == 0) {
+            throw new ICUUncheckedIOException(
+                    "Error: Supplemental files missing from " + directory.getAbsolutePath());
+        }
+        // get bcp47 files also
+        File bcp47dir = getBcp47Directory();
+        if (!bcp47dir.isDirectory()) {
+            throw new ICUUncheckedIOException(
+                    "Error: BCP47 dir is not a directory: " + bcp47dir.getAbsolutePath());
+        }
+        File files2[] = bcp47dir.listFiles();
+        if (files2 == null || files2.length == 0) {
+            throw new ICUUncheckedIOException(
+                    "Error: BCP47 files missing from " + bcp47dir.getAbsolutePath());
+        }
+
+        List<File> result = new ArrayList<>();
+        CBuilder<File, ArrayList<File>> builder = Builder.with(new ArrayList<File>());
+        builder.addAll(files1);
+        builder.addAll(files2);
+        for (File file : builder.get()) {
+            String shortName = file.getName();
+            if (!shortName.endsWith(".xml")
+                    || // skip non-XML
+                    shortName.startsWith("#")
+                    || // skip other junk files
+                    shortName.startsWith(".")) continue; // skip dot files (backups, etc)
+            result.add(file);
+        }
+        return result;
+    }
+
+    /**
+     * Families of data that are only read from their files, and built, when first needed. Most
+     * callers only need a few of them. The data of the other files is read up front.
+     */
+    public enum LazySection {
+        PLURALS("plurals.xml", "ordinals.xml", "pluralRanges.xml"),
+        DAY_PERIODS("dayPeriods.xml"),
+        COVERAGE("coverageLevels.xml"),
+        LANGUAGE_MATCHING("languageInfo.xml");
+
+        private final Set<String> fileNames;
+
+        LazySection(String... fileNames) {
+            this.fileNames = ImmutableSet.copyOf(fileNames);
+        }
+
+        static LazySection forFile(File file) {
+            for (LazySection section : values()) {
+                if (section.fileNames.contains(file.getName())) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** Whether to read the lazy sections up front anyway, such as for a server */
+    private static final boolean LOAD_SECTIONS_EAGERLY =
+            CldrUtility.getProperty("CLDR_SUPPLEMENTAL_EAGER", false);
+
+    private static final Logger logger = Logger.getLogger(SupplementalDataInfo.class.getName());
+
+    /** Where the files of the lazy sections are read from; null if from XML */
+    private SupplementalDataSnapshot snapshot;
+
+    private final Map<LazySection, List<File>> sectionToFiles = new EnumMap<>(LazySection.class);
+
+    /** Also the lock for loading sections */
+    private final Set<LazySection> loadedSections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Read the files into this instance, from the snapshot if there is one, and make the data safe.
+     * The files of the lazy sections are only read when needed.
+     */
+    private void load(List<File> files, SupplementalDataSnapshot snapshot) {
+        this.snapshot = snapshot;
+        List<File> eagerFiles = new ArrayList<>();
+        for (File file : files) {
+            LazySection section = LazySection.forFile(file);
+            if (section == null) {
+                eagerFiles.add(file);
+            } else {
+                sectionToFiles.computeIfAbsent(section, k -> new ArrayList<>()).add(file);
+            }
+        }
+        readFiles(eagerFiles);
+        makeStuffSafe();
+        if (LOAD_SECTIONS_EAGERLY) {
+            loadAllSections();
+        }
+    }
+
+    private void readFiles(List<File> files) {
+        MyHandler myHandler = new MyHandler();
+        XMLFileReader xfr = new XMLFileReader().setHandler(myHandler);
+        for (File file : files) {
+            if (DEBUG) {
+                System.out.println(getNormalizedPathString(file));
+            }
+            if (snapshot != null) {
+                snapshot.replay(file, myHandler);
+            } else {
+                xfr.read(file.toString(), -1, true);
+            }
+            myHandler.cleanup();
+        }
+    }
+
+    /**
+     * Read the files of the section, if that hasn't been done yet, and make its data safe. The
+     * loading is logged (at FINE), with the method that first needed the section.
+     */
+    private void ensureLoaded(LazySection section) {
+        if (loadedSections.contains(section)) {
+            return;
+        }
+        synchronized (loadedSections) {
+            if (loadedSections.contains(section)) {
+                return;
+            }
+            long start = System.nanoTime();
+            readFiles(sectionToFiles.getOrDefault(section, List.of()));
+            makeSectionSafe(section);
+            loadedSections.add(section);
+            if (logger.isLoggable(java.util.logging.Level.FINE)) {
+                logger.fine(
+                        "Loaded "
+                                + section
+                                + " in "
+                                + (System.nanoTime() - start) / 1_000_000
+                                + " ms, for "
+                                + getCaller());
+            }
+        }
+    }
+
+    /** The first caller outside this class, for logging */
+    private static String getCaller() {
+        return StackWalker.getInstance()
+                .walk(
+                        frames ->
+                                frames.filter(
+                                                frame ->
+                                                        !frame.getClassName()
+                                                                .startsWith(
+                                                                        SupplementalDataInfo.class
+                                                                                .getName()))
+                                        .findFirst())
+                .map(Object::toString)
+                .orElse("?");
+    }
+
+    /** Read all of the lazy sections that haven't been read yet. */
+    public void loadAllSections() {
+        for (LazySection section : LazySection.values()) {
+            ensureLoaded(section);
+        }
+    }
+
+    /**
+     * @return the lazy sections read so far, such as to see which ones a tool needs
+     */
+    public Set<LazySection> getLoadedSections() {
+        EnumSet<LazySection> result = EnumSet.noneOf(LazySection.class);
+        result.addAll(loadedSections);
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Make an uncached instance for the directory, reading the files from the snapshot if there is
+     * one. For testing.
+     */
+    static SupplementalDataInfo make(File directory, SupplementalDataSnapshot snapshot) {
+        SupplementalDataInfo instance = new SupplementalDataInfo(directory);
+        instance.load(instance.getXmlFiles(), snapshot);
+        return instance;
+    }
+
+    /** The files that an instance for the directory reads. For testing. */
+    static List<File> getXmlFiles(File directory) {
+        return new SupplementalDataInfo(directory).getXmlFiles();
+    }
+
     private SupplementalDataInfo(File directory) {
         this.directory = directory;
         this.validity = Validity.getInstance(directory.toString() + "/../validity/");
@@ -1302,24 +1465,6 @@ public class SupplementalDataInfo {
                 languageToPopulationDataTemp.get(language).freeze();
             }
         }
-        localeToPluralInfo2.put(
-                PluralType.cardinal,
-                Collections.unmodifiableMap(localeToPluralInfo2.get(PluralType.cardinal)));
-        localeToPluralInfo2.put(
-                PluralType.ordinal,
-                Collections.unmodifiableMap(localeToPluralInfo2.get(PluralType.ordinal)));
-
-        localeToPluralRanges = Collections.unmodifiableMap(localeToPluralRanges);
-        for (PluralRanges pluralRanges : localeToPluralRanges.values()) {
-            pluralRanges.freeze();
-        }
-
-        if (lastDayPeriodLocales != null) {
-            addDayPeriodInfo();
-        }
-        typeToLocaleToDayPeriodInfo = CldrUtility.protectCollection(typeToLocaleToDayPeriodInfo);
-        languageMatch = CldrUtility.protectCollection(languageMatch);
-
         bcp47Extension2Keys.freeze();
         bcp47Key2Subtypes.freeze();
         CldrUtility.protectCollection(bcp47ValueType);
@@ -1368,9 +1513,6 @@ public class SupplementalDataInfo {
         bcp47KeyToSubtypeToInfo = CldrUtility.protectCollection(bcp47KeyToSubtypeToInfo);
         bcp47KeyToAliasToSubtype = CldrUtility.protectCollection(bcp47KeyToAliasToSubtype);
 
-        CoverageLevelInfo.fixEU(coverageLevels, this);
-        coverageLevels = CldrUtility.protectCollection(coverageLevels);
-
         measurementData = CldrUtility.protectCollection(measurementData);
 
         final Map<String, R2<List<String>, String>> unitAliases =
@@ -1418,6 +1560,39 @@ public class SupplementalDataInfo {
         languageNonTcLtBasic = CldrUtility.protectCollection(languageNonTcLtBasic);
     }
 
+    /** Like makeStuffSafe, for the data of a lazy section */
+    private void makeSectionSafe(LazySection section) {
+        switch (section) {
+            case PLURALS:
+                localeToPluralInfo2.put(
+                        PluralType.cardinal,
+                        Collections.unmodifiableMap(localeToPluralInfo2.get(PluralType.cardinal)));
+                localeToPluralInfo2.put(
+                        PluralType.ordinal,
+                        Collections.unmodifiableMap(localeToPluralInfo2.get(PluralType.ordinal)));
+
+                localeToPluralRanges = Collections.unmodifiableMap(localeToPluralRanges);
+                for (PluralRanges pluralRanges : localeToPluralRanges.values()) {
+                    pluralRanges.freeze();
+                }
+                break;
+            case DAY_PERIODS:
+                if (lastDayPeriodLocales != null) {
+                    addDayPeriodInfo();
+                }
+                typeToLocaleToDayPeriodInfo =
+                        CldrUtility.protectCollection(typeToLocaleToDayPeriodInfo);
+                break;
+            case COVERAGE:
+                CoverageLevelInfo.fixEU(coverageLevels, this);
+                coverageLevels = CldrUtility.protectCollection(coverageLevels);
+                break;
+            case LANGUAGE_MATCHING:
+                languageMatch = CldrUtility.protectCollection(languageMatch);
+                break;
+        }
+    }
+
     /**
      * Core function used to process each of the paths, and add the data to the appropriate data
      * member.
@@ -2862,6 +3037,7 @@ public class SupplementalDataInfo {
     }
 
     public Set<CoverageLevelInfo> getCoverageLevelInfo() {
+        ensureLoaded(LazySection.COVERAGE);
         return coverageLevels;
     }
 
@@ -2874,14 +3050,7 @@ public class SupplementalDataInfo {
      * @return
      */
     public Level getCoverageLevel(String xpath, String loc) {
-        Level result = null;
-        result = coverageCache.get(xpath, loc);
-        if (result == null) {
-            CoverageLevel2 cov = getCoverageLevelInfo(loc);
-            result = cov.getLevel(xpath);
-            coverageCache.put(xpath, loc, result);
-        }
-        return result;
+        return getCoverageLevelInfo(loc).getLevel(xpath);
     }
 
     /**
@@ -2897,96 +3066,6 @@ public class SupplementalDataInfo {
         return cov;
     }
 
-    /**
-     * Cache Data structure with object expiry, List that can hold up to MAX_LOCALES caches of
-     * locales, when one locale hasn't been used for a while it will removed and GC'd
-     */
-    private class CoverageCache {
-        private final Deque<Node> localeList = new LinkedList<>();
-        private final int MAX_LOCALES = 10;
-
-        /** Object to sync on for modifying the locale list */
-        private final Object LOCALE_LIST_ITER_SYNC = new Object();
-
-        /*
-         * constructor
-         */
-        public CoverageCache() {
-            //            localeList = new LinkedList<Node>();
-        }
-
-        /*
-         * retrieves coverage level associated with two keys if it exists in the cache, otherwise returns null
-         * @param xpath
-         * @param loc
-         * @return the coverage level of the above two keys
-         */
-        public Level get(String xpath, String loc) {
-            synchronized (LOCALE_LIST_ITER_SYNC) {
-                Iterator<Node> it = localeList.iterator();
-                Node reAddNode = null;
-                while (it.hasNext()) {
-                    //            for (Iterator<Node> it = localeList.iterator(); it.hasNext();) {
-                    Node node = it.next();
-                    if (node.loc.equals(loc)) {
-                        reAddNode = node;
-                        it.remove();
-                        break;
-                    }
-                }
-                if (reAddNode != null) {
-                    localeList.addFirst(reAddNode);
-                    return reAddNode.map.get(xpath);
-                }
-                return null;
-            }
-        }
-
-        /*
-         * places a coverage level into the cache, with two keys
-         * @param xpath
-         * @param loc
-         * @param covLevel    the coverage level of the above two keys
-         */
-        public void put(String xpath, String loc, Level covLevel) {
-            synchronized (LOCALE_LIST_ITER_SYNC) {
-                // if locale's map is already in the cache add to it
-                //            for (Iterator<Node> it = localeList.iterator(); it.hasNext();) {
-                for (Node node : localeList) {
-                    //                Node node = it.next();
-                    if (node.loc.equals(loc)) {
-                        node.map.put(xpath, covLevel);
-                        return;
-                    }
-                }
-
-                // if it is not, add a new map with the coverage level, and remove the last map in
-                // the list (used most seldom) if the list is too large
-                Map<String, Level> newMap = new ConcurrentHashMap<>();
-                newMap.put(xpath, covLevel);
-                localeList.addFirst(new Node(loc, newMap));
-
-                if (localeList.size() > MAX_LOCALES) {
-                    localeList.removeLast();
-                }
-            }
-        }
-
-        /*
-         * node to hold a location and a Map
-         */
-        private class Node {
-            // public fields to emulate a C/C++ struct
-            public String loc;
-            public Map<String, Level> map;
-
-            public Node(String _loc, Map<String, Level> _map) {
-                loc = _loc;
-                map = _map;
-            }
-        }
-    }
-
     /**
      * Used to get the coverage value for a path. Note, it is more efficient to create a
      * CoverageLevel2 for a language, and keep it around.
@@ -3056,7 +3135,7 @@ public class SupplementalDataInfo {
         String targetCurrencyString = toRegexString(cvi.targetCurrencies);
         String targetTimeZoneString = toRegexString(cvi.targetTimeZones);
         String targetPluralsString = toRegexString(cvi.targetPlurals);
-        Iterator<CoverageLevelInfo> i = coverageLevels.iterator();
+        Iterator<CoverageLevelInfo> i = getCoverageLevelInfo().iterator();
         while (i.hasNext()) {
             CoverageLevelInfo ci = i.next();
             String regex =
@@ -3487,6 +3566,7 @@ public class SupplementalDataInfo {
      */
     public int getRequiredVotes(CLDRLocale loc, PathHeader ph) {
         if (approvalMatchers == null) {
+            ensureLoaded(LazySection.COVERAGE);
             approvalMatchers = ApprovalRequirementMatcher.buildAll(approvalRequirements);
         }
 
@@ -3677,8 +3757,23 @@ public class SupplementalDataInfo {
 
     private Map<DayPeriodInfo.Type, Map<String, DayPeriodInfo>> typeToLocaleToDayPeriodInfo =
             new EnumMap<>(DayPeriodInfo.Type.class);
-    private Map<String, CoverageLevel2> localeToCoverageLevelInfo = new ConcurrentHashMap<>();
-    private CoverageCache coverageCache = new CoverageCache();
+
+    /**
+     * The coverage levels of the most recently used locales. Each CoverageLevel2 memoizes the
+     * levels of its paths, so at most CLDR_COVERAGE_LOCALES_MAX are kept, and the garbage collector
+     * may drop them when memory is short.
+     */
+    private Map<String, CoverageLevel2> localeToCoverageLevelInfo =
+            CacheBuilder.newBuilder()
+                    .maximumSize(MAX_COVERAGE_LOCALES)
+                    .softValues()
+                    .<String, CoverageLevel2>build()
+                    .asMap();
+
+    /** Enough for all the locales that the Survey Tool or ConsoleCheckCLDR work on at once */
+    private static final int MAX_COVERAGE_LOCALES =
+            Integer.parseInt(CldrUtility.getProperty("CLDR_COVERAGE_LOCALES_MAX", "500"));
+
     private transient String lastPluralLocales = "";
     private transient PluralType lastPluralWasOrdinal = null;
     private transient Map<Count, String> lastPluralMap = new EnumMap<>(Count.class);
@@ -4552,14 +4647,17 @@ public class SupplementalDataInfo {
      * @return the set of locales that have rules for the specified plural type
      */
     public Set<String> getPluralLocales(PluralType type) {
+        ensureLoaded(LazySection.PLURALS);
         return localeToPluralInfo2.get(type).keySet();
     }
 
     public Set<String> getPluralRangesLocales() {
+        ensureLoaded(LazySection.PLURALS);
         return localeToPluralRanges.keySet();
     }
 
     public PluralRanges getPluralRanges(String locale) {
+        ensureLoaded(LazySection.PLURALS);
         return localeToPluralRanges.get(locale);
     }
 
@@ -4598,6 +4696,7 @@ public class SupplementalDataInfo {
      * @return
      */
     public PluralInfo getPlurals(PluralType type, String locale, boolean allowRoot) {
+        ensureLoaded(LazySection.PLURALS);
         Map<String, PluralInfo> infoMap = localeToPluralInfo2.get(type);
         while (locale != null) {
             if (!allowRoot && locale.equals(LocaleNames.ROOT)) {
@@ -4640,6 +4739,7 @@ public class SupplementalDataInfo {
     }
 
     public DayPeriodInfo getDayPeriods(DayPeriodInfo.Type type, String locale) {
+        ensureLoaded(LazySection.DAY_PERIODS);
         Map<String, DayPeriodInfo> map1 = typeToLocaleToDayPeriodInfo.get(type);
         while (locale != null) {
             DayPeriodInfo result = map1.get(locale);
@@ -4652,6 +4752,7 @@ public class SupplementalDataInfo {
     }
 
     public Set<String> getDayPeriodLocales(DayPeriodInfo.Type type) {
+        ensureLoaded(LazySection.DAY_PERIODS);
         return typeToLocaleToDayPeriodInfo.get(type).keySet();
     }
 
@@ -4758,10 +4859,12 @@ public class SupplementalDataInfo {
      * @return
      */
     public List<R4<String, String, Integer, Boolean>> getLanguageMatcherData(String string) {
+        ensureLoaded(LazySection.LANGUAGE_MATCHING);
         return languageMatch.get(string);
     }
 
     public Set<String> getLanguageMatcherKeys() {
+        ensureLoaded(LazySection.LANGUAGE_MATCHING);
         return languageMatch.keySet();
     }
 
@@ -0,0 +1,219 @@
+package org.unicode.cldr.util;
+
+import com.ibm.icu.util.ICUUncheckedIOException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Compact binary form of the supplemental (and bcp47) XML files as read by {@link
+ * SupplementalDataInfo}, so that a JVM can skip the SAX parse of files it (or another JVM) has
+ * already read.
+ *
+ * <p>What is kept is what XMLFileReader hands to SupplementalDataInfo: the path/value pairs of each
+ * file, in order. So replaying a file from the snapshot builds exactly the same data as reading the
+ * XML. Each file is a separate section, which can be replayed on its own without decoding the
+ * others.
+ *
+ * <p>Snapshots are only used when the CLDR_SNAPSHOT_DIR property names a writable directory (as for
+ * {@link XMLSourceSnapshot}). There is one snapshot file for all of the files, keyed by a hash of
+ * their names and contents, the DTDs, and the snapshot format version, so any change simply gets a
+ * new snapshot. Writing one deletes the stale ones, which are never read again.
+ *
+ * <p>Format: a header, then a table of contents with the name, offset and size of each section,
+ * then the sections. Each section is the number of pairs, then the paths and values as UTF-8
+ * strings. Reading memory-maps the file.
+ */
+public class SupplementalDataSnapshot {
+    private static final Logger logger =
+            Logger.getLogger(SupplementalDataSnapshot.class.getSimpleName());
+
+    private static final int MAGIC = 0x434C5344; // "CLSD"
+    private static final int FORMAT_VERSION = 1;
+    private static final String SNAPSHOT_PREFIX = "supplemental-";
+
+    private final File file;
+    private final ByteBuffer buffer;
+
+    /** section name → position in the buffer */
+    private final Map<String, Integer> sectionToPosition;
+
+    private SupplementalDataSnapshot(File file, ByteBuffer buffer, Map<String, Integer> toc) {
+        this.file = file;
+        this.buffer = buffer;
+        this.sectionToPosition = toc;
+    }
+
+    /**
+     * Get the snapshot of the given XML files in the given directory, creating it from the XML
+     * files if there isn't one yet.
+     *
+     * @param dtdDirectory the directory with the DTDs used by the XML files
+     * @return the snapshot, or null if it can neither be read nor written, in which case the XML
+     *     files should be read instead
+     */
+    public static SupplementalDataSnapshot getInstance(
+            File snapshotDir, List<File> xmlFiles, File dtdDirectory) {
+        File snapshotFile = getSnapshotFile(snapshotDir, xmlFiles, dtdDirectory);
+        if (snapshotFile.canRead()) {
+            try {
+                return read(snapshotFile);
+            } catch (IOException | RuntimeException e) {
+                logger.warning(
+                        "Ignoring unreadable snapshot " + snapshotFile + ": " + e.getMessage());
+            }
+        }
+        try {
+            snapshotDir.mkdirs();
+            write(xmlFiles, snapshotFile);
+        } catch (IOException e) {
+            logger.warning("Could not write snapshot " + snapshotFile + ": " + e.getMessage());
+            return null;
+        }
+        StoreFiles.deleteOthers(snapshotFile, SNAPSHOT_PREFIX);
+        try {
+            return read(snapshotFile);
+        } catch (IOException e) {
+            logger.warning("Could not read snapshot " + snapshotFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    static File getSnapshotFile(File snapshotDir, List<File> xmlFiles, File dtdDirectory) {
+        try {
+            MessageDigest digest = StoreFiles.newDigest();
+            digest.update((FORMAT_VERSION + "|").getBytes(StandardCharsets.UTF_8));
+            List<File> files = new ArrayList<>(xmlFiles);
+            File[] dtds = dtdDirectory.listFiles((dir, name) -> name.endsWith(".dtd"));
+            if (dtds != null) {
+                Arrays.sort(dtds);
+                files.addAll(Arrays.asList(dtds));
+            }
+            for (File file : files) {
+                digest.update(
+                        (PathUtilities.getNormalizedPathString(file) + "|")
+                                .getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file.toPath()));
+            }
+            return new File(snapshotDir, SNAPSHOT_PREFIX + StoreFiles.toHex(digest) + ".bin");
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException("Cannot read the supplemental files", e);
+        }
+    }
+
+    /** The name of the section for the file */
+    private static String getSectionName(File xmlFile) {
+        return xmlFile.getParentFile().getName() + "/" + xmlFile.getName();
+    }
+
+    /**
+     * @return true if the snapshot has a section for the file
+     */
+    public boolean contains(File xmlFile) {
+        return sectionToPosition.containsKey(getSectionName(xmlFile));
+    }
+
+    /**
+     * Pass the path/value pairs of the file to the handler, as XMLFileReader would.
+     *
+     * @throws IllegalArgumentException if the snapshot doesn't contain the file
+     */
+    public void replay(File xmlFile, XMLFileReader.SimpleHandler handler) {
+        Integer position = sectionToPosition.get(getSectionName(xmlFile));
+        if (position == null) {
+            throw new IllegalArgumentException("No section for " + xmlFile + " in " + file);
+        }
+        ByteBuffer in = buffer.duplicate();
+        in.position(position);
+        for (int i = in.getInt(); i > 0; --i) {
+            String path = StoreFiles.readString(in);
+            handler.handlePathValue(path, StoreFiles.readString(in));
+        }
+    }
+
+    /** Read the XML files and write their path/value pairs to the snapshot file. */
+    static void write(List<File> xmlFiles, File file) throws IOException {
+        Map<String, byte[]> sections = new LinkedHashMap<>();
+        XMLFileReader xfr = new XMLFileReader();
+        for (File xmlFile : xmlFiles) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream section = new DataOutputStream(bytes);
+            List<String> pathsAndValues = new ArrayList<>();
+            xfr.setHandler(
+                    new XMLFileReader.SimpleHandler() {
+                        @Override
+                        public void handlePathValue(String path, String value) {
+                            pathsAndValues.add(path);
+                            pathsAndValues.add(value);
+                        }
+                    });
+            xfr.read(xmlFile.toString(), -1, true);
+            section.writeInt(pathsAndValues.size() / 2);
+            for (String s : pathsAndValues) {
+                StoreFiles.writeString(section, s);
+            }
+            sections.put(getSectionName(xmlFile), bytes.toByteArray());
+        }
+
+        StoreFiles.writeAtomically(
+                file,
+                out -> {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(sections.size());
+                    for (Map.Entry<String, byte[]> entry : sections.entrySet()) {
+                        StoreFiles.writeString(out, entry.getKey());
+                        out.writeInt(entry.getValue().length);
+                    }
+                    for (byte[] section : sections.values()) {
+                        out.write(section);
+                    }
+                });
+    }
+
+    /**
+     * Open a snapshot written by {@link #write}. Only the table of contents is read; the sections
+     * are read when replayed.
+     *
+     * @throws IOException if the file is unreadable or not a snapshot of the current format
+     */
+    static SupplementalDataSnapshot read(File file) throws IOException {
+        final ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+            throw new IOException("Not a snapshot of format version " + FORMAT_VERSION);
+        }
+        int count = in.getInt();
+        String[] names = new String[count];
+        int[] sizes = new int[count];
+        for (int i = 0; i < count; ++i) {
+            names[i] = StoreFiles.readString(in);
+            sizes[i] = in.getInt();
+        }
+        Map<String, Integer> toc = new LinkedHashMap<>();
+        int position = in.position();
+        for (int i = 0; i < count; ++i) {
+            toc.put(names[i], position);
+            position += sizes[i];
+        }
+        if (position != in.limit()) {
+            throw new IOException("Truncated snapshot");
+        }
+        return new SupplementalDataSnapshot(file, in, toc);
+    }
+}
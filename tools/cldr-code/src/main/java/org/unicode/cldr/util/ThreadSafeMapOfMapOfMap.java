@@ -1,7 +1,9 @@
 package org.unicode.cldr.util;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 
 /**
  * A thread-safe implementation of a Map of Map, of Map. This class uses ConcurrentHashMap at each
@@ -46,6 +48,26 @@ public class ThreadSafeMapOfMapOfMap<K1, K2, K3, V> {
                 .computeIfAbsent(key3, k -> f.apply(key1, key2, k));
     }
 
+    /**
+     * Adds the value at the specified keys, unless there is a value there already. If an
+     * intermediate map does not exist, it will be created.
+     *
+     * @return the value that was already there, or null if there was none
+     */
+    public V putIfAbsent(K1 key1, K2 key2, K3 key3, V value) {
+        return map1.computeIfAbsent(key1, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key2, k -> new ConcurrentHashMap<>())
+                .putIfAbsent(key3, value);
+    }
+
+    /**
+     * Performs the given action for each first-level key and its map. The maps reflect concurrent
+     * changes, and must not be modified by the action.
+     */
+    public void forEach(BiConsumer<K1, Map<K2, ? extends Map<K3, V>>> action) {
+        map1.forEach(action::accept);
+    }
+
     /**
      * Removes a value from the nested map at the specified keys. The intermediate map is not
      * removed even if it becomes empty.
@@ -0,0 +1,140 @@
+package org.unicode.cldr.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A global pool of the values of frozen XMLSources, so that a value that occurs in many locales
+ * (inheritance markers, digits, patterns, en_* fallbacks, ...) is stored only once. Values are held
+ * weakly, so the pool does not keep unloaded locales' values alive.
+ *
+ * <p>Set CLDR_VALUE_POOL=false to turn pooling off, for example to measure the saving.
+ */
+public final class ValuePool {
+
+    private static final boolean ENABLED = CldrUtility.getProperty("CLDR_VALUE_POOL", true);
+
+    private static final Interner<String> pool = Interners.newWeakInterner();
+
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+
+    private ValuePool() {}
+
+    /** Is pooling on? */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the pooled instance equal to value, adding value to the pool if there is none.
+     * Returns value itself (or null) if pooling is off.
+     */
+    public static String intern(String value) {
+        if (!ENABLED || value == null) {
+            return value;
+        }
+        String result = pool.intern(value);
+        requests.increment();
+        if (result != value) {
+            hits.increment();
+            bytesSaved.add(estimateSize(value));
+        }
+        return result;
+    }
+
+    /**
+     * A rough estimate of the heap size of a String, in bytes: 24 for the String, 16 for its array
+     * header, and 1 byte per char for Latin-1 content or 2 otherwise (compact strings), rounded up
+     * to 8.
+     */
+    public static long estimateSize(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; ++i) {
+            if (value.charAt(i) > 0xFF) {
+                length *= 2;
+                break;
+            }
+        }
+        return 24 + ((16 + length + 7) & ~7);
+    }
+
+    /** The number of values looked up in the pool so far */
+    public static long getRequestCount() {
+        return requests.sum();
+    }
+
+    /** The number of values that were replaced by an already pooled instance */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /** The estimated size of the replaced instances, in bytes (see {@link #estimateSize}) */
+    public static long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Measures how much memory the values of a set of files take, per file and in total, counting
+     * each String instance once however many files share it.
+     */
+    public static class MemoryReport {
+        private final Set<String> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long values;
+        private long unsharedBytes;
+        private long bytes;
+
+        /**
+         * Add the values of a (normally unresolved) file.
+         *
+         * @return {number of values, bytes if no values were shared, bytes of the instances not
+         *     already counted for earlier files}
+         */
+        public long[] add(CLDRFile file) {
+            long fileValues = 0;
+            long fileUnsharedBytes = 0;
+            long fileBytes = 0;
+            for (String path : file) {
+                String value = file.getStringValue(path);
+                if (value == null) {
+                    continue;
+                }
+                long size = estimateSize(value);
+                ++fileValues;
+                fileUnsharedBytes += size;
+                if (counted.add(value)) {
+                    fileBytes += size;
+                }
+            }
+            values += fileValues;
+            unsharedBytes += fileUnsharedBytes;
+            bytes += fileBytes;
+            return new long[] {fileValues, fileUnsharedBytes, fileBytes};
+        }
+
+        /** The number of values in all the files added */
+        public long getValueCount() {
+            return values;
+        }
+
+        /** The number of distinct value instances in all the files added */
+        public long getInstanceCount() {
+            return counted.size();
+        }
+
+        /** The size the values of all the files added would take if none were shared */
+        public long getUnsharedBytes() {
+            return unsharedBytes;
+        }
+
+        /** The size the values of all the files added actually take */
+        public long getBytes() {
+            return bytes;
+        }
+    }
+}
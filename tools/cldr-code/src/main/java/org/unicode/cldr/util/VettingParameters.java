@@ -1,5 +1,6 @@
 package org.unicode.cldr.util;
 
+import java.util.Collection;
 import java.util.EnumSet;
 
 public class VettingParameters {
@@ -19,6 +20,9 @@ public class VettingParameters {
      */
     String specificSinglePath = null;
 
+    /** If not null, check only these paths, as when bringing them up to date after a change */
+    Collection<String> specificPaths = null;
+
     public VettingParameters(
             EnumSet<NotificationCategory> choices, CLDRLocale locale, Level coverageLevel) {
         this.choices = choices;
@@ -104,6 +108,11 @@ public class VettingParameters {
         this.specificSinglePath = xpath;
     }
 
+    /** Check only the given paths (or all of them, if null) */
+    public void setXpaths(Collection<String> xpaths) {
+        this.specificPaths = xpaths;
+    }
+
     public void setUserAndOrganization(int userId, Organization organization) {
         this.userId = userId;
         this.organization = organization;
@@ -11,10 +11,12 @@ import com.ibm.icu.util.ULocale;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -183,6 +185,11 @@ public class VettingViewer<T> {
             return result2;
         }
 
+        /** Check all the given paths ahead of time, across threads, so the results are cached */
+        private void checkAll(Map<String, String> pathToValue) {
+            factory.getTestCache().getBundle(options).checkAll(pathToValue);
+        }
+
         @Override
         public Status getErrorStatus(String path, String value, StringBuilder statusMessage) {
             return getErrorStatus(path, value, statusMessage, null);
@@ -306,12 +313,175 @@ public class VettingViewer<T> {
         }
     }
 
+    /**
+     * What one path adds to the DashboardData, so that the DashboardData can be kept up to date one
+     * path at a time: by taking away what a changed path added before, and adding what it adds now.
+     */
+    public class PathContribution {
+        /** the categories counted for the path */
+        public final Set<NotificationCategory> counted;
+
+        /** the entry for the path, or null if there is none */
+        public final WritingInfo writingInfo;
+
+        /** the section and page of the entry, or null if there is no entry */
+        public final R2<SectionId, PageId> group;
+
+        /** true if the path counts as votable for the user */
+        public final boolean votable;
+
+        /** how the user voted for the path, or null if the user didn't */
+        public final VoteType votedType;
+
+        private PathContribution(
+                EnumSet<NotificationCategory> counted,
+                WritingInfo writingInfo,
+                R2<SectionId, PageId> group,
+                boolean votable,
+                VoteType votedType) {
+            this.counted = Collections.unmodifiableSet(counted);
+            this.writingInfo = writingInfo;
+            this.group = group;
+            this.votable = votable;
+            this.votedType = votedType;
+        }
+
+        private boolean isEmpty() {
+            return counted.isEmpty() && writingInfo == null && !votable;
+        }
+
+        private void addTo(DashboardData dd) {
+            for (NotificationCategory category : counted) {
+                dd.problemCounter.add(category, 1);
+            }
+            if (writingInfo != null) {
+                dd.sorted.put(group, writingInfo);
+            }
+            if (votable) {
+                dd.voterProgress.incrementVotablePathCount();
+            }
+            if (votedType != null) {
+                dd.voterProgress.incrementVotedPathCount(votedType);
+            }
+        }
+
+        private void removeFrom(DashboardData dd) {
+            for (NotificationCategory category : counted) {
+                dd.problemCounter.add(category, -1);
+            }
+            if (writingInfo != null) {
+                dd.sorted.remove(group, writingInfo);
+            }
+            if (votable) {
+                dd.voterProgress.decrementVotablePathCount();
+            }
+            if (votedType != null) {
+                dd.voterProgress.decrementVotedPathCount(votedType);
+            }
+        }
+    }
+
     public class DashboardData {
         public Relation<R2<SectionId, PageId>, WritingInfo> sorted =
                 Relation.of(new TreeMap<R2<SectionId, PageId>, Set<WritingInfo>>(), TreeSet.class);
 
         public VoterProgress voterProgress = new VoterProgress();
         public LocaleCompletionData localeCompletionData = null;
+
+        /**
+         * What each path contributed, or null unless requested from {@link
+         * #generateDashboard(VettingParameters, boolean)}. Paths that contributed nothing are left
+         * out.
+         */
+        public Map<String, PathContribution> byPath = null;
+
+        private final Counter<NotificationCategory> problemCounter = new Counter<>();
+
+        /** Copy the entries and counts, but not {@link #byPath} */
+        public DashboardData copy() {
+            final DashboardData result = new DashboardData();
+            result.sorted.putAll(sorted);
+            result.voterProgress = voterProgress.copy();
+            result.localeCompletionData = localeCompletionData;
+            result.problemCounter.addAll(problemCounter);
+            return result;
+        }
+
+        /**
+         * Replace what a path contributed. Only for DashboardData with {@link #byPath}.
+         *
+         * @param path the path
+         * @param update DashboardData for the path alone, from {@link
+         *     #generateDashboard(VettingParameters, boolean)} with {@link
+         *     VettingParameters#setXpath(String)}
+         */
+        public void replacePath(String path, DashboardData update) {
+            replacePaths(Collections.singleton(path), update);
+        }
+
+        /**
+         * Replace what the paths contributed. Only for DashboardData with {@link #byPath}.
+         *
+         * @param paths the paths
+         * @param update DashboardData for the paths alone, from {@link
+         *     #generateDashboard(VettingParameters, boolean)} with {@link
+         *     VettingParameters#setXpaths(Collection)}
+         */
+        public void replacePaths(Collection<String> paths, DashboardData update) {
+            for (String path : paths) {
+                final PathContribution contribution = update.byPath.get(path);
+                final PathContribution old =
+                        (contribution == null)
+                                ? byPath.remove(path)
+                                : byPath.put(path, contribution);
+                if (old != null) {
+                    old.removeFrom(this);
+                }
+                if (contribution != null) {
+                    contribution.addTo(this);
+                }
+            }
+            localeCompletionData = new LocaleCompletionData(problemCounter);
+        }
+
+        /** The counts and the entries, for logging and comparing */
+        @Override
+        public String toString() {
+            final List<String> entries = new ArrayList<>();
+            for (Entry<R2<SectionId, PageId>, WritingInfo> e : sorted.entrySet()) {
+                entries.add(e.getValue().codeOutput.getOriginalPath() + e.getValue().problems);
+            }
+            return voterProgress.getVotedPathCount()
+                    + "/"
+                    + voterProgress.getVotablePathCount()
+                    + " "
+                    + (voterProgress.getTypeCount() == null ? "{}" : voterProgress.getTypeCount())
+                    + " "
+                    + localeCompletionData.errorCount()
+                    + " "
+                    + localeCompletionData.missingCount()
+                    + " "
+                    + localeCompletionData.provisionalCount()
+                    + " "
+                    + entries;
+        }
+    }
+
+    /**
+     * Get the paths, besides path itself, whose contributions to the Dashboard of the locale may
+     * change when the value of path changes, because the checks compare them.
+     *
+     * @return the dependent paths, or null if the checks are set up from the value of path, so that
+     *     any path may change
+     */
+    public java.util.function.Predicate<String> getDependentPaths(CLDRLocale locale, String path) {
+        if (!CheckCLDR.isIncremental(path)) {
+            return null;
+        }
+        return cldrFactory
+                .getTestCache()
+                .getBundle(new CheckCLDR.Options(locale))
+                .getDependentPaths(path);
     }
 
     /**
@@ -321,8 +491,23 @@ public class VettingViewer<T> {
      * @return the DashboardData
      */
     public DashboardData generateDashboard(VettingParameters args) {
+        return generateDashboard(args, false);
+    }
+
+    /**
+     * Generate the Dashboard
+     *
+     * @param args the DashboardArgs
+     * @param byPath if true, also record what each path contributed, in {@link
+     *     DashboardData#byPath}
+     * @return the DashboardData
+     */
+    public DashboardData generateDashboard(VettingParameters args, boolean byPath) {
 
         DashboardData dd = new DashboardData();
+        if (byPath) {
+            dd.byPath = new HashMap<>();
+        }
 
         FileInfo fileInfo =
                 new FileInfo(
@@ -333,11 +518,14 @@ public class VettingViewer<T> {
         if (args.specificSinglePath != null) {
             fileInfo.setSinglePath(args.specificSinglePath);
         }
+        fileInfo.setPaths(args.specificPaths);
         fileInfo.setFiles(args.sourceFile, args.baselineFile, args.oldVoteFile);
         fileInfo.setSorted(dd.sorted);
         fileInfo.setVoterProgressAndId(dd.voterProgress, args.userId);
+        fileInfo.byPath = dd.byPath;
         fileInfo.getFileInfo();
-        dd.localeCompletionData = new LocaleCompletionData(fileInfo.vc.problemCounter);
+        dd.problemCounter.addAll(fileInfo.vc.problemCounter);
+        dd.localeCompletionData = new LocaleCompletionData(dd.problemCounter);
         return dd;
     }
 
@@ -441,10 +629,27 @@ public class VettingViewer<T> {
         /** If not null, getFileInfo will skip all paths except this one */
         private String specificSinglePath = null;
 
+        /** If not null, getFileInfo will only go through these paths */
+        private Collection<String> specificPaths = null;
+
+        /** If not null, gets what each path contributed */
+        private Map<String, PathContribution> byPath = null;
+
+        /** What the current path contributed */
+        private WritingInfo pathWritingInfo = null;
+
+        private R2<SectionId, PageId> pathGroup = null;
+        private boolean pathVotable = false;
+        private VoteType pathVotedType = null;
+
         private void setSinglePath(String path) {
             this.specificSinglePath = path;
         }
 
+        private void setPaths(Collection<String> paths) {
+            this.specificPaths = paths;
+        }
+
         /**
          * Loop through paths for the Dashboard or the Priority Items Summary
          *
@@ -459,8 +664,16 @@ public class VettingViewer<T> {
                 handleOnePath(specificSinglePath);
                 return;
             }
+            final Map<String, String> pathToValue = new LinkedHashMap<>();
+            for (String path : getPaths()) {
+                PathHeader ph = pathTransform.fromPath(path);
+                if (ph != null && !ph.shouldHide()) {
+                    pathToValue.put(path, sourceFile.getWinningValue(path));
+                }
+            }
+            errorChecker.checkAll(pathToValue);
             Set<String> seenSoFar = new HashSet<>();
-            for (String path : sourceFile.fullIterable()) {
+            for (String path : getPaths()) {
                 if (seenSoFar.contains(path)) {
                     continue;
                 }
@@ -470,7 +683,31 @@ public class VettingViewer<T> {
             }
         }
 
+        /** The paths to go through; fullIterable can only be gone through once */
+        private Iterable<String> getPaths() {
+            return specificPaths != null ? specificPaths : sourceFile.fullIterable();
+        }
+
         private void handleOnePath(String path) {
+            problems.clear();
+            pathWritingInfo = null;
+            pathGroup = null;
+            pathVotable = false;
+            pathVotedType = null;
+            handleOnePathProblems(path);
+            if (byPath != null) {
+                final EnumSet<NotificationCategory> counted = problems.clone();
+                counted.remove(NotificationCategory.other); // not counted
+                final PathContribution contribution =
+                        new PathContribution(
+                                counted, pathWritingInfo, pathGroup, pathVotable, pathVotedType);
+                if (!contribution.isEmpty()) {
+                    byPath.put(path, contribution);
+                }
+            }
+        }
+
+        private void handleOnePathProblems(String path) {
             PathHeader ph = pathTransform.fromPath(path);
             if (ph == null || ph.shouldHide()) {
                 return;
@@ -537,7 +774,9 @@ public class VettingViewer<T> {
             if (!problems.isEmpty() && sorted != null) {
                 reasonsToPaths.clear();
                 R2<SectionId, PageId> group = Row.of(ph.getSectionId(), ph.getPageId());
-                sorted.put(group, new WritingInfo(ph, problems, htmlMessage, firstSubtype()));
+                pathWritingInfo = new WritingInfo(ph, problems, htmlMessage, firstSubtype());
+                pathGroup = group;
+                sorted.put(group, pathWritingInfo);
             }
         }
 
@@ -595,9 +834,11 @@ public class VettingViewer<T> {
                 return;
             }
             voterProgress.incrementVotablePathCount();
+            pathVotable = true;
             if (userVoteStatus.userDidVote(voterId, cldrLocale, path)) {
                 VoteType voteType = userVoteStatus.getUserVoteType(voterId, cldrLocale, path);
                 voterProgress.incrementVotedPathCount(voteType);
+                pathVotedType = voteType;
                 if (problems.remove(NotificationCategory.newSinceLastVote)) {
                     vc.problemCounter.decrement(NotificationCategory.newSinceLastVote);
                 }
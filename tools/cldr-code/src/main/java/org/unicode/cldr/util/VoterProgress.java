@@ -50,6 +50,10 @@ public class VoterProgress {
         votablePathCount++;
     }
 
+    public void decrementVotablePathCount() {
+        votablePathCount--;
+    }
+
     public void incrementVotedPathCount(VoteType voteType) {
         if (voteType == null || voteType == VoteType.NONE) {
             throw new IllegalArgumentException("null/NONE not allowed for incrementVotedPathCount");
@@ -60,4 +64,23 @@ public class VoterProgress {
         }
         votedTypeCount.put(voteType, votedTypeCount.getOrDefault(voteType, 0) + 1);
     }
+
+    public void decrementVotedPathCount(VoteType voteType) {
+        votedPathCount--;
+        votedTypeCount.put(voteType, votedTypeCount.get(voteType) - 1);
+        if (votedTypeCount.get(voteType) == 0) {
+            votedTypeCount.remove(voteType);
+        }
+    }
+
+    /** Copy the counts into a new VoterProgress */
+    public VoterProgress copy() {
+        VoterProgress result = new VoterProgress();
+        result.votablePathCount = votablePathCount;
+        result.votedPathCount = votedPathCount;
+        if (votedTypeCount != null) {
+            result.votedTypeCount = new HashMap<>(votedTypeCount);
+        }
+        return result;
+    }
 }
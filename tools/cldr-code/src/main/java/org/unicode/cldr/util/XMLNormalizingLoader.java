@@ -8,12 +8,14 @@ import com.ibm.icu.impl.Utility;
 import com.ibm.icu.text.UnicodeSet;
 import com.ibm.icu.util.ICUUncheckedIOException;
 import com.ibm.icu.util.VersionInfo;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +23,9 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.util.CLDRFile.DraftStatus;
@@ -47,6 +52,32 @@ public class XMLNormalizingLoader {
                                 }
                             });
 
+    /**
+     * If positive, getFrozenInstance and SimpleFactory.make check (at most this often, in
+     * milliseconds) whether any loaded file has changed on disk, and if so reload just the changed
+     * files. Otherwise, long-running processes can call {@link #reloadChanged()} themselves.
+     */
+    private static volatile long reloadCheckMillis =
+            Long.parseLong(CldrUtility.getProperty("CLDR_XML_RELOAD_CHECK_MILLIS", "0"));
+
+    private static final AtomicLong lastReloadCheck = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Incremented by each {@link #invalidate}, so that factories caching files made from the
+     * sources can tell that they need to drop some; see {@link #getInvalidatedSince}.
+     */
+    private static volatile long generation = 0;
+
+    /** The generation at which each file was last invalidated; at most one entry per file */
+    private static final Map<File, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    /**
+     * The state of each single-directory key's file when it was loaded. Stamps of sources that have
+     * since been evicted are kept (there is at most one per file and draft status), and are
+     * harmless: a change just invalidates nothing.
+     */
+    private static final Map<XMLSourceCacheKey, FileStamp> fileStamps = new ConcurrentHashMap<>();
+
     private static final boolean LOG_PROGRESS = false;
     private static final boolean DEBUG = false;
 
@@ -115,17 +146,157 @@ public class XMLNormalizingLoader {
         }
     }
 
+    /** What is checked to decide whether a file has changed since it was loaded */
+    private static final class FileStamp {
+        private final long lastModified;
+        private final long length;
+
+        FileStamp(File file) {
+            // both are 0 if the file doesn't exist
+            lastModified = file.lastModified();
+            length = file.length();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, length);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileStamp)) {
+                return false;
+            }
+            FileStamp other = (FileStamp) obj;
+            return lastModified == other.lastModified && length == other.length;
+        }
+    }
+
     public static XMLSource getFrozenInstance(
             String localeId, List<File> dirs, DraftStatus minimalDraftStatus) {
         XMLSourceCacheKey key = new XMLSourceCacheKey(localeId, dirs, minimalDraftStatus);
+        reloadChangedIfDue();
         return cache.getUnchecked(key);
     }
 
+    /**
+     * Call {@link #reloadChanged()} if CLDR_XML_RELOAD_CHECK_MILLIS is set and that long has passed
+     * since the last check.
+     */
+    public static void reloadChangedIfDue() {
+        final long millis = reloadCheckMillis;
+        if (millis > 0) {
+            long now = System.currentTimeMillis();
+            long last = lastReloadCheck.get();
+            if (now - last >= millis && lastReloadCheck.compareAndSet(last, now)) {
+                reloadChanged();
+            }
+        }
+    }
+
+    /** For testing: change CLDR_XML_RELOAD_CHECK_MILLIS */
+    static void setReloadCheckMillis(long millis) {
+        reloadCheckMillis = millis;
+        lastReloadCheck.set(0);
+    }
+
+    /**
+     * @return the current generation, to be passed later to {@link #getInvalidatedSince}
+     */
+    public static long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Get the files invalidated (by {@link #invalidate} or {@link #reloadChanged()}) after the
+     * given generation. May include some invalidated concurrently, after the current generation.
+     *
+     * @param since a generation from {@link #getGeneration()}
+     * @param dirs only return files in these directories, or null for all
+     */
+    public static Set<File> getInvalidatedSince(long since, Collection<File> dirs) {
+        Set<File> result = new HashSet<>();
+        invalidatedAt.forEach(
+                (file, at) -> {
+                    if (at > since && (dirs == null || dirs.contains(file.getParentFile()))) {
+                        result.add(file);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Drop the cached sources of every file that has changed on disk (or been removed) since it was
+     * loaded, together with the combined multi-directory sources built from them, so that the next
+     * getFrozenInstance reloads them. Sources of unchanged files stay cached.
+     *
+     * @return the changed files
+     */
+    public static Set<File> reloadChanged() {
+        return reloadChanged(null);
+    }
+
+    /**
+     * Same as {@link #reloadChanged()}, but only checks the files in the given directories.
+     *
+     * @param dirs the directories to check, or null for all
+     */
+    public static Set<File> reloadChanged(Collection<File> dirs) {
+        Set<File> changed = new HashSet<>();
+        for (Entry<XMLSourceCacheKey, FileStamp> entry : fileStamps.entrySet()) {
+            XMLSourceCacheKey key = entry.getKey();
+            File dir = key.dirs.iterator().next();
+            if (dirs != null && !dirs.contains(dir)) {
+                continue;
+            }
+            File file = new File(dir, key.localeId + ".xml");
+            if (!entry.getValue().equals(new FileStamp(file))) {
+                changed.add(file);
+            }
+        }
+        if (!changed.isEmpty()) {
+            invalidate(changed);
+        }
+        return changed;
+    }
+
+    /**
+     * Drop the cached sources of the given files, for example after writing them, together with the
+     * combined multi-directory sources built from them.
+     */
+    public static synchronized void invalidate(Collection<File> files) {
+        Set<File> toInvalidate = new HashSet<>(files);
+        // record the files before publishing the generation; see getInvalidatedSince
+        final long next = generation + 1;
+        for (File file : toInvalidate) {
+            invalidatedAt.put(file, next);
+        }
+        generation = next;
+        Predicate<XMLSourceCacheKey> affected =
+                key -> {
+                    for (File dir : key.dirs) {
+                        if (toInvalidate.contains(new File(dir, key.localeId + ".xml"))) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+        fileStamps.keySet().removeIf(affected);
+        cache.asMap().keySet().removeIf(affected);
+    }
+
     private static XMLSource makeXMLSource(XMLSourceCacheKey key) {
         XMLSource source = null;
         if (key.dirs.size() == 1) {
             File file = new File(key.dirs.iterator().next(), key.localeId + ".xml");
-            source = loadXMLFile(file, key.localeId, key.minimalDraftStatus);
+            // Stamp before reading, so that a change made during the read is seen later.
+            fileStamps.put(key, new FileStamp(file));
+            File snapshotDir = XMLSourceSnapshot.getSnapshotDir();
+            source =
+                    snapshotDir == null
+                            ? loadXMLFile(file, key.localeId, key.minimalDraftStatus)
+                            : XMLSourceSnapshot.loadOrCreate(
+                                    snapshotDir, file, key.localeId, key.minimalDraftStatus);
             source.freeze();
             return source;
         }
@@ -158,29 +329,40 @@ public class XMLNormalizingLoader {
         // use try-with-resources statement
         try (InputStream fis = new FileInputStream(f); ) {
             String fullFileName = PathUtilities.getNormalizedPathString(f);
-            XMLSource source = new SimpleXMLSource(localeId);
-            XMLNormalizingHandler XML_HANDLER =
-                    new XMLNormalizingHandler(source, minimalDraftStatus);
-            XMLFileReader.read(fullFileName, fis, -1, true, XML_HANDLER);
-            if (XML_HANDLER.supplementalStatus == SupplementalStatus.NEVER_SET) {
-                throw new IllegalArgumentException(
-                        "root of file must be either ldml or supplementalData");
-            }
-            source.setNonInheriting(
-                    XML_HANDLER.supplementalStatus == SupplementalStatus.NOT_SUPPLEMENTAL);
-            if (XML_HANDLER.overrideCount > 0) {
-                throw new IllegalArgumentException(
-                        "Internal problems: either data file has duplicate path, or"
-                                + " CLDRFile.isDistinguishing() or CLDRFile.isOrdered() need updating: "
-                                + XML_HANDLER.overrideCount
-                                + "; The exact problems are printed on the console above.");
-            }
-            return source;
+            return loadXMLStream(fis, fullFileName, localeId, minimalDraftStatus);
         } catch (IOException e) {
             throw new ICUUncheckedIOException("Cannot read the file " + f, e);
         }
     }
 
+    /** Same as loadXMLFile, for the already-read contents of the file named fullFileName. */
+    static XMLSource loadXMLBytes(
+            byte[] xml, String fullFileName, String localeId, DraftStatus minimalDraftStatus) {
+        return loadXMLStream(
+                new ByteArrayInputStream(xml), fullFileName, localeId, minimalDraftStatus);
+    }
+
+    private static XMLSource loadXMLStream(
+            InputStream fis, String fullFileName, String localeId, DraftStatus minimalDraftStatus) {
+        XMLSource source = new SimpleXMLSource(localeId);
+        XMLNormalizingHandler XML_HANDLER = new XMLNormalizingHandler(source, minimalDraftStatus);
+        XMLFileReader.read(fullFileName, fis, -1, true, XML_HANDLER);
+        if (XML_HANDLER.supplementalStatus == SupplementalStatus.NEVER_SET) {
+            throw new IllegalArgumentException(
+                    "root of file must be either ldml or supplementalData");
+        }
+        source.setNonInheriting(
+                XML_HANDLER.supplementalStatus == SupplementalStatus.NOT_SUPPLEMENTAL);
+        if (XML_HANDLER.overrideCount > 0) {
+            throw new IllegalArgumentException(
+                    "Internal problems: either data file has duplicate path, or"
+                            + " CLDRFile.isDistinguishing() or CLDRFile.isOrdered() need updating: "
+                            + XML_HANDLER.overrideCount
+                            + "; The exact problems are printed on the console above.");
+        }
+        return source;
+    }
+
     private static class XMLNormalizingHandler implements AllHandler {
         private DraftStatus minimalDraftStatus;
         private static final boolean SHOW_START_END = false;
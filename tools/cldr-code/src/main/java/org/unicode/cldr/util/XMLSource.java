@@ -27,7 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.unicode.cldr.icu.dev.test.TestFmwk;
@@ -180,7 +181,8 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
     }
 
     // Listeners are stored using weak references so that they can be garbage collected.
-    private final List<WeakReference<Listener>> listeners = new ArrayList<>();
+    // Copy-on-write, since listeners may be added on one thread while another notifies them.
+    private final List<WeakReference<Listener>> listeners = new CopyOnWriteArrayList<>();
 
     public String getLocaleID() {
         return localeID;
@@ -600,6 +602,30 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
      */
     public abstract String getFullPathAtDPath(String path);
 
+    /**
+     * Same as {@link #getValueAtDPath(String)}, for the {@link PathIds} ID of the distinguishing
+     * path. SUBCLASSING: may be overridden for efficiency
+     */
+    public String getValueAtDPath(int pathId) {
+        return getValueAtDPath(PathIds.getPath(pathId));
+    }
+
+    /**
+     * Same as {@link #getFullPathAtDPath(String)}, for the {@link PathIds} ID of the distinguishing
+     * path. SUBCLASSING: may be overridden for efficiency
+     */
+    public String getFullPathAtDPath(int pathId) {
+        return getFullPathAtDPath(PathIds.getPath(pathId));
+    }
+
+    /**
+     * Same as {@link #getSourceLocaleID(String, CLDRFile.Status)}, for the {@link PathIds} ID of
+     * the distinguishing path. SUBCLASSING: may be overridden for efficiency
+     */
+    public String getSourceLocaleID(int pathId, CLDRFile.Status status) {
+        return getSourceLocaleID(PathIds.getPath(pathId), status);
+    }
+
     /**
      * Get the comments for the source. TODO: integrate the Comments class directly into this class
      * SUBCLASSING: must be overridden
@@ -760,6 +786,22 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return result;
         }
 
+        @Override
+        public String getValueAtDPath(int pathId) {
+            if (TRACE_VALUE || DEBUG_PATH != null) {
+                return getValueAtDPath(PathIds.getPath(pathId));
+            }
+            final String xpath = PathIds.getPath(pathId);
+            AliasLocation fullStatus = getCachedFullStatus(pathId, xpath);
+            if (fullStatus == null) {
+                return null;
+            }
+            String pathWhereFound = fullStatus.pathWhereFound;
+            return pathWhereFound.equals(xpath)
+                    ? getSource(fullStatus).getValueAtDPath(pathId)
+                    : getSource(fullStatus).getValueAtDPath(pathWhereFound);
+        }
+
         @Override
         public SourceLocation getSourceLocation(String xpath) {
             SourceLocation result = null;
@@ -780,7 +822,9 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return source == null ? CodeFallback.getConstructedItems() : source;
         }
 
-        Map<String, String> getFullPathAtDPathCache = new HashMap<>();
+        /** Keyed by PathIds ID */
+        private final ConcurrentIntObjectMap<String> getFullPathAtDPathCache =
+                new ConcurrentIntObjectMap<>();
 
         @Override
         public String getFullPathAtDPath(String xpath) {
@@ -824,9 +868,10 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
         private String getFullPath(
                 String xpath, AliasLocation fullStatus, String fullPathWhereFound) {
             String result = null;
-            xpath = xpath.intern();
-            if (this.cachingIsEnabled) {
-                result = getFullPathAtDPathCache.get(xpath);
+            final int pathId = PathIds.getIdIfPresent(xpath);
+            final boolean caching = cachingIsEnabled && pathId != PathIds.NO_ID;
+            if (caching) {
+                result = getFullPathAtDPathCache.get(pathId);
             }
             if (result == null) {
                 // find the differences, and add them into xpath
@@ -855,8 +900,8 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
                     }
                 }
                 result = xpathParts.toString();
-                if (cachingIsEnabled) {
-                    getFullPathAtDPathCache.put(xpath, result);
+                if (caching) {
+                    getFullPathAtDPathCache.put(pathId, result);
                 }
             }
             return result;
@@ -914,19 +959,40 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             if (!skipInheritanceMarker || !cachingIsEnabled || (list != null)) {
                 return getPathLocation(xpath, false /* skipFirst */, skipInheritanceMarker, list);
             }
-            synchronized (getSourceLocaleIDCache) {
-                AliasLocation fullStatus = getSourceLocaleIDCache.get(xpath);
-                if (fullStatus == null) {
-                    fullStatus =
-                            getPathLocation(
-                                    xpath,
-                                    false /* skipFirst */,
-                                    true /* skipInheritanceMarker */,
-                                    null);
-                    getSourceLocaleIDCache.put(xpath, fullStatus); // cache copy
+            return getCachedFullStatus(PathIds.getIdIfPresent(xpath), xpath);
+        }
+
+        /**
+         * Same as getCachedFullStatus with skipInheritanceMarker true, for a path whose ID is
+         * known. Paths without an ID (PathIds.NO_ID) aren't cached, so that looking up arbitrary
+         * paths doesn't give each of them an ID forever.
+         */
+        private AliasLocation getCachedFullStatus(int pathId, String xpath) {
+            if (!cachingIsEnabled || pathId == PathIds.NO_ID) {
+                return getPathLocation(
+                        xpath, false /* skipFirst */, true /* skipInheritanceMarker */, null);
+            }
+            AliasLocation fullStatus = getSourceLocaleIDCache.get(pathId);
+            if (fullStatus == null) {
+                // Computed outside the lock: several threads may compute the same status, which is
+                // harmless.
+                // If a value changes while we compute, our result may be stale, so drop it
+                // rather than let it outlive the invalidation in valueChanged.
+                final long generation = cacheGeneration.get();
+                fullStatus =
+                        getPathLocation(
+                                xpath,
+                                false /* skipFirst */,
+                                true /* skipInheritanceMarker */,
+                                null);
+                if (fullStatus != null) {
+                    getSourceLocaleIDCache.put(pathId, fullStatus); // cache copy
+                    if (cacheGeneration.get() != generation) {
+                        getSourceLocaleIDCache.remove(pathId);
+                    }
                 }
-                return fullStatus;
             }
+            return fullStatus;
         }
 
         @Override
@@ -943,8 +1009,16 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             return result;
         }
 
-        private final transient Map<String, AliasLocation> getSourceLocaleIDCache =
-                new WeakHashMap<>();
+        /**
+         * Keyed by PathIds ID, for the paths that have one; other paths aren't cached. The entries
+         * only hold paths and locale IDs, so they keep nothing alive beyond this source; gets and
+         * puts are lock-free, see getCachedFullStatus.
+         */
+        private final transient ConcurrentIntObjectMap<AliasLocation> getSourceLocaleIDCache =
+                new ConcurrentIntObjectMap<>();
+
+        /** Incremented by valueChanged before it invalidates getSourceLocaleIDCache entries */
+        private final transient AtomicLong cacheGeneration = new AtomicLong();
 
         /**
          * Get the source locale ID for the given path, for this ResolvingSource.
@@ -959,6 +1033,15 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
                     distinguishedXPath, status, true /* skipInheritanceMarker */, null);
         }
 
+        @Override
+        public String getSourceLocaleID(int pathId, CLDRFile.Status status) {
+            AliasLocation fullStatus = getCachedFullStatus(pathId, PathIds.getPath(pathId));
+            if (status != null) {
+                status.pathWhereFound = fullStatus.pathWhereFound;
+            }
+            return fullStatus.localeWhereFound;
+        }
+
         /**
          * Same as ResolvingSource.getSourceLocaleID, with additional parameter
          * skipInheritanceMarker, which is passed on to getCachedFullStatus and getPathLocation.
@@ -1358,21 +1441,16 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
             if (!cachingIsEnabled) {
                 return;
             }
-            synchronized (getSourceLocaleIDCache) {
-                AliasLocation location = getSourceLocaleIDCache.remove(xpath);
-                if (location == null) {
-                    return;
-                }
-                // Paths aliasing to this path (directly or indirectly) may be affected,
-                // so clear them as well.
-                // There's probably a more elegant way to fix the paths than simply
-                // throwing everything out.
-                Set<String> dependentPaths = getDirectAliases(new String[] {xpath});
-                if (!dependentPaths.isEmpty()) {
-                    for (String path : dependentPaths) {
-                        getSourceLocaleIDCache.remove(path);
-                    }
-                }
+            cacheGeneration.incrementAndGet();
+            getSourceLocaleIDCache.remove(PathIds.getIdIfPresent(xpath));
+            // Paths aliasing to this path (directly or indirectly) may be affected,
+            // so clear them as well. This is done even if xpath itself wasn't cached,
+            // since a lookup of an aliasing path may have cached the old location.
+            // There's probably a more elegant way to fix the paths than simply
+            // throwing everything out.
+            Set<String> dependentPaths = getDirectAliases(new String[] {xpath});
+            for (String path : dependentPaths) {
+                getSourceLocaleIDCache.remove(PathIds.getIdIfPresent(path));
             }
         }
 
@@ -1517,14 +1595,12 @@ public abstract class XMLSource implements Freezable<XMLSource>, Iterable<String
      * @param xpath the xpath where the change occurred.
      */
     public void notifyListeners(String xpath) {
-        int i = 0;
-        while (i < listeners.size()) {
-            Listener listener = listeners.get(i).get();
+        for (WeakReference<Listener> ref : listeners) {
+            Listener listener = ref.get();
             if (listener == null) { // listener has been garbage-collected.
-                listeners.remove(i);
+                listeners.remove(ref);
             } else {
                 listener.valueChanged(xpath, this);
-                i++;
             }
         }
     }
@@ -0,0 +1,328 @@
+package org.unicode.cldr.util;
+
+import com.ibm.icu.util.ICUUncheckedIOException;
+import com.ibm.icu.util.VersionInfo;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeSet;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+import org.unicode.cldr.util.XMLSource.SourceLocation;
+import org.unicode.cldr.util.XPathParts.Comments;
+import org.unicode.cldr.util.XPathParts.Comments.CommentType;
+
+/**
+ * Compact binary form of a frozen {@link SimpleXMLSource}, so that a JVM can skip the SAX parse of
+ * an XML file it (or another JVM) has already loaded.
+ *
+ * <p>Snapshots are only used when the CLDR_SNAPSHOT_DIR property names a writable directory. Each
+ * snapshot file is keyed by a hash of the XML file's contents and path, the minimal draft status,
+ * and the snapshot format version, so a changed file simply gets a new snapshot. Stale snapshot
+ * files are never read again and may be deleted at any time.
+ *
+ * <p>Format: a header, then a table of all distinct strings (paths, values, comments, ...), then
+ * the path/value/full-path triples, comments and (optionally) source locations as indexes into that
+ * table. Reading memory-maps the file.
+ *
+ * <p>With -DCLDR_SNAPSHOT_VALIDATE, every source read from a snapshot is also parsed from XML and
+ * compared, and an exception is thrown if they differ.
+ */
+public class XMLSourceSnapshot {
+    private static final int MAGIC = 0x434C5853; // "CLXS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_STRING = -1;
+
+    private static final int FLAG_NON_INHERITING = 1;
+    private static final int FLAG_HAS_LOCATIONS = 2;
+
+    private static final String SNAPSHOT_DIR = CldrUtility.getProperty("CLDR_SNAPSHOT_DIR", null);
+    private static final boolean VALIDATE =
+            CldrUtility.getProperty("CLDR_SNAPSHOT_VALIDATE", false);
+    private static final boolean SKIP_LOCATIONS =
+            CldrUtility.getProperty("CLDR_SNAPSHOT_SKIP_LOCATIONS", false);
+
+    /**
+     * @return the directory for snapshot files, or null if snapshots are disabled
+     */
+    public static File getSnapshotDir() {
+        return SNAPSHOT_DIR == null ? null : new File(SNAPSHOT_DIR);
+    }
+
+    /**
+     * Load the source for the given XML file from its snapshot in the given directory, creating the
+     * snapshot from the XML file if there isn't one yet. The result is not frozen.
+     */
+    static XMLSource loadOrCreate(
+            File snapshotDir, File xmlFile, String localeId, DraftStatus minimalDraftStatus) {
+        final byte[] xml;
+        try {
+            xml = Files.readAllBytes(xmlFile.toPath());
+        } catch (IOException e) {
+            throw new ICUUncheckedIOException("Cannot read the file " + xmlFile, e);
+        }
+        final String fullFileName = PathUtilities.getNormalizedPathString(xmlFile);
+        final File snapshotFile =
+                new File(
+                        snapshotDir,
+                        localeId + "-" + getKey(xml, fullFileName, minimalDraftStatus) + ".bin");
+        if (snapshotFile.canRead()) {
+            XMLSource result = null;
+            try {
+                result = read(snapshotFile);
+            } catch (IOException | RuntimeException e) {
+                System.err.println(
+                        "Ignoring unreadable snapshot " + snapshotFile + ": " + e.getMessage());
+            }
+            if (result != null) {
+                if (VALIDATE) {
+                    validate(
+                            result,
+                            XMLNormalizingLoader.loadXMLBytes(
+                                    xml, fullFileName, localeId, minimalDraftStatus),
+                            snapshotFile);
+                }
+                return result;
+            }
+        }
+        XMLSource result =
+                XMLNormalizingLoader.loadXMLBytes(xml, fullFileName, localeId, minimalDraftStatus);
+        try {
+            snapshotDir.mkdirs();
+            write((SimpleXMLSource) result, snapshotFile, !SKIP_LOCATIONS);
+        } catch (IOException e) {
+            System.err.println("Could not write snapshot " + snapshotFile + ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    private static String getKey(byte[] xml, String fullFileName, DraftStatus minimalDraftStatus) {
+        MessageDigest digest = StoreFiles.newDigest();
+        StoreFiles.update(
+                digest, FORMAT_VERSION + "|" + CLDRFile.GEN_VERSION + "|" + minimalDraftStatus);
+        StoreFiles.update(digest, fullFileName);
+        digest.update(xml);
+        return StoreFiles.toHex(digest);
+    }
+
+    /**
+     * Write the source to the file.
+     *
+     * @param includeLocations whether to include the SourceLocation of each path
+     */
+    public static void write(SimpleXMLSource source, File file, boolean includeLocations)
+            throws IOException {
+        StringTable strings = new StringTable();
+        List<String> paths = new ArrayList<>();
+        source.forEach(paths::add);
+        Comments comments = source.getXpathComments();
+        Map<String, SourceLocation> locations =
+                includeLocations ? source.getSourceLocations() : Map.of();
+
+        // Collect all strings first, so that the table can be written before the references.
+        for (String path : paths) {
+            strings.add(path);
+            strings.add(source.getValueAtDPath(path));
+            strings.add(source.getFullPathAtDPath(path));
+        }
+        strings.add(comments.getInitialComment());
+        strings.add(comments.getFinalComment());
+        for (CommentType type : CommentType.values()) {
+            for (Entry<String, String> entry : comments.getComments(type).entrySet()) {
+                strings.add(entry.getKey());
+                strings.add(entry.getValue());
+            }
+        }
+        for (Entry<String, SourceLocation> entry : locations.entrySet()) {
+            strings.add(entry.getKey());
+            strings.add(entry.getValue().getSystem());
+        }
+        VersionInfo dtdVersion = source.getDtdVersionInfo();
+        DtdType dtdType = source.getXMLNormalizingDtdType();
+
+        StoreFiles.writeAtomically(
+                file,
+                out -> {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(
+                            (source.isNonInheriting() ? FLAG_NON_INHERITING : 0)
+                                    | (locations.isEmpty() ? 0 : FLAG_HAS_LOCATIONS));
+                    StoreFiles.writeString(out, source.getLocaleID());
+                    StoreFiles.writeString(out, dtdType == null ? null : dtdType.name());
+                    StoreFiles.writeString(out, dtdVersion == null ? null : dtdVersion.toString());
+
+                    out.writeInt(strings.list.size());
+                    for (String s : strings.list) {
+                        StoreFiles.writeString(out, s);
+                    }
+
+                    out.writeInt(paths.size());
+                    for (String path : paths) {
+                        String fullPath = source.getFullPathAtDPath(path);
+                        out.writeInt(strings.get(path));
+                        out.writeInt(strings.get(source.getValueAtDPath(path)));
+                        out.writeInt(path.equals(fullPath) ? NO_STRING : strings.get(fullPath));
+                    }
+
+                    out.writeInt(strings.get(comments.getInitialComment()));
+                    out.writeInt(strings.get(comments.getFinalComment()));
+                    for (CommentType type : CommentType.values()) {
+                        Map<String, String> typeComments = comments.getComments(type);
+                        out.writeInt(typeComments.size());
+                        for (Entry<String, String> entry : typeComments.entrySet()) {
+                            out.writeInt(strings.get(entry.getKey()));
+                            out.writeInt(strings.get(entry.getValue()));
+                        }
+                    }
+
+                    if (!locations.isEmpty()) {
+                        out.writeInt(locations.size());
+                        for (Entry<String, SourceLocation> entry : locations.entrySet()) {
+                            SourceLocation location = entry.getValue();
+                            out.writeInt(strings.get(entry.getKey()));
+                            out.writeInt(strings.get(location.getSystem()));
+                            out.writeInt(location.getLine());
+                            out.writeInt(location.getColumn());
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Read a source written by {@link #write}. The result is not frozen.
+     *
+     * @throws IOException if the file is unreadable or not a snapshot of the current format
+     */
+    public static SimpleXMLSource read(File file) throws IOException {
+        final ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+            throw new IOException("Not a snapshot of format version " + FORMAT_VERSION);
+        }
+        int flags = in.getInt();
+        SimpleXMLSource source = new SimpleXMLSource(StoreFiles.readString(in));
+        String dtdType = StoreFiles.readString(in);
+        if (dtdType != null) {
+            source.setXMLNormalizingDtdType(DtdType.valueOf(dtdType));
+        }
+        String dtdVersion = StoreFiles.readString(in);
+        if (dtdVersion != null) {
+            source.setDtdVersionInfo(VersionInfo.getInstance(dtdVersion));
+        }
+        source.setNonInheriting((flags & FLAG_NON_INHERITING) != 0);
+
+        String[] strings = new String[in.getInt()];
+        for (int i = 0; i < strings.length; ++i) {
+            strings[i] = StoreFiles.readString(in);
+        }
+
+        for (int i = in.getInt(); i > 0; --i) {
+            String path = strings[in.getInt()];
+            String value = strings[in.getInt()];
+            int fullPath = in.getInt();
+            source.putValueAtDPath(path, value);
+            if (fullPath != NO_STRING) {
+                source.putFullPathAtDPath(path, strings[fullPath]);
+            }
+        }
+
+        Comments comments = source.getXpathComments();
+        comments.setInitialComment(strings[in.getInt()]);
+        comments.setFinalComment(strings[in.getInt()]);
+        for (CommentType type : CommentType.values()) {
+            for (int i = in.getInt(); i > 0; --i) {
+                String xpath = strings[in.getInt()];
+                comments.addComment(type, xpath, strings[in.getInt()]);
+            }
+        }
+
+        if ((flags & FLAG_HAS_LOCATIONS) != 0) {
+            for (int i = in.getInt(); i > 0; --i) {
+                String fullPath = strings[in.getInt()];
+                String system = strings[in.getInt()];
+                int line = in.getInt();
+                int column = in.getInt();
+                source.addSourceLocation(fullPath, new SourceLocation(system, line, column));
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Compare two sources, returning a description of each difference in paths, values, full paths
+     * and comments. An empty list means the sources are equivalent.
+     */
+    public static List<String> diff(XMLSource a, XMLSource b) {
+        List<String> result = new ArrayList<>();
+        TreeSet<String> paths = new TreeSet<>();
+        a.forEach(paths::add);
+        b.forEach(paths::add);
+        for (String path : paths) {
+            String valueA = a.getValueAtDPath(path);
+            String valueB = b.getValueAtDPath(path);
+            if (!Objects.equals(valueA, valueB)) {
+                result.add("value\t" + path + "\t«" + valueA + "» ≠ «" + valueB + "»");
+            } else if (!Objects.equals(a.getFullPathAtDPath(path), b.getFullPathAtDPath(path))) {
+                result.add(
+                        "fullpath\t"
+                                + path
+                                + "\t"
+                                + a.getFullPathAtDPath(path)
+                                + " ≠ "
+                                + b.getFullPathAtDPath(path));
+            }
+        }
+        Comments commentsA = a.getXpathComments();
+        Comments commentsB = b.getXpathComments();
+        if (!Objects.equals(commentsA.getInitialComment(), commentsB.getInitialComment())
+                || !Objects.equals(commentsA.getFinalComment(), commentsB.getFinalComment())) {
+            result.add("initial or final comment");
+        }
+        for (CommentType type : CommentType.values()) {
+            if (!commentsA.getComments(type).equals(commentsB.getComments(type))) {
+                result.add("comments\t" + type);
+            }
+        }
+        return result;
+    }
+
+    private static void validate(XMLSource fromSnapshot, XMLSource fromXml, File snapshotFile) {
+        List<String> differences = diff(fromSnapshot, fromXml);
+        if (!differences.isEmpty()) {
+            throw new IllegalStateException(
+                    "Snapshot "
+                            + snapshotFile
+                            + " differs from XML, e.g.: "
+                            + differences.subList(0, Math.min(5, differences.size())));
+        }
+    }
+
+    /** Assigns each distinct string an index in order of first appearance. */
+    private static class StringTable {
+        final Map<String, Integer> indexes = new HashMap<>();
+        final List<String> list = new ArrayList<>();
+
+        void add(String s) {
+            if (s != null && !indexes.containsKey(s)) {
+                indexes.put(s, list.size());
+                list.add(s);
+            }
+        }
+
+        int get(String s) {
+            return s == null ? NO_STRING : indexes.get(s);
+        }
+    }
+}
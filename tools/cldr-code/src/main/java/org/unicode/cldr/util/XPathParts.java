@@ -6,6 +6,7 @@
  */
 package org.unicode.cldr.util;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -26,7 +27,6 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Parser for XPath
@@ -51,7 +51,24 @@ public final class XPathParts extends XPathParser
 
     private DtdData dtdData = null;
 
-    private static final Map<String, XPathParts> cache = new ConcurrentHashMap<>();
+    /**
+     * Default limits for the getFrozenInstance cache. A size limit of 0 means unbounded. If a
+     * weight limit is set, it applies instead of the size limit, weighing each entry by the length
+     * of its path.
+     */
+    private static final long CACHE_MAXIMUM_SIZE =
+            Long.parseLong(CldrUtility.getProperty("CLDR_XPATH_CACHE_SIZE", "1000000"));
+
+    private static final long CACHE_MAXIMUM_WEIGHT =
+            Long.parseLong(CldrUtility.getProperty("CLDR_XPATH_CACHE_WEIGHT", "0"));
+
+    private static volatile GenerationalCache<String, XPathParts> cache =
+            makeCache(CACHE_MAXIMUM_SIZE, CACHE_MAXIMUM_WEIGHT);
+
+    private static GenerationalCache<String, XPathParts> makeCache(
+            long maximumSize, long maximumWeight) {
+        return new GenerationalCache<>(maximumSize, maximumWeight, String::length);
+    }
 
     /**
      * Construct a new empty XPathParts object.
@@ -169,8 +186,8 @@ public final class XPathParts extends XPathParser
         }
     }
 
-    private String untrim(String eValue, int count) {
-        String result = TransliteratorUtilities.toHTML.transliterate(eValue);
+    static String untrim(String eValue, int count) {
+        String result = escapeHtml(eValue);
         if (!result.contains("\n")) {
             return result;
         }
@@ -186,7 +203,7 @@ public final class XPathParts extends XPathParser
             POSTBLOCK
         }
 
-        private final EnumMap<CommentType, Map<String, String>> comments =
+        private EnumMap<CommentType, Map<String, String>> comments =
                 new EnumMap<>(CommentType.class);
 
         public Comments() {
@@ -208,6 +225,11 @@ public final class XPathParts extends XPathParser
             return this;
         }
 
+        /** Returns a read-only view of the comments of the given style, keyed by xpath. */
+        public Map<String, String> getComments(CommentType style) {
+            return Collections.unmodifiableMap(comments.get(style));
+        }
+
         public String removeComment(CommentType style, String xPath) {
             String result = comments.get(style).get(xPath);
             if (result != null) comments.get(style).remove(xPath);
@@ -232,6 +254,8 @@ public final class XPathParts extends XPathParser
         public Object clone() {
             try {
                 Comments result = (Comments) super.clone();
+                // don't share the EnumMap with this, or removing from the clone affects this
+                result.comments = new EnumMap<>(CommentType.class);
                 for (CommentType c : CommentType.values()) {
                     result.comments.put(c, new HashMap<>(comments.get(c)));
                 }
@@ -303,12 +327,29 @@ public final class XPathParts extends XPathParser
         }
     }
 
+    /**
+     * Same as TransliteratorUtilities.toHTML.transliterate(value), but returns the value itself
+     * without running the transliterator when there is nothing to escape, which is nearly always.
+     */
+    static String escapeHtml(String value) {
+        for (int i = 0; i < value.length(); ++i) {
+            switch (value.charAt(i)) {
+                case '<':
+                case '>':
+                case '&':
+                case '"':
+                    return TransliteratorUtilities.toHTML.transliterate(value);
+            }
+        }
+        return value;
+    }
+
     /**
      * @param pw
      * @param xpath_comments
      * @param index TODO
      */
-    private XPathParts writeComment(
+    XPathParts writeComment(
             PrintWriter pw, Comments xpath_comments, int index, Comments.CommentType style) {
         if (index == 0) return this;
         String xpath = toString(index);
@@ -321,6 +362,14 @@ public final class XPathParts extends XPathParser
         return this;
     }
 
+    /**
+     * Append the element at the index in the given style (XPATH_STYLE, XML_OPEN, XML_CLOSE or
+     * XML_NO_VALUE), for writers that reuse a buffer instead of calling writeDifference.
+     */
+    void appendElement(int index, int style, StringBuilder result) {
+        elements.get(index).appendTo(result, style);
+    }
+
     /** Finds the first place where the xpaths differ. */
     public int findFirstDifference(XPathParts last) {
         int min = elements.size();
@@ -750,7 +799,14 @@ public final class XPathParts extends XPathParser
          * @return
          */
         public String toString(int style) {
-            StringBuilder result = new StringBuilder();
+            return appendTo(new StringBuilder(), style).toString();
+        }
+
+        /**
+         * @param style from XPATH_STYLE
+         * @return result
+         */
+        private StringBuilder appendTo(StringBuilder result, int style) {
             // Set keys;
             switch (style) {
                 case XPathParts.XPATH_STYLE:
@@ -773,7 +829,7 @@ public final class XPathParts extends XPathParser
                     result.append("</").append(element).append('>');
                     break;
             }
-            return result.toString();
+            return result;
         }
 
         private Element writeAttributes(
@@ -800,10 +856,7 @@ public final class XPathParts extends XPathParser
                     result.append(prefix)
                             .append(attribute)
                             .append("=\"")
-                            .append(
-                                    removeLDMLExtras
-                                            ? TransliteratorUtilities.toHTML.transliterate(value)
-                                            : value)
+                            .append(removeLDMLExtras ? escapeHtml(value) : value)
                             .append(postfix);
                 } catch (RuntimeException e) {
                     throw e; // for debugging
@@ -1205,16 +1258,69 @@ public final class XPathParts extends XPathParser
     }
 
     public static XPathParts getFrozenInstance(String path) {
-        XPathParts result = cache.get(path);
+        final GenerationalCache<String, XPathParts> cache = XPathParts.cache;
+        XPathParts result = cache.getIfPresent(path);
         if (result == null) {
             // CLDR-17504: This can recursively create new paths during creation so MUST NOT
-            // happen inside the lambda of computeIfAbsent(), but freezing the path is safe.
-            XPathParts unfrozen = new XPathParts().addInternal(path, true);
-            result = cache.computeIfAbsent(path, (String p) -> unfrozen.freeze());
+            // happen inside a cache loader, but freezing the path is safe.
+            XPathParts unfrozen = new XPathParts().addInternal(path, true).freeze();
+            result = cache.putIfAbsent(path, unfrozen);
+            if (result == null) {
+                result = unfrozen;
+            }
         }
         return result;
     }
 
+    /**
+     * Replace the getFrozenInstance cache with an empty one having the given limits. The defaults
+     * come from the CLDR_XPATH_CACHE_SIZE and CLDR_XPATH_CACHE_WEIGHT properties.
+     *
+     * @param maximumSize the maximum number of paths, or 0 for unbounded
+     * @param maximumWeight if > 0, the maximum total length of the cached paths, in chars; this
+     *     overrides maximumSize
+     */
+    public static void setCacheLimits(long maximumSize, long maximumWeight) {
+        cache = makeCache(maximumSize, maximumWeight);
+    }
+
+    /**
+     * @return hit, miss and eviction statistics for the getFrozenInstance cache
+     */
+    public static CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return the approximate number of paths in the getFrozenInstance cache
+     */
+    public static long getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Add the given paths to the getFrozenInstance cache, so that later lookups are hits.
+     *
+     * @see #prewarmCache(CLDRFile)
+     */
+    public static void prewarmCache(Iterable<String> paths) {
+        for (String path : paths) {
+            getFrozenInstance(path);
+        }
+    }
+
+    /**
+     * Add all the paths of the file, both distinguishing and full, to the getFrozenInstance cache.
+     * For a resolved file, this includes the extra paths derived from the DTD and supplemental
+     * data, so the resolved English file covers nearly all the paths that real data uses.
+     */
+    public static void prewarmCache(CLDRFile cldrFile) {
+        for (String path : cldrFile.fullIterable()) {
+            getFrozenInstance(path);
+            getFrozenInstance(cldrFile.getFullXPath(path));
+        }
+    }
+
     public DtdData getDtdData() {
         return dtdData;
     }
@@ -0,0 +1,80 @@
+package org.unicode.cldr.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus;
+import org.unicode.cldr.test.CheckCLDR.Options;
+import org.unicode.cldr.test.CheckCLDR.Phase;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Factory;
+
+/** Check that TestResultBundle.checkAll gets the same results as checking one path at a time. */
+public class TestCheckAllParallel {
+
+    @BeforeAll
+    public static void setUp() {
+        CheckCLDR.setDisplayInformation(CLDRConfig.getInstance().getEnglish());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"de", "ja"})
+    public void testSameAsSequential(String localeId) {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        Options options =
+                new Options(CLDRLocale.getInstance(localeId), Phase.SUBMISSION, "default", "basic");
+        CLDRFile file = factory.make(localeId, true);
+        Map<String, String> pathToValue = new LinkedHashMap<>();
+        for (String path : file.fullIterable()) {
+            pathToValue.put(path, file.getWinningValue(path));
+        }
+
+        TestCache sequentialCache = new TestCache(factory);
+        sequentialCache.setCheckersPerBundle(1);
+        TestCache.TestResultBundle sequential = sequentialCache.getBundle(options);
+
+        TestCache parallelCache = new TestCache(factory);
+        parallelCache.setCheckersPerBundle(4);
+        Map<String, List<CheckStatus>> parallel =
+                parallelCache.getBundle(options).checkAll(pathToValue);
+
+        assertEquals(List.copyOf(pathToValue.keySet()), List.copyOf(parallel.keySet()));
+        List<String> differences = new ArrayList<>();
+        for (Map.Entry<String, String> entry : pathToValue.entrySet()) {
+            List<CheckStatus> expected = new ArrayList<>();
+            sequential.check(entry.getKey(), expected, entry.getValue());
+            String expectedString = describe(expected);
+            String actualString = describe(parallel.get(entry.getKey()));
+            if (!expectedString.equals(actualString)) {
+                differences.add(entry.getKey() + "\t" + expectedString + "\t" + actualString);
+            }
+        }
+        assertEquals(List.of(), differences, "paths with different results");
+    }
+
+    /** Describe the results, so that results from different runs can be compared */
+    public static String describe(List<CheckStatus> statuses) {
+        StringBuilder result = new StringBuilder();
+        for (CheckStatus status : statuses) {
+            result.append(status.getCause().getClass().getSimpleName())
+                    .append(':')
+                    .append(status.getType())
+                    .append(':')
+                    .append(status.getSubtype())
+                    .append(':')
+                    .append(status.getMessage())
+                    .append(':')
+                    .append(status.getEntireLocale())
+                    .append(';');
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,266 @@
+package org.unicode.cldr.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ibm.icu.text.UnicodeSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus.Subtype;
+import org.unicode.cldr.test.CheckCLDR.Options;
+import org.unicode.cldr.test.CheckCLDR.Phase;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.Pair;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.XMLSource;
+
+public class TestCheckResultStore {
+
+    private static final String LOCALE = "fo";
+    private static final String EXEMPLARS = "//ldml/characters/exemplarCharacters";
+    private static final String LANGUAGE = "//ldml/localeDisplayNames/languages/language";
+
+    @TempDir Path tempDir;
+
+    @BeforeAll
+    public static void setUp() {
+        CheckCLDR.setDisplayInformation(CLDRConfig.getInstance().getEnglish());
+    }
+
+    @Test
+    public void testReusedAcrossCaches() {
+        CheckResultStore store = new CheckResultStore(tempDir.toFile(), "test");
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        Options options =
+                new Options(CLDRLocale.getInstance(LOCALE), Phase.SUBMISSION, "default", "basic");
+        CLDRFile file = factory.make(LOCALE, true);
+        Map<String, String> pathToValue = new LinkedHashMap<>();
+        for (String path : file.fullIterable()) {
+            pathToValue.put(path, file.getWinningValue(path));
+        }
+
+        TestCache firstCache = new TestCache(factory);
+        firstCache.setCheckResultStore(store);
+        Map<String, List<CheckStatus>> expected =
+                firstCache.getBundle(options).checkAll(pathToValue);
+        assertEquals(1, tempDir.toFile().list().length, "results saved");
+
+        String key = store.getKey(file, options, ".*", factory.getSupplementalDirectory());
+        Map<Pair<String, String>, List<CheckStatus>> loaded =
+                store.load(
+                        key,
+                        file,
+                        CheckCLDR.getCheckAll(factory, ".*").getFilteredTestList(),
+                        changed -> path -> false);
+        assertTrue(
+                loaded.size() > pathToValue.size() * 9 / 10,
+                () -> "only " + loaded.size() + " of " + pathToValue.size() + " stored");
+
+        TestCache secondCache = new TestCache(factory);
+        secondCache.setCheckResultStore(store);
+        Map<String, List<CheckStatus>> actual =
+                secondCache.getBundle(options).checkAll(pathToValue);
+        List<String> differences = new ArrayList<>();
+        for (String path : pathToValue.keySet()) {
+            String expectedString = TestCheckAllParallel.describe(expected.get(path));
+            String actualString = TestCheckAllParallel.describe(actual.get(path));
+            if (!expectedString.equals(actualString)) {
+                differences.add(path + "\t" + expectedString + "\t" + actualString);
+            }
+        }
+        assertEquals(List.of(), differences, "paths with different results");
+    }
+
+    @Test
+    public void testKeyChangesWithContent() {
+        CheckResultStore store = new CheckResultStore(tempDir.toFile(), "test");
+        Options options =
+                new Options(CLDRLocale.getInstance(LOCALE), Phase.SUBMISSION, "default", "basic");
+        String path = "//ldml/localeDisplayNames/languages/language[@type=\"fo\"]";
+        XMLSource source = new SimpleXMLSource(LOCALE);
+        source.putValueAtPath(path, "føroyskt");
+        source.putValueAtPath(EXEMPLARS, "[a-z ø]");
+        CLDRFile file = new CLDRFile(source);
+        String key = store.getKey(file, options, ".*", null);
+
+        assertEquals(key, store.getKey(new CLDRFile(source.cloneAsThawed()), options, ".*", null));
+        source.putValueAtDPath(path, "Føroyskt");
+        assertEquals(
+                key,
+                store.getKey(file, options, ".*", null),
+                "incremental value changed; the stored results are checked by path instead");
+        source.putValueAtDPath(EXEMPLARS, "[a-z æ ø]");
+        assertNotEquals(key, store.getKey(file, options, ".*", null), "exemplars changed");
+        assertNotEquals(
+                store.getKey(file, options, ".*", null),
+                store.getKey(file, options, "CheckForCopy", null),
+                "checks changed");
+        assertNotEquals(
+                store.getKey(file, options, ".*", null),
+                new CheckResultStore(tempDir.toFile(), "other").getKey(file, options, ".*", null),
+                "version changed");
+        assertNotEquals(
+                store.getKey(file, options, ".*", null),
+                store.getKey(
+                        file,
+                        new Options(
+                                CLDRLocale.getInstance(LOCALE), Phase.VETTING, "default", "basic"),
+                        ".*",
+                        null),
+                "options changed");
+    }
+
+    @Test
+    public void testIncrementalChange() {
+        CheckResultStore store = new CheckResultStore(tempDir.toFile(), "test");
+        Options options =
+                new Options(CLDRLocale.getInstance(LOCALE), Phase.SUBMISSION, "default", "basic");
+        final String changed = LANGUAGE + "[@type=\"de\"]";
+        final String dependent = LANGUAGE + "[@type=\"de\"][@alt=\"short\"]";
+        final String unrelated = LANGUAGE + "[@type=\"fr\"]";
+        XMLSource source = new SimpleXMLSource(LOCALE);
+        source.putValueAtPath(EXEMPLARS, "[a-z ø]");
+        source.putValueAtPath(changed, "týskt");
+        source.putValueAtPath(dependent, "týskt");
+        source.putValueAtPath(unrelated, "franskt");
+        CLDRFile file = new CLDRFile(source);
+        CheckCLDR cause = new CheckAnnotations();
+        Map<Pair<String, String>, List<CheckStatus>> results = new LinkedHashMap<>();
+        for (String path : List.of(EXEMPLARS, changed, dependent, unrelated)) {
+            results.put(
+                    new Pair<>(path, file.getStringValue(path)),
+                    List.of(
+                            new CheckStatus()
+                                    .setCause(cause)
+                                    .setMainType(CheckStatus.warningType)
+                                    .setSubtype(Subtype.valueTooWide)
+                                    .setMessage("Checked")));
+        }
+        String key = store.getKey(file, options, ".*", null);
+        store.save(key, file, results);
+
+        source.putValueAtDPath(changed, "Týskt");
+        assertEquals(key, store.getKey(file, options, ".*", null));
+        Map<Pair<String, String>, List<CheckStatus>> loaded =
+                store.load(
+                        key,
+                        file,
+                        List.of(cause),
+                        path -> other -> other.startsWith(path + "[@alt="));
+        assertEquals(
+                Set.of(EXEMPLARS, unrelated),
+                loaded.keySet().stream().map(Pair::getFirst).collect(Collectors.toSet()),
+                "only the results for the changed path and its dependents are dropped");
+
+        source.putValueAtDPath(changed, "týskt");
+        assertEquals(
+                results.keySet(),
+                store.load(key, file, List.of(cause), path -> other -> true).keySet(),
+                "all the results are kept once the value is back");
+    }
+
+    @Test
+    public void testSupersededDeleted() {
+        CheckResultStore store = new CheckResultStore(tempDir.toFile(), "test");
+        Options options =
+                new Options(CLDRLocale.getInstance(LOCALE), Phase.SUBMISSION, "default", "basic");
+        XMLSource source = new SimpleXMLSource(LOCALE);
+        source.putValueAtPath(EXEMPLARS, "[a-z ø]");
+        CLDRFile file = new CLDRFile(source);
+        store.save(store.getKey(file, options, ".*", null), file, Map.of());
+        store.save(store.getKey(file, options, "CheckForCopy", null), file, Map.of());
+        assertEquals(2, tempDir.toFile().list().length, "different checks are kept apart");
+
+        source.putValueAtDPath(EXEMPLARS, "[a-z æ ø]");
+        String key = store.getKey(file, options, ".*", null);
+        store.save(key, file, Map.of());
+        Set<String> names = Set.of(tempDir.toFile().list());
+        assertEquals(2, names.size(), () -> names.toString());
+        assertTrue(names.contains(key + ".bin"), () -> names.toString());
+    }
+
+    @Test
+    public void testStatusRoundTrip() throws IOException {
+        CheckCLDR cause = new CheckAnnotations();
+        CheckStatus entireLocale =
+                new CheckStatus()
+                        .setCause(cause)
+                        .setMainType(CheckStatus.errorType)
+                        .setSubtype(Subtype.noExemplarCharacters)
+                        .setMessage("No exemplars")
+                        .setEntireLocale();
+        CheckStatus withParameters =
+                new CheckStatus()
+                        .setCause(cause)
+                        .setMainType(CheckStatus.warningType)
+                        .setSubtype(Subtype.valueTooWide)
+                        .setCheckOnSubmit(false)
+                        .setMessage(
+                                "{0} is {1} wide, {2}",
+                                new UnicodeSet("[a-c]"), 1234, 0.5, null, 7L);
+        CheckStatus withException =
+                new CheckStatus()
+                        .setCause(cause)
+                        .setMainType(CheckStatus.errorType)
+                        .setSubtype(Subtype.internalError)
+                        .setMessage("Failed: {0}", new IllegalArgumentException("bad"));
+        Map<Pair<String, String>, List<CheckStatus>> results = new LinkedHashMap<>();
+        results.put(new Pair<>("//ldml/a", "x"), List.of(entireLocale, withParameters));
+        results.put(new Pair<>("//ldml/b", null), List.of(entireLocale));
+        results.put(new Pair<>("//ldml/c", "y"), List.of(entireLocale, withException));
+        results.put(new Pair<>("//ldml/d", "z"), List.of());
+
+        File file = tempDir.resolve("results.bin").toFile();
+        CheckResultStore.write(results, Map.of(), file);
+        Map<Pair<String, String>, List<CheckStatus>> read =
+                CheckResultStore.read(file, List.of(cause)).results;
+
+        assertEquals(3, read.size(), "the results with an exception aren't stored");
+        for (Pair<String, String> key : read.keySet()) {
+            assertEquals(
+                    TestCheckAllParallel.describe(results.get(key)),
+                    TestCheckAllParallel.describe(read.get(key)),
+                    key.toString());
+        }
+        CheckStatus readStatus = read.get(new Pair<>("//ldml/a", "x")).get(1);
+        assertEquals(withParameters.isCheckOnSubmit(), readStatus.isCheckOnSubmit());
+        assertEquals(1234, readStatus.getParameters()[1]);
+        assertSame(cause, readStatus.getCause());
+        assertSame(
+                read.get(new Pair<>("//ldml/a", "x")).get(0),
+                read.get(new Pair<>("//ldml/b", null)).get(0),
+                "shared status read once");
+        assertTrue(read.get(new Pair<>("//ldml/b", null)).get(0).getEntireLocale());
+
+        assertEquals(
+                Set.of(new Pair<>("//ldml/d", "z")),
+                CheckResultStore.read(file, List.of()).results.keySet(),
+                "only the results without a status are kept if the cause is unknown");
+        Files.writeString(file.toPath(), "not check results");
+        assertEquals(
+                Map.of(),
+                new CheckResultStore(tempDir.toFile(), "test")
+                        .load(
+                                "results",
+                                new CLDRFile(new SimpleXMLSource(LOCALE)),
+                                List.of(cause),
+                                path -> other -> false));
+    }
+}
@@ -0,0 +1,171 @@
+package org.unicode.cldr.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.unittest.TestFactory;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.CLDRPaths;
+import org.unicode.cldr.util.Factory;
+
+public class TestExampleStore {
+
+    private static final String LOCALE = "de";
+
+    private static final String SWITZERLAND =
+            "//ldml/localeDisplayNames/territories/territory[@type=\"CH\"]";
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testParallelSameAsSequential() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        CLDRFile file = factory.make(LOCALE, true);
+        Map<String, String> pathToValue = getPathToValue(file);
+
+        ExampleGenerator parallel = new ExampleGenerator(file, factory);
+        parallel.computeExamples(pathToValue, 4);
+        ExampleStore store = new ExampleStore(tempDir.toFile(), "test");
+        store.save(parallel);
+        int loaded = store.load(new ExampleGenerator(file, factory));
+        assertTrue(
+                loaded > pathToValue.size() / 2,
+                () -> "only " + loaded + " of " + pathToValue.size() + " computed");
+
+        assertEquals(List.of(), getDifferences(new ExampleGenerator(file, factory), parallel));
+    }
+
+    @Test
+    public void testChangedDependency() {
+        Map<String, String> pathToValue = getPathToValue(makeFactory(null).make(LOCALE, true));
+        ExampleStore store = new ExampleStore(tempDir.toFile(), "test");
+
+        Factory before = makeFactory(null);
+        ExampleGenerator saved = new ExampleGenerator(before.make(LOCALE, true), before);
+        saved.computeExamples(pathToValue, 1);
+        store.save(saved);
+        assertEquals(1, tempDir.toFile().list().length);
+
+        Factory same = makeFactory(null);
+        ExampleGenerator reloaded = new ExampleGenerator(same.make(LOCALE, true), same);
+        int loadedSame = store.load(reloaded);
+        assertEquals(List.of(), getDifferences(saved, reloaded));
+
+        Factory after = makeFactory("Helvetia");
+        CLDRFile changedFile = after.make(LOCALE, true);
+        ExampleGenerator changed = new ExampleGenerator(changedFile, after);
+        int loadedChanged = store.load(changed);
+        assertTrue(loadedChanged < loadedSame, "examples depending on the name are dropped");
+        assertTrue(
+                loadedChanged > loadedSame / 2,
+                () -> "only " + loadedChanged + " of " + loadedSame + " examples are kept");
+        assertEquals(
+                List.of(),
+                getDifferences(new ExampleGenerator(changedFile, after), changed),
+                "loaded examples are the same as new ones");
+    }
+
+    @Test
+    public void testOtherSupplementalData() {
+        Factory factory = makeFactory(null);
+        ExampleGenerator saved = new ExampleGenerator(factory.make(LOCALE, true), factory);
+        saved.computeExamples(getPathToValue(factory.make(LOCALE, true)), 1);
+        ExampleStore store = new ExampleStore(tempDir.toFile(), "test");
+        store.save(saved);
+
+        Factory same = makeFactory(null);
+        assertTrue(store.load(new ExampleGenerator(same.make(LOCALE, true), same)) > 0);
+        Factory other = makeFactory(null);
+        other.setSupplementalDirectory(new File(CLDRPaths.SUPPLEMENTAL_DIRECTORY));
+        assertEquals(
+                0,
+                store.load(new ExampleGenerator(other.make(LOCALE, true), other)),
+                "examples made with other supplemental data aren't loaded");
+    }
+
+    @Test
+    public void testSavedFromTestCache() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        CLDRFile file = factory.make(LOCALE, true);
+        ExampleStore store = new ExampleStore(tempDir.toFile(), "test");
+        TestCache cache = new TestCache(factory);
+        cache.setExampleStore(store);
+        ExampleGenerator eg = cache.getExampleGenerator(CLDRLocale.getInstance(LOCALE), file, null);
+        eg.getExampleHtml(SWITZERLAND, file.getStringValue(SWITZERLAND));
+        cache.setNameMatcher(".*");
+        assertEquals(0, tempDir.toFile().list().length, "invalidating doesn't save");
+        eg = cache.getExampleGenerator(CLDRLocale.getInstance(LOCALE), file, null);
+        eg.getExampleHtml(SWITZERLAND, file.getStringValue(SWITZERLAND));
+
+        cache.saveExamples();
+        assertEquals(1, tempDir.toFile().list().length);
+        int saved = store.load(new ExampleGenerator(file, factory));
+        assertTrue(saved > 0, "examples saved");
+
+        eg.setBackgroundStart("<b>");
+        cache.saveExamples();
+        assertEquals(1, tempDir.toFile().list().length, "the superseded file is deleted");
+        ExampleGenerator reloaded = new ExampleGenerator(file, factory);
+        reloaded.setBackgroundStart("<b>");
+        assertEquals(saved, store.load(reloaded));
+    }
+
+    /** A factory with root, en, and de with the given name for Switzerland (if not null) */
+    private static Factory makeFactory(String switzerland) {
+        Factory cldrFactory = CLDRConfig.getInstance().getCldrFactory();
+        Map<String, String> localeValues = getFullPathToValue(cldrFactory.make(LOCALE, false));
+        if (switzerland != null) {
+            localeValues.put(SWITZERLAND, switzerland);
+        }
+        TestFactory factory =
+                TestFactory.makeFileWithValues(
+                        LOCALE, getFullPathToValue(cldrFactory.make("root", false)), localeValues);
+        factory.addFile(cldrFactory.make("en", false));
+        return factory;
+    }
+
+    private static Map<String, String> getFullPathToValue(CLDRFile file) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String path : file) {
+            result.put(file.getFullXPath(path), file.getStringValue(path));
+        }
+        return result;
+    }
+
+    private static Map<String, String> getPathToValue(CLDRFile file) {
+        Map<String, String> pathToValue = new LinkedHashMap<>();
+        for (String path : file.fullIterable()) {
+            String value = file.getWinningValue(path);
+            if (value != null) {
+                pathToValue.put(path, value);
+            }
+        }
+        return pathToValue;
+    }
+
+    /** The first paths whose examples differ */
+    private static List<String> getDifferences(ExampleGenerator expected, ExampleGenerator actual) {
+        List<String> differences = new ArrayList<>();
+        Map<String, String> pathToValue = getPathToValue(expected.getCldrFile());
+        pathToValue.forEach(
+                (path, value) -> {
+                    String expectedHtml = expected.getExampleHtml(path, value);
+                    String actualHtml = actual.getExampleHtml(path, value);
+                    if (!Objects.equals(expectedHtml, actualHtml) && differences.size() < 20) {
+                        differences.add(path + "\t" + expectedHtml + "\t" + actualHtml);
+                    }
+                });
+        return differences;
+    }
+}
@@ -87,6 +87,16 @@ public class TestFactory extends Factory {
         return unresolved.keySet();
     }
 
+    /** A factory whose files can change, but which finds the casing data (for the checks) */
+    public static TestFactory makeForChecks() {
+        return new TestFactory() {
+            @Override
+            public File[] getSourceDirectories() {
+                return CLDRConfig.getInstance().getCldrFactory().getSourceDirectories();
+            }
+        };
+    }
+
     public static TestFactory makeFileWithValues(
             String locale,
             Map<String, String> rootPathValuePairs,
@@ -0,0 +1,117 @@
+package org.unicode.cldr.unittest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.test.CheckCLDR;
+import org.unicode.cldr.test.CheckCLDR.CheckStatus;
+import org.unicode.cldr.test.CheckCLDR.Options;
+import org.unicode.cldr.test.CheckCLDR.Phase;
+import org.unicode.cldr.test.TestCache;
+import org.unicode.cldr.test.TestCache.TestResultBundle;
+import org.unicode.cldr.test.TestCheckAllParallel;
+import org.unicode.cldr.util.CLDRConfig;
+import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CLDRLocale;
+import org.unicode.cldr.util.Factory;
+import org.unicode.cldr.util.SimpleXMLSource;
+import org.unicode.cldr.util.XMLSource;
+
+/**
+ * Check that after a value changes, a TestResultBundle that only redoes the results for the
+ * dependent paths gets the same results as checking everything again.
+ */
+public class TestIncrementalRecheck {
+
+    private static final String LOCALE = "de";
+
+    /** Changes in different incremental areas, several of them making new collisions */
+    private static final String[][] CHANGES = {
+        {"//ldml/localeDisplayNames/territories/territory[@type=\"AT\"]", "Deutschland"},
+        {"//ldml/localeDisplayNames/languages/language[@type=\"fr\"]", "Englisch"},
+        {"//ldml/localeDisplayNames/scripts/script[@type=\"Cyrl\"]", "Latein"},
+        {"//ldml/dates/timeZoneNames/zone[@type=\"Europe/Paris\"]/exemplarCity", "Italien"},
+        {
+            "//ldml/dates/timeZoneNames/metazone[@type=\"Europe_Central\"]/long/standard",
+            "Osteuropäische Normalzeit"
+        },
+        {"//ldml/numbers/currencies/currency[@type=\"EUR\"]/displayName", "US-Dollar"},
+        {"//ldml/dates/fields/field[@type=\"year\"]/displayName", "Monat"},
+    };
+
+    @Test
+    public void testSameAsFullRecheck() {
+        CheckCLDR.setDisplayInformation(CLDRConfig.getInstance().getEnglish());
+        Factory cldrFactory = CLDRConfig.getInstance().getCldrFactory();
+        TestFactory factory = TestFactory.makeForChecks();
+        factory.addFile(cldrFactory.make("root", false));
+        XMLSource source = new SimpleXMLSource(LOCALE);
+        CLDRFile original = cldrFactory.make(LOCALE, false);
+        for (String path : original) {
+            source.putValueAtPath(original.getFullXPath(path), original.getStringValue(path));
+        }
+        factory.addFile(source);
+
+        Options options =
+                new Options(CLDRLocale.getInstance(LOCALE), Phase.SUBMISSION, "default", "basic");
+        TestCache testCache = factory.getTestCache();
+        TestResultBundle bundle = testCache.getBundle(options);
+        bundle.checkAll(getPathToValue(factory));
+
+        for (String[] change : CHANGES) {
+            String path = change[0];
+            assertTrue(CheckCLDR.isIncremental(path), path);
+            source.putValueAtDPath(path, change[1]);
+            source.notifyListeners(path);
+            assertSame(bundle, testCache.getBundle(options), path);
+        }
+
+        Map<String, String> pathToValue = getPathToValue(factory);
+        Map<String, List<CheckStatus>> incremental = bundle.checkAll(pathToValue);
+        Map<String, List<CheckStatus>> full =
+                new TestCache(factory).getBundle(options).checkAll(pathToValue);
+        List<String> differences = new ArrayList<>();
+        for (String path : pathToValue.keySet()) {
+            String expected = TestCheckAllParallel.describe(full.get(path));
+            String actual = TestCheckAllParallel.describe(incremental.get(path));
+            if (!expected.equals(actual)) {
+                differences.add(path + "\t" + expected + "\t" + actual);
+            }
+        }
+        assertEquals(List.of(), differences, "paths with different results");
+    }
+
+    @Test
+    public void testSetupPathDropsBundle() {
+        String path = "//ldml/characters/exemplarCharacters";
+        assertFalse(CheckCLDR.isIncremental(path));
+        TestFactory factory = TestFactory.makeForChecks();
+        XMLSource source = new SimpleXMLSource(LOCALE);
+        source.putValueAtPath(path, "[a-z ä ö ü ß]");
+        factory.addFile(source);
+        Options options =
+                new Options(CLDRLocale.getInstance(LOCALE), Phase.SUBMISSION, "default", "basic");
+        TestCache testCache = factory.getTestCache();
+        TestResultBundle bundle = testCache.getBundle(options);
+        source.putValueAtDPath(path, "[a-z ä ö ü]");
+        source.notifyListeners(path);
+        assertNotSame(bundle, testCache.getBundle(options));
+    }
+
+    private static Map<String, String> getPathToValue(Factory factory) {
+        CLDRFile file = factory.make(LOCALE, true);
+        Map<String, String> pathToValue = new LinkedHashMap<>();
+        for (String path : file.fullIterable()) {
+            pathToValue.put(path, file.getWinningValue(path));
+        }
+        return pathToValue;
+    }
+}
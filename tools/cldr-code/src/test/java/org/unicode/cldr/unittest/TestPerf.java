@@ -1,18 +1,25 @@
 package org.unicode.cldr.unittest;
 
 import com.ibm.icu.util.Output;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Disabled;
 import org.unicode.cldr.util.CLDRConfig;
 import org.unicode.cldr.util.CLDRFile;
+import org.unicode.cldr.util.CldrXmlWriter;
 import org.unicode.cldr.util.DtdData;
 import org.unicode.cldr.util.DtdData.AttributeValueComparator;
 import org.unicode.cldr.util.DtdType;
+import org.unicode.cldr.util.Factory;
 import org.unicode.cldr.util.Timer;
 import org.unicode.cldr.util.XPathParts;
 
@@ -194,5 +201,112 @@ public class TestPerf extends TestFmwkPlus {
         return timer.getSeconds() / iterations;
     }
 
+    /** Compare sorting 100k paths with DtdComparator sort keys, and by parsing each time. */
+    public void TestSortKeys() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        Set<String> pathSet = new HashSet<>();
+        for (String locale : factory.getAvailable()) {
+            CLDRFile file = factory.make(locale, false);
+            for (String path : file) {
+                pathSet.add(file.getFullXPath(path));
+            }
+            if (pathSet.size() >= 100_000) {
+                break;
+            }
+        }
+        List<String> paths = new ArrayList<>(pathSet);
+        DtdData.DtdComparator comparator = DtdData.getInstance(DtdType.ldml).getDtdComparator();
+        Comparator<String> parsing =
+                (a, b) ->
+                        comparator.xpathComparator(
+                                XPathParts.getFrozenInstance(a), XPathParts.getFrozenInstance(b));
+        // warmup, including computing the keys
+        List<String> expected = sortCopy(paths, parsing);
+        assertEquals("same order", expected, sortCopy(paths, comparator));
+        List<String> bulk = new ArrayList<>(paths);
+        comparator.sort(bulk);
+        assertEquals("same order", expected, bulk);
+
+        double parsingSeconds = timeSorts(paths, list -> list.sort(parsing));
+        double keySeconds = timeSorts(paths, list -> list.sort(comparator));
+        double bulkSeconds = timeSorts(paths, comparator::sort);
+        logln(
+                "Sort "
+                        + paths.size()
+                        + " paths:\tparsing "
+                        + parsingSeconds
+                        + "s\tcomparator "
+                        + keySeconds
+                        + "s\tbulk "
+                        + bulkSeconds
+                        + "s");
+        // Timings are only logged, since they vary too much on shared machines; see
+        // ConversionBenchmark in cldr-bench.
+    }
+
+    /** Time sorting copies of the paths, after warming up */
+    private static double timeSorts(List<String> paths, Consumer<List<String>> sorter) {
+        final int iterations = 5;
+        for (int i = 0; i < iterations; ++i) {
+            sorter.accept(new ArrayList<>(paths));
+        }
+        Timer timer = new Timer();
+        for (int i = 0; i < iterations; ++i) {
+            sorter.accept(new ArrayList<>(paths));
+        }
+        return timer.getSeconds() / iterations;
+    }
+
+    private static List<String> sortCopy(List<String> paths, Comparator<String> comparator) {
+        List<String> result = new ArrayList<>(paths);
+        result.sort(comparator);
+        return result;
+    }
+
+    /** Compare the streaming and legacy CldrXmlWriter over all of common/main. */
+    public void TestWriteMain() {
+        if (getInclusion() <= 5) { // Only run this test in exhaustive mode.
+            return;
+        }
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        List<CLDRFile> files = new ArrayList<>();
+        for (String locale : factory.getAvailable()) {
+            files.add(factory.make(locale, false));
+        }
+        // warmup, and check that the output is identical
+        for (CLDRFile file : files) {
+            assertEquals(file.getLocaleID(), writeToString(file, false), writeToString(file, true));
+        }
+        double legacySeconds = timeWrites(files, false);
+        double streamingSeconds = timeWrites(files, true);
+        logln(
+                "Write "
+                        + files.size()
+                        + " files:\tlegacy "
+                        + legacySeconds
+                        + "s\tstreaming "
+                        + streamingSeconds
+                        + "s");
+    }
+
+    private double timeWrites(List<CLDRFile> files, boolean streaming) {
+        Timer timer = new Timer();
+        int length = 0;
+        for (CLDRFile file : files) {
+            length += writeToString(file, streaming).length();
+        }
+        timer.stop();
+        assertRelation("output", true, length, GEQ, files.size());
+        return timer.getSeconds();
+    }
+
+    private static String writeToString(CLDRFile file, boolean streaming) {
+        StringWriter sw = new StringWriter();
+        try (PrintWriter pw = new PrintWriter(sw)) {
+            new CldrXmlWriter(file, pw, Collections.emptyMap(), streaming).write();
+        }
+        return sw.toString();
+    }
+
     public void TestUnused() {}
 }
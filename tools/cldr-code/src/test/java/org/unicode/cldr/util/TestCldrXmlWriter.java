@@ -0,0 +1,82 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.unicode.cldr.util.XPathParts.Comments.CommentType;
+
+/** Check that the streaming CldrXmlWriter produces the same output as the original one. */
+public class TestCldrXmlWriter {
+    private static final CLDRConfig CONFIG = CLDRConfig.getInstance();
+
+    private static String write(CLDRFile file, Map<String, ?> options, boolean streaming) {
+        StringWriter sw = new StringWriter();
+        try (PrintWriter pw = new PrintWriter(sw)) {
+            new CldrXmlWriter(file, pw, options, streaming).write();
+        }
+        return sw.toString();
+    }
+
+    private static void assertSameOutput(CLDRFile file, Map<String, ?> options) {
+        String expected = write(file, options, false);
+        String actual = write(file, options, true);
+        if (!expected.equals(actual)) {
+            // report the first differing line, rather than the whole file
+            String[] expectedLines = expected.split("\n", -1);
+            String[] actualLines = actual.split("\n", -1);
+            for (int i = 0; ; ++i) {
+                String expectedLine = i < expectedLines.length ? expectedLines[i] : null;
+                String actualLine = i < actualLines.length ? actualLines[i] : null;
+                assertEquals(expectedLine, actualLine, file.getLocaleID() + " line " + (i + 1));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"root", "en", "de_CH", "ja", "ar", "sr_Latn", "zh_Hant_HK"})
+    public void testMain(String locale) {
+        Factory factory = CONFIG.getCldrFactory();
+        assertSameOutput(factory.make(locale, false), Map.of());
+        assertSameOutput(factory.make(locale, true), Map.of());
+        assertSameOutput(
+                factory.make(locale, false), Map.of("SUPPRESS_IM", true, "DTD_OMIT", true));
+        Predicate<String> skipDates = path -> path.startsWith("//ldml/dates/");
+        assertSameOutput(factory.make(locale, false), Map.of("SKIP_PATH", skipDates));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"root", "de", "ja"})
+    public void testCollation(String locale) {
+        // collation rules are written as CDATA
+        assertSameOutput(CONFIG.getCollationFactory().make(locale, false), Map.of());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "fr"})
+    public void testAnnotations(String locale) {
+        assertSameOutput(CONFIG.getAnnotationsFactory().make(locale, false), Map.of());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"en", "fr"})
+    public void testComments(String locale) {
+        CLDRFile file = CONFIG.getCldrFactory().make(locale, false).cloneAsThawed();
+        int i = 0;
+        for (String path : file) {
+            if (++i % 50 != 0) {
+                continue;
+            }
+            String parent = XPathParts.getFrozenInstance(path).toString(-1);
+            file.addComment(parent, "block before " + i, CommentType.PREBLOCK);
+            file.addComment(path, "line " + i, CommentType.LINE);
+            file.addComment(path, "block after\nof " + i, CommentType.POSTBLOCK);
+        }
+        file.dataSource.getXpathComments().setFinalComment("final");
+        assertSameOutput(file, Map.of("COMMENT", "test"));
+    }
+}
@@ -0,0 +1,118 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.ibm.icu.util.Output;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.util.RegexLookup.Finder;
+import org.unicode.cldr.util.RegexLookup.LookupType;
+
+/** Check that RegexLookup.LookupType.COMPILED_LOOKUP gets the same results as STANDARD. */
+public class TestCompiledLookup {
+
+    /** Every path in common/main, and the extra paths */
+    private static Set<String> allPaths;
+
+    @BeforeAll
+    public static void collectPaths() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        allPaths = new TreeSet<>();
+        for (String locale : factory.getAvailable()) {
+            factory.make(locale, false).forEach(allPaths::add);
+        }
+        factory.make("en", true).fullIterable().forEach(allPaths::add);
+    }
+
+    @Test
+    public void testRequiredLiterals() {
+        assertArrayEquals(
+                new String[] {"//ldml/dates/calendars/calendar[@type=\"", "\"]/months"},
+                RegexLiterals.getRequired(
+                        "^//ldml/dates/calendars/calendar\\[@type=\"([^\"]*+)\"]/months"));
+        assertArrayEquals(
+                new String[] {"//ldml/", "/default"},
+                RegexLiterals.getRequired("^//ldml/(.*)/default$"));
+        assertArrayEquals(new String[] {"a", "c"}, RegexLiterals.getRequired("^ab?c"));
+        assertArrayEquals(new String[] {"ab", "c"}, RegexLiterals.getRequired("^a b+c"));
+        assertArrayEquals(new String[] {"", "x"}, RegexLiterals.getRequired("x\\d+y"));
+        assertArrayEquals(new String[] {"ab"}, RegexLiterals.getRequired("^ab(?i)cd"));
+        assertArrayEquals(new String[] {"", "bc"}, RegexLiterals.getRequired("[]a]bc"));
+        assertArrayEquals(new String[] {"[a", "b"}, RegexLiterals.getRequired("^\\[a(?!x)b"));
+        assertNull(RegexLiterals.getRequired("^abc|def"));
+        assertNull(RegexLiterals.getRequired("^abc # comment"));
+    }
+
+    @Test
+    public void testOrder() {
+        RegexLookup<String> lookup =
+                new RegexLookup<String>(LookupType.COMPILED_LOOKUP)
+                        .add("^//ldml/a.*", "first")
+                        .add("^//ldml/ab(c)", "second")
+                        .add("b(c)", "third");
+        Output<String[]> arguments = new Output<>();
+        assertEquals("first", lookup.get("//ldml/abc", null, arguments));
+        assertArrayEquals(new String[] {"//ldml/abc"}, arguments.value);
+        assertEquals("third", lookup.get("abc", null, arguments));
+        assertArrayEquals(new String[] {"bc", "c"}, arguments.value);
+        assertEquals(
+                List.of("first", "second", "third"), lookup.getAll("//ldml/abc", null, null, null));
+        assertNull(lookup.get("//ldml/xyz"));
+        assertEquals(3, lookup.size());
+    }
+
+    @Test
+    public void testPathHeader() {
+        Function<LookupType, RegexLookup<String>> maker =
+                type ->
+                        new RegexLookup<String>(type)
+                                .setPatternTransform(RegexLookup.RegexFinderTransformPath)
+                                .loadFromFile(PathHeader.class, "data/PathHeader.txt");
+        checkSame(maker.apply(LookupType.STANDARD), maker.apply(LookupType.COMPILED_LOOKUP));
+    }
+
+    @Test
+    public void testPathDescription() {
+        for (String fileName :
+                List.of(
+                        PathDescription.pathDescriptionFileName,
+                        PathDescription.pathDescriptionHintsFileName)) {
+            RegexLookup<Pair<String, String>> parsed = new PathDescriptionParser().parse(fileName);
+            RegexLookup<Pair<String, String>> standard = new RegexLookup<>(LookupType.STANDARD);
+            RegexLookup<Pair<String, String>> tree =
+                    new RegexLookup<>(LookupType.OPTIMIZED_DIRECTORY_PATTERN_LOOKUP);
+            for (Map.Entry<Finder, Pair<String, String>> entry : parsed) {
+                standard.add(entry.getKey(), entry.getValue());
+                tree.add(entry.getKey(), entry.getValue());
+            }
+            checkSame(standard, parsed);
+            checkSame(tree, parsed);
+        }
+    }
+
+    private <T> void checkSame(RegexLookup<T> expected, RegexLookup<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        List<String> differences = new ArrayList<>();
+        for (String path : allPaths) {
+            Output<String[]> expectedArguments = new Output<>();
+            Output<String[]> actualArguments = new Output<>();
+            T expectedValue = expected.get(path, null, expectedArguments);
+            T actualValue = actual.get(path, null, actualArguments);
+            if (!Objects.equals(expectedValue, actualValue)
+                    || !Arrays.equals(expectedArguments.value, actualArguments.value)) {
+                differences.add(path + "\t" + expectedValue + "\t" + actualValue);
+            }
+        }
+        assertEquals(List.of(), differences, "paths with different results");
+    }
+}
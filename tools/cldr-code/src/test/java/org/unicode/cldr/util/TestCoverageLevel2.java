@@ -9,10 +9,17 @@ import com.google.common.collect.ImmutableSet;
 import com.ibm.icu.util.Output;
 import com.ibm.icu.util.VersionInfo;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -343,4 +350,49 @@ public class TestCoverageLevel2 extends TestWithKnownIssues {
                             "Expected to have no deferred locales: " + ticket + " : " + set);
                 });
     }
+
+    @Test
+    public void testConcurrentGetLevel() throws Exception {
+        final SupplementalDataInfo sdi = CLDRConfig.getInstance().getSupplementalDataInfo();
+        final List<String> paths = new ArrayList<>();
+        CLDRConfig.getInstance()
+                .getCldrFactory()
+                .make("fr", true)
+                .fullIterable()
+                .forEach(paths::add);
+
+        final CoverageLevel2 single = CoverageLevel2.getInstance(sdi, "fr");
+        final Map<String, Level> expected = new HashMap<>();
+        for (String path : paths) {
+            expected.put(path, single.getLevel(path));
+        }
+
+        // a fresh instance, so that the threads race on the lookup and not only on the memo
+        final CoverageLevel2 shared = CoverageLevel2.getInstance(sdi, "fr");
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final List<String> shuffled = new ArrayList<>(paths);
+                Collections.shuffle(shuffled, new Random(t));
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    int mismatches = 0;
+                                    for (String path : shuffled) {
+                                        if (shared.getLevel(path) != expected.get(path)) {
+                                            ++mismatches;
+                                        }
+                                    }
+                                    return mismatches;
+                                }));
+            }
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get(), "levels differing from a single thread");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
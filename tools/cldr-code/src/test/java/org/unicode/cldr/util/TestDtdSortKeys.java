@@ -0,0 +1,95 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/** Check that the sort keys of DtdComparator give the same order as xpathComparator. */
+public class TestDtdSortKeys {
+    private static final CLDRConfig CONFIG = CLDRConfig.getInstance();
+
+    private static void checkOrder(DtdData dtdData, List<String> paths) {
+        DtdData.DtdComparator comparator = dtdData.getDtdComparator();
+        Comparator<String> reference =
+                (a, b) ->
+                        comparator.xpathComparator(
+                                XPathParts.getFrozenInstance(a), XPathParts.getFrozenInstance(b));
+        List<String> shuffled = new ArrayList<>(paths);
+        Collections.shuffle(shuffled, new Random(0));
+        List<String> expected = new ArrayList<>(shuffled);
+        expected.sort(reference);
+        List<String> actual = new ArrayList<>(shuffled);
+        actual.sort(comparator);
+        assertEquals(expected, actual);
+        List<String> parallel =
+                shuffled.parallelStream().sorted(comparator).collect(Collectors.toList());
+        assertEquals(expected, parallel);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; ++i) {
+            String a = paths.get(random.nextInt(paths.size()));
+            String b = paths.get(random.nextInt(paths.size()));
+            assertEquals(
+                    Integer.signum(reference.compare(a, b)),
+                    Integer.signum(comparator.compare(a, b)),
+                    a + " vs " + b);
+        }
+    }
+
+    @Test
+    public void testLdml() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (String locale : List.of("en", "de_CH", "ja", "ar")) {
+            CLDRFile file = CONFIG.getCldrFactory().make(locale, true);
+            for (String path : file.fullIterable()) {
+                paths.add(path);
+                paths.add(file.getFullXPath(path));
+            }
+        }
+        checkOrder(DtdData.getInstance(DtdType.ldml), new ArrayList<>(paths));
+    }
+
+    @Test
+    public void testSupplemental() {
+        Set<String> paths = new LinkedHashSet<>();
+        Factory factory = CONFIG.getSupplementalFactory();
+        for (String name : factory.getAvailable()) {
+            CLDRFile file = factory.make(name, false);
+            if (file.getDtdType() != DtdType.supplementalData) {
+                continue;
+            }
+            for (String path : file) {
+                paths.add(path);
+                paths.add(file.getFullXPath(path));
+            }
+        }
+        checkOrder(DtdData.getInstance(DtdType.supplementalData), new ArrayList<>(paths));
+    }
+
+    @Test
+    public void testRespacing() {
+        // Each new value sorts just after "a" and before the previous one, halving the gap each
+        // time, so the ranks must be respaced along the way.
+        DtdData dtdData = DtdData.getInstance(DtdType.ldml);
+        String prefix = "//ldml/localeDisplayNames/keys/key[@type=\"";
+        String first = prefix + "a\"]";
+        List<String> paths = new ArrayList<>();
+        paths.add(first);
+        String middle = "b";
+        for (int i = 0; i < 200; ++i) {
+            String path = prefix + middle + "\"]";
+            dtdData.getDtdComparator().compare(first, path); // compute the keys in this order
+            paths.add(path);
+            middle = "a" + middle;
+        }
+        checkOrder(dtdData, paths);
+    }
+}
@@ -0,0 +1,41 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class TestFactoryPrefetch {
+    private static final List<String> LOCALES =
+            List.of("de_CH", "de_AT", "fr_CA", "en_GB", "en_AU", "zh_Hant_HK", "root");
+
+    @Test
+    public void testPrefetch() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        for (boolean resolved : new boolean[] {false, true}) {
+            Map<String, CLDRFile> files = factory.prefetch(LOCALES, resolved);
+            assertEquals(LOCALES, new ArrayList<>(files.keySet()));
+            for (String locale : LOCALES) {
+                CLDRFile prefetched = files.get(locale);
+                CLDRFile expected = factory.make(locale, resolved);
+                assertEquals(locale, prefetched.getLocaleID());
+                assertEquals(resolved, prefetched.isResolved(), locale);
+                for (String path : expected) {
+                    assertEquals(
+                            expected.getStringValue(path),
+                            prefetched.getStringValue(path),
+                            locale + " " + path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrefetchUnknownLocale() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        assertThrows(RuntimeException.class, () -> factory.prefetch(List.of("de", "xx_YY"), false));
+    }
+}
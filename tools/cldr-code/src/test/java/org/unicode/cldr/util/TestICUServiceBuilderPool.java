@@ -0,0 +1,84 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.CacheStats;
+import com.ibm.icu.text.DecimalFormat;
+import com.ibm.icu.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.util.ICUServiceBuilder.ICUServiceFactory;
+
+public class TestICUServiceBuilderPool {
+
+    private static final Date DATE = new Date(1234567890123L);
+
+    private static ICUServiceBuilder makeBuilder(String locale) {
+        return new ICUServiceFactory(CLDRConfig.getInstance().getCldrFactory())
+                .forLocale(CLDRLocale.getInstance(locale));
+    }
+
+    @Test
+    public void testPooledFormattersAreCopies() {
+        ICUServiceBuilder isb = makeBuilder("de");
+        DecimalFormat first = isb.getNumberFormat(ICUServiceBuilder.decimal);
+        first.setMaximumFractionDigits(0);
+        DecimalFormat second = isb.getNumberFormat(ICUServiceBuilder.decimal);
+        assertNotSame(first, second);
+        assertEquals("1.234,5", second.format(1234.5), "changes to a copy don't leak");
+
+        CacheStats stats = isb.getFormatterStats();
+        assertTrue(stats.hitCount() > 0, stats::toString);
+        long misses = stats.missCount();
+        isb.getNumberFormat(ICUServiceBuilder.decimal);
+        assertEquals(misses, isb.getFormatterStats().missCount(), "reused");
+
+        isb.clearCache();
+        isb.getNumberFormat(ICUServiceBuilder.decimal);
+        assertTrue(isb.getFormatterStats().missCount() > misses, "rebuilt after clearing");
+    }
+
+    @Test
+    public void testConcurrentUse() throws InterruptedException, ExecutionException {
+        List<String> expected = formatAll(makeBuilder("fr"));
+        ICUServiceBuilder shared = makeBuilder("fr");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                futures.add(executor.submit(() -> formatAll(shared)));
+            }
+            for (Future<List<String>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(shared.getFormatterStats().hitCount() > 0);
+    }
+
+    private static List<String> formatAll(ICUServiceBuilder isb) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            for (int index = 0; index < 4; ++index) {
+                result.add(isb.getNumberFormat(index).format(i * 1234.5678));
+            }
+            result.add(isb.getCurrencyFormat("EUR").format(i * 1234.5678));
+            result.add(isb.getNumberFormat("#,##0.0#", "arab").format(i * 1234.5678));
+            SimpleDateFormat dateFormat =
+                    isb.getDateFormat(
+                            "gregorian", 4, 4, ICUServiceBuilder.NUMBERING_SYSTEM_DEFAULT);
+            result.add(dateFormat.format(new Date(DATE.getTime() + i * 86_400_000L)));
+            result.add(isb.getDateFormat("gregorian", "EEEE d MMMM y", null).format(DATE));
+        }
+        return result;
+    }
+}
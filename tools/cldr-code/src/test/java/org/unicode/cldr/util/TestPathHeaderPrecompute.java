@@ -0,0 +1,86 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class TestPathHeaderPrecompute {
+
+    @Test
+    public void testSameAsOnDemand() {
+        PathHeader.Factory phf = PathHeader.getFactory();
+        CLDRFile english = CLDRConfig.getInstance().getEnglish();
+        List<String> paths = new ArrayList<>();
+        english.fullIterable().forEach(paths::add);
+
+        phf.clearCache();
+        List<PathHeader> onDemand = new ArrayList<>();
+        for (String path : paths) {
+            onDemand.add(phf.fromPath(path));
+        }
+
+        phf.clearCache();
+        phf.precompute();
+        for (int i = 0; i < paths.size(); ++i) {
+            String path = paths.get(i);
+            PathHeader expected = onDemand.get(i);
+            PathHeader actual = phf.fromPath(path);
+            assertEquals(expected, actual, path);
+            if (actual == null) {
+                continue;
+            }
+            assertTrue(
+                    PathHeader.Factory.getCachedPaths(actual.getSectionId(), actual.getPageId())
+                            .contains(path),
+                    path);
+            assertEquals(expected.getHeaderOrder(), actual.getHeaderOrder(), path);
+            assertEquals(expected.getCodeOrder(), actual.getCodeOrder(), path);
+            assertEquals(0, expected.compareTo(actual), path);
+        }
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        PathHeader.Factory phf = PathHeader.getFactory();
+        phf.precompute();
+        // a locale with paths that English doesn't have, so some go through the regexes
+        List<String> paths = new ArrayList<>();
+        CLDRConfig.getInstance()
+                .getCldrFactory()
+                .make("ar", true)
+                .fullIterable()
+                .forEach(paths::add);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<PathHeader>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; ++t) {
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    List<PathHeader> headers = new ArrayList<>();
+                                    for (String path : paths) {
+                                        headers.add(phf.fromPath(path));
+                                    }
+                                    return headers;
+                                }));
+            }
+            List<PathHeader> first = results.get(0).get();
+            for (Future<List<PathHeader>> result : results) {
+                List<PathHeader> headers = result.get();
+                for (int i = 0; i < paths.size(); ++i) {
+                    assertSame(first.get(i), headers.get(i), paths.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TestPathIds {
+
+    @Test
+    public void testIds() {
+        final String path =
+                "//ldml/localeDisplayNames/languages/language[@type=\"xx_TestPathIds\"]";
+        assertEquals(PathIds.NO_ID, PathIds.getIdIfPresent(path));
+        int id = PathIds.getId(path);
+        assertEquals(id, PathIds.getId(new String(path)));
+        assertEquals(id, PathIds.getIdIfPresent(path));
+        assertEquals(path, PathIds.getPath(id));
+        assertThrows(IllegalArgumentException.class, () -> PathIds.getPath(-1));
+    }
+
+    @Test
+    public void testConcurrentIntObjectMap() {
+        ConcurrentIntObjectMap<Integer> map = new ConcurrentIntObjectMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 20_000; ++i) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key), "remove " + key);
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = 0; key < 5_000; ++key) {
+            assertEquals(expected.get(key), map.get(key), "get " + key);
+        }
+        assertEquals(expected.size(), map.keys().length);
+        for (int key : map.keys()) {
+            assertEquals(expected.get(key), map.get(key), "key " + key);
+        }
+        assertNull(map.get(-1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"root", "de", "fr_CA"})
+    public void testIntAccessors(String locale) {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        for (boolean resolved : new boolean[] {false, true}) {
+            CLDRFile file = factory.make(locale, resolved);
+            for (String path : file) {
+                int id = PathIds.getId(path);
+                assertEquals(file.getStringValue(path), file.getStringValue(id), path);
+                assertEquals(file.getFullXPath(path), file.getFullXPath(id), path);
+                assertEquals(
+                        file.getSourceLocaleID(path, null), file.getSourceLocaleID(id, null), path);
+            }
+        }
+    }
+
+    @Test
+    public void testFrozenSourceChange() {
+        final String path =
+                "//ldml/localeDisplayNames/languages/language[@type=\"xx_TestFrozenSource\"]";
+        final String fullPath = path + "[@draft=\"contributed\"]";
+        SimpleXMLSource source = new SimpleXMLSource("xx");
+        source.putValueAtDPath(path, "one");
+        source.putFullPathAtDPath(path, fullPath);
+        source.freeze();
+        int id = PathIds.getId(path);
+        assertEquals("one", source.getValueAtDPath(id));
+        assertEquals(fullPath, source.getFullPathAtDPath(path));
+        assertEquals(fullPath, source.getFullPathAtDPath(id));
+        assertEquals(List.of(path), ImmutableList.copyOf(source.iterator()));
+        source.putValueAtDPath(path, "two");
+        assertEquals("two", source.getValueAtDPath(path));
+        assertEquals("two", source.getValueAtDPath(id));
+        XMLSource thawed = source.cloneAsThawed();
+        source.removeValueAtDPath(path);
+        assertNull(source.getValueAtDPath(id));
+        assertNull(source.getFullPathAtDPath(id));
+        assertFalse(source.iterator().hasNext());
+        assertEquals("two", thawed.getValueAtDPath(path), "the thawed copy is separate");
+        assertEquals(fullPath, thawed.getFullPathAtDPath(path));
+    }
+
+    @Test
+    public void testResolvedMissingPath() {
+        CLDRFile file = CLDRConfig.getInstance().getCldrFactory().make("de", true);
+        int id =
+                PathIds.getId(
+                        "//ldml/localeDisplayNames/territories/territory[@type=\"XX_TestResolved\"]");
+        assertNull(file.getStringValue(id));
+    }
+
+    @Test
+    public void testLookupAssignsNoId() {
+        final String path =
+                "//ldml/localeDisplayNames/territories/territory[@type=\"XX_TestLookup\"]";
+        CLDRFile file = CLDRConfig.getInstance().getCldrFactory().make("de", true);
+        assertNull(file.getStringValue(path));
+        assertEquals(PathIds.NO_ID, PathIds.getIdIfPresent(path), "looking up a path keeps no ID");
+    }
+}
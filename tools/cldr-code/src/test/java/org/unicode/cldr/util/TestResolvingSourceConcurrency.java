@@ -0,0 +1,124 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** Multi-threaded stress tests for the lock-free caches in XMLSource.ResolvingSource. */
+public class TestResolvingSourceConcurrency {
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        CLDRFile unresolved = factory.make("de_CH", false);
+        // A fresh resolving source, so that all threads start with empty caches
+        CLDRFile resolved =
+                new CLDRFile(
+                        unresolved.dataSource,
+                        factory.make("de", false).dataSource,
+                        factory.make("root", false).dataSource);
+        List<String> paths = new ArrayList<>();
+        factory.make("de_CH", true).forEach(paths::add);
+        Map<String, String> expected = new HashMap<>();
+        CLDRFile reference = factory.make("de_CH", true);
+        for (String path : paths) {
+            expected.put(path, reference.getStringValue(path));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; ++t) {
+                final int offset = t * paths.size() / THREADS;
+                futures.add(
+                        pool.submit(
+                                () -> {
+                                    start.await();
+                                    for (int i = 0; i < paths.size(); ++i) {
+                                        String path = paths.get((i + offset) % paths.size());
+                                        assertEquals(
+                                                expected.get(path),
+                                                resolved.getStringValue(path),
+                                                path);
+                                        resolved.getFullXPath(path);
+                                    }
+                                    return null;
+                                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadsDuringChanges() throws Exception {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        XMLSource child = factory.make("fr_CA", false).dataSource.cloneAsThawed();
+        CLDRFile resolved =
+                new CLDRFile(
+                        child,
+                        factory.make("fr", false).dataSource,
+                        factory.make("root", false).dataSource);
+        List<String> paths = new ArrayList<>();
+        for (String path : factory.make("fr", false)) {
+            if (path.startsWith("//ldml/localeDisplayNames/territories/")) {
+                paths.add(path);
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 1; t < THREADS; ++t) {
+                futures.add(
+                        pool.submit(
+                                () -> {
+                                    start.await();
+                                    for (int round = 0; round < 20; ++round) {
+                                        for (String path : paths) {
+                                            resolved.getStringValue(path);
+                                        }
+                                    }
+                                    return null;
+                                }));
+            }
+            futures.add(
+                    pool.submit(
+                            () -> {
+                                start.await();
+                                for (String path : paths) {
+                                    child.putValueAtPath(path, "changed " + path);
+                                    child.notifyListeners(path);
+                                }
+                                return null;
+                            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        // No stale location may survive the invalidations
+        for (String path : paths) {
+            assertEquals("changed " + path, resolved.getStringValue(path), path);
+            assertEquals("fr_CA", resolved.getSourceLocaleID(path, null), path);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.unicode.cldr.util.SupplementalDataInfo.LazySection;
+import org.unicode.cldr.util.SupplementalDataInfo.PluralType;
+
+public class TestSupplementalDataSections {
+
+    private static final File SUPPLEMENTAL_DIR = new File(CLDRPaths.SUPPLEMENTAL_DIRECTORY);
+
+    @Test
+    public void testLoadedOnDemand() {
+        SupplementalDataInfo sdi = SupplementalDataInfo.make(SUPPLEMENTAL_DIR, null);
+        assertEquals(Set.of(), sdi.getLoadedSections());
+
+        SupplementalDataInfo reference = SupplementalDataInfo.getInstance();
+        assertEquals(reference.getLikelySubtags(), sdi.getLikelySubtags());
+        assertEquals(Set.of(), sdi.getLoadedSections(), "likely subtags aren't lazy");
+
+        assertEquals(
+                reference.getPlurals(PluralType.ordinal, "en").getRules(),
+                sdi.getPlurals(PluralType.ordinal, "en").getRules());
+        assertEquals(EnumSet.of(LazySection.PLURALS), sdi.getLoadedSections());
+
+        sdi.loadAllSections();
+        assertEquals(EnumSet.allOf(LazySection.class), sdi.getLoadedSections());
+        assertEquals(describe(reference), describe(sdi));
+    }
+
+    @Test
+    public void testConcurrentLoading() throws InterruptedException, ExecutionException {
+        List<String> expected = describe(SupplementalDataInfo.getInstance());
+        SupplementalDataInfo sdi = SupplementalDataInfo.make(SUPPLEMENTAL_DIR, null);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; ++i) {
+                futures.add(executor.submit(() -> describe(sdi)));
+            }
+            for (Future<List<String>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Some data from each lazy section */
+    private static List<String> describe(SupplementalDataInfo sdi) {
+        List<String> result = new ArrayList<>();
+        for (PluralType type : PluralType.values()) {
+            for (String locale : sdi.getPluralLocales(type)) {
+                result.add(type + "\t" + locale + "\t" + sdi.getPlurals(type, locale).getRules());
+            }
+        }
+        for (String locale : sdi.getPluralRangesLocales()) {
+            result.add(locale + "\t" + sdi.getPluralRanges(locale));
+        }
+        for (DayPeriodInfo.Type type : DayPeriodInfo.Type.values()) {
+            for (String locale : sdi.getDayPeriodLocales(type)) {
+                result.add(type + "\t" + locale + "\t" + sdi.getDayPeriods(type, locale));
+            }
+        }
+        result.add("coverage\t" + sdi.getCoverageLevelInfo().size());
+        for (String key : sdi.getLanguageMatcherKeys()) {
+            result.add(key + "\t" + sdi.getLanguageMatcherData(key));
+        }
+        return result;
+    }
+}
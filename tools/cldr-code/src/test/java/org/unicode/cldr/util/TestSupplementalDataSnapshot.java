@@ -0,0 +1,87 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.util.SupplementalDataInfo.PluralType;
+
+public class TestSupplementalDataSnapshot {
+
+    private static final File SUPPLEMENTAL_DIR = new File(CLDRPaths.SUPPLEMENTAL_DIRECTORY);
+    private static final File DTD_DIR = new File(SUPPLEMENTAL_DIR.getParentFile(), "dtd");
+
+    @TempDir Path tempDir;
+
+    /** Records the path/value pairs handed to it */
+    private static class Recorder extends XMLFileReader.SimpleHandler {
+        final List<String> pathsAndValues = new ArrayList<>();
+
+        @Override
+        public void handlePathValue(String path, String value) {
+            pathsAndValues.add(path + "\t" + value);
+        }
+    }
+
+    @Test
+    public void testReplaySameAsXml() {
+        List<File> files = SupplementalDataInfo.getXmlFiles(SUPPLEMENTAL_DIR);
+        SupplementalDataSnapshot snapshot =
+                SupplementalDataSnapshot.getInstance(tempDir.toFile(), files, DTD_DIR);
+        assertNotNull(snapshot);
+        for (File file : files) {
+            Recorder fromXml = new Recorder();
+            new XMLFileReader().setHandler(fromXml).read(file.toString(), -1, true);
+            Recorder fromSnapshot = new Recorder();
+            snapshot.replay(file, fromSnapshot);
+            assertEquals(fromXml.pathsAndValues, fromSnapshot.pathsAndValues, file.getName());
+        }
+    }
+
+    @Test
+    public void testInstanceSameAsXml() {
+        List<File> files = SupplementalDataInfo.getXmlFiles(SUPPLEMENTAL_DIR);
+        SupplementalDataInfo fromSnapshot =
+                SupplementalDataInfo.make(
+                        SUPPLEMENTAL_DIR,
+                        SupplementalDataSnapshot.getInstance(tempDir.toFile(), files, DTD_DIR));
+        SupplementalDataInfo fromXml = SupplementalDataInfo.getInstance();
+
+        assertEquals(fromXml.getLikelySubtags(), fromSnapshot.getLikelySubtags());
+        assertEquals(fromXml.getContainers(), fromSnapshot.getContainers());
+        assertEquals(fromXml.getAllMetazones(), fromSnapshot.getAllMetazones());
+        assertEquals(fromXml.getBcp47Keys(), fromSnapshot.getBcp47Keys());
+        assertEquals(fromXml.getSkippedElements(), fromSnapshot.getSkippedElements());
+        for (PluralType type : PluralType.values()) {
+            assertEquals(fromXml.getPluralLocales(type), fromSnapshot.getPluralLocales(type));
+            for (String locale : fromXml.getPluralLocales(type)) {
+                assertEquals(
+                        fromXml.getPlurals(type, locale).getRules(),
+                        fromSnapshot.getPlurals(type, locale).getRules(),
+                        locale);
+            }
+        }
+    }
+
+    @Test
+    public void testUnreadableSnapshotReplaced() throws IOException {
+        List<File> files = SupplementalDataInfo.getXmlFiles(SUPPLEMENTAL_DIR);
+        File snapshotFile =
+                SupplementalDataSnapshot.getSnapshotFile(tempDir.toFile(), files, DTD_DIR);
+        Files.writeString(snapshotFile.toPath(), "not a snapshot");
+
+        SupplementalDataSnapshot snapshot =
+                SupplementalDataSnapshot.getInstance(tempDir.toFile(), files, DTD_DIR);
+        assertNotNull(snapshot);
+        assertTrue(snapshot.contains(files.get(0)));
+        assertTrue(snapshotFile.length() > 1000, "rewritten");
+    }
+}
@@ -0,0 +1,47 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TestValuePool {
+
+    @Test
+    public void testIntern() {
+        String a = new String("pooled value");
+        String b = new String("pooled value");
+        assertSame(ValuePool.intern(a), ValuePool.intern(b));
+        assertEquals("pooled value", ValuePool.intern(b));
+        assertNull(ValuePool.intern(null));
+    }
+
+    @Test
+    public void testSharedAcrossLocales() {
+        Factory factory = CLDRConfig.getInstance().getCldrFactory();
+        CLDRFile enGB = factory.make("en_GB", false);
+        CLDRFile enAU = factory.make("en_AU", false);
+        String path = "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]";
+        assertEquals(CldrUtility.INHERITANCE_MARKER, enGB.getStringValue(path));
+        assertSame(enGB.getStringValue(path), enAU.getStringValue(path));
+
+        ValuePool.MemoryReport report = new ValuePool.MemoryReport();
+        long[] gb = report.add(enGB);
+        long[] au = report.add(enAU);
+        assertEquals(gb[0] + au[0], report.getValueCount());
+        assertEquals(gb[1] + au[1], report.getUnsharedBytes());
+        assertEquals(gb[2] + au[2], report.getBytes());
+        assertTrue(report.getBytes() < report.getUnsharedBytes(), "values are shared");
+        assertTrue(au[2] < au[1], "en_AU shares values with en_GB");
+    }
+
+    @Test
+    public void testEstimateSize() {
+        assertEquals(24 + 16, ValuePool.estimateSize(""));
+        assertEquals(24 + 24, ValuePool.estimateSize("abc"));
+        assertEquals(24 + 24, ValuePool.estimateSize("一丁"));
+        assertEquals(24 + 32, ValuePool.estimateSize("一丁丂七丄"));
+    }
+}
@@ -1,14 +1,23 @@
 package org.unicode.cldr.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.ibm.icu.impl.Relation;
 import com.ibm.icu.impl.Row.R2;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
+import org.unicode.cldr.test.CheckCLDR;
 import org.unicode.cldr.test.OutdatedPaths;
+import org.unicode.cldr.unittest.TestFactory;
 import org.unicode.cldr.unittest.TestHelper;
 import org.unicode.cldr.util.PathHeader.PageId;
 import org.unicode.cldr.util.PathHeader.SectionId;
@@ -16,6 +25,8 @@ import org.unicode.cldr.util.VoteResolver.VoteStatus;
 
 /** Also see {@link TestHelper} */
 class TestVettingViewer {
+    private static final String AKAN = "//ldml/localeDisplayNames/languages/language[@type=\"ak\"]";
+
     @Test
     void testDashboardEnglishChanged() {
         if (true) return; // Temporarily disable test
@@ -101,4 +112,90 @@ class TestVettingViewer {
         // but won't fail the test.
         assumeTrue(foundAny, "Did not find any English Changed. May need to revamp the test.");
     }
+
+    @Test
+    void testDashboardByPath() {
+        final String loc = "ff";
+        final CLDRLocale locale = CLDRLocale.getInstance(loc);
+        final Factory cldrFactory = CLDRConfig.getInstance().getCldrFactory();
+        CheckCLDR.setDisplayInformation(CLDRConfig.getInstance().getEnglish());
+        // with a copy of the locale's file that can be changed
+        final TestFactory factory = TestFactory.makeForChecks();
+        factory.addFile(cldrFactory.make("root", false));
+        factory.addFile(cldrFactory.make("en", false));
+        factory.addFile(cldrFactory.make(loc, false).cloneAsThawed());
+        VettingViewer<Organization> vv =
+                new VettingViewer<>(
+                        SupplementalDataInfo.getInstance(),
+                        factory,
+                        new VotelessUsersChoice() {
+                            @Override
+                            public VoteStatus getStatusForUsersOrganization(
+                                    CLDRFile cldrFile, String path, Organization org) {
+                                return path.contains("month")
+                                        ? VoteResolver.VoteStatus.provisionalOrWorse
+                                        : super.getStatusForUsersOrganization(cldrFile, path, org);
+                            }
+
+                            @Override
+                            public boolean userDidVote(int userId, CLDRLocale loc, String path) {
+                                return path.contains("day");
+                            }
+
+                            @Override
+                            public VoteType getUserVoteType(
+                                    int userId, CLDRLocale loc, String path) {
+                                return VoteType.DIRECT;
+                            }
+                        });
+        EnumSet<NotificationCategory> choiceSet =
+                VettingViewer.getDashboardNotificationCategories(Organization.surveytool);
+        VettingParameters args = new VettingParameters(choiceSet, locale, Level.MODERN);
+        args.setUserAndOrganization(1 /* userId */, Organization.surveytool);
+        args.setFiles(factory.make(loc, true), cldrFactory.make(loc, true));
+        VettingViewer<Organization>.DashboardData dd = vv.generateDashboard(args, true);
+        final String expected = dd.toString();
+
+        // the paths' contributions add up to the whole
+        VettingViewer<Organization>.DashboardData sum = vv.generateDashboard(args, true);
+        final List<String> paths = new ArrayList<>(sum.byPath.keySet());
+        assertTrue(paths.size() > 10, "expected paths with problems or votes");
+        for (String path : paths) {
+            args.setXpath(path);
+            final VettingViewer<Organization>.DashboardData empty =
+                    vv.generateDashboard(args, true);
+            empty.byPath.clear();
+            sum.replacePath(path, empty);
+        }
+        assertEquals("0/0 {} 0 0 0 []", sum.toString(), "all paths taken away");
+
+        // putting each path back gives the same as the whole locale
+        for (String path : paths) {
+            args.setXpath(path);
+            sum.replacePath(path, vv.generateDashboard(args, true));
+        }
+        assertEquals(expected, sum.toString());
+
+        // after giving a language the same name as another, replacing the changed path and the
+        // paths that depend on it gives the same as the whole changed locale
+        final String changed = "//ldml/localeDisplayNames/languages/language[@type=\"am\"]";
+        final XMLSource source = factory.make(loc, false).dataSource;
+        source.putValueAtDPath(changed, source.getValueAtDPath(AKAN));
+        source.notifyListeners(changed);
+        final Predicate<String> dependents = vv.getDependentPaths(locale, changed);
+        assertTrue(dependents.test(AKAN), "the other name is a dependent path");
+        final Set<String> toReplace = new TreeSet<>();
+        for (String path : args.getSourceFile().fullIterable()) {
+            if (path.equals(changed) || dependents.test(path)) {
+                toReplace.add(path);
+            }
+        }
+        args.setXpath(null);
+        args.setXpaths(toReplace);
+        sum.replacePaths(toReplace, vv.generateDashboard(args, true));
+        args.setXpaths(null);
+        final String afterChange = vv.generateDashboard(args, true).toString();
+        assertNotEquals(expected, afterChange, "the collision is a warning");
+        assertEquals(afterChange, sum.toString());
+    }
 }
@@ -0,0 +1,114 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+
+public class TestXMLNormalizingLoaderReload {
+
+    private static final String FRENCH =
+            "//ldml/localeDisplayNames/languages/language[@type=\"fr\"]";
+
+    @TempDir Path tempDir;
+
+    private File mainDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // The files refer to ../../common/dtd/ldml.dtd
+        Path dtdDir = Files.createDirectories(tempDir.resolve("common/dtd"));
+        Files.copy(
+                new File(CLDRPaths.COMMON_DIRECTORY, "dtd/ldml.dtd").toPath(),
+                dtdDir.resolve("ldml.dtd"));
+        Path main = Files.createDirectories(tempDir.resolve("common/main"));
+        for (String localeId : List.of("root", "en", "en_001", "en_GB")) {
+            Files.copy(
+                    new File(CLDRPaths.MAIN_DIRECTORY, localeId + ".xml").toPath(),
+                    main.resolve(localeId + ".xml"));
+        }
+        mainDir = main.toFile();
+    }
+
+    @Test
+    public void testReloadChanged() throws IOException {
+        SimpleFactory factory = (SimpleFactory) SimpleFactory.make(mainDir.getPath(), ".*");
+        assertEquals("French", factory.make("en_GB", true).getStringValue(FRENCH));
+        XMLSource root = getSource("root");
+        XMLSource en = getSource("en");
+        assertEquals(Set.of(), factory.reloadChanged());
+
+        changeFrench();
+
+        assertEquals(Set.of("en"), factory.reloadChanged());
+        assertEquals(Set.of(), factory.reloadChanged());
+        assertSame(root, getSource("root"), "unchanged files stay cached");
+        assertNotSame(en, getSource("en"));
+        assertEquals("French!", factory.make("en", false).getStringValue(FRENCH));
+        assertEquals("French!", factory.make("en_GB", true).getStringValue(FRENCH));
+    }
+
+    @Test
+    public void testAutomaticCheck() throws IOException, InterruptedException {
+        SimpleFactory factory = (SimpleFactory) SimpleFactory.make(mainDir.getPath(), ".*");
+        assertEquals("French", factory.make("en", false).getStringValue(FRENCH));
+        assertEquals("French", factory.make("en_GB", true).getStringValue(FRENCH));
+        changeFrench();
+        XMLNormalizingLoader.setReloadCheckMillis(1);
+        try {
+            Thread.sleep(10);
+            // no explicit reloadChanged: make runs the check and drops its own cached files
+            assertEquals("French!", factory.make("en", false).getStringValue(FRENCH));
+            assertEquals("French!", factory.make("en_GB", true).getStringValue(FRENCH));
+        } finally {
+            XMLNormalizingLoader.setReloadCheckMillis(0);
+        }
+    }
+
+    @Test
+    public void testInvalidateSeenByFactory() throws IOException {
+        SimpleFactory factory = (SimpleFactory) SimpleFactory.make(mainDir.getPath(), ".*");
+        assertEquals("French", factory.make("en", false).getStringValue(FRENCH));
+        changeFrench();
+        // the loader's own check finds the change first
+        assertEquals(Set.of(new File(mainDir, "en.xml")), XMLNormalizingLoader.reloadChanged());
+        assertEquals("French!", factory.make("en", false).getStringValue(FRENCH));
+    }
+
+    /** Change the name of French in en.xml */
+    private void changeFrench() throws IOException {
+        File enFile = new File(mainDir, "en.xml");
+        long lastModified = enFile.lastModified();
+        String xml = Files.readString(enFile.toPath());
+        Files.writeString(
+                enFile.toPath(),
+                xml.replace(
+                        "<language type=\"fr\">French</language>",
+                        "<language type=\"fr\">French!</language>"));
+        // don't depend on the file system's timestamp resolution
+        enFile.setLastModified(lastModified + 2000);
+    }
+
+    @Test
+    public void testInvalidate() {
+        XMLSource en = getSource("en");
+        assertSame(en, getSource("en"));
+        XMLNormalizingLoader.invalidate(List.of(new File(mainDir, "en.xml")));
+        assertNotSame(en, getSource("en"));
+    }
+
+    private XMLSource getSource(String localeId) {
+        return XMLNormalizingLoader.getFrozenInstance(
+                localeId, List.of(mainDir), DraftStatus.unconfirmed);
+    }
+}
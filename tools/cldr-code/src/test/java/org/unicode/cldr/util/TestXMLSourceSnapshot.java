@@ -0,0 +1,75 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.unicode.cldr.util.CLDRFile.DraftStatus;
+
+public class TestXMLSourceSnapshot {
+
+    @TempDir Path tempDir;
+
+    @ParameterizedTest
+    @CsvSource({
+        "main,root",
+        "main,en",
+        "main,de_CH",
+        "annotations,fr",
+        "supplemental,likelySubtags",
+    })
+    public void testRoundTrip(String subdir, String localeId) throws IOException {
+        File xmlFile = new File(CLDRPaths.COMMON_DIRECTORY + subdir, localeId + ".xml");
+        SimpleXMLSource fromXml =
+                (SimpleXMLSource)
+                        XMLNormalizingLoader.loadXMLFile(
+                                xmlFile, localeId, DraftStatus.unconfirmed);
+        File snapshotFile = tempDir.resolve(localeId + ".bin").toFile();
+        XMLSourceSnapshot.write(fromXml, snapshotFile, true);
+        SimpleXMLSource fromSnapshot = XMLSourceSnapshot.read(snapshotFile);
+
+        List<String> differences = XMLSourceSnapshot.diff(fromXml, fromSnapshot);
+        assertTrue(differences.isEmpty(), () -> "Differences: " + differences);
+        assertEquals(fromXml.isNonInheriting(), fromSnapshot.isNonInheriting());
+        assertEquals(fromXml.getDtdVersionInfo(), fromSnapshot.getDtdVersionInfo());
+        assertEquals(fromXml.getXMLNormalizingDtdType(), fromSnapshot.getXMLNormalizingDtdType());
+        for (String path : fromXml) {
+            String fullPath = fromXml.getFullPathAtDPath(path);
+            assertEquals(
+                    String.valueOf(fromXml.getSourceLocation(fullPath)),
+                    String.valueOf(fromSnapshot.getSourceLocation(fullPath)),
+                    fullPath);
+        }
+    }
+
+    @Test
+    public void testLoadOrCreate() {
+        File snapshotDir = tempDir.toFile();
+        File xmlFile = new File(CLDRPaths.MAIN_DIRECTORY, "fr_CA.xml");
+        XMLSource first =
+                XMLSourceSnapshot.loadOrCreate(
+                        snapshotDir, xmlFile, "fr_CA", DraftStatus.contributed);
+        assertEquals(1, snapshotDir.list().length, "snapshot written");
+        XMLSource second =
+                XMLSourceSnapshot.loadOrCreate(
+                        snapshotDir, xmlFile, "fr_CA", DraftStatus.contributed);
+        assertEquals(1, snapshotDir.list().length, "snapshot reused");
+        assertEquals(List.of(), XMLSourceSnapshot.diff(first, second));
+    }
+
+    @Test
+    public void testBadSnapshot() throws IOException {
+        File bad = tempDir.resolve("bad.bin").toFile();
+        Files.writeString(bad.toPath(), "not a snapshot");
+        assertThrows(IOException.class, () -> XMLSourceSnapshot.read(bad));
+    }
+}
@@ -0,0 +1,65 @@
+package org.unicode.cldr.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.cache.CacheStats;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TestXPathPartsCache {
+
+    @AfterEach
+    public void restoreDefaults() {
+        XPathParts.setCacheLimits(1_000_000, 0);
+    }
+
+    private static List<String> makePaths(int count) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            result.add("//ldml/localeDisplayNames/languages/language[@type=\"x" + i + "\"]");
+        }
+        return result;
+    }
+
+    @Test
+    public void testBoundedSize() {
+        XPathParts.setCacheLimits(100, 0);
+        List<String> paths = makePaths(1000);
+        for (String path : paths) {
+            XPathParts parts = XPathParts.getFrozenInstance(path);
+            assertEquals(path, parts.toString());
+        }
+        assertTrue(XPathParts.getCacheSize() <= 100, "size " + XPathParts.getCacheSize());
+        assertTrue(XPathParts.getCacheStats().evictionCount() >= 900);
+        // evicted paths are simply parsed again
+        assertEquals(paths.get(0), XPathParts.getFrozenInstance(paths.get(0)).toString());
+    }
+
+    @Test
+    public void testBoundedWeight() {
+        List<String> paths = makePaths(1000);
+        XPathParts.setCacheLimits(0, 50 * paths.get(0).length());
+        XPathParts.prewarmCache(paths);
+        assertTrue(XPathParts.getCacheSize() <= 60, "size " + XPathParts.getCacheSize());
+    }
+
+    @Test
+    public void testPrewarm() {
+        XPathParts.setCacheLimits(0, 0);
+        CLDRFile english = CLDRConfig.getInstance().getEnglish();
+        XPathParts.prewarmCache(english);
+        CacheStats before = XPathParts.getCacheStats();
+        List<String> paths = new ArrayList<>();
+        english.forEach(paths::add);
+        for (String path : paths) {
+            assertSame(XPathParts.getFrozenInstance(path), XPathParts.getFrozenInstance(path));
+        }
+        CacheStats delta = XPathParts.getCacheStats().minus(before);
+        assertEquals(0, delta.missCount());
+        assertEquals(2L * paths.size(), delta.hitCount());
+    }
+}